@@ -8,7 +8,6 @@ import utilities.ElapsedCpuChessTimer;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.IntStream;
 
 import static core.CoreConstants.GameResult.*;
@@ -17,6 +16,8 @@ public abstract class AbstractForwardModel {
 
     public ActionTreeNode root;
     public List<ActionTreeNode> leaves;
+    // Optional cache of the actions available in states, shared by all copies of this forward model
+    private ActionCache actionCache;
 
     /* Limited access/Final methods */
 
@@ -39,6 +40,8 @@ public abstract class AbstractForwardModel {
 
         _setup(firstState);
         firstState.addAllComponents();
+        // from here on the parameters are shared by all copies of the state
+        firstState.gameParameters.freeze();
     }
 
     /* Methods to be implemented by subclasses, unavailable to AI players */
@@ -107,7 +110,7 @@ public abstract class AbstractForwardModel {
             return new DoNothing();
         } else {
             List<AbstractAction> possibleActions = computeAvailableActions(gameState);
-            int randomAction = new Random(gameState.getGameParameters().getRandomSeed()).nextInt(possibleActions.size());
+            int randomAction = gameState.getRnd().nextInt(possibleActions.size());
             next(gameState, possibleActions.get(randomAction));
             return possibleActions.get(randomAction);
         }
@@ -156,6 +159,14 @@ public abstract class AbstractForwardModel {
     }
 
     public final List<AbstractAction> computeAvailableActions(AbstractGameState gameState, ActionSpace actionSpace) {
+        if (actionCache != null) {
+            ActionSpace space = actionSpace == null ? ActionSpace.Default : actionSpace;
+            return actionCache.get(gameState, space, () -> computeActions(gameState, space));
+        }
+        return computeActions(gameState, actionSpace);
+    }
+
+    private List<AbstractAction> computeActions(AbstractGameState gameState, ActionSpace actionSpace) {
         // If there is an action in progress (see IExtendedSequence), then delegate to that
         if (gameState.isActionInProgress()) {
             return gameState.actionsInProgress.peek()._computeAvailableActions(gameState, actionSpace);
@@ -197,6 +208,23 @@ public abstract class AbstractForwardModel {
      * @return a new Forward Model instance with a different random object.
      */
     public final AbstractForwardModel copy() {
-        return _copy();
+        AbstractForwardModel copy = _copy();
+        copy.actionCache = actionCache;
+        return copy;
+    }
+
+    /**
+     * Sets the cache used to look up the actions available in a state before computing them, or null to always
+     * compute them. The cache is shared with all copies of this forward model made afterwards, so it should be set
+     * before the game is reset for the players to share it. See ActionCache for the games it can be used with.
+     *
+     * @param actionCache - cache to use, or null.
+     */
+    public final void setActionCache(ActionCache actionCache) {
+        this.actionCache = actionCache;
+    }
+
+    public final ActionCache getActionCache() {
+        return actionCache;
     }
 }
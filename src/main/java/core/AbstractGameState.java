@@ -13,6 +13,7 @@ import evaluation.listeners.IGameListener;
 import evaluation.metrics.Event;
 import games.GameType;
 import utilities.ElapsedCpuChessTimer;
+import utilities.SplitMixRandom;
 
 import java.util.*;
 import java.util.function.BiFunction;
@@ -65,6 +66,24 @@ public abstract class AbstractGameState {
     protected Stack<IExtendedSequence> actionsInProgress = new Stack<>();
     CoreParameters coreGameParameters;
     private int gameID;
+    // Seed for any randomness specific to this state (such as reshuffles, or redeterminising hidden information).
+    // This is the game seed for the state set up by the ForwardModel, and each copy is given a new seed (see copy()).
+    private long randomSeed;
+    // Random number generator of this state, seeded with randomSeed when first used (see getRnd())
+    private SplitMixRandom rnd;
+
+    /**
+     * Copies made on one thread: the number made since a game was last set up on the thread, from which each copy gets
+     * its own seed, and the seed and random number generator of the copy being made. These are kept per thread rather
+     * than in the state copied, so that copying never changes the state, and states can be copied from several threads
+     * at once.
+     */
+    private static final class CopyContext {
+        long nCopies;
+        long seed;
+        SplitMixRandom rnd;
+    }
+    private static final ThreadLocal<CopyContext> copyContext = ThreadLocal.withInitial(CopyContext::new);
 
     /**
      * @param gameParameters - game parameters.
@@ -75,6 +94,8 @@ public abstract class AbstractGameState {
         // this is then overridden in the game-specific constructor if needed
         this.gameParameters = gameParameters;
         this.coreGameParameters = new CoreParameters();
+        if (gameParameters != null)
+            this.randomSeed = gameParameters.getRandomSeed();
     }
 
     protected abstract GameType _getGameType();
@@ -96,6 +117,9 @@ public abstract class AbstractGameState {
         roundCounter = 0;
         firstPlayer = 0;
         actionsInProgress.clear();
+        randomSeed = gameParameters.getRandomSeed();
+        copyContext.get().nCopies = 0;
+        rnd = null;
     }
 
     /**
@@ -116,6 +140,49 @@ public abstract class AbstractGameState {
     public final AbstractParameters getGameParameters() {
         return this.gameParameters;
     }
+
+    /**
+     * The seed for randomness in this state. Use this rather than the seed of the game parameters, which are shared
+     * by all copies of the state: this is the same as the game seed in the state being played, but each copy of a state
+     * has a different seed, so that copies do not all redeterminise or reshuffle in the same way.
+     */
+    public final long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * For use in _copy(), if the copy needs randomness (e.g. to redeterminise hidden information)
+     * before copy() has given it its own seed.
+     *
+     * @return the seed of the copy currently being made of this state
+     */
+    protected final long getCopySeed() {
+        return copyContext.get().seed;
+    }
+
+    /**
+     * The random number generator of this state, to be used for all randomness in the game (shuffles, dice rolls,
+     * redeterminisation...) instead of creating new Random objects. It is seeded with getRandomSeed() when first used,
+     * so copies of the state that never need randomness do not pay for it, and each copy has its own independent
+     * sequence.
+     */
+    public final Random getRnd() {
+        if (rnd == null) rnd = new SplitMixRandom(randomSeed);
+        return rnd;
+    }
+
+    /**
+     * For use in _copy(), if the copy needs randomness (e.g. to redeterminise hidden information) before copy() has
+     * given it its own seed. The generator returned becomes the generator of the copy once _copy() returns.
+     *
+     * @return the random number generator of the copy currently being made of this state
+     */
+    protected final Random getCopyRnd() {
+        CopyContext context = copyContext.get();
+        if (context.rnd == null) context.rnd = new SplitMixRandom(context.seed);
+        return context.rnd;
+    }
+
     public int getNPlayers() { return nPlayers; }
     public int getNTeams() { return nTeams; }
     /**
@@ -218,7 +285,9 @@ public abstract class AbstractGameState {
     public final int getGameTick() {return tick;}
     public final Component getComponentById(int id) {
         Component c = allComponents.getComponent(id);
-        if (c == null) {
+        // Components keep their identity when they move, so we only need to rebuild the index for a new component.
+        // These always have an ID >= 0; negative IDs (e.g. -1 for 'no card') would otherwise rebuild on every call.
+        if (c == null && id >= 0) {
             try {
                 addAllComponents();
                 c = allComponents.getComponent(id);
@@ -264,21 +333,62 @@ public abstract class AbstractGameState {
         return copy(-1);
     }
 
+    /**
+     * Makes a full copy of this state with the same seed, without counting it as one of the copies made on this thread,
+     * so that keeping copies for internal use (as ActionCache and AsyncGameListener do) does not change how the game
+     * plays out.
+     *
+     * @return - full copy of this game state.
+     */
+    public final AbstractGameState snapshot() {
+        return copy(-1, randomSeed);
+    }
+
     /**
      * Copies the current game state, including super class methods, given player ID.
      * Reduces state variables to only those that the player observes.
+     * <p>
+     * Each copy gets its own seed, from the seed of this state and the number of copies made on this thread since a
+     * game was last set up on it, so a game played on one thread always makes the same copies. Copying does not change
+     * this state, so copies may be made from several threads at once, as long as nothing modifies the state meanwhile.
      *
      * @param playerId - player observing the state
      * @return - reduced copy of the game state.
      */
     public final AbstractGameState copy(int playerId) {
-        AbstractGameState s = _copy(playerId);
+        return copy(playerId, SplitMixRandom.mix(randomSeed + ++copyContext.get().nCopies * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Copies the current game state, as copy(playerId) does, with the given seed for the copy.
+     *
+     * @param playerId - player observing the state
+     * @param seed     - seed of the copy, also used for any randomness _copy() needs (see getCopyRnd()).
+     * @return - reduced copy of the game state.
+     */
+    final AbstractGameState copy(int playerId, long seed) {
+        CopyContext context = copyContext.get();
+        // kept in case _copy() copies another state
+        long outerSeed = context.seed;
+        SplitMixRandom outerRnd = context.rnd;
+        context.seed = seed;
+        context.rnd = null;
+        AbstractGameState s;
+        try {
+            s = _copy(playerId);
+            s.randomSeed = seed;
+            s.rnd = context.rnd;
+        } finally {
+            context.seed = outerSeed;
+            context.rnd = outerRnd;
+        }
         // Copy super class things
         s.allComponents = allComponents.emptyCopy();
         s.gameStatus = gameStatus;
         s.playerResults = playerResults.clone();
         s.gamePhase = gamePhase;
         s.coreGameParameters = coreGameParameters;
+        s.gameID = gameID;
         s.tick = tick;
         s.nPlayers = nPlayers;
         s.roundCounter = roundCounter;
@@ -312,6 +422,23 @@ public abstract class AbstractGameState {
         return s;
     }
 
+    /**
+     * Re-samples, in place, the components of this state that are hidden from the given player, such as the cards in
+     * the hands of other players, as copy(playerId) does for the copy it returns. This is meant for a copy of a
+     * player's observation of the state, so that search algorithms can draw a new determinisation on each iteration
+     * from a plain copy(), rather than copying with copy(playerId) each time.
+     * Does nothing if the game is fully observable.
+     *
+     * @param playerId - player observing the state.
+     * @param rnd      - random number generator used to sample the hidden components.
+     * @return false if this game does not support redeterminisation in place (the state is then unchanged, and
+     * copy(playerId) should be used instead), true otherwise.
+     */
+    public final boolean redeterminise(int playerId, Random rnd) {
+        if (playerId == -1 || !coreGameParameters.partialObservable) return true;
+        return _redeterminise(playerId, rnd);
+    }
+
     /**
      * Used by ForwardModel.next() to log history (very useful for debugging)
      *
@@ -326,25 +453,38 @@ public abstract class AbstractGameState {
     // helper function to avoid time-consuming string manipulations if the message is not actually
     // going to be logged anywhere
     public void logEvent(IGameEvent event, Supplier<String> eventText) {
-        if (listeners.isEmpty() && !getCoreGameParameters().recordEventHistory)
+        if (!hasListenersFor(event) && !getCoreGameParameters().recordEventHistory)
             return; // to avoid expensive string manipulations
         logEvent(event, eventText.get());
     }
     public void logEvent(IGameEvent event, String eventText) {
-        LogEvent logAction = new LogEvent(eventText);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
+        publishLogEvent(event, eventText);
         if (getCoreGameParameters().recordEventHistory) {
             recordHistory(eventText);
         }
     }
     public void logEvent(IGameEvent event) {
-        LogEvent logAction = new LogEvent(event.name());
-        listeners.forEach(l -> l.onEvent(Event.createEvent(event, this, logAction)));
+        publishLogEvent(event, event.name());
         if (getCoreGameParameters().recordEventHistory) {
             recordHistory(event.name());
         }
     }
 
+    private boolean hasListenersFor(IGameEvent event) {
+        for (IGameListener l : listeners) {
+            if (l.isInterestedIn(event)) return true;
+        }
+        return false;
+    }
+
+    private void publishLogEvent(IGameEvent event, String eventText) {
+        if (!hasListenersFor(event)) return;
+        Event e = Event.createEvent(event, this, new LogEvent(eventText));
+        for (IGameListener l : listeners) {
+            if (l.isInterestedIn(event)) l.onEvent(e);
+        }
+    }
+
     public void recordHistory(String history) {
         historyText.add(history);
     }
@@ -401,6 +541,18 @@ public abstract class AbstractGameState {
      */
     protected abstract AbstractGameState _copy(int playerId);
 
+    /**
+     * Re-samples, in place, the components of this state hidden from the given player (see redeterminise()).
+     * Games that support this would normally also call it from _copy(), on the copy, with getCopyRnd().
+     *
+     * @param playerId - player observing this game state.
+     * @param rnd      - random number generator to use.
+     * @return true if the state was redeterminised, false if this game does not support it (the default).
+     */
+    protected boolean _redeterminise(int playerId, Random rnd) {
+        return false;
+    }
+
     /**
      * Provide a simple numerical assessment of the current game state, the bigger the better.
      * Subjective heuristic function definition.
@@ -623,7 +775,7 @@ public abstract class AbstractGameState {
      */
     @Override
     public int hashCode() {
-        int result = Objects.hash(gameParameters, gameStatus, gamePhase, actionsInProgress);
+        int result = Objects.hash(gameParameters == null ? null : gameParameters.stateHashCode(), gameStatus, gamePhase, actionsInProgress);
         result = 31 * result + Objects.hash(tick, nPlayers, roundCounter, turnCounter, turnOwner, firstPlayer);
         result = 31 * result + Arrays.hashCode(playerResults);
         return result;
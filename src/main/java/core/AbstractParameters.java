@@ -24,6 +24,10 @@ public abstract class AbstractParameters {
     // Increment in seconds, added after a custom milestone (to be added manually in game implementation). Default 0.
     long incrementMilestoneS = 0;
 
+    // Set once a game has been set up with these parameters. They are then shared (not copied) by all copies of
+    // the game state, so should not change until the next game; this lets us cache the hashCode.
+    private boolean frozen;
+    private int frozenHashCode;
 
     public AbstractParameters(long seed) {
         randomSeed = seed;
@@ -61,16 +65,53 @@ public abstract class AbstractParameters {
     }
 
     public void setThinkingTimeMins(long thinkingTimeMins) {
+        unfreeze();
         this.thinkingTimeMins = thinkingTimeMins;
     }
 
     public void setMaxRounds(int max) {
+        unfreeze();
         maxRounds = max;
     }
     public void setTimeoutRounds(int max) {
+        unfreeze();
         timeoutRounds = max;
     }
 
+    /**
+     * Called by the ForwardModel once a game has been set up with these parameters. From then on they are shared by
+     * every copy of the game state, rather than copied, and their hashCode is cached.
+     * The random seed is not covered by this, as it is not part of equals() or hashCode(), and each game state
+     * keeps its own seed (see AbstractGameState.getRandomSeed()).
+     */
+    public final void freeze() {
+        frozen = false;
+        frozenHashCode = hashCode();
+        frozen = true;
+    }
+
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Any change to the parameters (other than the seed) should call this, so that the cached hashCode is not used
+     * until they are frozen again for the next game.
+     */
+    protected final void unfreeze() {
+        frozen = false;
+    }
+
+    /**
+     * @return hashCode(), which is cached once the parameters are frozen. With assertions enabled, this checks that
+     * frozen parameters have not been changed without calling unfreeze().
+     */
+    final int stateHashCode() {
+        if (!frozen) return hashCode();
+        assert frozenHashCode == hashCode() : "Parameters changed while shared by the copies of a game state, without unfreeze()";
+        return frozenHashCode;
+    }
+
     /**
      * Retrieve total thinking time for the game, in minutes
      *
@@ -137,7 +178,7 @@ public abstract class AbstractParameters {
     }
 
     /**
-     * Copy this game parameter object.
+     * Copy this game parameter object. This is not needed to copy a game state, which shares its parameters.
      *
      * @return - new object with the same parameters, but a new random seed.
      */
@@ -152,6 +193,7 @@ public abstract class AbstractParameters {
      */
     public void randomize() {
         if (this instanceof ITunableParameters) {
+            unfreeze();
             Random rnd = new Random(randomSeed);
             ITunableParameters params = (ITunableParameters) this;
             params.getParameterNames().forEach(name -> {
@@ -172,6 +214,7 @@ public abstract class AbstractParameters {
      */
     public void reset() {
         if (this instanceof ITunableParameters) {
+            unfreeze();
             Map<String, Object> defaultValues = ((ITunableParameters) this).getDefaultParameterValues();
             ((ITunableParameters) this).setParameterValues(defaultValues);
         } else {
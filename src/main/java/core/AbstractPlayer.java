@@ -8,6 +8,12 @@ import java.util.*;
 
 public abstract class AbstractPlayer {
 
+    public enum ObservationNeeds {
+        NONE,          // the state is not looked at; the player may be given the true game state
+        READ_ONLY,     // the state is read but never modified, nor kept after returning the action
+        MUTABLE_COPY   // the player gets its own copy of the state, with hidden information redeterminised
+    }
+
     // ID of this player, assigned by the game
     int playerID;
     String name;
@@ -155,6 +161,18 @@ public abstract class AbstractPlayer {
         return Collections.emptyMap();
     }
 
+    /**
+     * Declares what this player needs to be given as its observation of the game state when asked for an action.
+     * Copying the state for each decision is often the most costly part of running games with simple agents, so
+     * players that do not look at the state, or that only read it, can override this to let the game skip the copy.
+     * Decorators may look at the state, so players with decorators always get a copy.
+     *
+     * @return - the observation this player needs, MUTABLE_COPY by default
+     */
+    public ObservationNeeds getObservationNeeds() {
+        return ObservationNeeds.MUTABLE_COPY;
+    }
+
     public PlayerParameters getParameters() {
         return parameters;
     }
@@ -0,0 +1,151 @@
+package core;
+
+import core.actions.AbstractAction;
+import core.actions.ActionSpace;
+import core.interfaces.IImmutableAction;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of the actions available in game states, used by AbstractForwardModel.computeAvailableActions() when
+ * set with AbstractForwardModel.setActionCache(). The cache is shared by all copies of the forward model, so the
+ * game loop and the players of a game can reuse the lists computed for the same state. When full, the least recently
+ * used list is evicted.
+ * <p>
+ * Lists are found by the hashCode() of the state and the action space requested, and are only used if the state
+ * equals the copy kept with them, as many game states have hash codes that are far from unique. The cache should
+ * therefore only be used for games whose state equals() covers everything that decides the actions available, and
+ * whose forward model does not modify the state while computing actions.
+ * <p>
+ * Only lists in which every action is an IImmutableAction (which includes all actions from an ActionPool) are kept,
+ * and the same unmodifiable list is returned to every request for them. Other actions can keep state once they are
+ * executed (those that are IExtendedSequences put themselves on the stack of actions in progress), so would have to
+ * be copied on every hit, which together with the copy of the state kept costs more than computing them again for
+ * most games. The first time a list with any other action is computed, the cache is bypassed from then on.
+ */
+public class ActionCache {
+
+    private final Map<Key, Entry> entries;
+    private long nRequests, nHits;
+    // set once a list of actions that cannot be shared is computed
+    private volatile boolean bypassed;
+
+    private static class Entry {
+        final AbstractGameState state;
+        final List<AbstractAction> actions;
+
+        Entry(AbstractGameState state, List<AbstractAction> actions) {
+            this.state = state;
+            this.actions = actions;
+        }
+    }
+
+    private static class Key {
+        final int fingerprint;
+        final ActionSpace actionSpace;
+
+        Key(int fingerprint, ActionSpace actionSpace) {
+            this.fingerprint = fingerprint;
+            this.actionSpace = actionSpace;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return fingerprint == key.fingerprint && Objects.equals(actionSpace, key.actionSpace);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * fingerprint + Objects.hashCode(actionSpace);
+        }
+    }
+
+    /**
+     * @param capacity - maximum number of action lists kept.
+     */
+    public ActionCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the actions available in the given state, computing them only if they are not in the cache already.
+     * The computation and the comparison of states are not done while holding the lock on the cache, so players in
+     * other threads are not blocked.
+     *
+     * @param gameState   - state to get the actions for.
+     * @param actionSpace - action space requested.
+     * @param compute     - computes the actions available in the state.
+     * @return - list of actions available. Lists from the cache are shared and cannot be changed.
+     */
+    List<AbstractAction> get(AbstractGameState gameState, ActionSpace actionSpace, Supplier<List<AbstractAction>> compute) {
+        if (bypassed) return compute.get();
+        Key key = new Key(gameState.hashCode(), actionSpace);
+        Entry entry;
+        synchronized (this) {
+            nRequests++;
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.state.equals(gameState)) {
+            synchronized (this) {
+                nHits++;
+            }
+            return entry.actions;
+        }
+        List<AbstractAction> actions = compute.get();
+        if (!shareable(actions)) {
+            bypassed = true;
+            clear();
+            return actions;
+        }
+        entry = new Entry(gameState.snapshot(), Collections.unmodifiableList(new ArrayList<>(actions)));
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+        return entry.actions;
+    }
+
+    private static boolean shareable(List<AbstractAction> actions) {
+        for (AbstractAction action : actions) {
+            if (!(action instanceof IImmutableAction)) return false;
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return true once the cache has been bypassed, as the game has actions that are not IImmutableAction
+     */
+    public boolean isBypassed() {
+        return bypassed;
+    }
+
+    public synchronized long getRequests() {
+        return nRequests;
+    }
+
+    /**
+     * @return fraction of requests answered from the cache
+     */
+    public synchronized double getHitRate() {
+        return nRequests == 0 ? 0 : nHits / (double) nRequests;
+    }
+}
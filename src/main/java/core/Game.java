@@ -3,6 +3,7 @@ package core;
 import core.actions.AbstractAction;
 import core.actions.DoNothing;
 import core.interfaces.IExtendedSequence;
+import core.interfaces.IGameEvent;
 import core.interfaces.IPrintable;
 import core.turnorders.ReactiveTurnOrder;
 import evaluation.listeners.IGameListener;
@@ -24,6 +25,7 @@ import players.simple.FirstActionPlayer;
 import players.simple.OSLAPlayer;
 import players.simple.RandomPlayer;
 import utilities.Pair;
+import utilities.SplitMixRandom;
 import utilities.Utils;
 
 import javax.swing.*;
@@ -439,7 +441,8 @@ public class Game {
      */
     public final void run() {
 
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.ABOUT_TO_START, gameState)));
+        if (hasListenersFor(Event.GameEvent.ABOUT_TO_START))
+            publish(Event.createEvent(Event.GameEvent.ABOUT_TO_START, gameState));
 
         boolean firstEnd = true;
 
@@ -554,20 +557,34 @@ public class Game {
         if (debug)
             System.out.printf("Starting oneAction for player %s%n", activePlayer);
 
-        // Get player observation, and time how long it takes
+        // Get the actions available, on the game state itself, so that no copy is needed if the player is not asked
         double s = System.nanoTime();
-        // copying the gamestate also copies the game parameters and resets the random
-        // seed (so agents cannot use this
-        // to reconstruct the starting hands etc.)
-        AbstractGameState observation = gameState.copy(activePlayer);
-        copyTime = (System.nanoTime() - s);
-        // System.out.printf("Total copyTime in ms = %.2f at tick %d (Avg %.3f) %n",
-        // copyTime / 1e6, tick, copyTime / (tick +1.0) / 1e6);
-
-        // Get actions for the player
-        s = System.nanoTime();
-        List<AbstractAction> observedActions = forwardModel.computeAvailableActions(observation,
+        AbstractGameState observation = gameState;
+        List<AbstractAction> observedActions = forwardModel.computeAvailableActions(gameState,
                 currentPlayer.getParameters().actionSpace);
+        boolean askPlayer = observedActions.size() > 1 || observedActions.size() == 1
+                && (currentPlayer instanceof HumanGUIPlayer || currentPlayer instanceof HumanConsolePlayer)
+                && !(observedActions.get(0) instanceof DoNothing);
+        actionComputeTime = (System.nanoTime() - s);
+
+        if (askPlayer && needsCopy(currentPlayer)) {
+            // Get player observation, and time how long it takes
+            s = System.nanoTime();
+            // copying the gamestate also copies the game parameters and resets the random
+            // seed (so agents cannot use this
+            // to reconstruct the starting hands etc.)
+            observation = gameState.copy(activePlayer, observationSeed());
+            copyTime = (System.nanoTime() - s);
+            // System.out.printf("Total copyTime in ms = %.2f at tick %d (Avg %.3f) %n",
+            // copyTime / 1e6, tick, copyTime / (tick +1.0) / 1e6);
+
+            // and the actions the player observes
+            s = System.nanoTime();
+            observedActions = forwardModel.computeAvailableActions(observation, currentPlayer.getParameters().actionSpace);
+            actionComputeTime += (System.nanoTime() - s);
+        } else {
+            copyTime = 0;
+        }
         if (observedActions.size() == 0) {
             Stack<IExtendedSequence> actionsInProgress = gameState.getActionsInProgress();
             IExtendedSequence topOfStack = null;
@@ -588,7 +605,6 @@ public class Game {
                             : ""));
 
         }
-        actionComputeTime = (System.nanoTime() - s);
         actionSpaceSize.add(new Pair<>(activePlayer, observedActions.size()));
 
         if (gameState.coreGameParameters.verbose) {
@@ -606,9 +622,7 @@ public class Game {
         // report the updated observation
         AbstractAction action = null;
         if (observedActions.size() > 0) {
-            if (observedActions.size() == 1
-                    && (!(currentPlayer instanceof HumanGUIPlayer || currentPlayer instanceof HumanConsolePlayer)
-                            || observedActions.get(0) instanceof DoNothing)) {
+            if (!askPlayer) {
                 // Can only do 1 action, so do it.
                 action = observedActions.get(0);
                 currentPlayer.registerUpdatedObservation(observation);
@@ -632,9 +646,8 @@ public class Game {
             }
             // We publish an ACTION_CHOSEN message before we implement the action, so that
             // observers can record the state that led to the decision
-            AbstractAction finalAction = action;
-            listeners.forEach(l -> l
-                    .onEvent(Event.createEvent(Event.GameEvent.ACTION_CHOSEN, gameState, finalAction, activePlayer)));
+            if (hasListenersFor(Event.GameEvent.ACTION_CHOSEN))
+                publish(Event.createEvent(Event.GameEvent.ACTION_CHOSEN, gameState, action, activePlayer));
         } else {
             currentPlayer.registerUpdatedObservation(observation);
         }
@@ -665,15 +678,63 @@ public class Game {
         // We publish an ACTION_TAKEN message once the action is taken so that observers
         // can record the result of the action
         // (such as the next player)
-        AbstractAction finalAction1 = action;
-        listeners.forEach(l -> l.onEvent(
-                Event.createEvent(Event.GameEvent.ACTION_TAKEN, gameState, finalAction1.copy(), activePlayer)));
+        if (hasListenersFor(Event.GameEvent.ACTION_TAKEN))
+            publish(Event.createEvent(Event.GameEvent.ACTION_TAKEN, gameState, action.copy(), activePlayer));
 
         if (debug)
             System.out.printf("Finishing oneAction for player %s%n", activePlayer);
         return action;
     }
 
+    /**
+     * @param type - type of event
+     * @return - true if any listener is interested in events of the given type, so that the event must be created
+     */
+    private boolean hasListenersFor(IGameEvent type) {
+        for (IGameListener l : listeners) {
+            if (l.isInterestedIn(type)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sends the event to all listeners interested in its type. The same event is shared by all of them.
+     */
+    private void publish(Event event) {
+        for (IGameListener l : listeners) {
+            if (l.isInterestedIn(event.type)) l.onEvent(event);
+        }
+    }
+
+    /**
+     * @return the seed of the copy of the game state given to the player at this tick. This depends only on the game
+     * state, and not on how many copies players have made of it, so that players given the state itself (which may
+     * copy it) cannot change the observations of other players.
+     */
+    private long observationSeed() {
+        return SplitMixRandom.mix(SplitMixRandom.mix(gameState.getRandomSeed()) + gameState.getGameTick() * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * Players that declare they do not look at the state, or only read it in a fully observable game, are given the
+     * game state itself rather than a copy. Players in competition mode are always given a copy, as they can not be
+     * trusted to keep to what they declare.
+     *
+     * @param player - player about to be asked for an action
+     * @return - true if the player must be given a copy of the game state as its observation
+     */
+    private boolean needsCopy(AbstractPlayer player) {
+        if (gameState.coreGameParameters.competitionMode || !player.decorators.isEmpty()) return true;
+        switch (player.getObservationNeeds()) {
+            case NONE:
+                return false;
+            case READ_ONLY:
+                return gameState.coreGameParameters.partialObservable;
+            default:
+                return true;
+        }
+    }
+
     /**
      * Called at the end of game loop execution, when the game is over.
      */
@@ -685,7 +746,8 @@ public class Game {
 
         // Perform any end of game computations as required by the game
         forwardModel.endGame(gameState);
-        listeners.forEach(l -> l.onEvent(Event.createEvent(Event.GameEvent.GAME_OVER, gameState)));
+        if (hasListenersFor(Event.GameEvent.GAME_OVER))
+            publish(Event.createEvent(Event.GameEvent.GAME_OVER, gameState));
         if (gameState.coreGameParameters.recordEventHistory) {
             gameState.recordHistory(Event.GameEvent.GAME_OVER.name());
             for (int i = 0; i < gameState.getNPlayers(); i++) {
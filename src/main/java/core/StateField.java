@@ -0,0 +1,38 @@
+package core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how a field of a game state is copied by StateFields.copy(), which game states can use in _copy()
+ * instead of copying each field by hand. Fields of primitive and immutable types (String, boxed primitives, enums,
+ * IImmutableComponent and IImmutableAction) need no annotation, and are simply assigned. Any other field of a
+ * state copied with StateFields must be annotated, so that every field is copied deliberately.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface StateField {
+
+    enum Kind {
+        /**
+         * Never changed during a game (e.g. data loaded once), so the copy shares the same object.
+         */
+        SHARED,
+        /**
+         * Copied in full: Components with copy(), actions with copy(), and arrays, Collections (Lists, Sets,
+         * Deques...) and Maps of these, rebuilt element by element into a new object of the same class (Map keys are
+         * shared). Objects of other classes are copied with their public copy() method.
+         */
+        DEEP,
+        /**
+         * Holds information that depends on the player observing the state. It is not copied by StateFields.copy(),
+         * and is left as set by the constructor for _copy() to fill in. It is still compared by StateFields.equals()
+         * and included in StateFields.hashCode().
+         */
+        HIDDEN
+    }
+
+    Kind value();
+}
@@ -0,0 +1,327 @@
+package core;
+
+import core.actions.AbstractAction;
+import core.components.Component;
+import core.interfaces.IImmutableAction;
+import core.interfaces.IImmutableComponent;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copies, compares and hashes the fields of game states as declared by their @StateField annotations, so that games
+ * do not have to list every field in _copy(), _equals() and hashCode(), and do not get out of step when fields are
+ * added. A game state using this would typically do:
+ * <pre>
+ *     protected MyGameState _copy(int playerId) {
+ *         MyGameState copy = new MyGameState(gameParameters, getNPlayers());
+ *         StateFields.copy(this, copy);
+ *         // fill in HIDDEN fields, and redeterminise if playerId != -1
+ *         return copy;
+ *     }
+ *     protected boolean _equals(Object o) { return StateFields.equals(this, o); }
+ *     public int hashCode() { return StateFields.hashCode(this); }
+ * </pre>
+ * The fields of each class are found by reflection once, when first used, so this is about as fast as copying the
+ * fields by hand. Fields of AbstractGameState and AbstractGameStateWithTurnOrder are not included, as these are
+ * copied by AbstractGameState.copy(), as are static and transient fields.
+ */
+public final class StateFields {
+
+    private StateFields() {
+    }
+
+    private static final class Plan {
+        final Field[] assigned;  // primitive, immutable and SHARED fields, assigned to the copy
+        final Field[] deep;      // DEEP fields, copied in full
+        final Field[] all;       // all fields, in the order of declaration, starting with the subclass
+
+        Plan(List<Field> assigned, List<Field> deep, List<Field> all) {
+            this.assigned = assigned.toArray(new Field[0]);
+            this.deep = deep.toArray(new Field[0]);
+            this.all = all.toArray(new Field[0]);
+        }
+    }
+
+    private static final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return planFor(type);
+        }
+    };
+
+    private static final ClassValue<UnaryOperator<Object>> copiers = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return copierFor(type);
+        }
+    };
+
+    /**
+     * Copies all fields of the given state that are not HIDDEN to the other state, which must be of the same class.
+     *
+     * @param from - state to copy.
+     * @param to   - newly created state to copy to.
+     */
+    public static <T extends AbstractGameState> void copy(T from, T to) {
+        if (from.getClass() != to.getClass()) {
+            throw new IllegalArgumentException("Can not copy " + from.getClass().getSimpleName() + " to " + to.getClass().getSimpleName());
+        }
+        Plan plan = plans.get(from.getClass());
+        try {
+            for (Field f : plan.assigned) {
+                Class<?> type = f.getType();
+                if (type == int.class) f.setInt(to, f.getInt(from));
+                else if (type == double.class) f.setDouble(to, f.getDouble(from));
+                else if (type == boolean.class) f.setBoolean(to, f.getBoolean(from));
+                else if (type == long.class) f.setLong(to, f.getLong(from));
+                else f.set(to, f.get(from));
+            }
+            for (Field f : plan.deep) {
+                f.set(to, deepCopy(f.get(from)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not copy fields of " + from.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return true if the other object is a state of the same class, and all their fields are equal (arrays are
+     * compared by their contents)
+     */
+    public static boolean equals(AbstractGameState state, Object o) {
+        if (state == o) return true;
+        if (o == null || o.getClass() != state.getClass()) return false;
+        try {
+            for (Field f : plans.get(state.getClass()).all) {
+                if (!fieldEquals(f.get(state), f.get(o))) return false;
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not compare fields of " + state.getClass().getSimpleName(), e);
+        }
+        return true;
+    }
+
+    /**
+     * @return hash code of all fields of the state (arrays are hashed by their contents)
+     */
+    public static int hashCode(AbstractGameState state) {
+        int result = 1;
+        try {
+            for (Field f : plans.get(state.getClass()).all) {
+                Object value = f.get(state);
+                result = 31 * result + fieldHashCode(value);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Can not hash fields of " + state.getClass().getSimpleName(), e);
+        }
+        return result;
+    }
+
+    // Queues and deques do not define equals() and hashCode(), so are compared by their elements, in order of iteration
+    private static boolean comparedByElements(Object o) {
+        return o instanceof Collection && !(o instanceof List) && !(o instanceof Set);
+    }
+
+    private static boolean fieldEquals(Object a, Object b) {
+        if (comparedByElements(a)) {
+            return b != null && a.getClass() == b.getClass() && Arrays.equals(((Collection<?>) a).toArray(), ((Collection<?>) b).toArray());
+        }
+        return Objects.deepEquals(a, b);
+    }
+
+    private static int fieldHashCode(Object value) {
+        if (value == null) return 0;
+        if (value.getClass().isArray()) return Arrays.deepHashCode(new Object[]{value});
+        if (comparedByElements(value)) return Arrays.hashCode(((Collection<?>) value).toArray());
+        return value.hashCode();
+    }
+
+    /**
+     * Copies an object as a DEEP field is copied, for use with HIDDEN fields.
+     *
+     * @param o - object to copy (may be null).
+     * @return - copy of the object.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T o) {
+        if (o == null) return null;
+        return (T) copiers.get(o.getClass()).apply(o);
+    }
+
+    private static final Set<Class<?>> immutableTypes = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class));
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || immutableTypes.contains(type)
+                || IImmutableComponent.class.isAssignableFrom(type) || IImmutableAction.class.isAssignableFrom(type);
+    }
+
+    /**
+     * @return true for AbstractGameState and its abstract subclasses in the same package, which copy their own fields
+     */
+    private static boolean isCoreStateClass(Class<?> c) {
+        return c == Object.class || Modifier.isAbstract(c.getModifiers()) && c.getPackage() == AbstractGameState.class.getPackage();
+    }
+
+    private static Plan planFor(Class<?> type) {
+        List<Field> assigned = new ArrayList<>(), deep = new ArrayList<>(), all = new ArrayList<>();
+        for (Class<?> c = type; !isCoreStateClass(c); c = c.getSuperclass()) {
+            for (Field f : c.getDeclaredFields()) {
+                int modifiers = f.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || f.isSynthetic()) continue;
+                f.setAccessible(true);
+                StateField annotation = f.getAnnotation(StateField.class);
+                if (annotation == null && !isImmutable(f.getType())) {
+                    throw new IllegalStateException("Field " + f.getName() + " of " + c.getSimpleName() +
+                            " must be annotated with @StateField to be copied with StateFields");
+                }
+                StateField.Kind kind = annotation == null ? StateField.Kind.SHARED : annotation.value();
+                if (kind == StateField.Kind.SHARED) assigned.add(f);
+                else if (kind == StateField.Kind.DEEP) deep.add(f);
+                all.add(f);
+            }
+        }
+        return new Plan(assigned, deep, all);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<Object> copierFor(Class<?> type) {
+        if (isImmutable(type)) return o -> o;
+        if (Component.class.isAssignableFrom(type)) return o -> ((Component) o).copy();
+        if (AbstractAction.class.isAssignableFrom(type)) return o -> ((AbstractAction) o).copy();
+        if (type.isArray()) {
+            if (type.getComponentType().isPrimitive()) return StateFields::clonePrimitiveArray;
+            return o -> {
+                Object[] copy = ((Object[]) o).clone();
+                ElementCopier elements = new ElementCopier();
+                for (int i = 0; i < copy.length; i++) copy[i] = elements.copy(copy[i]);
+                return copy;
+            };
+        }
+        if (EnumSet.class.isAssignableFrom(type)) return o -> ((EnumSet<?>) o).clone();
+        if (EnumMap.class.isAssignableFrom(type)) return o -> {
+            EnumMap<?, Object> copy = ((EnumMap<?, Object>) o).clone();
+            ElementCopier elements = new ElementCopier();
+            copy.replaceAll((k, v) -> elements.copy(v));
+            return copy;
+        };
+        if (Collection.class.isAssignableFrom(type)) {
+            // the copy is of the same class as the original, so that it can be assigned to fields of that class
+            UnaryOperator<Object> empty = emptyCollectionFor(type);
+            return o -> {
+                Collection<Object> copy = (Collection<Object>) empty.apply(o);
+                ElementCopier elements = new ElementCopier();
+                for (Object e : (Collection<Object>) o) copy.add(elements.copy(e));
+                return copy;
+            };
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            UnaryOperator<Object> empty = emptyMapFor(type);
+            return o -> {
+                Map<Object, Object> copy = (Map<Object, Object>) empty.apply(o);
+                ElementCopier elements = new ElementCopier();
+                for (Map.Entry<Object, Object> e : ((Map<Object, Object>) o).entrySet())
+                    copy.put(e.getKey(), elements.copy(e.getValue()));
+                return copy;
+            };
+        }
+        try {
+            Method copy = type.getMethod("copy");
+            copy.setAccessible(true);
+            return o -> {
+                try {
+                    return copy.invoke(o);
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new IllegalStateException("Could not copy " + type.getSimpleName(), e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Do not know how to copy objects of class " + type.getName());
+        }
+    }
+
+    /**
+     * @return function creating an empty collection of the same class as the one given (with the same ordering for
+     * sorted collections), to copy its elements into. Lists of classes that can not be created, such as unmodifiable
+     * lists, are copied to an ArrayList, and sets to a HashSet.
+     */
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<Object> emptyCollectionFor(Class<?> type) {
+        if (type == ArrayList.class) return o -> new ArrayList<>(((Collection<?>) o).size());
+        if (type == LinkedList.class) return o -> new LinkedList<>();
+        if (type == ArrayDeque.class) return o -> new ArrayDeque<>(((Collection<?>) o).size());
+        if (type == HashSet.class) return o -> new HashSet<>(((Collection<?>) o).size() * 4 / 3 + 1);
+        if (type == LinkedHashSet.class) return o -> new LinkedHashSet<>(((Collection<?>) o).size() * 4 / 3 + 1);
+        if (type == TreeSet.class) return o -> new TreeSet<>(((TreeSet<Object>) o).comparator());
+        if (type == PriorityQueue.class) return o -> new PriorityQueue<>(((PriorityQueue<Object>) o).comparator());
+        UnaryOperator<Object> constructor = noArgConstructor(type);
+        if (constructor != null) return constructor;
+        if (List.class.isAssignableFrom(type)) return o -> new ArrayList<>(((Collection<?>) o).size());
+        if (Set.class.isAssignableFrom(type)) return o -> new HashSet<>(((Collection<?>) o).size() * 4 / 3 + 1);
+        throw new IllegalArgumentException("Do not know how to copy collections of class " + type.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<Object> emptyMapFor(Class<?> type) {
+        if (type == HashMap.class) return o -> new HashMap<>(((Map<?, ?>) o).size() * 4 / 3 + 1);
+        if (type == LinkedHashMap.class) return o -> new LinkedHashMap<>(((Map<?, ?>) o).size() * 4 / 3 + 1);
+        if (type == TreeMap.class) return o -> new TreeMap<>(((TreeMap<Object, Object>) o).comparator());
+        UnaryOperator<Object> constructor = noArgConstructor(type);
+        if (constructor != null) return constructor;
+        return o -> new HashMap<>(((Map<?, ?>) o).size() * 4 / 3 + 1);
+    }
+
+    /**
+     * @return function calling the public no-argument constructor of the class, or null if it does not have one
+     */
+    private static UnaryOperator<Object> noArgConstructor(Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) return null;
+        try {
+            Constructor<?> constructor = type.getConstructor();
+            return o -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Could not create " + type.getSimpleName(), e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copies the elements of an array, collection or map, only looking up how to copy them when the class of the
+     * element changes, as elements are nearly always all of the same class.
+     */
+    private static final class ElementCopier {
+        private Class<?> type;
+        private UnaryOperator<Object> copier;
+
+        Object copy(Object o) {
+            if (o == null) return null;
+            if (o.getClass() != type) {
+                type = o.getClass();
+                copier = copiers.get(type);
+            }
+            return copier.apply(o);
+        }
+    }
+
+    private static Object clonePrimitiveArray(Object o) {
+        if (o instanceof int[]) return ((int[]) o).clone();
+        if (o instanceof double[]) return ((double[]) o).clone();
+        if (o instanceof boolean[]) return ((boolean[]) o).clone();
+        if (o instanceof long[]) return ((long[]) o).clone();
+        if (o instanceof byte[]) return ((byte[]) o).clone();
+        if (o instanceof char[]) return ((char[]) o).clone();
+        if (o instanceof short[]) return ((short[]) o).clone();
+        return ((float[]) o).clone();
+    }
+}
@@ -0,0 +1,67 @@
+package core.actions;
+
+import core.interfaces.IImmutableAction;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Pool of shared instances of an immutable action type, so that forward models do not need to create new action
+ * objects every time the available actions are computed. Actions from the same pool that are equal are the same
+ * instance, so equals() usually succeeds on the identity check, and any hash code cached by the action is only
+ * computed once, wherever the action is used as a key.
+ * <p>
+ * Actions are found either by a small non-negative int key chosen by the game, which needs no allocation once the
+ * action is in the pool (get()), or by equality with a newly created action (intern()). Pools are safe to share
+ * between all copies of a game state or forward model, and between games run in parallel.
+ */
+public class ActionPool<A extends AbstractAction & IImmutableAction> {
+
+    private volatile Object[] byKey = new Object[0];
+    private final ConcurrentHashMap<A, A> interned = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the action with the given key, creating it if it is not in the pool yet. Keys are used as array indices,
+     * so should be dense.
+     *
+     * @param key     - non-negative key of the action.
+     * @param factory - creates the action with the given key.
+     * @return - shared instance of the action.
+     */
+    @SuppressWarnings("unchecked")
+    public A get(int key, IntFunction<? extends A> factory) {
+        Object[] actions = byKey;
+        if (key < actions.length && actions[key] != null) {
+            // Actions are immutable with final fields, so are safe to read without locking
+            return (A) actions[key];
+        }
+        return create(key, factory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized A create(int key, IntFunction<? extends A> factory) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Negative key " + key);
+        }
+        Object[] actions = byKey;
+        if (key >= actions.length) {
+            actions = Arrays.copyOf(actions, Math.max(key + 1, 2 * actions.length));
+            byKey = actions;
+        } else if (actions[key] != null) {
+            return (A) actions[key];
+        }
+        A action = factory.apply(key);
+        actions[key] = action;
+        return action;
+    }
+
+    /**
+     * @param action - newly created action.
+     * @return - the instance in the pool equal to the given action, which is added if there is none.
+     */
+    public A intern(A action) {
+        A existing = interned.putIfAbsent(action, action);
+        return existing == null ? action : existing;
+    }
+}
@@ -6,9 +6,11 @@ import org.json.simple.JSONObject;
 import core.CoreConstants.ComponentType;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Component {
-    private static int ID = 0;  // All components receive a unique and final ID from this always increasing counter
+    // All components receive a unique and final ID from this always increasing counter (shared by games run in parallel)
+    private static final AtomicInteger ID = new AtomicInteger();
 
     protected transient final int componentID;  // Unique ID of this component
     protected final ComponentType type;  // Type of this component
@@ -17,14 +19,14 @@ public abstract class Component {
     protected String componentName;  // Name of this component
 
     public Component(ComponentType type, String name) {
-        this.componentID = ID++;
+        this.componentID = ID.getAndIncrement();
         this.type = type;
         this.componentName = name;
         this.properties = new HashMap<>();
     }
 
     public Component(ComponentType type) {
-        this.componentID = ID++;
+        this.componentID = ID.getAndIncrement();
         this.type = type;
         this.componentName = type.toString();
         this.properties = new HashMap<>();
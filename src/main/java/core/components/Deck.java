@@ -2,6 +2,7 @@ package core.components;
 
 import core.CoreConstants;
 import core.interfaces.IComponentContainer;
+import core.interfaces.IImmutableComponent;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
@@ -10,6 +11,7 @@ import org.json.simple.parser.ParseException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static core.CoreConstants.VisibilityMode;
 
@@ -27,6 +29,14 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     protected List<T> components;  // List of components in this deck
     protected VisibilityMode visibility;
 
+    // True if the components list may be shared with a copy of this deck, and must be cloned before it is modified
+    private boolean sharedList;
+    // True if every component added to this deck is an IImmutableComponent (this is not reset by removing
+    // components, only by clear() or setComponents())
+    private boolean immutableOnly = true;
+    // Incremented on every modification of the deck; see getModCount()
+    private int modCount;
+
     public Deck(String name, VisibilityMode visibility) {
         this(name, -1, visibility);
     }
@@ -118,6 +128,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public T pick(int idx) {
         if (components.size() > 0 && idx < components.size() && idx >= 0) {
+            ensureOwnList();
             T c = components.get(idx);
             components.remove(idx);
             return c;
@@ -197,6 +208,8 @@ public class Deck<T extends Component> extends Component implements IComponentCo
         if (c == null)
             throw new IllegalArgumentException("null cannot be added to a Deck");
         c.setOwnerId(ownerId);
+        ensureOwnList();
+        immutableOnly &= c instanceof IImmutableComponent;
         components.add(index, c);
         return capacity == -1 || components.size() <= capacity;
     }
@@ -230,7 +243,9 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(Deck<T> d, int index) {
+        ensureOwnList();
         components.addAll(index, d.components);
+        immutableOnly &= d.immutableOnly;
         for (T comp : d.components) {
             comp.setOwnerId(ownerId);
         }
@@ -242,9 +257,11 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     public boolean add(Collection<T> d, int index) {
+        ensureOwnList();
         components.addAll(index, d);
         for (T comp : d) {
             comp.setOwnerId(ownerId);
+            immutableOnly &= comp instanceof IImmutableComponent;
         }
         return capacity == -1 || components.size() <= capacity;
     }
@@ -272,6 +289,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public boolean remove(int idx) {
         if (idx >= 0 && idx < components.size()) {
+            ensureOwnList();
             components.get(idx).setOwnerId(-1);
             components.remove(idx);
             return true;
@@ -295,10 +313,17 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * Removes all the components from the deck.
      */
     public void clear() {
+        modCount++;
         for (T comp : components) {
             comp.setOwnerId(-1);
         }
-        components.clear();
+        if (sharedList) {
+            components = new ArrayList<>();
+            sharedList = false;
+        } else {
+            components.clear();
+        }
+        immutableOnly = true;
     }
 
     // Getters, Setters
@@ -307,6 +332,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * Shuffles the deck with a specific random object.
      */
     public void shuffle(Random rnd) {
+        ensureOwnList();
         Collections.shuffle(components, rnd);
     }
 
@@ -318,6 +344,7 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      * @param rnd       - random number generator used for shuffling
      */
     public void shuffle(int fromIndex, int toIndex, Random rnd) {
+        ensureOwnList();
         List<T> subList = components.subList(fromIndex, toIndex);
         Collections.shuffle(subList, rnd);
         int i = 0;
@@ -328,25 +355,64 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     /**
-     * @return all the components in this deck.
+     * @return all the components in this deck. The list may be modified by the caller, so this takes
+     * ownership of the list if it is shared with a copy; use get(), getSize() or stream() for read-only access.
      */
     @Override
     public List<T> getComponents() {
+        ensureOwnList();
         return components;
     }
 
+    @Override
+    public Stream<T> stream() {
+        return components.stream();
+    }
+
+    @Override
+    public int getSize() {
+        return components.size();
+    }
+
+    /**
+     * Clones the components list if it is currently shared with a copy of this Deck. This must be called
+     * before any modification of the list (the components themselves are immutable if the list is shared).
+     * Once shared, both this Deck and its copy clone on their next modification, even if the other has already done so.
+     * This also counts the modification (see getModCount()).
+     */
+    protected void ensureOwnList() {
+        modCount++;
+        if (sharedList) {
+            components = new ArrayList<>(components);
+            sharedList = false;
+        }
+    }
+
     /**
      * Set the components in this deck.
      *
      * @param components - new components for the deck, overrides old content.
      */
     public void setComponents(ArrayList<T> components) {
+        modCount++;
         this.components = components;
+        sharedList = false;
+        immutableOnly = true;
         for (T comp : components) {
             comp.setOwnerId(ownerId);
+            immutableOnly &= comp instanceof IImmutableComponent;
         }
     }
 
+    /**
+     * @return a counter that changes whenever the contents of this deck may have changed (it is not copied, and
+     * changes more often than strictly needed, e.g. on shuffle or getComponents()). This lets callers cache values
+     * derived from the contents, and check they are still valid by comparing the deck and this count.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
     /**
      * Maximum number of components this deck may contain.
      */
@@ -378,6 +444,8 @@ public class Deck<T extends Component> extends Component implements IComponentCo
      */
     public void setComponent(int idx, T component) {
         component.setOwnerId(ownerId);
+        ensureOwnList();
+        immutableOnly &= component instanceof IImmutableComponent;
         components.set(idx, component);
     }
 
@@ -412,11 +480,16 @@ public class Deck<T extends Component> extends Component implements IComponentCo
     }
 
     protected void copyTo(Deck<T> deck) {
-        List<T> newComponents = new ArrayList<>();
-        for (T c : components) {
-            newComponents.add((T) c.copy());
+        if (immutableOnly) {
+            shareListWith(deck);
+        } else {
+            List<T> newComponents = new ArrayList<>();
+            for (T c : components) {
+                newComponents.add((T) c.copy());
+            }
+            deck.components = newComponents;
+            deck.immutableOnly = false;
         }
-        deck.components = newComponents;
         deck.capacity = capacity;
 
         //copy type and component.
@@ -425,17 +498,32 @@ public class Deck<T extends Component> extends Component implements IComponentCo
 
 
     protected void copyTo(Deck<T> deck, int playerId) {
-        List<T> newComponents = new ArrayList<>();
-        for (T c : components) {
-            newComponents.add((T) c.copy(playerId));
+        if (immutableOnly) {
+            shareListWith(deck);
+        } else {
+            List<T> newComponents = new ArrayList<>();
+            for (T c : components) {
+                newComponents.add((T) c.copy(playerId));
+            }
+            deck.components = newComponents;
+            deck.immutableOnly = false;
         }
-        deck.components = newComponents;
         deck.capacity = capacity;
 
         //copy type and component.
         copyComponentTo(deck);
     }
 
+    /**
+     * Copy-on-write: the immutable components (and the list holding them) are shared until either deck is modified.
+     */
+    private void shareListWith(Deck<T> deck) {
+        sharedList = true;
+        deck.sharedList = true;
+        deck.immutableOnly = true;
+        deck.components = components;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -1,10 +1,11 @@
 package core.components;
 
 import core.CoreConstants;
+import core.interfaces.IImmutableComponent;
 
 import java.util.Objects;
 
-public class FrenchCard extends Card {
+public class FrenchCard extends Card implements IImmutableComponent {
 
     public static int[] numbers = {2,3,4,5,6,7,8,9,10};
 
@@ -21,8 +21,8 @@ import static utilities.Utils.getNeighbourhood;
 
 public class GridBoard<T extends Component> extends Component implements IComponentContainer<T> {
 
-    private int width;  // Width of the board
-    private int height;  // Height of the board
+    protected int width;  // Width of the board
+    protected int height;  // Height of the board
 
     private Component[][] grid;  // 2D grid representation of this board
 
@@ -30,11 +30,26 @@ public class GridBoard<T extends Component> extends Component implements ICompon
         super(CoreConstants.ComponentType.BOARD);
     }
 
-    public GridBoard(int width, int height) {
+    /**
+     * Constructors allowing subclasses that store the elements of the grid themselves to skip allocating the grid
+     * array, in which case they must override all methods accessing it.
+     */
+    protected GridBoard(int width, int height, boolean allocateGrid) {
         super(CoreConstants.ComponentType.BOARD);
         this.width = width;
         this.height = height;
-        this.grid = new Component[height][width];
+        if (allocateGrid) this.grid = new Component[height][width];
+    }
+
+    protected GridBoard(int width, int height, int ID, boolean allocateGrid) {
+        super(CoreConstants.ComponentType.BOARD, ID);
+        this.width = width;
+        this.height = height;
+        if (allocateGrid) this.grid = new Component[height][width];
+    }
+
+    public GridBoard(int width, int height) {
+        this(width, height, true);
     }
 
     public GridBoard(int width, int height, T defaultValue) {
@@ -58,17 +73,15 @@ public class GridBoard<T extends Component> extends Component implements ICompon
     }
 
     protected GridBoard(int width, int height, int ID) {
-        super(CoreConstants.ComponentType.BOARD, ID);
-        this.width = width;
-        this.height = height;
-        this.grid = new Component[height][width];
+        this(width, height, ID, true);
     }
 
     public GridBoard(GridBoard<T> orig) {
         super(CoreConstants.ComponentType.BOARD);
         this.width = orig.getWidth();
         this.height = orig.getHeight();
-        this.grid = orig.grid.clone();
+        // subclasses may keep their elements elsewhere, without a grid array
+        this.grid = orig.grid != null ? orig.grid.clone() : orig.getGridValues();
     }
 
     /**
@@ -301,7 +314,7 @@ public class GridBoard<T extends Component> extends Component implements ICompon
             properties.put(imgHash, new PropertyString((String) board.get("img")));
         }
 
-        this.grid = new Component[height][width];
+        clearElements();
 
         JSONArray grids = (JSONArray) board.get("grid");
         int y = 0;
@@ -312,7 +325,7 @@ public class GridBoard<T extends Component> extends Component implements ICompon
                     JSONArray row = (JSONArray) o;
                     int x = 0;
                     for (Object o1 : row) {
-                        setElement(x, y, (T) o1);
+                        loadElement(x, y, o1);
                         x++;
                     }
                     y++;
@@ -321,7 +334,7 @@ public class GridBoard<T extends Component> extends Component implements ICompon
                 JSONArray row = (JSONArray) g;
                 int x = 0;
                 for (Object o1 : row) {
-                    setElement(x, y, (T) o1);
+                    loadElement(x, y, o1);
                     x++;
                 }
                 y++;
@@ -329,6 +342,21 @@ public class GridBoard<T extends Component> extends Component implements ICompon
         }
     }
 
+    /**
+     * Empties the grid after its size is loaded by loadBoard(), before its elements are.
+     */
+    protected void clearElements() {
+        this.grid = new Component[height][width];
+    }
+
+    /**
+     * Sets an element of the grid to a value read by loadBoard().
+     */
+    @SuppressWarnings("unchecked")
+    protected void loadElement(int x, int y, Object value) {
+        setElement(x, y, (T) value);
+    }
+
     /**
      * Generates a graph from this grid, with 4-way or 8-way connectivity.
      *
@@ -406,7 +434,7 @@ public class GridBoard<T extends Component> extends Component implements ICompon
     }
 
     @Override
-    public final int hashCode() {
+    public int hashCode() {
         return Objects.hash(componentID) + 5 * Arrays.hashCode(flattenGrid());
     }
 
@@ -0,0 +1,180 @@
+package core.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * GridBoard for boards whose elements all come from a small palette of immutable components, such as the tokens of
+ * TicTacToe or Connect4. Each cell stores the index of its element in the palette, which is shared by all copies of
+ * the board, so copying the board copies a single byte array and setting elements allocates nothing.
+ * <p>
+ * Elements set must be in the palette (or null), and must not be modified, as all cells and copies share them.
+ * getGridValues() returns a new array each time, changes to which are not reflected in the board.
+ */
+public class PaletteGridBoard<T extends Component> extends GridBoard<T> {
+
+    private static final byte EMPTY = -1;  // index of null cells
+
+    private final List<T> palette;
+    private byte[] cells;  // Index in the palette of the element in each cell, one row after another
+
+    /**
+     * @param width - width of the board.
+     * @param height - height of the board.
+     * @param palette - all elements that may be placed in the grid, at most 127.
+     * @param defaultValue - initial value of all cells, must be in the palette or null.
+     */
+    public PaletteGridBoard(int width, int height, List<T> palette, T defaultValue) {
+        super(width, height, false);
+        if (palette.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Palette too large: " + palette.size());
+        }
+        this.palette = Collections.unmodifiableList(new ArrayList<>(palette));
+        this.cells = new byte[width * height];
+        Arrays.fill(cells, indexOf(defaultValue));
+    }
+
+    private PaletteGridBoard(int width, int height, List<T> palette, byte[] cells, int ID) {
+        super(width, height, ID, false);
+        this.palette = palette;
+        this.cells = cells;
+    }
+
+    private byte indexOf(T value) {
+        if (value == null) return EMPTY;
+        for (int i = 0; i < palette.size(); i++) {
+            if (palette.get(i) == value) return (byte) i;
+        }
+        for (int i = 0; i < palette.size(); i++) {
+            if (palette.get(i).equals(value)) return (byte) i;
+        }
+        throw new IllegalArgumentException("Value " + value + " is not in the palette of this grid");
+    }
+
+    public List<T> getPalette() {
+        return palette;
+    }
+
+    @Override
+    public boolean setElement(int x, int y, T value) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            cells[y * width + x] = indexOf(value);
+            return true;
+        } else
+            return false;
+    }
+
+    @Override
+    public T getElement(int x, int y) {
+        if (x >= 0 && x < width && y >= 0 && y < height) {
+            byte idx = cells[y * width + x];
+            return idx == EMPTY ? null : palette.get(idx);
+        }
+        return null;
+    }
+
+    @Override
+    public void setWidthHeight(int width, int height, int offsetX, int offsetY) {
+        if (offsetX + this.width > width) offsetX = 0;
+        if (offsetY + this.height > height) offsetY = 0;
+
+        int w = Math.min(width, this.width);
+        int h = Math.min(height, this.height);
+
+        byte[] cells = new byte[width * height];
+        Arrays.fill(cells, EMPTY);
+        for (int i = 0; i < h; i++) {
+            System.arraycopy(this.cells, i * this.width, cells, (i + offsetY) * width + offsetX, w);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    @Override
+    public Component[][] getGridValues() {
+        Component[][] grid = new Component[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid[y][x] = getElement(x, y);
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public Component[][] rotate(int orientation) {
+        return new GridBoard<T>(getGridValues(), componentID).rotate(orientation);
+    }
+
+    @Override
+    public Component[] flattenGrid() {
+        Component[] array = new Component[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            array[i] = cells[i] == EMPTY ? null : palette.get(cells[i]);
+        }
+        return array;
+    }
+
+    @Override
+    public PaletteGridBoard<T> copy() {
+        PaletteGridBoard<T> g = new PaletteGridBoard<>(width, height, palette, cells.clone(), componentID);
+        copyComponentTo(g);
+        return g;
+    }
+
+    @Override
+    public PaletteGridBoard<T> emptyCopy() {
+        byte[] empty = new byte[cells.length];
+        Arrays.fill(empty, EMPTY);
+        PaletteGridBoard<T> g = new PaletteGridBoard<>(width, height, palette, empty, componentID);
+        copyComponentTo(g);
+        return g;
+    }
+
+    @Override
+    protected void clearElements() {
+        cells = new byte[width * height];
+        Arrays.fill(cells, EMPTY);
+    }
+
+    /**
+     * Elements loaded from JSON are given by name, and set to the element of the palette with that component name.
+     */
+    @Override
+    protected void loadElement(int x, int y, Object value) {
+        if (value == null) {
+            setElement(x, y, null);
+            return;
+        }
+        for (T element : palette) {
+            if (element.getComponentName().equals(value.toString())) {
+                setElement(x, y, element);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Value " + value + " is not in the palette of this grid");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PaletteGridBoard && ((PaletteGridBoard<?>) o).palette == palette) {
+            PaletteGridBoard<?> other = (PaletteGridBoard<?>) o;
+            return componentID == other.componentID && width == other.width && Arrays.equals(cells, other.cells);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as GridBoard.hashCode(), without flattening the grid
+        int result = 1;
+        for (byte idx : cells) {
+            result = 31 * result + (idx == EMPTY ? 0 : palette.get(idx).hashCode());
+        }
+        return Objects.hash(componentID) + 5 * result;
+    }
+}
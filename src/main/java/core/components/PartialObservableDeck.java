@@ -2,11 +2,10 @@ package core.components;
 
 import core.AbstractGameState;
 import core.CoreConstants.VisibilityMode;
-import utilities.Pair;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Random;
 
 public class PartialObservableDeck<T extends Component> extends Deck<T> {
@@ -15,15 +14,23 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     // (true if player can see the deck, false otherwise)
     protected boolean[] deckVisibility;
 
-    // Visibility of each component in the deck, order corresponds to order of elements in the deck;
-    protected List<boolean[]> elementVisibility = new ArrayList<>();
+    // Visibility of each component in the deck, order corresponds to order of elements in the deck.
+    // Each entry is a bitmask, with bit p set if player p can see the component. Only the first
+    // components.size() entries are in use; the array grows as needed.
+    protected long[] elementVisibility = new long[8];
 
     public boolean getVisibilityForPlayer(int elementIdx, int playerID) {
-        return elementVisibility.get(elementIdx)[playerID];
+        checkIndex(elementIdx);
+        return (elementVisibility[elementIdx] & (1L << playerID)) != 0;
     }
 
+    /**
+     * @return a new array with the visibility of the component for each player. Changes to this array do not
+     * affect the deck; use setVisibilityOfComponent() for that.
+     */
     public boolean[] getVisibilityOfComponent(int elementIdx) {
-        return elementVisibility.get(elementIdx);
+        checkIndex(elementIdx);
+        return toArray(elementVisibility[elementIdx]);
     }
 
     public PartialObservableDeck(String id, boolean[] defaultVisibility) {
@@ -32,7 +39,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
 
     public PartialObservableDeck(String id, int ownerID, boolean[] defaultVisibility) {
         super(id, ownerID, VisibilityMode.MIXED_VISIBILITY);
-        this.deckVisibility = defaultVisibility;
+        this.deckVisibility = checkPlayers(defaultVisibility);
     }
 
     public PartialObservableDeck(String id, int nPlayers) {
@@ -52,6 +59,54 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         this.deckVisibility = defaultVisibility;
     }
 
+    private static boolean[] checkPlayers(boolean[] visibility) {
+        if (visibility != null && visibility.length > Long.SIZE)
+            throw new IllegalArgumentException("PartialObservableDeck supports at most " + Long.SIZE + " players");
+        return visibility;
+    }
+
+    private static long toMask(boolean[] visibility) {
+        long retValue = 0;
+        if (visibility != null)
+            for (int p = 0; p < visibility.length; p++)
+                if (visibility[p]) retValue |= 1L << p;
+        return retValue;
+    }
+
+    private boolean[] toArray(long mask) {
+        boolean[] retValue = new boolean[deckVisibility == null ? 0 : deckVisibility.length];
+        for (int p = 0; p < retValue.length; p++)
+            retValue[p] = (mask & (1L << p)) != 0;
+        return retValue;
+    }
+
+    private void checkIndex(int elementIdx) {
+        if (elementIdx < 0 || elementIdx >= components.size())
+            throw new IndexOutOfBoundsException("Index: " + elementIdx + ", Size: " + components.size());
+    }
+
+    /**
+     * Opens a gap of n entries at index in elementVisibility, filled with mask.
+     * This must be called before the components themselves are added.
+     */
+    private void insertVisibility(int index, int n, long mask) {
+        int size = components.size();
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (size + n > elementVisibility.length)
+            elementVisibility = Arrays.copyOf(elementVisibility, Math.max(size + n, elementVisibility.length * 2));
+        System.arraycopy(elementVisibility, index, elementVisibility, index + n, size - index);
+        Arrays.fill(elementVisibility, index, index + n, mask);
+    }
+
+    /**
+     * Removes the entry at index from elementVisibility. This must be called after the component has been removed.
+     */
+    private void removeVisibility(int index) {
+        int size = components.size();
+        System.arraycopy(elementVisibility, index + 1, elementVisibility, index, size - index);
+    }
+
     /**
      * Retrieves the components in this deck visible by the given player.
      *
@@ -64,13 +119,10 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         if (playerID < 0 || playerID >= deckVisibility.length)
             throw new IllegalArgumentException("playerID " + playerID + " needs to be in range [0," + (deckVisibility.length - 1) + "]");
 
+        long bit = 1L << playerID;
         ArrayList<T> visibleComponents = new ArrayList<>(components.size());
         for (int i = 0; i < components.size(); i++) {
-            boolean[] b = elementVisibility.get(i);
-            if (b[playerID])
-                visibleComponents.add(i, components.get(i));
-            else
-                visibleComponents.add(i, null);
+            visibleComponents.add((elementVisibility[i] & bit) != 0 ? components.get(i) : null);
         }
         return visibleComponents;
     }
@@ -85,7 +137,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public boolean isComponentVisible(int idx, int playerID) {
         if (playerID < 0 || playerID >= deckVisibility.length)
             throw new IllegalArgumentException("playerID " + playerID + " needs to be in range [0," + (deckVisibility.length - 1) + "]");
-        return elementVisibility.get(idx)[playerID];
+        return getVisibilityForPlayer(idx, playerID);
     }
 
     /**
@@ -98,7 +150,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      */
     public void setComponents(ArrayList<T> components, ArrayList<boolean[]> visibilityPerPlayer) {
         super.setComponents(components);
-        this.elementVisibility = visibilityPerPlayer;
+        setVisibility(visibilityPerPlayer);
     }
 
     /**
@@ -111,7 +163,10 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
             if (b.length != this.deckVisibility.length)
                 throw new IllegalArgumentException("All entries of visibility need to have length " + deckVisibility.length +
                         " but at least one entry is of length " + b.length);
-        this.elementVisibility = visibility;
+        long[] newVisibility = new long[Math.max(visibility.size(), 8)];
+        for (int i = 0; i < visibility.size(); i++)
+            newVisibility[i] = toMask(visibility.get(i));
+        this.elementVisibility = newVisibility;
     }
 
     /**
@@ -122,10 +177,13 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @param visibility - true if player can see this component, false otherwise.
      */
     public void setVisibilityOfComponent(int index, int playerID, boolean visibility) {
-        if (index >= 0 && index < elementVisibility.size()) {
-            if (playerID >= 0 && playerID < deckVisibility.length)
-                this.elementVisibility.get(index)[playerID] = visibility;
-            else
+        if (index >= 0 && index < components.size()) {
+            if (playerID >= 0 && playerID < deckVisibility.length) {
+                if (visibility)
+                    elementVisibility[index] |= 1L << playerID;
+                else
+                    elementVisibility[index] &= ~(1L << playerID);
+            } else
                 throw new IllegalArgumentException("playerID " + playerID + "needs to be in range [0," + (deckVisibility.length-1) + "]");
         } else {
             throw new IllegalArgumentException("component index " + index + " needs to be in range [0," + (components.size()-1) + "]");
@@ -139,8 +197,8 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @param visibility - true if player can see this component, false otherwise.
      */
     public void setVisibilityOfComponent(int index, boolean[] visibility) {
-        if (index >= 0 && index < elementVisibility.size()) {
-            this.elementVisibility.set(index, visibility.clone());
+        if (index >= 0 && index < components.size()) {
+            elementVisibility[index] = toMask(visibility);
         } else {
             throw new IllegalArgumentException("component index " + index + " needs to be in range [0," + components.size() + "]");
         }
@@ -168,7 +226,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(T c, int index, boolean[] visibilityPerPlayer) {
-        this.elementVisibility.add(index, visibilityPerPlayer.clone());
+        insertVisibility(index, 1, toMask(visibilityPerPlayer));
         return super.add(c, index);
     }
 
@@ -180,9 +238,13 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @return true if not over capacity, false otherwise.
      */
     public boolean add(Deck<T> d, int index) {
-        for (int i = 0; i < d.components.size(); i++) {
-            this.elementVisibility.add(index, deckVisibility.clone());
-        }
+        insertVisibility(index, d.components.size(), toMask(deckVisibility));
+        return super.add(d, index);
+    }
+
+    @Override
+    public boolean add(Collection<T> d, int index) {
+        insertVisibility(index, d.size(), toMask(deckVisibility));
         return super.add(d, index);
     }
 
@@ -195,38 +257,36 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public boolean add(PartialObservableDeck<T> d) {
         if (d == null)
             throw new IllegalArgumentException("d cannot be null");
-        elementVisibility.addAll(d.elementVisibility);
+        int n = d.components.size();
+        insertVisibility(0, n, 0L);
+        System.arraycopy(d.elementVisibility, 0, elementVisibility, 0, n);
         for (int i = 0; i < deckVisibility.length; i++) {
             deckVisibility[i] &= d.deckVisibility[i];
         }
-        return super.add(d);
+        return super.add(d, 0);
     }
 
     @Override
     public boolean add(Deck<T> d) {
         if (d == null)
             throw new IllegalArgumentException("d cannot be null");
-        for (int i = 0; i < d.getSize(); i++) {
-            elementVisibility.add(deckVisibility.clone());
-        }
-        return super.add(d);
+        return add(d, 0);
     }
 
     @Override
     public void setComponents(ArrayList<T> components) {
         super.setComponents(components);
 
-        elementVisibility.clear();
-        for (int i = 0; i < components.size(); i++) {
-            elementVisibility.add(deckVisibility.clone());
-        }
+        if (elementVisibility.length < components.size())
+            elementVisibility = new long[components.size()];
+        Arrays.fill(elementVisibility, 0, components.size(), toMask(deckVisibility));
     }
 
     @Override
     public T pick(int idx) {
         T el = super.pick(idx);
         if (el != null) {
-            elementVisibility.remove(idx);
+            removeVisibility(idx);
             return el;
         }
         return null;
@@ -252,23 +312,27 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     @Override
     public boolean remove(int idx) {
         if (super.remove(idx)) {
-            elementVisibility.remove(idx);
+            removeVisibility(idx);
             return true;
         }
         return false;
     }
 
-    @Override
-    public void clear() {
-        super.clear();
-        elementVisibility.clear();
-    }
-
     @Override
     public void shuffle(Random rnd) {
-        Pair<List<T>, List<boolean[]>> shuffled = shuffleLists(components, elementVisibility, rnd);
-        components = shuffled.a;
-        elementVisibility = shuffled.b;
+        // Fisher-Yates, with the same sequence of random numbers as Collections.shuffle()
+        ensureOwnList();
+        for (int i = components.size(); i > 1; i--)
+            swap(i - 1, rnd.nextInt(i), true);
+    }
+
+    private void swap(int i, int j, boolean withVisibility) {
+        components.set(i, components.set(j, components.get(i)));
+        if (withVisibility) {
+            long tmp = elementVisibility[i];
+            elementVisibility[i] = elementVisibility[j];
+            elementVisibility[j] = tmp;
+        }
     }
 
     /**
@@ -278,36 +342,10 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
     public void shuffleAndResetVisibility(Random rnd)
     {
         shuffle(rnd);
-        elementVisibility.replaceAll(ignored -> deckVisibility.clone());
+        Arrays.fill(elementVisibility, 0, components.size(), toMask(deckVisibility));
     }
 
 
-    /**
-     * Shuffles a list of components and associated visibility
-     *
-     * @param comps - list of components
-     * @param vis   - associated visibility
-     * @param rnd   - random number generator to be used in shuffling.
-     * @return - both lists shuffled, keeping the mapping from component to visibility at the same index.
-     */
-    private Pair<List<T>, List<boolean[]>> shuffleLists(List<T> comps, List<boolean[]> vis, Random rnd) {
-        List<T> tmp_components = new ArrayList<>();
-        List<boolean[]> tmp_visibility = new ArrayList<>();
-
-        List<Integer> indexList = new ArrayList<>();
-        for (int i = 0; i < comps.size(); i++)
-            indexList.add(i);
-        Collections.shuffle(indexList, rnd);
-
-        for (int targetIndex = 0; targetIndex < indexList.size(); targetIndex++) {
-            int sourceIndex = indexList.get(targetIndex);
-            tmp_components.add(targetIndex, comps.get(sourceIndex));
-            tmp_visibility.add(targetIndex, vis.get(sourceIndex));
-        }
-
-        return new Pair(tmp_components, tmp_visibility);
-    }
-
     /**
      * Shuffles components based on visibility, leaving those with opposite visibility in the same place.
      *
@@ -316,33 +354,21 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
      * @param visible  - if true, shuffles only visible cards; otherwise, shuffles only hidden cards.
      */
     public void shuffleVisible(Random rnd, int playerId, boolean visible) {
-        ArrayList<T> visibleComponents = new ArrayList<>();
-        ArrayList<boolean[]> visibility = new ArrayList<>();
-        for (int i = 0; i < components.size(); i++) {
-            boolean[] b = elementVisibility.get(i);
-            if (b[playerId] == visible) {
-                visibleComponents.add(components.get(i));
-                visibility.add(b);
-            }
-        }
-        Pair<List<T>, List<boolean[]>> shuffled = shuffleLists(visibleComponents, visibility, rnd);
-
+        ensureOwnList();
+        long bit = 1L << playerId;
+        int[] positions = new int[components.size()];
         int n = 0;
         for (int i = 0; i < components.size(); i++) {
-            boolean[] b = elementVisibility.get(i);
-            if (b[playerId] == visible) {
-                // Draw element from shuffled lists
-                components.set(i, shuffled.a.get(n));
-                /*
-                if other players can see a card, we know which card position they can see, but
-                not the actual card (otherwise, it would by definition be visible to us). Therefore
-                we do *not* shuffle element visibility, and keep this in the same order
-                */
-                if (visible)
-                    elementVisibility.set(i, shuffled.b.get(n));
-                n++;
-            }
+            if (((elementVisibility[i] & bit) != 0) == visible)
+                positions[n++] = i;
         }
+        /*
+        if other players can see a card, we know which card position they can see, but
+        not the actual card (otherwise, it would by definition be visible to us). Therefore
+        we do *not* shuffle element visibility for hidden cards, and keep this in the same order
+        */
+        for (int i = n; i > 1; i--)
+            swap(positions[i - 1], positions[rnd.nextInt(i)], visible);
     }
 
     public boolean[] getDeckVisibility() {
@@ -355,12 +381,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         this.copyTo(dp); // Copy super
 
         dp.deckVisibility = deckVisibility.clone();
-
-        ArrayList<boolean[]> newVisibility = new ArrayList<>();
-        for (boolean[] visibility : elementVisibility) {
-            newVisibility.add(visibility.clone());
-        }
-        dp.elementVisibility = newVisibility;
+        dp.elementVisibility = Arrays.copyOf(elementVisibility, elementVisibility.length);
 
         return dp;
     }
@@ -370,12 +391,7 @@ public class PartialObservableDeck<T extends Component> extends Deck<T> {
         this.copyTo(dp, playerId); // Copy super
 
         dp.deckVisibility = deckVisibility.clone();
-
-        ArrayList<boolean[]> newVisibility = new ArrayList<>();
-        for (boolean[] visibility : elementVisibility) {
-            newVisibility.add(visibility.clone());
-        }
-        dp.elementVisibility = newVisibility;
+        dp.elementVisibility = Arrays.copyOf(elementVisibility, elementVisibility.length);
 
         return dp;
     }
@@ -0,0 +1,12 @@
+package core.interfaces;
+
+/**
+ * Marker interface for Actions that never change once created, so that copy() can return this.
+ * <p>
+ * Instances of immutable actions can be shared between lists of available actions, game states and search trees,
+ * and forward models can hand out the same instance each time it is available from an ActionPool instead of
+ * creating a new one. All fields should be final, and as the action is never changed its hash code can be computed
+ * once and cached.
+ */
+public interface IImmutableAction {
+}
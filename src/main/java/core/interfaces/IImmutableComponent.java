@@ -0,0 +1,13 @@
+package core.interfaces;
+
+/**
+ * Marker interface for Components that never change once created, so that copy() can return this.
+ * <p>
+ * A Deck that only holds immutable components does not need to copy them when the Deck itself is copied,
+ * and can share its backing list with the copy until one of them is modified (see Deck.copyTo()).
+ * <p>
+ * Note that ownerId is still set on the (shared) component when it is added to a Deck, so game logic should not
+ * rely on the ownerId of an immutable component - use the Deck it is in instead.
+ */
+public interface IImmutableComponent {
+}
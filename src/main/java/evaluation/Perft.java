@@ -0,0 +1,218 @@
+package evaluation;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import utilities.Utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Perft-style benchmark and check of forward models. From a fixed, seeded position of each game, all sequences of
+ * actions are played out to a given depth, copying the state for each action (as a tree search would). The number of
+ * positions reached only depends on the rules of the game and the seed, so it must not change when a forward model
+ * or game state is optimised, and the speed at which they are reached measures computeAvailableActions(), next() and
+ * copy() together. The subtrees of the actions available at the root are searched in parallel.
+ * <p>
+ * Arguments (all optional):
+ * <ul>
+ *     <li>game - comma separated list of games, or 'all' (default TicTacToe)</li>
+ *     <li>nPlayers - number of players, moved into the range each game supports (default 2)</li>
+ *     <li>depth - number of actions played from the root (default 3)</li>
+ *     <li>seed - seed of the first position (default 42)</li>
+ *     <li>positions - number of positions per game, with seeds seed, seed+1, ... (default 1)</li>
+ *     <li>randomMoves - number of random actions played from the start of the game to reach each position (default 0)</li>
+ *     <li>threads - number of threads (default: number of processors)</li>
+ *     <li>compare - output of an earlier run; any position whose counts differ, or that is in the earlier run (for
+ *     the games run now) but has no result in this one, is reported, and the exit status is 1</li>
+ * </ul>
+ * The exit status is also 1 if the search from any position fails.
+ * One line of CSV is printed per position, after a header. Leaves are positions at the full depth or at the end of
+ * the game, Nodes counts all positions including the root, and the times (in milliseconds, summed over all threads)
+ * are spent in each of the three functions.
+ * <p>
+ * Several games iterate over HashMaps or HashSets keyed by enums or other objects that use the identity hash code,
+ * which the JVM hands out differently from one run (and thread) to the next, so their deals and action orders, and
+ * hence the counts, can change between runs. When comparing counts, run with
+ * -XX:+UnlockExperimentalVMOptions -XX:hashCode=2, which gives all objects the same identity hash code. This is
+ * slower, so leave it out when measuring speed.
+ */
+public class Perft {
+
+    static final String HEADER = "Game,Players,Seed,RandomMoves,Depth,Leaves,Terminal,Nodes,Millis,NodesPerSecond,ActionsMillis,NextMillis,CopyMillis";
+
+    static class Counts {
+        long leaves, terminal, nodes;
+        long actionsNanos, nextNanos, copyNanos;
+
+        void add(Counts other) {
+            leaves += other.leaves;
+            terminal += other.terminal;
+            nodes += other.nodes;
+            actionsNanos += other.actionsNanos;
+            nextNanos += other.nextNanos;
+            copyNanos += other.copyNanos;
+        }
+    }
+
+    public static void main(String... args) {
+        String games = Utils.getArg(args, "game", "TicTacToe");
+        int nPlayers = Utils.getArg(args, "nPlayers", 2);
+        int depth = Utils.getArg(args, "depth", 3);
+        long seed = Utils.getArg(args, "seed", 42L);
+        int positions = Utils.getArg(args, "positions", 1);
+        int randomMoves = Utils.getArg(args, "randomMoves", 0);
+        int threads = Utils.getArg(args, "threads", Runtime.getRuntime().availableProcessors());
+        String compareWith = Utils.getArg(args, "compare", "");
+
+        List<GameType> gameTypes = new ArrayList<>();
+        if (games.equals("all")) {
+            gameTypes.addAll(Arrays.asList(GameType.values()));
+        } else {
+            for (String game : games.split(",")) gameTypes.add(GameType.valueOf(game.trim()));
+        }
+        Map<String, String> expected = compareWith.isEmpty() ? Collections.emptyMap() : readCounts(compareWith);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        boolean mismatch = false;
+        Set<String> found = new HashSet<>();
+        System.out.println(HEADER);
+        try {
+            for (GameType gt : gameTypes) {
+                int players = Math.max(gt.getMinPlayers(), Math.min(gt.getMaxPlayers(), nPlayers));
+                for (int p = 0; p < positions; p++) {
+                    try {
+                        String line = run(gt, players, seed + p, randomMoves, depth, executor);
+                        System.out.println(line);
+                        String key = key(line);
+                        found.add(key);
+                        if (expected.containsKey(key) && !expected.get(key).equals(counts(line))) {
+                            System.err.printf("MISMATCH %s: expected %s, got %s%n", key, expected.get(key), counts(line));
+                            mismatch = true;
+                        }
+                    } catch (Exception | AssertionError e) {
+                        System.err.printf("%s failed with %d players and seed %d: %s%n", gt, players, seed + p, e);
+                        mismatch = true;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (String key : expected.keySet()) {
+            String game = key.substring(0, key.indexOf(','));
+            if (!found.contains(key) && gameTypes.stream().anyMatch(gt -> gt.name().equals(game))) {
+                System.err.printf("MISSING %s: expected %s%n", key, expected.get(key));
+                mismatch = true;
+            }
+        }
+        if (mismatch) System.exit(1);
+    }
+
+    /**
+     * Searches the tree from one position, and returns the CSV line of results.
+     */
+    static String run(GameType gt, int nPlayers, long seed, int randomMoves, int depth, ExecutorService executor)
+            throws InterruptedException, ExecutionException {
+        Game game = gt.createGameInstance(nPlayers, seed);
+        AbstractForwardModel fm = game.getForwardModel();
+        AbstractGameState root = game.getGameState();
+        Random rnd = new Random(seed);
+        for (int i = 0; i < randomMoves && root.isNotTerminal(); i++) {
+            List<AbstractAction> actions = fm.computeAvailableActions(root);
+            fm.next(root, actions.get(rnd.nextInt(actions.size())).copy());
+        }
+
+        long start = System.nanoTime();
+        Counts total = new Counts();
+        if (depth < 1 || !root.isNotTerminal()) {
+            search(root, fm, depth, total);
+        } else {
+            // The children of the root are copied here, in order, so that their random seeds do not depend on the
+            // order in which the threads run
+            total.nodes++;
+            long t = System.nanoTime();
+            List<AbstractAction> actions = fm.computeAvailableActions(root);
+            total.actionsNanos += System.nanoTime() - t;
+            List<Future<Counts>> subtrees = new ArrayList<>();
+            for (AbstractAction action : actions) {
+                t = System.nanoTime();
+                AbstractGameState child = root.copy();
+                total.copyNanos += System.nanoTime() - t;
+                AbstractForwardModel childFM = fm.copy();
+                subtrees.add(executor.submit(() -> {
+                    Counts counts = new Counts();
+                    long t0 = System.nanoTime();
+                    childFM.next(child, action.copy());
+                    counts.nextNanos += System.nanoTime() - t0;
+                    search(child, childFM, depth - 1, counts);
+                    return counts;
+                }));
+            }
+            for (Future<Counts> subtree : subtrees) {
+                total.add(subtree.get());
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6;
+        return String.format(Locale.UK, "%s,%d,%d,%d,%d,%d,%d,%d,%.1f,%.0f,%.1f,%.1f,%.1f", gt.name(), nPlayers, seed,
+                randomMoves, depth, total.leaves, total.terminal, total.nodes, millis, total.nodes / millis * 1000,
+                total.actionsNanos / 1e6, total.nextNanos / 1e6, total.copyNanos / 1e6);
+    }
+
+    static void search(AbstractGameState state, AbstractForwardModel fm, int depth, Counts counts) {
+        counts.nodes++;
+        if (!state.isNotTerminal()) {
+            counts.leaves++;
+            counts.terminal++;
+            return;
+        }
+        if (depth == 0) {
+            counts.leaves++;
+            return;
+        }
+        long t = System.nanoTime();
+        List<AbstractAction> actions = fm.computeAvailableActions(state);
+        counts.actionsNanos += System.nanoTime() - t;
+        for (AbstractAction action : actions) {
+            t = System.nanoTime();
+            AbstractGameState child = state.copy();
+            long t2 = System.nanoTime();
+            fm.next(child, action.copy());
+            counts.copyNanos += t2 - t;
+            counts.nextNanos += System.nanoTime() - t2;
+            search(child, fm, depth - 1, counts);
+        }
+    }
+
+    // Game, Players, Seed, RandomMoves and Depth identify a position
+    private static String key(String line) {
+        return String.join(",", Arrays.copyOfRange(line.split(","), 0, 5));
+    }
+
+    // Leaves, Terminal and Nodes must not change
+    private static String counts(String line) {
+        return String.join(",", Arrays.copyOfRange(line.split(","), 5, 8));
+    }
+
+    private static Map<String, String> readCounts(String fileName) {
+        Map<String, String> counts = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(Paths.get(fileName))) {
+                if (line.isEmpty() || line.equals(HEADER)) continue;
+                counts.put(key(line), counts(line));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read earlier results from " + fileName, e);
+        }
+        return counts;
+    }
+}
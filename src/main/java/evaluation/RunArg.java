@@ -18,10 +18,18 @@ public enum RunArg {
     NTBEAmode("Defaults to NTBEA. The other options are MultiNTBEA and CoopNTBEA. This last uses the same agent for all players.",
             "NTBEA",
             new Usage[]{Usage.ParameterSearch}),
+    actionCache("(Optional) The number of states for which to cache the actions available, shared by the game loop and\n" +
+            "\t all the players in a game. The default of 0 uses no cache. See core.ActionCache for the games it suits.",
+            0,
+            new Usage[]{Usage.RunGames}),
     addTimeStamp("(Optional) If true (default is false), then the results will be written to a subdirectory of destDir.\n" +
             "\t This may be useful if you want to use the same destDir for multiple experiments.",
             false,
             new Usage[]{Usage.RunGames}),
+    asyncListeners("(Optional) If true (default is false), then each listener is sent events on a separate thread, so that\n" +
+            "\t recording metrics does not slow down the games. See evaluation.listeners.AsyncGameListener.",
+            false,
+            new Usage[]{Usage.RunGames}),
     byTeam("If true (the default) and the game supports teams, then one player type will be assigned to all players on a team.\n" +
             "\t If false, then each player will be assigned a player type independently.",
             true,
@@ -35,6 +43,11 @@ public enum RunArg {
             "\t will be created for each game, and then within that for  each player count combination.",
             "metrics" + File.separator + "out",
             new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
+    earlyStop("(Optional) Confidence level, such as 0.95, at which to stop playing the games of a matchup once the\n" +
+            "\t ranking of its players is settled (for mode=exhaustive). For NTBEA this applies to the final tournament,\n" +
+            "\t and to evalGames when evalMethod is Win or Ordinal. The default of 0 always plays all games.",
+            0.0,
+            new Usage[]{Usage.RunGames, Usage.ParameterSearch}),
     evalGames("The number of games to run with the best predicted setting to estimate its true value (default is 20% of NTBEA iterations)",
             -1,
             new Usage[]{Usage.ParameterSearch}),
@@ -137,6 +150,14 @@ public enum RunArg {
             "\t Defaults to false",
             false,
             new Usage[]{Usage.RunGames}),
+    spillToDisk("(Optional) If positive, then each metric keeps at most this many rows of data in memory, writing the\n" +
+            "\t rest to temporary files on disk, so that memory use stays flat in long runs. The default of 0 keeps all data in memory.",
+            0,
+            new Usage[]{Usage.RunGames}),
+    threads("The number of threads on which NTBEA evaluates settings (default 1). With more than one, each iteration\n" +
+            "\t proposes a batch of this many settings, which are evaluated in parallel, as are the evalGames.",
+            1,
+            new Usage[]{Usage.ParameterSearch}),
     tuneGame("If true, then we will tune the game instead of tuning the agent.\n" +
             "\tIn this case the searchSpace file must be relevant for the game.",
             false,
@@ -3,7 +3,9 @@ package evaluation;
 import core.AbstractParameters;
 import core.AbstractPlayer;
 import core.interfaces.IGameRunner;
+import evaluation.listeners.AsyncGameListener;
 import evaluation.listeners.IGameListener;
+import evaluation.listeners.MetricsGameListener;
 import evaluation.tournaments.AbstractTournament;
 import evaluation.tournaments.RandomRRTournament;
 import evaluation.tournaments.RoundRobinTournament;
@@ -139,6 +141,10 @@ public class RunGames implements IGameRunner {
                 //noinspection unchecked
                 for (String listenerClass : ((List<String>) config.get(listener))) {
                     IGameListener gameTracker = IGameListener.createListener(listenerClass, (String) config.get(metrics));
+                    if ((int) config.get(spillToDisk) > 0 && gameTracker instanceof MetricsGameListener)
+                        ((MetricsGameListener) gameTracker).spillToDisk((int) config.get(spillToDisk));
+                    if ((boolean) config.get(asyncListeners))
+                        gameTracker = new AsyncGameListener(gameTracker);
                     tournament.addListener(gameTracker);
                     String outputDir = (String) config.get(destDir);
                     List<String> directories = new ArrayList<>(Arrays.asList(outputDir.split(Pattern.quote(File.separator))));
@@ -156,6 +162,8 @@ public class RunGames implements IGameRunner {
                 tournament.setVerbose((boolean) config.get(verbose));
                 tournament.setResultsFile((String) config.get(output));
                 tournament.setRandomGameParams((boolean) config.get(randomGameParams));
+                tournament.setEarlyStopping(((Number) config.get(earlyStop)).doubleValue(), false);
+                tournament.setActionCache((int) config.get(actionCache));
                 tournament.run();
             }
         }
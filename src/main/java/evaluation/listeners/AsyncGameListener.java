@@ -0,0 +1,177 @@
+package evaluation.listeners;
+
+import core.Game;
+import core.interfaces.IGameEvent;
+import evaluation.metrics.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Wraps another listener so that it is sent events on a separate worker thread, and heavy listeners (such as
+ * MetricsGameListener or the FeatureListeners) do not stall the game loop.
+ * <p>
+ * For each event the wrapped listener is interested in, the game thread only takes a snapshot of the state (a full
+ * copy, made without changing the seeds of later copies) and a copy of the action. These are collected in batches,
+ * which are delivered in order on the worker thread. At the end of each game, and before report(), reset() or
+ * init(), the game thread waits until all events so far have been delivered, so the wrapped listener sees the end
+ * of each game (and the Game itself) exactly as it would without this wrapper.
+ * <p>
+ * During a game, listeners that read the Game itself rather than the event (GameMetrics.ComputationTimes, for
+ * example) see it as it is when the event is delivered, which may be some moves later.
+ * <p>
+ * The worker thread is stopped by allGamesFinished() or close(), after which no more events can be sent.
+ */
+public class AsyncGameListener implements IGameListener, AutoCloseable {
+
+    private final IGameListener listener;
+    private final int batchSize;
+    private final ExecutorService worker;
+    private List<Event> batch;
+    private final List<Future<?>> pending = new ArrayList<>();
+
+    /**
+     * @param listener  - listener to send events to.
+     * @param batchSize - number of events sent to the worker thread at a time.
+     */
+    public AsyncGameListener(IGameListener listener, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.listener = listener;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "AsyncGameListener-" + listener.getClass().getSimpleName());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public AsyncGameListener(IGameListener listener) {
+        this(listener, 64);
+    }
+
+    public IGameListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (!listener.isInterestedIn(event.type))
+            return;
+        batch.add(Event.createEvent(event.type,
+                event.state == null ? null : event.state.snapshot(),
+                event.action == null ? null : event.action.copy(),
+                event.playerID));
+        if (event.type == Event.GameEvent.GAME_OVER) {
+            flush();
+        } else if (batch.size() >= batchSize) {
+            send();
+        }
+    }
+
+    /**
+     * Hands the current batch of events to the worker thread.
+     */
+    private void send() {
+        if (batch.isEmpty()) return;
+        List<Event> events = batch;
+        batch = new ArrayList<>(batchSize);
+        pending.add(worker.submit(() -> {
+            for (Event e : events) {
+                listener.onEvent(e);
+            }
+        }));
+    }
+
+    /**
+     * Waits until all events received so far have been delivered to the wrapped listener. Exceptions thrown by the
+     * listener on the worker thread are thrown here.
+     */
+    public void flush() {
+        send();
+        try {
+            for (Future<?> f : pending) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for events to be delivered", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Listener failed to process event", e.getCause());
+        } finally {
+            pending.clear();
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(IGameEvent type) {
+        return listener.isInterestedIn(type);
+    }
+
+    @Override
+    public void report() {
+        flush();
+        listener.report();
+    }
+
+    @Override
+    public boolean setOutputDirectory(String... nestedDirectories) {
+        return listener.setOutputDirectory(nestedDirectories);
+    }
+
+    @Override
+    public void setGame(Game game) {
+        flush();
+        listener.setGame(game);
+    }
+
+    @Override
+    public Game getGame() {
+        return listener.getGame();
+    }
+
+    @Override
+    public void reset() {
+        flush();
+        listener.reset();
+    }
+
+    @Override
+    public void init(Game game, int nPlayersPerGame, Set<String> playerNames) {
+        flush();
+        listener.init(game, nPlayersPerGame, playerNames);
+    }
+
+    @Override
+    public void allGamesFinished() {
+        close();
+        listener.allGamesFinished();
+    }
+
+    /**
+     * Delivers all events received so far, and stops the worker thread.
+     */
+    @Override
+    public void close() {
+        if (worker.isShutdown()) return;
+        try {
+            flush();
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    /**
+     * @return true once the worker thread has been stopped
+     */
+    public boolean isClosed() {
+        return worker.isShutdown();
+    }
+}
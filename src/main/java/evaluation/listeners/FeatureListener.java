@@ -2,6 +2,7 @@ package evaluation.listeners;
 
 import core.*;
 import core.actions.AbstractAction;
+import core.interfaces.IGameEvent;
 import core.interfaces.IStatisticLogger;
 import evaluation.metrics.Event;
 
@@ -48,6 +49,11 @@ public abstract class FeatureListener implements IGameListener {
         }
     }
 
+    @Override
+    public boolean isInterestedIn(IGameEvent type) {
+        return type == frequency || type == Event.GameEvent.GAME_OVER;
+    }
+
 
     protected void writeDataWithStandardHeaders(AbstractGameState state) {
         int totP = state.getNPlayers();
@@ -1,6 +1,7 @@
 package evaluation.listeners;
 
 import core.Game;
+import core.interfaces.IGameEvent;
 import evaluation.metrics.AbstractMetric;
 import evaluation.metrics.Event;
 import evaluation.metrics.GameMetrics;
@@ -24,6 +25,16 @@ public interface IGameListener {
      */
     void onEvent(Event event);
 
+    /**
+     * Events of types no listener is interested in are not created at all, which for example saves copying the
+     * action taken after every move.
+     *
+     * @param type - type of event
+     * @return true if this listener does anything with events of the given type (the default)
+     */
+    default boolean isInterestedIn(IGameEvent type) {
+        return true;
+    }
 
     /**
      * This is called when all processing is finished, for example after running a sequence of games
@@ -124,4 +135,11 @@ public interface IGameListener {
 
     default void init(Game game, int nPlayersPerGame, Set<String> playerNames) {}
 
+    /**
+     * Called once no more games will be played, after report(), so that the listener can release anything it holds
+     * (such as threads or files).
+     */
+    default void allGamesFinished() {
+    }
+
 }
@@ -7,6 +7,7 @@ import evaluation.metrics.Event;
 import evaluation.metrics.IDataLogger;
 import evaluation.metrics.IMetricsCollection;
 import evaluation.metrics.tablessaw.DataTableSaw;
+import evaluation.metrics.tablessaw.SpillingDataTableSaw;
 import utilities.Utils;
 
 import java.io.File;
@@ -45,6 +46,9 @@ public class MetricsGameListener implements IGameListener {
     // Destination directory for the reports
     String destDir = "metrics/out/"; //by default
 
+    // Maximum number of rows of data each metric keeps in memory, or 0 to keep all data in memory
+    int rowsPerSegment = 0;
+
     public MetricsGameListener() {
     }
 
@@ -68,6 +72,20 @@ public class MetricsGameListener implements IGameListener {
         eventsOfInterest.add(Event.GameEvent.GAME_OVER);
     }
 
+    /**
+     * Makes all metrics keep at most the given number of rows of data in memory, writing the rest to disk and keeping
+     * running summaries instead (see SpillingDataTableSaw). This keeps memory use flat in long runs, and should be
+     * called before any games are played.
+     *
+     * @param rowsPerSegment - maximum number of rows each metric keeps in memory.
+     */
+    public void spillToDisk(int rowsPerSegment) {
+        this.rowsPerSegment = rowsPerSegment;
+        for (AbstractMetric m : metrics.values()) {
+            m.setDataLogger(new SpillingDataTableSaw(m, rowsPerSegment));
+        }
+    }
+
     /**
      * Manages all events.
      *
@@ -92,6 +110,11 @@ public class MetricsGameListener implements IGameListener {
         }
     }
 
+    @Override
+    public boolean isInterestedIn(IGameEvent type) {
+        return eventsOfInterest.contains(type);
+    }
+
     @Override
     public boolean setOutputDirectory(String... nestedDirectories) {
 
@@ -141,7 +164,9 @@ public class MetricsGameListener implements IGameListener {
                         }
                     }
                     if (eventMetrics.size() > 1) {
-                        IDataLogger dataLogger = new DataTableSaw(eventMetrics, event, eventToIndexingColumn(event));
+                        IDataLogger dataLogger = rowsPerSegment > 0 ?
+                                new SpillingDataTableSaw(eventMetrics, event, eventToIndexingColumn(event), rowsPerSegment) :
+                                new DataTableSaw(eventMetrics, event, eventToIndexingColumn(event));
                         dataLogger.getDefaultProcessor().processRawDataToFile(dataLogger, destDir);
                     }
                 }
@@ -24,7 +24,7 @@ public class DataTableSaw implements IDataLogger {
         this.metric = metric;
         this.data = Table.create(metric.getName());
     }
-    private DataTableSaw(AbstractMetric metric, Table data) {
+    DataTableSaw(AbstractMetric metric, Table data) {
         this.metric = metric;
         this.data = data;
     }
@@ -115,6 +115,86 @@ public class DataTableSaw implements IDataLogger {
         }
     }
 
+    /**
+     * @return the number of rows of data recorded
+     */
+    int rowCount() {
+        return data.rowCount();
+    }
+
+    /**
+     * @return all data recorded, as a sequence of tables to be read one at a time. Here just the one table in memory.
+     */
+    Iterator<Table> segments() {
+        return Collections.singletonList(data).iterator();
+    }
+
+    /**
+     * @return all data recorded, as one table for each game in turn, read a segment at a time
+     */
+    Iterator<Table> games() {
+        return byGame(segments());
+    }
+
+    /**
+     * Splits a sequence of tables into one table for each game, joining the rows of games that span more than one
+     * table. The rows of each game must be next to each other, as they are when recorded.
+     */
+    static Iterator<Table> byGame(Iterator<Table> segments) {
+        return new Iterator<Table>() {
+            Table segment;
+            int start;  // first row of the segment not yet returned
+            Table next = readGame();
+
+            private Table readGame() {
+                Table game = null;
+                while (true) {
+                    if (segment == null || start >= segment.rowCount()) {
+                        if (!segments.hasNext()) return game;
+                        segment = segments.next();
+                        start = 0;
+                        continue;
+                    }
+                    StringColumn ids = segment.stringColumn("GameID");
+                    String id = game == null ? ids.get(start) : game.stringColumn("GameID").get(0);
+                    int end = start;
+                    while (end < segment.rowCount() && id.equals(ids.get(end))) end++;
+                    if (end == start) return game;  // the next game starts here
+                    Table part = segment.inRange(start, end);
+                    game = game == null ? part : game.append(part);
+                    start = end;
+                    if (start < segment.rowCount()) return game;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Table next() {
+                if (next == null) throw new NoSuchElementException();
+                Table game = next;
+                next = readGame();
+                return game;
+            }
+        };
+    }
+
+    /**
+     * Called after the rows of each game are added to a table grouping several metrics.
+     */
+    void rowsAdded() {
+    }
+
+    /**
+     * Writes all data recorded to the given CSV file.
+     */
+    void writeCsv(String fileName) {
+        data.write().csv(fileName);
+    }
+
     @Override
     public IDataProcessor getDefaultProcessor() {
         return new TableSawDataProcessor();
@@ -145,65 +225,46 @@ public class DataTableSaw implements IDataLogger {
      */
     public DataTableSaw(List<AbstractMetric> metricGroup, IGameEvent event, String indexingColumnName) {
         this.data = Table.create(event.name());
+        recordEventGroup(metricGroup, event, indexingColumnName);
+    }
 
+    /**
+     * Fills the table for {@link #DataTableSaw(List, IGameEvent, String)}. The data of the metrics is read twice,
+     * a game at a time, first to find the games and indices, then to record the rows of each game.
+     */
+    void recordEventGroup(List<AbstractMetric> metricGroup, IGameEvent event, String indexingColumnName) {
         // If this is true, then we don't need to worry about indexing
         boolean indexingColumnIsGameID = indexingColumnName.equals("GameID");
 
-        // Find only the rows which were recorded for the given event
+        // Find and sort ascending all unique values in the column to use for indexing in all the metrics, and the
+        // maximum number of rows in the indexing column in any game
         // TODO: Apply same filtering for all other data processing, separate table into different events before reporting
-        Map<AbstractMetric, Table> metricTables = new HashMap<>();
-        for (AbstractMetric m : metricGroup) {
-            Table metricData = ((DataTableSaw)m.getDataLogger()).data;
-            if (m.filterByEventTypeWhenReporting()) {
-                metricTables.put(m, metricData.where(metricData.stringColumn("Event").isEqualTo(event.name())));
-            } else {
-                metricTables.put(m, metricData);
-            }
-        }
-
-        // Find and sort ascending all unique values in the column to use for indexing in all the metrics
         List<Integer> gameIDs = new ArrayList<>();
-        for (Table metricData: metricTables.values()) {
-            StringColumn c = metricData.stringColumn("GameID");
-            for (String s : c.asList()) {
-                int id = Integer.parseInt(s);
-                if (!gameIDs.contains(id)) {
-                    gameIDs.add(id);
-                }
-            }
-        }
-        Collections.sort(gameIDs);
-
-        // Create unique columns
         int maxIndex = 0;
         Map<String, Set<String>> columnNames = new HashMap<>();
         Set<String> allColumnNames = new HashSet<>();  // Including only the default at start, the others separate for ordering
-        for (Map.Entry<AbstractMetric, Table> metricTableEntry : metricTables.entrySet()) {
-            Table metricData = metricTableEntry.getValue();
-            AbstractMetric m = metricTableEntry.getKey();
+        for (AbstractMetric m : metricGroup) {
             columnNames.put(m.getName(), m.getColumnNames());
             allColumnNames.addAll(m.getDefaultColumns().keySet());
-
-            // Find the maximum number of rows in the indexing column filtering by game ID
-            if (!indexingColumnIsGameID) {
-                for (Column<?> c : metricData.columns()) {
-                    if (c.name().equals(indexingColumnName)) {
-                        for (int id : gameIDs) {
-                            int nIdx = metricData
-                                    // Filter the table first by game ID
-                                    .where(metricData.stringColumn("GameID").isEqualTo(String.valueOf(id)))
-                                    // Then find the indexing column
-                                    .column(c.name())
-                                    // And count the number of unique values
-                                    .countUnique();
-                            if (nIdx > maxIndex) {
-                                maxIndex = nIdx;
-                            }
-                        }
+            for (Iterator<Table> games = eventGames(m, event); games.hasNext(); ) {
+                Table metricData = games.next();
+                for (String s : metricData.stringColumn("GameID").unique().asList()) {
+                    int id = Integer.parseInt(s);
+                    if (!gameIDs.contains(id)) {
+                        gameIDs.add(id);
+                    }
+                }
+                if (!indexingColumnIsGameID && metricData.containsColumn(indexingColumnName)) {
+                    // Count the number of unique values in the indexing column
+                    int nIdx = metricData.column(indexingColumnName).countUnique();
+                    if (nIdx > maxIndex) {
+                        maxIndex = nIdx;
                     }
                 }
             }
         }
+        Collections.sort(gameIDs);
+
         // Put default columns first
         for (String col : allColumnNames) {
             data.addColumns(StringColumn.create(col));
@@ -221,7 +282,25 @@ public class DataTableSaw implements IDataLogger {
         }
 
         // Add data from all the metrics to each of the columns, row by row, checking for values being equal in colStep to account for missing values in some of the columns
+        // Games are recorded in the order of their IDs, so the data of each metric is read in step, a game at a time
+        Map<AbstractMetric, Iterator<Table>> metricGames = new LinkedHashMap<>();
+        Map<AbstractMetric, Table> currentGames = new HashMap<>();
+        for (AbstractMetric m : metricGroup) {
+            metricGames.put(m, eventGames(m, event));
+        }
         for (int id: gameIDs) {
+            Map<AbstractMetric, Table> metricTables = new LinkedHashMap<>();
+            for (Map.Entry<AbstractMetric, Iterator<Table>> entry : metricGames.entrySet()) {
+                AbstractMetric m = entry.getKey();
+                Table game = currentGames.get(m);
+                while ((game == null || Integer.parseInt(game.stringColumn("GameID").get(0)) < id) && entry.getValue().hasNext()) {
+                    game = entry.getValue().next();
+                }
+                currentGames.put(m, game);
+                if (game != null && Integer.parseInt(game.stringColumn("GameID").get(0)) == id) {
+                    metricTables.put(m, game);
+                }
+            }
             if (!indexingColumnIsGameID) {
                 for (int idx = 0; idx < maxIndex; idx++) {
                     filterAndRecordData(metricTables, allColumnNames, id, indexingColumnName, idx);
@@ -229,9 +308,44 @@ public class DataTableSaw implements IDataLogger {
             } else {
                 filterAndRecordData(metricTables, allColumnNames, id, null, -1);
             }
+            rowsAdded();
         }
     }
 
+    /**
+     * @return the data of the metric for each game in turn, only the rows recorded for the given event if the metric
+     * filters by event when reporting
+     */
+    private static Iterator<Table> eventGames(AbstractMetric m, IGameEvent event) {
+        Iterator<Table> games = ((DataTableSaw) m.getDataLogger()).games();
+        if (!m.filterByEventTypeWhenReporting()) return games;
+        return new Iterator<Table>() {
+            Table next = advance();
+
+            private Table advance() {
+                while (games.hasNext()) {
+                    Table game = games.next();
+                    Table filtered = game.where(game.stringColumn("Event").isEqualTo(event.name()));
+                    if (!filtered.isEmpty()) return filtered;
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Table next() {
+                if (next == null) throw new NoSuchElementException();
+                Table game = next;
+                next = advance();
+                return game;
+            }
+        };
+    }
+
     /**
      * Helper function for {@link #DataTableSaw(List, IGameEvent, String)}.
      * Filters the data by game ID and index, then adds the data to the table.
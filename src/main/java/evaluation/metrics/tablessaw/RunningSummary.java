@@ -0,0 +1,40 @@
+package evaluation.metrics.tablessaw;
+
+/**
+ * Summary of a stream of numbers that does not keep the numbers themselves (unlike TAGNumericStatSummary), so that
+ * data read back from disk a segment at a time can be summarised in constant memory.
+ */
+class RunningSummary {
+    int n;
+    double sum, mean, m2;  // m2 is the sum of squared differences from the mean (Welford's algorithm)
+    double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+    void add(double x) {
+        n++;
+        sum += x;
+        double delta = x - mean;
+        mean += delta / n;
+        m2 += delta * (x - mean);
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+    }
+
+    double variance() {
+        return n > 1 ? m2 / (n - 1) : 0;
+    }
+
+    double stdErr() {
+        return n > 1 ? Math.sqrt(variance() / n) : 0;
+    }
+
+    RunningSummary copy() {
+        RunningSummary copy = new RunningSummary();
+        copy.n = n;
+        copy.sum = sum;
+        copy.mean = mean;
+        copy.m2 = m2;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+}
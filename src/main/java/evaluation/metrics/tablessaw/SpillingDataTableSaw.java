@@ -0,0 +1,267 @@
+package evaluation.metrics.tablessaw;
+
+import core.interfaces.IGameEvent;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.IDataLogger;
+import tech.tablesaw.api.*;
+import tech.tablesaw.columns.Column;
+import tech.tablesaw.io.csv.CsvReadOptions;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * DataTableSaw for long runs, which keeps at most a fixed number of rows in memory. Whenever that many complete rows
+ * have been recorded they are written to a new segment file on disk (a CSV file in a temporary directory, deleted
+ * when the JVM exits), and only running summaries of each column are kept in memory. This way memory use stays flat
+ * however many games are played, even with metrics recorded after every action.
+ * <p>
+ * At report time the raw data is written out by copying the segments, and summaries come from the running summaries
+ * (counts of categories are over all games, rather than per game as in TableSawDataProcessor.summariseDataProgression()).
+ * Plots, and tables grouping the metrics of an event (ReportType.RawDataPerEvent), read the segments back one at a
+ * time (see segments() and games()), and the tables grouping metrics spill to disk in the same way as they are built.
+ */
+public class SpillingDataTableSaw extends DataTableSaw {
+
+    private final int rowsPerSegment;
+    private final List<File> segments = new ArrayList<>();
+    private int rowsSpilled;
+    private File segmentDir;  // created on first use
+
+    // Running summaries of the data in numeric columns, and counts of the values in other columns. At most
+    // MAX_CATEGORIES values are counted per column, and any others are counted together as OTHER_CATEGORY, so that
+    // columns with a value per row (such as descriptions of actions) do not keep all of their data in memory.
+    static final int MAX_CATEGORIES = 100;
+    static final String OTHER_CATEGORY = "(other)";
+    private final Map<String, RunningSummary> numericSummaries = new LinkedHashMap<>();
+    private final Map<String, Map<String, Integer>> categoryCounts = new LinkedHashMap<>();
+
+    /**
+     * @param metric         - metric recorded.
+     * @param rowsPerSegment - maximum number of rows kept in memory, and written to each segment.
+     */
+    public SpillingDataTableSaw(AbstractMetric metric, int rowsPerSegment) {
+        super(metric);
+        if (rowsPerSegment < 1) {
+            throw new IllegalArgumentException("Rows per segment must be positive: " + rowsPerSegment);
+        }
+        this.rowsPerSegment = rowsPerSegment;
+    }
+
+    private SpillingDataTableSaw(AbstractMetric metric, Table data, int rowsPerSegment) {
+        super(metric, data);
+        this.rowsPerSegment = rowsPerSegment;
+    }
+
+    /**
+     * Puts together several compatible metrics into a single table, as DataTableSaw(List, IGameEvent, String) does,
+     * but reads the data of each metric back a game at a time and writes the table to disk as it is built.
+     *
+     * @param rowsPerSegment - maximum number of rows of the table kept in memory.
+     */
+    public SpillingDataTableSaw(List<AbstractMetric> metricGroup, IGameEvent event, String indexingColumnName, int rowsPerSegment) {
+        super(null, Table.create(event.name()));
+        if (rowsPerSegment < 1) {
+            throw new IllegalArgumentException("Rows per segment must be positive: " + rowsPerSegment);
+        }
+        this.rowsPerSegment = rowsPerSegment;
+        recordEventGroup(metricGroup, event, indexingColumnName);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        for (File segment : segments) {
+            segment.delete();
+        }
+        segments.clear();
+        rowsSpilled = 0;
+        numericSummaries.clear();
+        categoryCounts.clear();
+    }
+
+    @Override
+    public void addData(String columnName, Object data) {
+        super.addData(columnName, data);
+        if (data != null) {
+            if (data instanceof Number) {
+                numericSummaries.computeIfAbsent(columnName, k -> new RunningSummary()).add(((Number) data).doubleValue());
+            } else {
+                Map<String, Integer> counts = categoryCounts.computeIfAbsent(columnName, k -> new HashMap<>());
+                String category = data.toString();
+                if (counts.size() >= MAX_CATEGORIES && !counts.containsKey(category)) category = OTHER_CATEGORY;
+                counts.merge(category, 1, Integer::sum);
+            }
+        }
+        if (this.data.column(columnName).size() >= rowsPerSegment && rowsComplete()) {
+            spill();
+        }
+    }
+
+    @Override
+    void rowsAdded() {
+        if (data.rowCount() >= rowsPerSegment) {
+            spill();
+        }
+    }
+
+    /**
+     * @return true if all columns have the same number of values, so that there are no rows partly recorded
+     */
+    private boolean rowsComplete() {
+        int size = data.column(0).size();
+        for (Column<?> c : data.columns()) {
+            if (c.size() != size) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the rows in memory to a new segment, and clears them from memory.
+     */
+    private void spill() {
+        try {
+            if (segmentDir == null) {
+                segmentDir = Files.createTempDirectory("metrics-" + data.name().replaceAll("\\W", "_")).toFile();
+                segmentDir.deleteOnExit();
+            }
+            File segment = new File(segmentDir, "segment-" + segments.size() + ".csv");
+            segment.deleteOnExit();
+            data.write().csv(segment);
+            segments.add(segment);
+            rowsSpilled += data.rowCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metric data to disk", e);
+        }
+        data = data.emptyCopy();
+    }
+
+    @Override
+    int rowCount() {
+        return rowsSpilled + data.rowCount();
+    }
+
+    /**
+     * Reads the segments back one at a time, followed by the rows not yet written to disk.
+     */
+    @Override
+    Iterator<Table> segments() {
+        Iterator<File> files = new ArrayList<>(segments).iterator();
+        return new Iterator<Table>() {
+            boolean inMemoryRead;
+
+            @Override
+            public boolean hasNext() {
+                return files.hasNext() || !inMemoryRead;
+            }
+
+            @Override
+            public Table next() {
+                if (files.hasNext()) {
+                    return Table.read().usingOptions(CsvReadOptions.builder(files.next())
+                            .tableName(data.name()).columnTypes(data.typeArray()));
+                }
+                if (inMemoryRead) throw new NoSuchElementException();
+                inMemoryRead = true;
+                return data;
+            }
+        };
+    }
+
+    /**
+     * Writes all data to the given CSV file, copying the segments line by line rather than reading them as tables.
+     */
+    @Override
+    void writeCsv(String fileName) {
+        if (segments.isEmpty()) {
+            super.writeCsv(fileName);
+            return;
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(new File(fileName).toPath(), StandardCharsets.UTF_8)) {
+            boolean header = true;
+            for (File segment : segments) {
+                copyLines(segment, out, header);
+                header = false;
+            }
+            if (data.rowCount() > 0) {
+                File rest = File.createTempFile("metrics-", ".csv");
+                data.write().csv(rest);
+                copyLines(rest, out, false);
+                rest.delete();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metric data to " + fileName, e);
+        }
+    }
+
+    private static void copyLines(File from, BufferedWriter out, boolean withHeader) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(from.toPath(), StandardCharsets.UTF_8)) {
+            String line = in.readLine();
+            if (withHeader && line != null) {
+                out.write(line);
+                out.newLine();
+            }
+            while ((line = in.readLine()) != null) {
+                out.write(line);
+                out.newLine();
+            }
+        }
+    }
+
+    /**
+     * @return summaries of the columns recorded by the metric, in the same format as TableSawDataProcessor.summariseData()
+     */
+    Map<String, List<Table>> getRunningSummaries() {
+        Map<String, List<Table>> summaries = new HashMap<>();
+        for (String column : metric.getColumnNames()) {
+            Table summary;
+            if (numericSummaries.containsKey(column)) {
+                RunningSummary s = numericSummaries.get(column);
+                double variance = s.variance();
+                summary = Table.create("Column: " + column,
+                        StringColumn.create("Measure", "Count", "sum", "Mean", "Min", "Max", "Range", "Variance", "Std. Dev"),
+                        DoubleColumn.create("Value", s.n, s.sum, s.mean, s.min, s.max, s.max - s.min, variance, Math.sqrt(variance)));
+            } else if (categoryCounts.containsKey(column)) {
+                Map<String, Integer> counts = new TreeMap<>(categoryCounts.get(column));
+                summary = Table.create("Column: " + column,
+                        StringColumn.create("Category", counts.keySet()),
+                        IntColumn.create("Count", counts.values().stream().mapToInt(Integer::intValue).toArray()));
+            } else continue;
+            summary.setName(data.name() + "_" + column);
+            summaries.put(column, Collections.singletonList(summary));
+        }
+        return summaries;
+    }
+
+    @Override
+    public IDataLogger copy() {
+        SpillingDataTableSaw copy = new SpillingDataTableSaw(metric, data.copy(), rowsPerSegment);
+        copy.rowsSpilled = rowsSpilled;
+        try {
+            for (File segment : segments) {
+                File copied = File.createTempFile("metrics-", ".csv");
+                copied.deleteOnExit();
+                Files.copy(segment.toPath(), copied.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                copy.segments.add(copied);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy metric data on disk", e);
+        }
+        numericSummaries.forEach((k, v) -> copy.numericSummaries.put(k, v.copy()));
+        categoryCounts.forEach((k, v) -> copy.categoryCounts.put(k, new HashMap<>(v)));
+        return copy;
+    }
+
+    @Override
+    public IDataLogger emptyCopy() {
+        return new SpillingDataTableSaw(metric, data.emptyCopy(), rowsPerSegment);
+    }
+
+    @Override
+    public IDataLogger create() {
+        return new SpillingDataTableSaw(metric, rowsPerSegment);
+    }
+}
@@ -4,7 +4,6 @@ import evaluation.metrics.AbstractMetric;
 import evaluation.metrics.Event;
 import evaluation.metrics.IDataLogger;
 import evaluation.metrics.IDataProcessor;
-import evaluation.summarisers.TAGNumericStatSummary;
 import tech.tablesaw.api.*;
 import tech.tablesaw.columns.Column;
 import tech.tablesaw.plotly.Plot;
@@ -26,18 +25,24 @@ public class TableSawDataProcessor implements IDataProcessor {
     @Override
     public void processRawDataToFile(IDataLogger logger, String folderName) {
         DataTableSaw dts = (DataTableSaw) logger;
-        dts.data.write().csv(folderName + "/" + dts.data.name() + ".csv");
+        dts.writeCsv(folderName + "/" + dts.data.name() + ".csv");
     }
 
     @Override
     public void processRawDataToConsole(IDataLogger logger) {
         DataTableSaw dts = (DataTableSaw) logger;
         System.out.println();
-        System.out.println(dts.data);
+        for (Iterator<Table> segments = dts.segments(); segments.hasNext(); ) {
+            System.out.println(segments.next());
+        }
     }
 
     private Map<String, List<Table>> getSummarisedData(DataTableSaw dts)
     {
+        if (dts instanceof SpillingDataTableSaw) {
+            // Summaries are kept while recording, so that the data does not need to be read back
+            return ((SpillingDataTableSaw) dts).getRunningSummaries();
+        }
         Map<String, List<Table>> summarisedData;
         if (dts.metric.getGamesCompleted() < dts.data.column(0).size()) {
             summarisedData = summariseDataProgression(dts.metric, dts.data);
@@ -100,7 +105,15 @@ public class TableSawDataProcessor implements IDataProcessor {
         }
         if (success) {
             Map<String, Figure> figures;
-            if (dts.metric.getGamesCompleted() < dts.data.column(0).size()) {
+            boolean progression = dts.metric.getGamesCompleted() < dts.rowCount();
+            if (dts instanceof SpillingDataTableSaw) {
+                // Data on disk is read back a game, or a segment, at a time
+                if (progression) {
+                    figures = plotDataProgression(dts.metric, dts.games(), dts.data.name());
+                } else {
+                    figures = plotData(dts.metric, dts.segments(), dts.data.name());
+                }
+            } else if (progression) {
                 figures = plotDataProgression(dts.metric, dts.data);
             } else {
                 figures = plotData(dts.metric, dts.data);
@@ -247,104 +260,92 @@ public class TableSawDataProcessor implements IDataProcessor {
      * @return - a list of figures, each plotting a column of data, or some customized plots.
      */
     protected Map<String, Figure> plotDataProgression(AbstractMetric metric, Table data) {
-        Object[] gameIds = data.column("GameID").unique().asObjectArray();
-        int nGames = gameIds.length;
-        int maxTick = 0;
-        Table[] tablesPerGame = new Table[nGames];
-
-        int i = 0;
-        for (Object id: gameIds) {  // todo game ID starts at 2???
-            tablesPerGame[i] = data.where(data.stringColumn("GameID").isEqualTo((String) id));
-            int maxTickThisGame = tablesPerGame[i].intColumn("Tick").size();
-            if (maxTickThisGame > maxTick) {
-                maxTick = maxTickThisGame;
-            }
-            i++;
-        }
+        return plotDataProgression(metric, DataTableSaw.byGame(Collections.singletonList(data).iterator()), data.name());
+    }
 
-        Map<String, Figure> figures = new HashMap<>();
-        for (i = 0; i < data.columnCount(); i++) {
-            Column<?> column = data.column(i);
-            if (metric.getColumnNames().contains(column.name())) {
-                //TODO Not checked that this doesn't break with missing values. If error found, it may be that! o.O
+    /**
+     * Plot the data recorded by this metric, progression over the course of a game, from a table for each game read
+     * one at a time. Used for data spilled to disk by SpillingDataTableSaw, so subclasses with their own progression
+     * plots override this too if they are to be used with it.
+     * @param games - the data recorded in each game
+     * @param name - the name of the data, as the title of the plots
+     * @return - a list of figures, each plotting a column of data, or some customized plots.
+     */
+    protected Map<String, Figure> plotDataProgression(AbstractMetric metric, Iterator<Table> games, String name) {
+        // Summaries of the values at each point in the games, and the counts of each category in each game
+        Map<String, List<RunningSummary>> progressions = new LinkedHashMap<>();
+        Map<String, Table> countsPerGame = new LinkedHashMap<>();
+        while (games.hasNext()) {
+            Table game = games.next();
+            for (Column<?> column : game.columns()) {
+                if (!metric.getColumnNames().contains(column.name())) continue;
                 if (column instanceof NumberColumn) {
-                    // Make a line plot - actually 3 lines, mean, mean+sd, mean-sd
-                    double[] x = new double[maxTick];
-                    for (int j = 0; j < maxTick; j++) {
-                        x[j] = j;
-                    }
-                    double[] yMean = new double[column.size()];
-                    double[] yMeanSdMinus = new double[column.size()];
-                    double[] yMeanSdPlus = new double[column.size()];
-                    for (int j = 0; j < maxTick; j++) {
-                        TAGNumericStatSummary ss = new TAGNumericStatSummary();
-                        for (int k = 0; k < nGames; k++) {
-                            Column<?> columnThisGame = tablesPerGame[k].column(column.name());
-                            if (columnThisGame.size() > j) {
-                                ss.add(Double.parseDouble(String.valueOf(columnThisGame.get(j))));
-                            }
+                    List<RunningSummary> summaries = progressions.computeIfAbsent(column.name(), k -> new ArrayList<>());
+                    for (int j = 0; j < column.size(); j++) {
+                        if (summaries.size() <= j) summaries.add(new RunningSummary());
+                        if (!column.isMissing(j)) {
+                            summaries.get(j).add(((NumberColumn<?, ?>) column).getDouble(j));
                         }
-
-                        double err = 0;
-                        if (ss.n() > 1) err = ss.stdErr();
-                        yMean[j] = ss.mean();
-                        yMeanSdMinus[j] = yMean[j] - err;
-                        yMeanSdPlus[j] = yMean[j] + err;
-                    }
-
-                    Trace yMeanSdPlusTrace = ScatterTrace.builder(x, yMeanSdPlus).name("Mean + SD")
-                            .opacity(0.3)
-                            .line(Line.builder().simplify(true).dash(Line.Dash.DASH_DOT).color("rgb(0, 0, 255)").build())
-                            .mode(ScatterTrace.Mode.LINE).build();
-                    Trace yMeanTrace = ScatterTrace.builder(x, yMean).name("Mean")
-                            .mode(ScatterTrace.Mode.LINE)
-                            .line(Line.builder().width(2).color("rgb(0, 0, 255)").build())
-                            .build();
-                    Trace yMeanSdMinusTrace = ScatterTrace.builder(x, yMeanSdMinus).name("Mean - SD")
-                            .opacity(0.3)
-                            .line(Line.builder().simplify(true).dash(Line.Dash.DASH_DOT).color("rgb(0, 0, 255)").build())
-                            .mode(ScatterTrace.Mode.LINE).build();
-
-                    Layout layout = Layout.builder().title(data.name())
-                            .height(600).width(800)
-                            .yAxis(Axis.builder().title(column.name()).build())
-                            .xAxis(Axis.builder().title(getLabel(metric)).build())
-                            .build();
-
-                    Figure figure = new Figure(layout, yMeanSdPlusTrace, yMeanTrace, yMeanSdMinusTrace);
-
-//                figures.put(column.name(), LinePlot.create(data.name(), "Data point", x, column.name(), y));
-                    figures.put(column.name(), figure);
-                } else {
-                    // Make box plots from the categorical counts across games
-
-                    // Create counts of each category per game
-                    Table[] tablesCountsPerGame = new Table[nGames];
-                    int idx = 0;
-                    for (Object id: data.column("GameID").unique().asObjectArray()) {
-                        tablesCountsPerGame[idx] = ((StringColumn)column.where(data.stringColumn("GameID").isEqualTo((String) id)))
-                                .removeMissing()
-                                .countByCategory();
-                        idx++;
-                    }
-                    Table countsPerGame = tablesCountsPerGame[0];
-                    for (idx = 1; idx < nGames; idx++) {
-                        countsPerGame = countsPerGame.append(tablesCountsPerGame[idx]);
                     }
-
-                    // Create box plots from the counts
-                    Layout layout = Layout.builder().title(data.name())
-                            .height(600).width(800)
-                            .yAxis(Axis.builder().title("Count").range(0, 30).build())  //  TODO hard-coded range
-                            .xAxis(Axis.builder().title(column.name()).categoryOrder(Axis.CategoryOrder.CATEGORY_ASCENDING).build())
-                            .build();
-                    BoxTrace trace = BoxTrace.builder(countsPerGame.categoricalColumn("Category"), countsPerGame.nCol("Count"))
-                            .build();
-
-                    figures.put(column.name(), new Figure(layout, trace));
+                } else if (column instanceof StringColumn) {
+                    Table counts = ((StringColumn) column).removeMissing().countByCategory();
+                    countsPerGame.merge(column.name(), counts, Table::append);
                 }
             }
         }
+
+        Map<String, Figure> figures = new HashMap<>();
+        for (Map.Entry<String, List<RunningSummary>> entry : progressions.entrySet()) {
+            // Make a line plot - actually 3 lines, mean, mean+sd, mean-sd
+            List<RunningSummary> summaries = entry.getValue();
+            int maxTick = summaries.size();
+            double[] x = new double[maxTick];
+            double[] yMean = new double[maxTick];
+            double[] yMeanSdMinus = new double[maxTick];
+            double[] yMeanSdPlus = new double[maxTick];
+            for (int j = 0; j < maxTick; j++) {
+                RunningSummary ss = summaries.get(j);
+                double err = ss.stdErr();
+                x[j] = j;
+                yMean[j] = ss.mean;
+                yMeanSdMinus[j] = yMean[j] - err;
+                yMeanSdPlus[j] = yMean[j] + err;
+            }
+
+            Trace yMeanSdPlusTrace = ScatterTrace.builder(x, yMeanSdPlus).name("Mean + SD")
+                    .opacity(0.3)
+                    .line(Line.builder().simplify(true).dash(Line.Dash.DASH_DOT).color("rgb(0, 0, 255)").build())
+                    .mode(ScatterTrace.Mode.LINE).build();
+            Trace yMeanTrace = ScatterTrace.builder(x, yMean).name("Mean")
+                    .mode(ScatterTrace.Mode.LINE)
+                    .line(Line.builder().width(2).color("rgb(0, 0, 255)").build())
+                    .build();
+            Trace yMeanSdMinusTrace = ScatterTrace.builder(x, yMeanSdMinus).name("Mean - SD")
+                    .opacity(0.3)
+                    .line(Line.builder().simplify(true).dash(Line.Dash.DASH_DOT).color("rgb(0, 0, 255)").build())
+                    .mode(ScatterTrace.Mode.LINE).build();
+
+            Layout layout = Layout.builder().title(name)
+                    .height(600).width(800)
+                    .yAxis(Axis.builder().title(entry.getKey()).build())
+                    .xAxis(Axis.builder().title(getLabel(metric)).build())
+                    .build();
+
+            figures.put(entry.getKey(), new Figure(layout, yMeanSdPlusTrace, yMeanTrace, yMeanSdMinusTrace));
+        }
+        for (Map.Entry<String, Table> entry : countsPerGame.entrySet()) {
+            // Make box plots from the categorical counts across games
+            Table counts = entry.getValue();
+            Layout layout = Layout.builder().title(name)
+                    .height(600).width(800)
+                    .yAxis(Axis.builder().title("Count").range(0, 30).build())  //  TODO hard-coded range
+                    .xAxis(Axis.builder().title(entry.getKey()).categoryOrder(Axis.CategoryOrder.CATEGORY_ASCENDING).build())
+                    .build();
+            BoxTrace trace = BoxTrace.builder(counts.categoricalColumn("Category"), counts.nCol("Count"))
+                    .build();
+
+            figures.put(entry.getKey(), new Figure(layout, trace));
+        }
         return figures;
     }
 
@@ -370,29 +371,50 @@ public class TableSawDataProcessor implements IDataProcessor {
      * @return - a list of figures, each plotting a column of data, or some customized plots.
      */
     protected Map<String, Figure> plotData(AbstractMetric metric, Table rawData) {
-        Map<String, Figure> figures = new HashMap<>();
+        return plotData(metric, Collections.singletonList(rawData).iterator(), rawData.name());
+    }
 
-        for (Column<?> c : rawData.columns()) {
-            Table filteredData = (rawData.where(rawData.column(c.name()).isNotMissing()));
-            Column<?> column = filteredData.column(c.name());
-            if (metric.getColumnNames().contains(column.name())) {
-                if (column instanceof NumberColumn) {
-                    figures.put(column.name(), LinePlot.create(filteredData.name(), Table.create(column, filteredData.column("GameID")), "GameID", column.name()));
-                } else {
-                    // Make a bar plot from the categorical count
-                    Table t2 = ((StringColumn)column).countByCategory();
-//                    t2 = t2.sortDescendingOn(t2.column(1).name()); //todo this sorts the table, but not the plot when we build it.
-                    Layout layout = Layout.builder()
-                            .title(filteredData.name())
-                            .yAxis(Axis.builder().title(column.name()).build())
-                            .xAxis(Axis.builder().categoryOrder(Axis.CategoryOrder.TRACE).build())
-                            .build();
-                    BarTrace trace = BarTrace.builder(t2.categoricalColumn(0), t2.numberColumn(1))
-                            .build();
-                    figures.put(column.name(), new Figure(layout, trace));
+    /**
+     * Plot the data recorded by this metric, from tables read one at a time. Used for data spilled to disk by
+     * SpillingDataTableSaw, so subclasses with their own plots override this too if they are to be used with it.
+     * @param segments - the data recorded
+     * @param name - the name of the data, as the title of the plots
+     * @return - a list of figures, each plotting a column of data, or some customized plots.
+     */
+    protected Map<String, Figure> plotData(AbstractMetric metric, Iterator<Table> segments, String name) {
+        // The values of each column which are not missing, with the game of each for numeric columns
+        Map<String, Table> values = new LinkedHashMap<>();
+        while (segments.hasNext()) {
+            Table segment = segments.next();
+            for (Column<?> c : segment.columns()) {
+                if (metric.getColumnNames().contains(c.name())) {
+                    Table filteredData = segment.where(c.isNotMissing());
+                    Table columnData = c instanceof NumberColumn ?
+                            filteredData.selectColumns(c.name(), "GameID") : filteredData.selectColumns(c.name());
+                    values.merge(c.name(), columnData, Table::append);
                 }
             }
         }
+
+        Map<String, Figure> figures = new HashMap<>();
+        for (Map.Entry<String, Table> entry : values.entrySet()) {
+            Column<?> column = entry.getValue().column(entry.getKey());
+            if (column instanceof NumberColumn) {
+                figures.put(column.name(), LinePlot.create(name, entry.getValue(), "GameID", column.name()));
+            } else {
+                // Make a bar plot from the categorical count
+                Table t2 = ((StringColumn)column).countByCategory();
+//                    t2 = t2.sortDescendingOn(t2.column(1).name()); //todo this sorts the table, but not the plot when we build it.
+                Layout layout = Layout.builder()
+                        .title(name)
+                        .yAxis(Axis.builder().title(column.name()).build())
+                        .xAxis(Axis.builder().categoryOrder(Axis.CategoryOrder.TRACE).build())
+                        .build();
+                BarTrace trace = BarTrace.builder(t2.categoricalColumn(0), t2.numberColumn(1))
+                        .build();
+                figures.put(column.name(), new Figure(layout, trace));
+            }
+        }
         return figures;
     }
 
@@ -12,6 +12,9 @@ import evodef.SolutionEvaluator;
 import games.GameType;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
@@ -94,6 +97,65 @@ public class GameEvaluator implements SolutionEvaluator {
      */
     @Override
     public double evaluate(int[] settings) {
+        return play(prepare(settings));
+    }
+
+    /**
+     * Evaluates several settings, each in one game. The games and players are all created first, on this thread and in
+     * the order given (as the search space and opponents are shared), and the games are then run on the executor.
+     * So the results only depend on the settings and their order, and not on which game finishes first.
+     *
+     * @param batch    - settings to evaluate.
+     * @param executor - threads to run the games on, or null to run them on this thread.
+     * @return the game score for each of the settings, in the same order
+     */
+    public double[] evaluate(List<int[]> batch, ExecutorService executor) {
+        List<Trial> trials = batch.stream().map(this::prepare).collect(toList());
+        double[] results = new double[trials.size()];
+        if (executor == null) {
+            for (int i = 0; i < results.length; i++)
+                results[i] = play(trials.get(i));
+            return results;
+        }
+        List<Future<Double>> futures = new ArrayList<>(trials.size());
+        for (Trial trial : trials)
+            futures.add(executor.submit(() -> play(trial)));
+        try {
+            for (int i = 0; i < results.length; i++)
+                results[i] = futures.get(i).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while evaluating settings", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Evaluation of settings failed", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * One game to be played to evaluate a set of settings, with everything it needs already created.
+     */
+    private static class Trial {
+        final Game game;
+        final List<AbstractPlayer> players;
+        final int playerIndex;
+        final boolean tuningGame;
+        final long seed;
+
+        Trial(Game game, List<AbstractPlayer> players, int playerIndex, boolean tuningGame, long seed) {
+            this.game = game;
+            this.players = players;
+            this.playerIndex = playerIndex;
+            this.tuningGame = tuningGame;
+            this.seed = seed;
+        }
+    }
+
+    /**
+     * Creates the game and players for the next evaluation. This uses the shared state of the evaluator (the search
+     * space, opponents and random number generator), so must not be called from several threads at once.
+     */
+    private Trial prepare(int[] settings) {
         if (debug)
             System.out.printf("Starting evaluation %d of %s at %tT%n", nEvals,
                     Arrays.toString(settings), System.currentTimeMillis());
@@ -101,7 +163,8 @@ public class GameEvaluator implements SolutionEvaluator {
         boolean tuningPlayer = configuredThing instanceof AbstractPlayer;
         boolean tuningGame = configuredThing instanceof Game;
 
-        Game newGame = tuningGame ? (Game) configuredThing : game.createGameInstance(nPlayers, gameParams);
+        // each game gets its own copy of the parameters, as reset() sets the random seed in them
+        Game newGame = tuningGame ? (Game) configuredThing : game.createGameInstance(nPlayers, gameParams == null ? null : gameParams.copy());
         // we assign one player to each team (the default for a game is each player being their own team of 1)
         int nTeams = newGame.getGameState().getNTeams();
         List<AbstractPlayer> allPlayers = new ArrayList<>(nTeams);
@@ -113,7 +176,7 @@ public class GameEvaluator implements SolutionEvaluator {
         // create a random permutation of opponents - this is used if we want to avoid opponent duplicates
         // if we allow duplicates, then we randomise them all independently
         List<Integer> opponentOrdering = IntStream.range(0, opponents.size()).boxed().collect(toList());
-        Collections.shuffle(opponentOrdering);
+        Collections.shuffle(opponentOrdering, rnd);
         int count = 0;
         for (int i = 0; i < nTeams; i++) {
             if (!fullyCoop && i != playerIndex) {
@@ -126,23 +189,33 @@ public class GameEvaluator implements SolutionEvaluator {
             }
         }
 
+        nEvals++;
         // always reset the random seed for each new game
-        newGame.reset(allPlayers, rnd.nextLong());
+        return new Trial(newGame, allPlayers, playerIndex, tuningGame, rnd.nextLong());
+    }
+
+    /**
+     * Plays the game of a trial, and scores the result. This only uses the trial and the heuristics, so trials can be
+     * played on several threads at once as long as the heuristics keep no state between calls (the ones in the repo
+     * only read their tuned weights), and the statics shared by all games (such as Hash) are thread-safe.
+     */
+    private double play(Trial trial) {
+        Game newGame = trial.game;
+        newGame.reset(trial.players, trial.seed);
 
         newGame.run();
         int playerOnTeam = -1;
         for (int p = 0; p < newGame.getGameState().getNPlayers(); p++) {
-            if (newGame.getGameState().getTeam(p) == playerIndex) {
+            if (newGame.getGameState().getTeam(p) == trial.playerIndex) {
                 playerOnTeam = p;
             }
         }
         if (playerOnTeam == -1)
-            throw new AssertionError("No Player found on team " + playerIndex);
-        double retValue = tuningGame ? gameHeuristic.evaluateGame(newGame) : stateHeuristic.evaluateState(newGame.getGameState(), playerOnTeam);
+            throw new AssertionError("No Player found on team " + trial.playerIndex);
+        double retValue = trial.tuningGame ? gameHeuristic.evaluateGame(newGame) : stateHeuristic.evaluateState(newGame.getGameState(), playerOnTeam);
 
     //    System.out.println("GameEvaluator: " + retValue);
 
-        nEvals++;
         return retValue;
     }
 
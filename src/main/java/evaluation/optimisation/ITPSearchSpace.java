@@ -194,6 +194,13 @@ public class ITPSearchSpace extends AgentSearchSpace<Object> {
             //   Object value = itp.getPossibleValues(pName).get(settings[i]);
             itp.setParameterValue(pName, value);
         }
+        // instantiate from a copy, as agents (and games) may keep the parameters they were created with, and
+        // several may be in use at once when trials are run in parallel
+        if (itp instanceof TunableParameters) {
+            TunableParameters copy = ((TunableParameters) itp).copy();
+            copy.setRandomSeed(((TunableParameters) itp).getRandomSeed());
+            return copy.instantiate();
+        }
         return itp.instantiate();
     }
 
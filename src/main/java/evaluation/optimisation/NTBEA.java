@@ -7,8 +7,11 @@ import core.interfaces.IGameHeuristic;
 import core.interfaces.IStateHeuristic;
 import evaluation.listeners.IGameListener;
 import evaluation.tournaments.RoundRobinTournament;
+import evodef.DefaultMutator;
+import evodef.SearchSpaceUtil;
 import org.apache.commons.math3.util.CombinatoricsUtils;
 import games.GameType;
+import ntbea.EvaluateChoices;
 import ntbea.NTupleBanditEA;
 import ntbea.NTupleSystem;
 import players.PlayerFactory;
@@ -17,6 +20,7 @@ import players.heuristics.PureScoreHeuristic;
 import players.heuristics.WinOnlyHeuristic;
 import utilities.JSONUtils;
 import utilities.Pair;
+import utilities.RacingBound;
 import utilities.StatSummary;
 import utilities.Utils;
 
@@ -24,6 +28,8 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.IntToDoubleFunction;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -47,6 +53,9 @@ public class NTBEA {
     int currentIteration = 0;
     IStateHeuristic stateHeuristic;
     IGameHeuristic gameHeuristic;
+    RacingBound bestEvaluation; // results of the evaluation games of the best winner so far, when stopping early
+    int evalGamesSaved, tournamentGamesSaved;
+    ExecutorService executor; // threads to evaluate settings on, while running with more than one
 
     public NTBEA(NTBEAParameters parameters, GameType game, int nPlayers) {
         // Now initialise the other bits and pieces needed for the NTBEA package
@@ -125,8 +134,22 @@ public class NTBEA {
      */
     public Pair<Object, int[]> run() {
 
-        for (currentIteration = 0; currentIteration < params.repeats; currentIteration++) {
-            runIteration();
+        if (params.threads > 1) {
+            executor = Executors.newFixedThreadPool(params.threads, r -> {
+                Thread t = new Thread(r, "NTBEA-evaluator");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        try {
+            for (currentIteration = 0; currentIteration < params.repeats; currentIteration++) {
+                runIteration();
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
         }
 
         // After all runs are complete, if tournamentGames are specified, then we allow all the
@@ -159,8 +182,10 @@ public class NTBEA {
 
             RoundRobinTournament tournament = new RoundRobinTournament(players, game, nPlayers, gamesPerMatchup, NO_SELF_PLAY, params.gameParams, params.byTeam);
             tournament.verbose = false;
+            tournament.setEarlyStopping(params.earlyStop, params.evalMethod.equals("Ordinal"));
             createListeners().forEach(tournament::addListener);
             tournament.run();
+            tournamentGamesSaved += tournament.getGamesSaved();
             // create a new list of results in descending order of score
             IntToDoubleFunction cmp = params.evalMethod.equals("Ordinal") ? i -> -tournament.getOrdinalRank(i) : tournament::getWinRate;
             List<Integer> agentsInOrder = IntStream.range(0, players.size())
@@ -198,6 +223,9 @@ public class NTBEA {
                 }
             }
         }
+        if (params.verbose && params.earlyStop > 0)
+            System.out.printf("Early stopping saved %d evaluation games and %d tournament games%n",
+                    evalGamesSaved, tournamentGamesSaved);
         if (params.verbose) {
             System.out.println("\nFinal Recommendation: ");
             // we don't log the final run to file to avoid duplication
@@ -208,7 +236,56 @@ public class NTBEA {
 
     protected void runTrials() {
         evaluator.reset();
-        searchFramework.runTrial(evaluator, params.iterationsPerRun);
+        if (executor == null)
+            searchFramework.runTrial(evaluator, params.iterationsPerRun);
+        else
+            runBatchedTrials();
+    }
+
+    /**
+     * The parallel version of NTupleBanditEA.runTrial(). That evaluates one setting at a time, adds the result to the
+     * model, and then moves to the best (by the model's UCB estimate) of a random neighbourhood of the setting.
+     * Here each step proposes a batch of settings, one per thread: each is the best of the neighbourhood of the one
+     * before that is not already in the batch, using the model as it was at the start of the batch. The batch is
+     * evaluated in parallel, and the results added to the model in the order of the batch, so the model does not
+     * depend on which game finishes first.
+     */
+    private void runBatchedTrials() {
+        DefaultMutator mutator = new DefaultMutator(params.searchSpace);
+        // as in NTupleBanditEA
+        int nNeighbours = Math.max(5, (int) Math.min(params.neighbourhoodSize, SearchSpaceUtil.size(params.searchSpace) / 4));
+        int[] point = SearchSpaceUtil.randomPoint(params.searchSpace);
+        int iterations = 0;
+        while (iterations < params.iterationsPerRun) {
+            int batchSize = Math.min(params.threads, params.iterationsPerRun - iterations);
+            List<int[]> batch = new ArrayList<>(batchSize);
+            batch.add(point);
+            while (batch.size() < batchSize) {
+                int[] next = bestNeighbour(batch.get(batch.size() - 1), batch, mutator, nNeighbours);
+                if (next == null) break;  // the whole neighbourhood is already in the batch
+                batch.add(next);
+            }
+            double[] results = evaluator.evaluate(batch, executor);
+            for (int i = 0; i < batch.size(); i++)
+                landscapeModel.addPoint(batch.get(i), results[i]);
+            iterations += batch.size();
+            point = bestNeighbour(batch.get(batch.size() - 1), Collections.emptyList(), mutator, nNeighbours);
+        }
+    }
+
+    /**
+     * @return the best (by the model's UCB estimate) of nNeighbours random neighbours of the point, ignoring those in
+     * exclude, or null if no neighbours outside exclude were found
+     */
+    private int[] bestNeighbour(int[] point, List<int[]> exclude, DefaultMutator mutator, int nNeighbours) {
+        EvaluateChoices choices = new EvaluateChoices(landscapeModel, params.kExplore);
+        // the attempts are limited, as there may be fewer than nNeighbours in a small search space
+        for (int attempt = 0; attempt < 10 * nNeighbours && choices.n() < nNeighbours; attempt++) {
+            int[] neighbour = mutator.randMut(point);
+            if (exclude.stream().noneMatch(p -> Arrays.equals(p, neighbour)))
+                choices.add(neighbour);
+        }
+        return choices.picker.getBest();
     }
 
     protected void runIteration() {
@@ -245,14 +322,46 @@ public class NTBEA {
         return retValue;
     }
 
+    /**
+     * Plays evalGames games with the recommended settings to estimate their value. If early stopping is set (and the
+     * results of the games are bounded, which is the case for the Win and Ordinal evaluation methods), then this
+     * stops as soon as these settings are known to be better or worse than the best evaluated so far.
+     */
     protected Pair<Double, Double> evaluateWinner(int[] winnerSettings) {
-
-        double[] results = IntStream.range(0, params.evalGames)
-                .mapToDouble(answer -> evaluator.evaluate(winnerSettings)).toArray();
+        RacingBound race = null;
+        if (params.earlyStop > 0 && !params.tuningGame) {
+            if (params.evalMethod.equals("Win"))
+                race = new RacingBound(2.0);
+            else if (params.evalMethod.equals("Ordinal"))
+                race = new RacingBound(Math.max(1, nPlayers - 1));
+        }
+        // the error is shared between all the times we check
+        double delta = (1.0 - params.earlyStop) / params.evalGames;
+
+        double[] results = new double[params.evalGames];
+        int nGames = 0;
+        while (nGames < params.evalGames) {
+            // one game per thread at a time
+            int batchSize = Math.min(params.threads, params.evalGames - nGames);
+            for (double result : evaluator.evaluate(Collections.nCopies(batchSize, winnerSettings), executor)) {
+                results[nGames++] = result;
+                if (race != null)
+                    race.add(result);
+            }
+            if (race != null && bestEvaluation != null && nGames < params.evalGames && RacingBound.separated(race, bestEvaluation, delta)) {
+                if (params.verbose)
+                    System.out.printf("Stopped evaluation after %d of %d games%n", nGames, params.evalGames);
+                evalGamesSaved += params.evalGames - nGames;
+                results = Arrays.copyOf(results, nGames);
+                break;
+            }
+        }
+        if (race != null && (bestEvaluation == null || race.mean() > bestEvaluation.mean()))
+            bestEvaluation = race;
 
         double avg = Arrays.stream(results).average().orElse(0.0);
         double stdErr = Math.sqrt(Arrays.stream(results)
-                .map(d -> Math.pow(d - avg, 2.0)).sum()) / (params.evalGames - 1.0);
+                .map(d -> Math.pow(d - avg, 2.0)).sum()) / (results.length - 1.0);
 
         return new Pair<>(avg, stdErr);
     }
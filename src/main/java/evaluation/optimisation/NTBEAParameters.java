@@ -29,6 +29,8 @@ public class NTBEAParameters {
     public int iterationsPerRun;
     public int repeats;
     public int evalGames;
+    public double earlyStop;
+    public int threads;
     public double kExplore;
     public int tournamentGames;
     public int neighbourhoodSize;
@@ -56,6 +58,10 @@ public class NTBEAParameters {
         tournamentGames = (int) args.get(RunArg.matchups);
         evalGames = (int) args.get(RunArg.evalGames);
         if (evalGames == -1) evalGames = iterationsPerRun / 5;
+        earlyStop = ((Number) args.get(RunArg.earlyStop)).doubleValue();
+        threads = (int) args.get(RunArg.threads);
+        if (threads < 1)
+            throw new IllegalArgumentException("Number of threads must be positive: " + threads);
         kExplore = (double) args.get(RunArg.kExplore);
         neighbourhoodSize = (int) args.get(RunArg.neighbourhood);
         opponentDescriptor = (String) args.get(RunArg.opponent);
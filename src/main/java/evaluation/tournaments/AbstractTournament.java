@@ -2,6 +2,7 @@ package evaluation.tournaments;
 
 import core.AbstractParameters;
 import core.AbstractPlayer;
+import core.ActionCache;
 import core.Game;
 import core.interfaces.IGameRunner;
 import games.GameType;
@@ -44,4 +45,14 @@ public abstract class AbstractTournament implements IGameRunner {
 
         this.nPlayers = nPlayerPerGame;
     }
+
+    /**
+     * Sets a cache of the actions available in each state, shared by the game loop and the players of every game in
+     * the tournament.
+     *
+     * @param capacity - number of states to cache the actions of, or 0 for no cache.
+     */
+    public void setActionCache(int capacity) {
+        game.getForwardModel().setActionCache(capacity > 0 ? new ActionCache(capacity) : null);
+    }
 }
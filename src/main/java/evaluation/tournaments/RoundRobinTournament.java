@@ -6,6 +6,7 @@ import evaluation.listeners.IGameListener;
 import evaluation.listeners.TournamentMetricsGameListener;
 import games.GameType;
 import utilities.Pair;
+import utilities.RacingBound;
 
 import java.io.FileWriter;
 import java.util.*;
@@ -28,10 +29,17 @@ public class RoundRobinTournament extends AbstractTournament {
     double[] pointsPerPlayerSquared;
     double[] rankPerPlayer;
     double[] rankPerPlayerSquared;
+    // The same totals, but with the games of each matchup that stopped early counted as many times as needed to make
+    // up all the games of the matchup, so that each matchup has the weight it would have had if all were played.
+    // These are used for the rankings (and equal the totals above if no matchup stops early).
+    double[] weightedPoints, weightedPointsSquared, weightedRank, weightedRankSquared, weightedGames;
     protected LinkedHashMap<Integer, Pair<Double, Double>> finalWinRanking; // contains index of agent in agents
     protected LinkedHashMap<Integer, Pair<Double, Double>> finalOrdinalRanking; // contains index of agent in agents
     LinkedList<Integer> allAgentIds;
     private int totalGamesRun;
+    private double earlyStopConfidence; // 0 if every matchup plays all its games
+    private boolean earlyStopByOrdinal;
+    private int gamesSaved;
     protected boolean randomGameParams;
     public final String name;
     public boolean byTeam;
@@ -76,6 +84,11 @@ public class RoundRobinTournament extends AbstractTournament {
         this.rankPerPlayer = new double[agents.size()];
         this.rankPerPlayerSquared = new double[agents.size()];
         this.gamesPerPlayer = new int[agents.size()];
+        this.weightedPoints = new double[agents.size()];
+        this.weightedPointsSquared = new double[agents.size()];
+        this.weightedRank = new double[agents.size()];
+        this.weightedRankSquared = new double[agents.size()];
+        this.weightedGames = new double[agents.size()];
         this.byTeam = byTeam;
         this.name = String.format("Game: %s, Players: %d, GamesPerMatchup: %d, Mode: %s", gameToPlay.name(), playersPerGame, gamesPerMatchUp, mode.name());
     }
@@ -101,8 +114,10 @@ public class RoundRobinTournament extends AbstractTournament {
         createAndRunMatchUp(matchUp);
         reportResults();
 
-        for (IGameListener listener : listeners)
+        for (IGameListener listener : listeners) {
             listener.report();
+            listener.allGamesFinished();
+        }
     }
 
 
@@ -216,6 +231,26 @@ public class RoundRobinTournament extends AbstractTournament {
             }
         }
 
+        // When stopping early, these hold the difference in result between each pair of seats in the matchup
+        // (taken by different agents) in each game
+        RacingBound[][] race = earlyStopConfidence > 0 && nGames > 1 ? new RacingBound[matchUpPlayers.size()][] : null;
+        if (race != null) {
+            double range = earlyStopByOrdinal ? 2.0 * (game.getGameState().getNPlayers() - 1) : 2.0;
+            for (int j = 0; j < race.length; j++) {
+                race[j] = new RacingBound[j];
+                for (int k = 0; k < j; k++) {
+                    if (!agentIDsInThisGame.get(j).equals(agentIDsInThisGame.get(k)))
+                        race[j][k] = new RacingBound(range);
+                }
+            }
+        }
+
+        // Totals before this matchup, to weight its results once we know how many games it played
+        double[] pointsBefore = pointsPerPlayer.clone(), pointsSquaredBefore = pointsPerPlayerSquared.clone();
+        double[] rankBefore = rankPerPlayer.clone(), rankSquaredBefore = rankPerPlayerSquared.clone();
+        int[] gamesBefore = nGamesPlayed.clone();
+        int plannedGames = nGames;
+
         // Run the game N = gamesPerMatchUp times with these players
         for (int i = 0; i < nGames; i++) {
             // Use the same seeds for all games in each matchup (if gameSeeds specified)
@@ -277,8 +312,72 @@ public class RoundRobinTournament extends AbstractTournament {
                 System.out.println(sb);
             }
 
+            if (race != null && i < nGames - 1 && rankingSettled(race, results, nGames)) {
+                if (verbose)
+                    System.out.printf("Ranking settled after %d of %d games%n", i + 1, nGames);
+                gamesSaved += nGames - i - 1;
+                nGames = i + 1;
+            }
         }
         totalGamesRun += nGames;
+
+        double weight = plannedGames / (double) nGames;
+        for (int j : new HashSet<>(agentIDsInThisGame)) {
+            weightedPoints[j] += weight * (pointsPerPlayer[j] - pointsBefore[j]);
+            weightedPointsSquared[j] += weight * (pointsPerPlayerSquared[j] - pointsSquaredBefore[j]);
+            weightedRank[j] += weight * (rankPerPlayer[j] - rankBefore[j]);
+            weightedRankSquared[j] += weight * (rankPerPlayerSquared[j] - rankSquaredBefore[j]);
+            weightedGames[j] += weight * (nGamesPlayed[j] - gamesBefore[j]);
+        }
+    }
+
+    /**
+     * Adds the results of the game just played to the differences between each pair of seats, and checks whether
+     * the order of the agents in the matchup is now known at the confidence level set with setEarlyStopping().
+     *
+     * @param race    - differences between seats j and k (for k < j), or null if both are the same agent.
+     * @param results - results of the game just played, by player.
+     * @param nGames  - maximum number of games in the matchup (the number of times this may be checked).
+     * @return true if every pair of agents in the matchup is separated
+     */
+    private boolean rankingSettled(RacingBound[][] race, GameResult[] results, int nGames) {
+        int nSeats = race.length;
+        int[] seatPlayer = new int[nSeats];
+        int numDraws = 0;
+        for (int j = 0; j < nSeats; j++) {
+            seatPlayer[j] = j;
+            if (byTeam) {
+                for (int p = 0; p < game.getGameState().getNPlayers(); p++) {
+                    if (game.getGameState().getTeam(p) == j) {
+                        seatPlayer[j] = p;
+                        break;
+                    }
+                }
+            }
+            if (results[seatPlayer[j]] == GameResult.DRAW_GAME) numDraws++;
+        }
+        // higher is better for both measures, and draws share a point as they do in the win rate
+        double[] seatResult = new double[nSeats];
+        for (int j = 0; j < nSeats; j++) {
+            GameResult result = results[seatPlayer[j]];
+            seatResult[j] = earlyStopByOrdinal ? -game.getGameState().getOrdinalPosition(seatPlayer[j]) :
+                    result == GameResult.WIN_GAME ? 1.0 : result == GameResult.DRAW_GAME ? 1.0 / numDraws : 0.0;
+        }
+
+        int nPairs = 0;
+        for (int j = 0; j < nSeats; j++)
+            for (int k = 0; k < j; k++)
+                if (race[j][k] != null) {
+                    race[j][k].add(seatResult[j] - seatResult[k]);
+                    nPairs++;
+                }
+        // the error is shared between all pairs and all the times we check
+        double delta = (1.0 - earlyStopConfidence) / (nPairs * (double) nGames);
+        for (int j = 0; j < nSeats; j++)
+            for (int k = 0; k < j; k++)
+                if (race[j][k] != null && !race[j][k].excludesZero(delta))
+                    return false;
+        return nPairs > 0;
     }
 
     private int updatePoints(GameResult[] results, List<Integer> matchUpPlayers, int j, int player) {
@@ -308,12 +407,13 @@ public class RoundRobinTournament extends AbstractTournament {
         finalOrdinalRanking = new LinkedHashMap<>();
         for (int i = 0; i < this.agents.size(); i++) {
             // We calculate the standard deviation, and hence the standard error on the mean value
-            // (using a normal approximation, which is valid for large N)
-            double stdDev = pointsPerPlayerSquared[i] / nGamesPlayed[i] - (pointsPerPlayer[i] / nGamesPlayed[i])
-                    * (pointsPerPlayer[i] / nGamesPlayed[i]);
-            finalWinRanking.put(i, new Pair<>(pointsPerPlayer[i] / nGamesPlayed[i], stdDev / Math.sqrt(nGamesPlayed[i])));
-            stdDev = rankPerPlayerSquared[i] / nGamesPlayed[i] - (rankPerPlayer[i] / nGamesPlayed[i]) * (rankPerPlayer[i] / nGamesPlayed[i]);
-            finalOrdinalRanking.put(i, new Pair<>(rankPerPlayer[i] / nGamesPlayed[i], stdDev / Math.sqrt(nGamesPlayed[i])));
+            // (using a normal approximation, which is valid for large N, and the number of games actually played)
+            double meanPoints = weightedPoints[i] / weightedGames[i];
+            double stdDev = weightedPointsSquared[i] / weightedGames[i] - meanPoints * meanPoints;
+            finalWinRanking.put(i, new Pair<>(meanPoints, stdDev / Math.sqrt(nGamesPlayed[i])));
+            double meanRank = weightedRank[i] / weightedGames[i];
+            stdDev = weightedRankSquared[i] / weightedGames[i] - meanRank * meanRank;
+            finalOrdinalRanking.put(i, new Pair<>(meanRank, stdDev / Math.sqrt(nGamesPlayed[i])));
         }
         // Sort by points.
         finalWinRanking = finalWinRanking.entrySet().stream()
@@ -335,6 +435,12 @@ public class RoundRobinTournament extends AbstractTournament {
         // To console
         if (verbose)
             System.out.printf("============= %s - %d games played ============= \n", game.getGameType().name(), totalGamesRun);
+        if (earlyStopConfidence > 0) {
+            String str = String.format("Early stopping at %.1f%% confidence saved %d of %d games.\n",
+                    100.0 * earlyStopConfidence, gamesSaved, totalGamesRun + gamesSaved);
+            if (toFile) dataDump.add(str);
+            if (verbose) System.out.print(str);
+        }
         for (int i = 0; i < this.agents.size(); i++) {
             String str = String.format("%s got %.2f points. ", agents.get(i), pointsPerPlayer[i]);
             if (toFile) dataDump.add(str);
@@ -426,6 +532,29 @@ public class RoundRobinTournament extends AbstractTournament {
         this.randomSeed = randomSeed.longValue();
     }
 
+    /**
+     * Stops playing the games of a matchup once the order of its agents is known, at the given confidence level,
+     * from the differences in their win rates (or mean ordinal positions) over the games played so far. With several
+     * agents in a matchup this needs every pair of them to be separated. This has no effect on matchups of a single
+     * game (as in RandomRRTournament).
+     *
+     * @param confidence - confidence level, such as 0.95, or 0 to always play all the games of each matchup.
+     * @param byOrdinal  - if true, compare mean ordinal positions rather than win rates.
+     */
+    public void setEarlyStopping(double confidence, boolean byOrdinal) {
+        if (confidence < 0 || confidence >= 1)
+            throw new IllegalArgumentException("Confidence must be in [0, 1): " + confidence);
+        this.earlyStopConfidence = confidence;
+        this.earlyStopByOrdinal = byOrdinal;
+    }
+
+    /**
+     * @return the number of games not played because the ranking in their matchup was already settled
+     */
+    public int getGamesSaved() {
+        return gamesSaved;
+    }
+
     public void setRandomGameParams(boolean randomGameParams) {
         this.randomGameParams = randomGameParams;
     }
@@ -183,10 +183,10 @@ public class BattleloreGameState extends AbstractGameState {
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        BattleloreGameState state = new BattleloreGameState(gameParameters.copy(), getNPlayers());
+        BattleloreGameState state = new BattleloreGameState(gameParameters, getNPlayers());
 
 
-        state.gameBoard = gameBoard.copy();
+        state.gameBoard = gameBoard.emptyCopy();
 
         for (int x = 0; x < gameBoard.getWidth(); x++) {
             for(int y = 0; y < gameBoard.getHeight(); y++) {
@@ -222,7 +222,6 @@ public class BattleloreGameState extends AbstractGameState {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof BattleloreGameState)) return false;
-        if (!super.equals(o)) return false;
         BattleloreGameState that = (BattleloreGameState) o;
         return Arrays.equals(playerScores, that.playerScores) && Objects.equals(gameBoard, that.gameBoard) && Objects.equals(unitTypes, that.unitTypes);
     }
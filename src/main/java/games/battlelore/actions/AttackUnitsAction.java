@@ -48,7 +48,7 @@ public class AttackUnitsAction extends AbstractAction {
             BattleloreGameParameters parameters = (BattleloreGameParameters) state.getGameParameters();
 
             for (int i = 0; i < parameters.troopCountInSquad; i++) {
-                CombatDice.Result result = dice.getResult();
+                CombatDice.Result result = dice.getResult(state.getRnd());
                 if (result == CombatDice.Result.Strike) {
                     if (!parameters.isWeakAttacker(attackerUnits.size())) {
                         defeatedEnemyCount++;
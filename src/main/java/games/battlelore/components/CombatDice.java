@@ -12,13 +12,12 @@ public class CombatDice extends Dice {
         super();
     }
 
-    public int getRandomNumberUsingNextInt (int min, int max) {
-        Random random = new Random();
+    public int getRandomNumberUsingNextInt (int min, int max, Random random) {
         return random.nextInt(max - min) + min;
     }
 
-    public Result getResult() {
-        int value = getRandomNumberUsingNextInt(0, 3);
+    public Result getResult(Random random) {
+        int value = getRandomNumberUsingNextInt(0, 3, random);
         switch(value) {
             case 1:
                 return Result.Strike;
@@ -27,7 +27,7 @@ public class BlackjackForwardModel extends StandardForwardModel {
         //create the playing deck
         bjgs.drawDeck = FrenchCard.generateDeck("DrawDeck", CoreConstants.VisibilityMode.HIDDEN_TO_ALL);
         //shuffle the cards
-        bjgs.drawDeck.shuffle(new Random((bjgs.getGameParameters().getRandomSeed())));
+        bjgs.drawDeck.shuffle(bjgs.getRnd());
 
         bjgs.setFirstPlayer(0);
 
@@ -96,7 +96,7 @@ public class BlackjackGameState extends AbstractGameState implements IPrintable
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        BlackjackGameState copy = new BlackjackGameState(gameParameters.copy(), getNPlayers());
+        BlackjackGameState copy = new BlackjackGameState(gameParameters, getNPlayers());
         copy.playerDecks = new ArrayList<>();
         for (PartialObservableDeck<FrenchCard> d : playerDecks) {
             copy.playerDecks.add(d.copy());
@@ -109,7 +109,7 @@ public class BlackjackGameState extends AbstractGameState implements IPrintable
                     copy.drawDeck.add(copy.playerDecks.get(dealerPlayer).pick(i));
                 }
             }
-            copy.drawDeck.shuffle(new Random(copy.gameParameters.getRandomSeed()));
+            copy.drawDeck.shuffle(getCopyRnd());
             for (int i = 0; i < copy.playerDecks.get(dealerPlayer).getSize(); i++) {
                 if (!copy.playerDecks.get(dealerPlayer).getVisibilityForPlayer(i, playerId)) {
                     copy.playerDecks.get(dealerPlayer).add(copy.drawDeck.draw());
@@ -159,7 +159,6 @@ public class BlackjackGameState extends AbstractGameState implements IPrintable
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof BlackjackGameState)) return false;
-        if (!super.equals(o)) return false;
         BlackjackGameState that = (BlackjackGameState) o;
         return dealerPlayer == that.dealerPlayer && Objects.equals(playerDecks, that.playerDecks) && Objects.equals(drawDeck, that.drawDeck);
     }
@@ -0,0 +1,180 @@
+package games.cantstop;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed, immutable table of every outcome of rolling the four six-sided dice used in Can't Stop.
+ * <p>
+ * For each of the 6^4 = 1296 ordered outcomes we store the three ways of pairing the dice, and the
+ * bitmask of column numbers that any of those pairs reaches (bit n is set for column n, 2 <= n <= 12).
+ * From this we derive the exact bust probability for every possible set of columns on which the current player
+ * can still advance, so that heuristics (and any search that wants to treat a roll as a chance node) can
+ * query this in O(1) rather than sampling rollouts through the ForwardModel.
+ * <p>
+ * This assumes the default CantStopParameters of DICE_NUMBER = 4 and DICE_SIDES = 6 (which is equally
+ * assumed by CantStopForwardModel._computeAvailableActions()).
+ */
+public final class CantStopDiceTable {
+
+    public static final int DICE = 4;
+    public static final int SIDES = 6;
+    public static final int OUTCOMES = 1296; // SIDES ^ DICE
+    public static final int MIN_COLUMN = 2;
+    public static final int MAX_COLUMN = 12;
+    private static final int COLUMN_MASKS = 1 << (MAX_COLUMN - MIN_COLUMN + 1);
+
+    // pairings[outcome][pairing] = {sumA, sumB} for the three ways of splitting four dice into two pairs
+    private static final int[][][] pairings = new int[OUTCOMES][3][2];
+    // bitmask (bit n == column n) of all the columns reachable with this outcome
+    private static final int[] reachableColumns = new int[OUTCOMES];
+    // bust probability, indexed by (activeColumnMask >> MIN_COLUMN)
+    private static final double[] bustProbability = new double[COLUMN_MASKS];
+
+    // The 126 distinct unordered outcomes (sorted dice values) and the number of ordered outcomes each represents
+    private static final int[][] distinctOutcomes;
+    private static final int[] distinctOutcomeWeights;
+
+    static {
+        int[] countByReachable = new int[1 << (MAX_COLUMN + 1)];
+        int[][] distinct = new int[OUTCOMES][];
+        int[] weights = new int[OUTCOMES];
+        int nDistinct = 0;
+        for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+            int[] d = dice(outcome);
+            int[][] p = pairings[outcome];
+            p[0][0] = d[0] + d[1];
+            p[0][1] = d[2] + d[3];
+            p[1][0] = d[0] + d[2];
+            p[1][1] = d[1] + d[3];
+            p[2][0] = d[0] + d[3];
+            p[2][1] = d[1] + d[2];
+            int mask = 0;
+            for (int[] pair : p)
+                mask |= (1 << pair[0]) | (1 << pair[1]);
+            reachableColumns[outcome] = mask;
+            countByReachable[mask]++;
+
+            int[] sorted = d.clone();
+            Arrays.sort(sorted);
+            if (Arrays.equals(sorted, d)) {
+                // first time we have seen this multiset, as the sorted ordering has the lowest outcome index
+                distinct[nDistinct] = sorted;
+                weights[nDistinct] = permutations(sorted);
+                nDistinct++;
+            }
+        }
+        distinctOutcomes = Arrays.copyOf(distinct, nDistinct);
+        distinctOutcomeWeights = Arrays.copyOf(weights, nDistinct);
+
+        for (int active = 0; active < COLUMN_MASKS; active++) {
+            int activeColumns = active << MIN_COLUMN;
+            int busts = 0;
+            for (int mask = 0; mask < countByReachable.length; mask++) {
+                if (countByReachable[mask] > 0 && (mask & activeColumns) == 0)
+                    busts += countByReachable[mask];
+            }
+            bustProbability[active] = busts / (double) OUTCOMES;
+        }
+    }
+
+    private CantStopDiceTable() {
+        // static lookup only
+    }
+
+    /**
+     * @param diceValues the values on the four dice, each in the range 1 to 6
+     * @return the index of this ordered outcome in the range [0, 1296)
+     */
+    public static int outcomeIndex(int[] diceValues) {
+        if (diceValues.length != DICE)
+            throw new IllegalArgumentException("Expected " + DICE + " dice, not " + diceValues.length);
+        int index = 0;
+        for (int v : diceValues) {
+            if (v < 1 || v > SIDES)
+                throw new IllegalArgumentException("Invalid dice value " + v);
+            index = index * SIDES + (v - 1);
+        }
+        return index;
+    }
+
+    /**
+     * @return the dice values for the outcome index (the inverse of outcomeIndex())
+     */
+    public static int[] dice(int outcome) {
+        int[] retValue = new int[DICE];
+        for (int i = DICE - 1; i >= 0; i--) {
+            retValue[i] = outcome % SIDES + 1;
+            outcome /= SIDES;
+        }
+        return retValue;
+    }
+
+    /**
+     * @return The pair of sums for the given pairing (0, 1 or 2) of this outcome.
+     * The returned array is shared, and must not be modified.
+     */
+    public static int[] pairing(int outcome, int pairing) {
+        return pairings[outcome][pairing];
+    }
+
+    /**
+     * @return bitmask with bit n set if column n can be reached by some pair of dice in this outcome
+     */
+    public static int reachableColumns(int outcome) {
+        return reachableColumns[outcome];
+    }
+
+    /**
+     * @param activeColumns bitmask with bit n set for each column n on which the player can currently advance
+     * @return true if this outcome does not allow any of these columns to be advanced
+     */
+    public static boolean isBust(int outcome, int activeColumns) {
+        return (reachableColumns[outcome] & activeColumns) == 0;
+    }
+
+    /**
+     * @param activeColumns bitmask with bit n set for each column n on which the player can currently advance
+     *                      (see CantStopGameState.getActiveColumns())
+     * @return the exact probability that the next roll goes bust
+     */
+    public static double bustProbability(int activeColumns) {
+        return bustProbability[(activeColumns >> MIN_COLUMN) & (COLUMN_MASKS - 1)];
+    }
+
+    /**
+     * @return the number of distinct (unordered) outcomes; 126 for four six-sided dice
+     */
+    public static int distinctOutcomes() {
+        return distinctOutcomes.length;
+    }
+
+    /**
+     * @return the sorted dice values of the i-th distinct outcome. The returned array is shared, and must not be modified.
+     */
+    public static int[] distinctOutcome(int i) {
+        return distinctOutcomes[i];
+    }
+
+    /**
+     * @return the probability of rolling the i-th distinct outcome (in any order); these sum to 1.0
+     */
+    public static double distinctOutcomeProbability(int i) {
+        return distinctOutcomeWeights[i] / (double) OUTCOMES;
+    }
+
+    private static int permutations(int[] sorted) {
+        // 4! divided by the factorial of the size of each group of identical values
+        int retValue = 24;
+        int run = 1;
+        for (int i = 1; i <= sorted.length; i++) {
+            if (i < sorted.length && sorted[i] == sorted[i - 1]) {
+                run++;
+            } else {
+                for (int f = 2; f <= run; f++)
+                    retValue /= f;
+                run = 1;
+            }
+        }
+        return retValue;
+    }
+}
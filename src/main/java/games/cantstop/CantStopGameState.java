@@ -21,7 +21,6 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
     protected int[][] playerMarkerPositions;
     protected Map<Integer, Integer> temporaryMarkerPositions;
     protected List<Dice> dice;
-    protected Random rnd;
 
     private CantStopGameState(CantStopGameState copyFrom) {
         // used by copy method only
@@ -34,11 +33,6 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
         temporaryMarkerPositions = new HashMap<>();
         temporaryMarkerPositions.putAll(copyFrom.temporaryMarkerPositions);
         dice = copyFrom.dice.stream().map(Dice::copy).collect(toList());
-        if (rnd == null) {
-            rnd = new Random(System.currentTimeMillis());
-        } else {
-            rnd = new Random(rnd.nextLong());
-        }
     }
 
     public CantStopGameState(AbstractParameters gameParameters, int nPlayers) {
@@ -51,7 +45,7 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
     }
 
     public void rollDice() {
-        dice.forEach(d -> d.roll(rnd));
+        dice.forEach(d -> d.roll(getRnd()));
     }
 
     public boolean trackComplete(int n) {
@@ -89,6 +83,38 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
         return new ArrayList<>(temporaryMarkerPositions.keySet());
     }
 
+    /**
+     * The columns on which the current player could advance with their next roll. If they still have a spare
+     * temporary marker, then this is every column they have not yet topped out on; otherwise it is only those
+     * columns with a temporary marker that is not yet at the top.
+     *
+     * @return bitmask with bit n set if column n can be advanced (as used by CantStopDiceTable)
+     */
+    public int getActiveColumns() {
+        CantStopParameters params = (CantStopParameters) gameParameters;
+        boolean spareMarker = temporaryMarkerPositions.size() < params.MARKERS;
+        int player = getCurrentPlayer();
+        int retValue = 0;
+        for (int n = 2; n <= 12; n++) {
+            if (completedColumns[n])
+                continue;
+            Integer temp = temporaryMarkerPositions.get(n);
+            if (temp == null && !spareMarker)
+                continue;
+            int position = temp == null ? playerMarkerPositions[player][n] : temp;
+            if (position < params.maxValue(n))
+                retValue |= 1 << n;
+        }
+        return retValue;
+    }
+
+    /**
+     * @return the exact probability that the current player goes bust if they roll the dice now
+     */
+    public double getBustProbability() {
+        return CantStopDiceTable.bustProbability(getActiveColumns());
+    }
+
     @Override
     protected List<Component> _getAllComponents() {
         return Collections.emptyList();  // TODO: Add stuff here if ever needed
@@ -132,7 +158,6 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
                     dice.equals(other.dice) &&
                     Arrays.deepEquals(playerMarkerPositions, other.playerMarkerPositions);
         }
-        // rnd is deliberately excluded
         return false;
     }
 
@@ -142,7 +167,6 @@ public class CantStopGameState extends AbstractGameState implements IPrintable {
         hash = hash * 31 + super.hashCode();
         hash = hash * 31 + Arrays.hashCode(completedColumns);
         hash = hash * 31 + Arrays.deepHashCode(playerMarkerPositions);
-        // rnd is deliberately excluded
         return hash;
     }
 
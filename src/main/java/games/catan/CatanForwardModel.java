@@ -37,7 +37,6 @@ public class CatanForwardModel extends StandardForwardModel {
         CatanGameState state = (CatanGameState) firstState;
         CatanParameters params = (CatanParameters) state.getGameParameters();
         firstState.getCoreGameParameters().setMaxRounds(params.maxRounds);
-        state.rnd = new Random(params.getRandomSeed());
 
         state.setBoard(generateBoard(params));
         state.setGraph(extractGraphFromBoard(state.getBoard(), params));
@@ -97,7 +96,7 @@ public class CatanForwardModel extends StandardForwardModel {
                 state.devCards.add(card);
             }
         }
-        state.devCards.shuffle(state.rnd);
+        state.devCards.shuffle(state.getRnd());
         state.setGamePhase(Setup);
     }
 
@@ -191,7 +190,7 @@ public class CatanForwardModel extends StandardForwardModel {
         int nDice = cp.nDice;
         int rollValue = 0;
         for (int i = 0; i < nDice; i++) {
-            rollValue += gs.rnd.nextInt(n) + 1;
+            rollValue += gs.getRnd().nextInt(n) + 1;
         }
         gs.setRollValue(rollValue);
 
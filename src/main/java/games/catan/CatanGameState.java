@@ -28,7 +28,6 @@ public class CatanGameState extends AbstractGameState {
     protected int longestRoadOwner; // playerID of the player currently holding the longest road
     protected int longestRoadLength, largestArmySize;
     int rollValue;
-    protected Random rnd;
 
     List<HashMap<CatanParameters.Resource, Counter>> playerResources;
     List<HashMap<BuyAction.BuyType, Counter>> playerTokens;
@@ -106,7 +105,6 @@ public class CatanGameState extends AbstractGameState {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof CatanGameState)) return false;
-        if (!super.equals(o)) return false;
         CatanGameState that = (CatanGameState) o;
         return largestArmyOwner == that.largestArmyOwner && longestRoadOwner == that.longestRoadOwner && longestRoadLength == that.longestRoadLength && largestArmySize == that.largestArmySize && rollValue == that.rollValue && developmentCardPlayed == that.developmentCardPlayed && negotiationStepsCount == that.negotiationStepsCount && nTradesThisTurn == that.nTradesThisTurn && Arrays.deepEquals(board, that.board) && Objects.equals(catanGraph, that.catanGraph) && Arrays.equals(scores, that.scores) && Arrays.equals(victoryPoints, that.victoryPoints) && Arrays.equals(knights, that.knights) && Arrays.equals(roadLengths, that.roadLengths) && Objects.equals(exchangeRates, that.exchangeRates) && Objects.equals(playerResources, that.playerResources) && Objects.equals(playerTokens, that.playerTokens) && Objects.equals(playerDevCards, that.playerDevCards) && Objects.equals(resourcePool, that.resourcePool) && Objects.equals(devCards, that.devCards) && Objects.equals(tradeOffer, that.tradeOffer);
     }
@@ -396,7 +394,7 @@ public class CatanGameState extends AbstractGameState {
 
     @Override
     protected CatanGameState _copy(int playerId) {
-        CatanGameState copy = new CatanGameState(getGameParameters().copy(), getNPlayers());
+        CatanGameState copy = new CatanGameState(gameParameters, getNPlayers());
         copy.gamePhase = gamePhase;
         copy.board = copyBoard();
         copy.catanGraph = catanGraph.copy();
@@ -483,7 +481,6 @@ public class CatanGameState extends AbstractGameState {
         copy.longestRoadOwner = longestRoadOwner;
         copy.rollValue = rollValue;
         copy.nTradesThisTurn = nTradesThisTurn;
-        copy.rnd = new Random(copy.getGameParameters().getRandomSeed());
 
         copy.developmentCardPlayed = developmentCardPlayed;
 
@@ -495,7 +492,7 @@ public class CatanGameState extends AbstractGameState {
         // PO
         if (playerId != -1 || !getCoreGameParameters().partialObservable) {
             // Combine dev cards with those in hand of unknown players. Shuffle and re-deal to players.
-            copy.shuffleDevelopmentCards(playerId);
+            copy.shuffleDevelopmentCards(playerId, getCopyRnd());
 
             // Resources in hand are hidden
             for (int i = 0; i < nPlayers; i++) {
@@ -503,7 +500,7 @@ public class CatanGameState extends AbstractGameState {
                     int nInHand = getNResourcesInHand(i);
                     for (int j = 0; j < nInHand; j++) {
                         if (availableRes.size() == 0) break;
-                        CatanParameters.Resource r = availableRes.remove(rnd.nextInt(availableRes.size()));
+                        CatanParameters.Resource r = availableRes.remove(getCopyRnd().nextInt(availableRes.size()));
                         copy.playerResources.get(i).get(r).increment();
                     }
                 }
@@ -528,7 +525,7 @@ public class CatanGameState extends AbstractGameState {
         return scores[playerId];
     }
 
-    private void shuffleDevelopmentCards(int playerId) {
+    private void shuffleDevelopmentCards(int playerId, Random rnd) {
         // Dev cards in hand are hidden and shuffled with the main deck
         int[][] turnCardsWereBoughtIn = new int[nPlayers][];
         for (int p = 0; p < getNPlayers(); p++) {
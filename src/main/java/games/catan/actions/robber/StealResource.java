@@ -25,7 +25,7 @@ public class StealResource extends AbstractAction {
     @Override
     public boolean execute(AbstractGameState gs) {
         CatanGameState cgs = (CatanGameState)gs;
-        Random random = new Random(gs.getGameParameters().getRandomSeed());
+        Random random = gs.getRnd();
         int nResTarget = cgs.getNResourcesInHand(targetPlayerID);
         if (nResTarget == 0){
             cgs.setGamePhase(Main);
@@ -25,7 +25,7 @@ public class ColtExpressForwardModel extends StandardForwardModelWithTurnOrder {
 
     @Override
     public void _setup(AbstractGameState firstState) {
-        Random rnd = new Random(firstState.getGameParameters().getRandomSeed());
+        Random rnd = firstState.getRnd();
         ColtExpressGameState cegs = (ColtExpressGameState) firstState;
         ColtExpressParameters cep = (ColtExpressParameters) firstState.getGameParameters();
 
@@ -64,7 +64,7 @@ public class ColtExpressForwardModel extends StandardForwardModelWithTurnOrder {
                 }
             }
             cegs.playerDecks.add(playerCards);
-            playerCards.shuffle(new Random(cep.getRandomSeed() + playerIndex));
+            playerCards.shuffle(rnd);
 
             Deck<ColtExpressCard> playerHand = new Deck<>("playerHand" + playerIndex, playerIndex, VisibilityMode.VISIBLE_TO_OWNER);
 
@@ -97,13 +97,12 @@ public class ColtExpressForwardModel extends StandardForwardModelWithTurnOrder {
         // Add 1 random end round card
         // A deck works on a First In Last Out basis - so we deal the last card to be drawn first (it goes to the bottom of the deck
 
-        cegs.rounds.add(cegs.getRandomEndRoundCard(cep));
+        cegs.rounds.add(cegs.getRandomEndRoundCard(cep, cegs.getRnd()));
 
         // Add random round cards
         ArrayList<ColtExpressTypes.RegularRoundCard> availableRounds = new ArrayList<>(Arrays.asList(cep.roundCards));
         for (int i = 0; i < cep.nMaxRounds - 1; i++) {
-            Random r = new Random(cep.getRandomSeed() + cegs.getTurnOrder().getRoundCounter() + i);
-            int choice = r.nextInt(availableRounds.size());
+            int choice = cegs.getRnd().nextInt(availableRounds.size());
             cegs.rounds.add(cegs.getRoundCard(availableRounds.get(choice), cegs.getNPlayers()));
             availableRounds.remove(availableRounds.get(choice));
         }
@@ -493,18 +492,18 @@ public class ColtExpressForwardModel extends StandardForwardModelWithTurnOrder {
 
     private void setupTrain(ColtExpressGameState cegs) {
         // Choose random compartment configurations
-        Random random = new Random(cegs.getGameParameters().getRandomSeed());
+        Random random = cegs.getRnd();
         ArrayList<Integer> availableCompartments = new ArrayList<>();
         for (int i = 0; i < ((ColtExpressParameters) cegs.getGameParameters()).trainCompartmentConfigurations.size() - 1; i++) {
             availableCompartments.add(i);
         }
         for (int i = 0; i < cegs.getNPlayers(); i++) {
             int which = random.nextInt(availableCompartments.size());
-            cegs.trainCompartments.add(new Compartment(cegs.getNPlayers(), i, which, (ColtExpressParameters) cegs.getGameParameters()));
+            cegs.trainCompartments.add(new Compartment(cegs.getNPlayers(), i, which, (ColtExpressParameters) cegs.getGameParameters(), random));
             availableCompartments.remove(Integer.valueOf(which));
         }
 
         // Add locomotive
-        cegs.trainCompartments.add(Compartment.createLocomotive(cegs.getNPlayers(), (ColtExpressParameters) cegs.getGameParameters()));
+        cegs.trainCompartments.add(Compartment.createLocomotive(cegs.getNPlayers(), (ColtExpressParameters) cegs.getGameParameters(), random));
     }
 }
@@ -46,14 +46,12 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
     // The round cards
     PartialObservableDeck<RoundCard> rounds;
 
-    Random rnd;
 
     public ColtExpressGameState(AbstractParameters gameParameters, int nPlayers) {
         super(gameParameters, nPlayers);
         gamePhase = ColtExpressGamePhase.PlanActions;
         trainCompartments = new LinkedList<>();
         playerPlayingBelle = -1;
-        rnd = new Random(gameParameters.getRandomSeed());
     }
     @Override
     protected TurnOrder _createTurnOrder(int nPlayers) {
@@ -114,7 +112,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
                     copy.playerDecks.get(i).add(copy.playerHandCards.get(i));
                     int nCardsInHand = copy.playerHandCards.get(i).getSize();
                     copy.playerHandCards.get(i).clear();
-                    copy.playerDecks.get(i).shuffle(rnd);
+                    copy.playerDecks.get(i).shuffle(getCopyRnd());
                     for (int j = 0; j < nCardsInHand; j++) {
                         copy.playerHandCards.get(i).add(copy.playerDecks.get(i).draw());
                     }
@@ -128,7 +126,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
                     // Random value for loot of this same type
                     Loot realLoot = playerLoot.get(i).get(j);
                     ArrayList<Pair<Integer, Integer>> lootOptions = ((ColtExpressParameters) copy.gameParameters).loot.get(realLoot.getLootType());
-                    int randomValue = lootOptions.get(rnd.nextInt(lootOptions.size())).a;
+                    int randomValue = lootOptions.get(getCopyRnd().nextInt(lootOptions.size())).a;
                     dLoot.add(new Loot(realLoot.getLootType(), randomValue));
                 }
             }
@@ -143,14 +141,14 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
                     // Random value for loot of this same type
                     Loot realLoot = realCompartment.lootOnTop.get(j);
                     ArrayList<Pair<Integer, Integer>> lootOptions = ((ColtExpressParameters) copy.gameParameters).loot.get(realLoot.getLootType());
-                    int randomValue = lootOptions.get(rnd.nextInt(lootOptions.size())).a;
+                    int randomValue = lootOptions.get(getCopyRnd().nextInt(lootOptions.size())).a;
                     copyCompartment.lootOnTop.add(new Loot(realLoot.getLootType(), randomValue));
                 }
                 for (int j = 0; j < realCompartment.lootInside.getSize(); j++) {
                     // Random value for loot of this same type
                     Loot realLoot = realCompartment.lootInside.get(j);
                     ArrayList<Pair<Integer, Integer>> lootOptions = ((ColtExpressParameters) copy.gameParameters).loot.get(realLoot.getLootType());
-                    int randomValue = lootOptions.get(rnd.nextInt(lootOptions.size())).a;
+                    int randomValue = lootOptions.get(getCopyRnd().nextInt(lootOptions.size())).a;
                     copyCompartment.lootInside.add(new Loot(realLoot.getLootType(), randomValue));
                 }
             }
@@ -175,7 +173,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
             // Then we randomise the invisible ones
             for (Map.Entry<Integer, ArrayList<Integer>> e : cardReplacements.entrySet()) {
                 // loop over each player, and shuffle their decks (which now includes all cards we can't see)
-                copy.playerDecks.get(e.getKey()).shuffle(rnd);
+                copy.playerDecks.get(e.getKey()).shuffle(getCopyRnd());
                 Deck<ColtExpressCard> bulletCards = new Deck<>("tempDeck", VisibilityMode.HIDDEN_TO_ALL);
                 for (int i : e.getValue()) {
                     // This might be a bullet card...
@@ -189,7 +187,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
                 }
                 // then we put the bullet cards back into the player deck and reshuffle
                 copy.playerDecks.get(e.getKey()).add(bulletCards);
-                copy.playerDecks.get(e.getKey()).shuffle(rnd);
+                copy.playerDecks.get(e.getKey()).shuffle(getCopyRnd());
             }
 
             // Round cards are hidden for subsequent rounds, randomize those
@@ -199,9 +197,9 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
             for (int i = 0; i < rounds.getSize(); i++) {
                 if (!rounds.isComponentVisible(i, playerId)) {
                     if (i == rounds.getSize() - 1) { // last card, so use an End Round Card
-                        copy.rounds.setComponent(i, getRandomEndRoundCard((ColtExpressParameters) getGameParameters()));
+                        copy.rounds.setComponent(i, getRandomEndRoundCard((ColtExpressParameters) getGameParameters(), getCopyRnd()));
                     } else {
-                        copy.rounds.setComponent(i, getRandomRoundCard((ColtExpressParameters) getGameParameters(), i, exclusionList));
+                        copy.rounds.setComponent(i, getRandomRoundCard((ColtExpressParameters) getGameParameters(), i, exclusionList, getCopyRnd()));
                         exclusionList.add(copy.rounds.get(i));
                     }
                 }
@@ -251,7 +249,6 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
     protected boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ColtExpressGameState)) return false;
-        if (!super.equals(o)) return false;
         ColtExpressGameState gameState = (ColtExpressGameState) o;
         return playerPlayingBelle == gameState.playerPlayingBelle &&
                 Objects.equals(playerHandCards, gameState.playerHandCards) &&
@@ -439,7 +436,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
      * Helper getter methods for round card composition.
      */
 
-    RoundCard getRandomEndRoundCard(ColtExpressParameters cep) {
+    RoundCard getRandomEndRoundCard(ColtExpressParameters cep, Random rnd) {
         int nEndCards = cep.endRoundCards.length;
         int choice = rnd.nextInt(nEndCards);
         return getEndRoundCard(cep, choice);
@@ -454,7 +451,7 @@ public class ColtExpressGameState extends AbstractGameStateWithTurnOrder impleme
         return null;
     }
 
-    RoundCard getRandomRoundCard(ColtExpressParameters cep, int i, List<RoundCard> exclusionList) {
+    RoundCard getRandomRoundCard(ColtExpressParameters cep, int i, List<RoundCard> exclusionList, Random rnd) {
         List<String> namesToExclude = exclusionList.stream().map(RoundCard::getComponentName).collect(toList());
         List<ColtExpressTypes.RegularRoundCard> availableTypes = Arrays.stream(cep.roundCards)
                 .filter(rc -> !namesToExclude.contains(rc.name())).collect(toList());
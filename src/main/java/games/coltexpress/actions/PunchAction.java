@@ -80,7 +80,7 @@ public class PunchAction  extends DrawCard {
             }
 
             if (potentialLoot.size() > 0){
-                Random r = new Random(gameState.getGameParameters().getRandomSeed());
+                Random r = gameState.getRnd();
                 Loot chosenLoot = potentialLoot.get(r.nextInt(potentialLoot.size()));
                 if (playerIsCheyenne && loot == ColtExpressTypes.LootType.Purse)
                     ((ColtExpressGameState) gameState).addLoot(card.playerID, chosenLoot);
@@ -16,7 +16,7 @@ public class EndCardPickPocket extends RoundEvent {
     @Override
     public boolean execute(AbstractGameState gs) {
         ColtExpressGameState gameState = (ColtExpressGameState) gs;
-        Random random = new Random(gs.getGameParameters().getRandomSeed());
+        Random random = gs.getRnd();
 
         LinkedList<Compartment> train = gameState.getTrainCompartments();
         for (Compartment currentCompartment : train) {
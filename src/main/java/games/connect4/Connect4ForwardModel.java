@@ -4,6 +4,7 @@ import core.CoreConstants;
 import core.actions.AbstractAction;
 import core.actions.SetGridValueAction;
 import core.components.GridBoard;
+import core.components.PaletteGridBoard;
 import core.components.Token;
 import core.forwardModels.SequentialActionForwardModel;
 import utilities.Pair;
@@ -21,7 +22,11 @@ public class Connect4ForwardModel extends SequentialActionForwardModel {
         Connect4GameParameters c4gp = (Connect4GameParameters) firstState.getGameParameters();
         int gridSize = c4gp.gridSize;
         Connect4GameState state = (Connect4GameState) firstState;
-        state.gridBoard = new GridBoard<>(gridSize, gridSize, new Token(Connect4Constants.emptyCell));
+        Token emptyCell = new Token(Connect4Constants.emptyCell);
+        List<Token> palette = new ArrayList<>();
+        palette.add(emptyCell);
+        palette.addAll(Connect4Constants.playerMapping);
+        state.gridBoard = new PaletteGridBoard<>(gridSize, gridSize, palette, emptyCell);
         state.winnerCells = new LinkedList<>();
     }
 
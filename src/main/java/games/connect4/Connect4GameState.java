@@ -43,7 +43,7 @@ public class Connect4GameState extends AbstractGameState implements IPrintable,
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        Connect4GameState s = new Connect4GameState(gameParameters.copy(), getNPlayers());
+        Connect4GameState s = new Connect4GameState(gameParameters, getNPlayers());
         s.gridBoard = gridBoard.copy();
 
         s.winnerCells.clear();
@@ -75,7 +75,6 @@ public class Connect4GameState extends AbstractGameState implements IPrintable,
     protected boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Connect4GameState)) return false;
-        if (!super.equals(o)) return false;
         Connect4GameState that = (Connect4GameState) o;
         return Objects.equals(gridBoard, that.gridBoard);
     }
@@ -24,7 +24,7 @@ public class DiamantForwardModel extends StandardForwardModel implements ITreeAc
     @Override
     protected void _setup(AbstractGameState firstState) {
         DiamantGameState dgs = (DiamantGameState) firstState;
-        Random r = new Random(dgs.getGameParameters().getRandomSeed());
+        Random r = dgs.getRnd();
         dgs._reset();
 
         for (int i = 0; i < dgs.getNPlayers(); i++) {
@@ -156,7 +156,7 @@ public class DiamantForwardModel extends StandardForwardModel implements ITreeAc
         if (dgs.nCave == dp.nCaves)
             endGame(dgs);
         else {
-            Random r = new Random(dgs.getGameParameters().getRandomSeed());
+            Random r = dgs.getRnd();
 
             // Move path cards to maindeck and shuffle
             dgs.mainDeck.add(dgs.path);
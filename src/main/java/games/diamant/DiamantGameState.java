@@ -87,9 +87,9 @@ public class DiamantGameState extends AbstractGameState implements IPrintable {
     @Override
     protected AbstractGameState _copy(int playerId)
     {
-        Random r = new Random(getGameParameters().getRandomSeed());
+        Random r = getCopyRnd();
 
-        DiamantGameState dgs = new DiamantGameState(gameParameters.copy(), getNPlayers());
+        DiamantGameState dgs = new DiamantGameState(gameParameters, getNPlayers());
 
         dgs.mainDeck    = mainDeck.copy();
         dgs.discardDeck = discardDeck.copy();
@@ -127,7 +127,7 @@ public class DiamantGameState extends AbstractGameState implements IPrintable {
         // mainDeck and is actionsPlayed are hidden.
         if (getCoreGameParameters().partialObservable && playerId != -1)
         {
-            dgs.mainDeck.shuffle(new Random(getGameParameters().getRandomSeed()));
+            dgs.mainDeck.shuffle(getCopyRnd());
 
             dgs.actionsPlayed.clear();
 
@@ -194,7 +194,6 @@ public class DiamantGameState extends AbstractGameState implements IPrintable {
     {
         if (this == o)                        return true;
         if (!(o instanceof DiamantGameState)) return false;
-        if (!super.equals(o))                 return false;
 
         DiamantGameState that = (DiamantGameState) o;
 
@@ -1,9 +1,10 @@
 package games.diamant.cards;
 
 import core.components.Card;
+import core.interfaces.IImmutableComponent;
 
 // Diamant Cards
-public class DiamantCard extends Card {
+public class DiamantCard extends Card implements IImmutableComponent {
 
     public enum DiamantCardType {
         Treasure,
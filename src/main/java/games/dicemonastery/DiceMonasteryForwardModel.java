@@ -81,15 +81,15 @@ public class DiceMonasteryForwardModel extends StandardForwardModel {
             deck.add(Pilgrimage.create(c));
         }
 
-        state.pilgrimageDecks.get(0).shuffle(state.rnd);
-        state.pilgrimageDecks.get(1).shuffle(state.rnd);
+        state.pilgrimageDecks.get(0).shuffle(state.getRnd());
+        state.pilgrimageDecks.get(1).shuffle(state.getRnd());
 
         state.marketCards.clear();
         rawDeck = _data.findDeck("Market");
         for (Card c : rawDeck.getComponents()) {
             state.marketCards.add(MarketCard.create(c));
         }
-        state.marketCards.shuffle(state.rnd);
+        state.marketCards.shuffle(state.getRnd());
 
         int playerCount = state.getNPlayers();
         state.forageCards.clear();
@@ -97,7 +97,7 @@ public class DiceMonasteryForwardModel extends StandardForwardModel {
         for (Card c : rawDeck.getComponents()) {
             state.forageCards.add(ForageCard.create(c, playerCount));
         }
-        state.forageCards.shuffle(state.rnd);
+        state.forageCards.shuffle(state.getRnd());
 
         rawDeck = _data.findDeck("Texts");
         for (Card c : rawDeck.getComponents()) {
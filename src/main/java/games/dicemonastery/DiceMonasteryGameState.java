@@ -25,7 +25,7 @@ import static java.util.stream.Collectors.summingInt;
 public class DiceMonasteryGameState extends AbstractGameState {
 
 
-    Map<ActionArea, DMArea> actionAreas = new HashMap<>();
+    Map<ActionArea, DMArea> actionAreas = new EnumMap<>(ActionArea.class);
     Map<Integer, Monk> allMonks = new HashMap<>();
     Map<Integer, ActionArea> monkLocations = new HashMap<>();
     List<EnumMap<Resource, Integer>> playerTreasuries = new ArrayList<>();
@@ -41,7 +41,6 @@ public class DiceMonasteryGameState extends AbstractGameState {
     int[] victoryPoints;
     Season season = SPRING;
     int year = 1;
-    Random rnd;
 
     ActionArea currentAreaBeingExecuted = null;
     List<Integer> playerOrderForCurrentArea;
@@ -52,7 +51,6 @@ public class DiceMonasteryGameState extends AbstractGameState {
 
     public DiceMonasteryGameState(AbstractParameters gameParameters, int nPlayers) {
         super(gameParameters, nPlayers);
-        rnd = new Random(gameParameters.getRandomSeed());
     }
 
     @Override
@@ -61,7 +59,7 @@ public class DiceMonasteryGameState extends AbstractGameState {
     }
 
     protected void _reset() {
-        actionAreas = new HashMap<>();
+        actionAreas = new EnumMap<>(ActionArea.class);
         Arrays.stream(ActionArea.values()).forEach(a ->
                 actionAreas.put(a, new DMArea(-1, a.name()))
         );
@@ -439,7 +437,7 @@ public class DiceMonasteryGameState extends AbstractGameState {
             if (key.dieMinimum > 0) {
                 DMArea area = actionAreas.get(key);
                 for (int i = 0; i < tokensPerArea; i++) {
-                    area.setToken(i, drawToken(rnd));
+                    area.setToken(i, drawToken(getRnd()));
                 }
             }
         }
@@ -623,8 +621,7 @@ public class DiceMonasteryGameState extends AbstractGameState {
     */
     @Override
     protected DiceMonasteryGameState _copy(int playerId) {
-        DiceMonasteryGameState retValue = new DiceMonasteryGameState(gameParameters.copy(), getNPlayers());
-        rnd = new Random(System.currentTimeMillis());
+        DiceMonasteryGameState retValue = new DiceMonasteryGameState(gameParameters, getNPlayers());
         for (ActionArea a : actionAreas.keySet()) {
             retValue.actionAreas.put(a, actionAreas.get(a).copy());
         }
@@ -651,13 +648,13 @@ public class DiceMonasteryGameState extends AbstractGameState {
         retValue.marketCards = marketCards.copy();
         if (playerId != -1 && marketCards.getSize() > 1) { // shuffle all except the top card
             MarketCard topCard = retValue.marketCards.draw();
-            retValue.marketCards.shuffle(rnd);
+            retValue.marketCards.shuffle(getCopyRnd());
             retValue.marketCards.add(topCard);
         }
         retValue.forageCards = forageCards.copy();
         if (playerId != -1 && forageCards.getSize() > 1) { // shuffle all except the top card
             ForageCard topCard = retValue.forageCards.draw();
-            retValue.forageCards.shuffle(rnd);
+            retValue.forageCards.shuffle(getCopyRnd());
             retValue.forageCards.add(topCard);
         }
 
@@ -668,7 +665,7 @@ public class DiceMonasteryGameState extends AbstractGameState {
             Deck<Pilgrimage> copyDeck = pilgrimDeck.copy();
             if (playerId != -1 && copyDeck.getSize() > 1) {// only top card is visible, so shuffle if copied from any player's perspective
                 Pilgrimage topCard = copyDeck.draw();
-                copyDeck.shuffle(rnd);
+                copyDeck.shuffle(getCopyRnd());
                 copyDeck.add(topCard);
             }
             retValue.pilgrimageDecks.add(copyDeck);
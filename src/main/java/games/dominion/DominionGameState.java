@@ -25,7 +25,6 @@ import static java.util.stream.Collectors.toList;
 
 public class DominionGameState extends AbstractGameState implements IPrintable {
 
-    Random rnd;
     int playerCount;
     DominionParameters params;
     // Counts of cards on the table should be fine
@@ -43,6 +42,13 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
     int spentSoFar = 0;
     int additionalSpendAvailable = 0;
     List<IDelayedAction> delayedActions = new ArrayList<>();
+    // Index of the number of cards of each type in each deck: cardCounts[player][deckType][cardType], with the
+    // trash pile held under player 0. An entry is valid while countedDecks/countedModCounts still match the deck;
+    // addCard(), drawCard() and moveCard() keep it up to date, and any other change to a deck triggers a recount
+    // the next time that deck is queried. None of this is part of the game state for equals() or hashCode().
+    int[][][] cardCounts;
+    Deck<?>[][] countedDecks;  // only compared by identity, so the type of card is not needed
+    int[][] countedModCounts;
 
 
     /**
@@ -53,7 +59,6 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
      */
     public DominionGameState(AbstractParameters gameParameters, int nPlayers) {
         super(gameParameters, nPlayers);
-        rnd = new Random(gameParameters.getRandomSeed());
         playerCount = nPlayers;
         defenceStatus = new boolean[nPlayers];  // defaults to false
         params = (DominionParameters) gameParameters;
@@ -76,7 +81,10 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
     public void addCard(CardType type, int playerId, DeckType deckType) {
         DominionCard newCard = DominionCard.create(type);
         Deck<DominionCard> deck = getDeck(deckType, playerId);
+        int[] counts = cardCounts(deckType, playerId);
         deck.add(newCard);
+        counts[type.ordinal()]++;
+        countsUpdated(deckType, playerId);
     }
 
 
@@ -100,30 +108,44 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
                     return false;
                 source.add(discard);
                 discard.clear();
-                source.shuffle(rnd);
+                source.shuffle(getRnd());
             } else {
                 return false;
             }
         }
+        int[] sourceCounts = cardCounts(fromDeck, fromPlayer);
+        int[] destinationCounts = cardCounts(toDeck, toPlayer);
         DominionCard cardDrawn = source.draw();
         destination.add(cardDrawn);
+        sourceCounts[cardDrawn.cardType().ordinal()]--;
+        destinationCounts[cardDrawn.cardType().ordinal()]++;
+        countsUpdated(fromDeck, fromPlayer);
+        countsUpdated(toDeck, toPlayer);
         return true;
     }
 
     public boolean moveCard(CardType type, int fromPlayer, DeckType fromDeck, int toPlayer, DeckType toDeck) {
-        DominionCard cardToMove = getDeck(fromDeck, fromPlayer).stream()
-                .filter(c -> c.cardType() == type)
-                .findFirst().orElse(null);
-        if (cardToMove == null)
+        if (cardCounts(fromDeck, fromPlayer)[type.ordinal()] == 0)
             return false;
-
-        return moveCard(cardToMove, fromPlayer, fromDeck, toPlayer, toDeck);
+        Deck<DominionCard> source = getDeck(fromDeck, fromPlayer);
+        for (int i = 0; i < source.getSize(); i++) {
+            DominionCard card = source.get(i);
+            if (card.cardType() == type)
+                return moveCard(card, fromPlayer, fromDeck, toPlayer, toDeck);
+        }
+        return false;
     }
 
     public boolean moveCard(DominionCard cardToMove, int fromPlayer, DeckType fromDeck, int toPlayer, DeckType toDeck) {
+        int[] sourceCounts = cardCounts(fromDeck, fromPlayer);
+        int[] destinationCounts = cardCounts(toDeck, toPlayer);
         boolean cardFound = getDeck(fromDeck, fromPlayer).remove(cardToMove);
         if (cardFound) {
             getDeck(toDeck, toPlayer).add(cardToMove);
+            sourceCounts[cardToMove.cardType().ordinal()]--;
+            destinationCounts[cardToMove.cardType().ordinal()]++;
+            countsUpdated(fromDeck, fromPlayer);
+            countsUpdated(toDeck, toPlayer);
             return true;
         }
         return false;
@@ -199,7 +221,6 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
     }
 
     public int cardsOfType(CardType type, int playerId, DeckType deck) {
-        Deck<DominionCard> allCards;
         switch (deck) {
             case SUPPLY:
                 return cardsIncludedInGame.getOrDefault(type, 0);
@@ -208,20 +229,86 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
             case DRAW:
             case DISCARD:
             case TRASH:
-                allCards = getDeck(deck, playerId);
-                break;
+                return cardCounts(deck, playerId)[type.ordinal()];
             case ALL:
-                allCards = new Deck<>("temp", VISIBLE_TO_ALL);
-                allCards.add(playerHands[playerId]);
-                allCards.add(playerDiscards[playerId]);
-                allCards.add(playerDrawPiles[playerId]);
-                allCards.add(playerTableaux[playerId]);
-                break;
+                int t = type.ordinal();
+                return cardCounts(DeckType.HAND, playerId)[t] + cardCounts(DeckType.DISCARD, playerId)[t] +
+                        cardCounts(DeckType.DRAW, playerId)[t] + cardCounts(DeckType.TABLE, playerId)[t];
             default:
                 throw new IllegalStateException("Unexpected value: " + deck);
         }
+    }
+
+    /**
+     * @return the number of cards of each CardType (by ordinal) in the deck, recounting it if it has been changed
+     * since it was last counted. The array is live, and must not be modified by the caller.
+     */
+    private int[] cardCounts(DeckType deckType, int playerId) {
+        int p = deckType == DeckType.TRASH ? 0 : playerId;
+        int d = deckType.ordinal();
+        Deck<DominionCard> deck = getDeck(deckType, playerId);
+        int[] counts = cardCounts[p][d];
+        if (countedDecks[p][d] != deck || countedModCounts[p][d] != deck.getModCount()) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < deck.getSize(); i++)
+                counts[deck.get(i).cardType().ordinal()]++;
+            countedDecks[p][d] = deck;
+            countedModCounts[p][d] = deck.getModCount();
+        }
+        return counts;
+    }
+
+    // To be called once the counts for a deck have been updated to reflect a change just made to it
+    private void countsUpdated(DeckType deckType, int playerId) {
+        int p = deckType == DeckType.TRASH ? 0 : playerId;
+        countedModCounts[p][deckType.ordinal()] = getDeck(deckType, playerId).getModCount();
+    }
+
+    // Copies the card counts of a deck that has the same contents in the other state (the deck itself differs)
+    private void copyCardCounts(DominionGameState from, DeckType deckType, int playerId) {
+        int p = deckType == DeckType.TRASH ? 0 : playerId;
+        int d = deckType.ordinal();
+        int[] counts = from.cardCounts(deckType, playerId);
+        System.arraycopy(counts, 0, cardCounts[p][d], 0, counts.length);
+        countedDecks[p][d] = getDeck(deckType, playerId);
+        countedModCounts[p][d] = countedDecks[p][d].getModCount();
+    }
 
-        return (int) allCards.stream().filter(c -> c.cardType() == type).count();
+    @Override
+    protected boolean _redeterminise(int playerId, Random rnd) {
+        for (int p = 0; p < playerCount; p++) {
+            if (playerId == p) {
+                // need to shuffle drawpile separately
+                playerDrawPiles[p].shuffleVisible(rnd, p, false);
+            } else {
+                // need to combine and shuffle hands and drawpiles
+                PartialObservableDeck<DominionCard> hand = playerHands[p];
+                PartialObservableDeck<DominionCard> oldHand = hand.copy();
+                for (int i = 0; i < hand.getSize(); i++) {
+                    // if we (the perspective player) can see the card, then we need to keep it in place
+                    // if not then we move it to the *bottom* of the drawpile (this is the end of an ArrayList...so more efficient?)
+                    if (!hand.getVisibilityForPlayer(i, playerId)) {
+                        playerDrawPiles[p].add(hand.get(i), playerDrawPiles[p].getSize());
+                    }
+                }
+                // we have now moved all the non-visible Hand cards into the Draw pile to reshuffle
+                hand.clear(); // we will need to reconstruct this, including visibility status in a sec
+                // we then reshuffle all the non-visible cards
+                playerDrawPiles[p].shuffleVisible(rnd, playerId, false);
+                // we then remove cards from the top of the shuffled draw pile (in the region we know is not visible)
+                for (int i = 0; i < oldHand.getSize(); i++) {
+                    if (!oldHand.getVisibilityForPlayer(i, playerId)) {
+                        // we then pick cards from the end of the drawpile List and add them to the Hand
+                        // possibly more efficient picking from the end of an ArrayList?
+                        hand.add(playerDrawPiles[p].pick(playerDrawPiles[p].getSize() - 1), i);
+                    } else {
+                        // we know what this card is, so copy over visibility status
+                        hand.add(oldHand.get(i), oldHand.getVisibilityOfComponent(i).clone());
+                    }
+                }
+            }
+        }
+        return true;
     }
 
     public List<CardType> cardsToBuy() {
@@ -258,50 +345,28 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
      */
     @Override
     protected AbstractGameState _copy(int playerId) {
-        DominionGameState retValue = new DominionGameState(gameParameters.copy(), playerCount);
+        DominionGameState retValue = new DominionGameState(gameParameters, playerCount);
         for (CardType ct : cardsIncludedInGame.keySet()) {
             retValue.cardsIncludedInGame.put(ct, cardsIncludedInGame.get(ct));
         }
         for (int p = 0; p < playerCount; p++) {
-            if (playerId == -1) {
-                retValue.playerHands[p] = playerHands[p].copy();
-                retValue.playerDrawPiles[p] = playerDrawPiles[p].copy();
-            } else if (playerId == p) {
-                // need to shuffle drawpile separately
-                retValue.playerHands[p] = playerHands[p].copy();
-                retValue.playerDrawPiles[p] = playerDrawPiles[p].copy();
-                retValue.playerDrawPiles[p].shuffleVisible(rnd, p, false);
-            } else {
-                // need to combine and shuffle hands and drawpiles
-                retValue.playerDrawPiles[p] = playerDrawPiles[p].copy();
-                retValue.playerHands[p] = playerHands[p].copy();
-                for (int i = 0; i < retValue.playerHands[p].getSize(); i++) {
-                    // if we (the perspective player) can see the card, then we need to keep it in place
-                    // if not then we move it to the *bottom* of the drawpile (this is the end of an ArrayList...so more efficient?)
-                    if (!retValue.playerHands[p].getVisibilityForPlayer(i, playerId)) {
-                        retValue.playerDrawPiles[p].add(retValue.playerHands[p].get(i), retValue.playerDrawPiles[p].getSize());
-                    }
-                }
-                // we have now moved all the non-visible Hand cards into the Draw pile to reshuffle
-                retValue.playerHands[p].clear(); // we will need to reconstruct this, including visibility status in a sec
-                // we then reshuffle all the non-visible cards
-                retValue.playerDrawPiles[p].shuffleVisible(rnd, playerId, false);
-                // we then remove cards from the top of the shuffled draw pile (in the region we know is not visible)
-                for (int i = 0; i < playerHands[p].getSize(); i++) {
-                    if (!playerHands[p].getVisibilityForPlayer(i, playerId)) {
-                        // we then pick cards from the end of the drawpile List and add them to the Hand
-                        // possibly more efficient picking from the end of an ArrayList?
-                        retValue.playerHands[p].add(retValue.playerDrawPiles[p].pick(retValue.playerDrawPiles[p].getSize() - 1), i);
-                    } else {
-                        // we know what this card is, so copy over visibility status
-                        retValue.playerHands[p].add(playerHands[p].get(i).copy(), playerHands[p].getVisibilityOfComponent(i).clone());
-                    }
-                }
-            }
+            retValue.playerHands[p] = playerHands[p].copy();
+            retValue.playerDrawPiles[p] = playerDrawPiles[p].copy();
             retValue.playerDiscards[p] = playerDiscards[p].copy();
             retValue.playerTableaux[p] = playerTableaux[p].copy();
         }
         retValue.trashPile = trashPile.copy();
+        // all decks have the same contents; those redeterminised below are recounted when next needed
+        for (int p = 0; p < playerCount; p++) {
+            retValue.copyCardCounts(this, DeckType.HAND, p);
+            retValue.copyCardCounts(this, DeckType.DRAW, p);
+            retValue.copyCardCounts(this, DeckType.DISCARD, p);
+            retValue.copyCardCounts(this, DeckType.TABLE, p);
+        }
+        retValue.copyCardCounts(this, DeckType.TRASH, 0);
+        if (playerId != -1) {
+            retValue._redeterminise(playerId, getCopyRnd());
+        }
         retValue.buysLeftForCurrentPlayer = buysLeftForCurrentPlayer;
         retValue.actionsLeftForCurrentPlayer = actionsLeftForCurrentPlayer;
         retValue.spentSoFar = spentSoFar;
@@ -383,6 +448,9 @@ public class DominionGameState extends AbstractGameState implements IPrintable {
         playerTableaux = new Deck[playerCount];
 
         trashPile = new Deck<>("Trash", VISIBLE_TO_ALL);
+        cardCounts = new int[playerCount][DeckType.TRASH.ordinal() + 1][CardType.values().length];
+        countedDecks = new Deck<?>[playerCount][DeckType.TRASH.ordinal() + 1];
+        countedModCounts = new int[playerCount][DeckType.TRASH.ordinal() + 1];
         for (int i = 0; i < playerCount; i++) {
             boolean[] handVisibility = new boolean[playerCount];
             handVisibility[i] = true;
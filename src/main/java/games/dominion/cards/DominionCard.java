@@ -2,10 +2,11 @@ package games.dominion.cards;
 
 import core.actions.AbstractAction;
 import core.components.Card;
+import core.interfaces.IImmutableComponent;
 import games.dominion.DominionGameState;
 import games.dominion.actions.*;
 
-public class DominionCard extends Card {
+public class DominionCard extends Card implements IImmutableComponent {
 
     CardType type;
 
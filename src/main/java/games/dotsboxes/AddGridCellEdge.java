@@ -2,15 +2,15 @@ package games.dotsboxes;
 
 import core.AbstractGameState;
 import core.actions.AbstractAction;
+import core.interfaces.IImmutableAction;
 
-import java.util.HashSet;
-import java.util.Objects;
+public class AddGridCellEdge extends AbstractAction implements IImmutableAction {
+    final DBEdge edge;  // Normally not good practice to keep references, as they wouldn't match the copies. But our equals should match.
+    final int edgeIndex;  // Index of the edge in DBGameState, which identifies the action
 
-public class AddGridCellEdge extends AbstractAction {
-    DBEdge edge;  // Normally not good practice to keep references, as they wouldn't match the copies. But our equals should match.
-
-    public AddGridCellEdge(DBEdge edge) {
+    public AddGridCellEdge(DBEdge edge, int edgeIndex) {
         this.edge = edge;
+        this.edgeIndex = edgeIndex;
     }
 
     @Override
@@ -18,27 +18,27 @@ public class AddGridCellEdge extends AbstractAction {
         // Find neighbouring cells
         DBGameState dbgs = (DBGameState) gs;
 
-        int nCellsCompleteBefore = dbgs.cellToOwnerMap.size();
+        boolean cellCompleted = false;
         // Mark this edge as complete by current player and check if connected cells are complete too
-        dbgs.edgeToOwnerMap.put(edge, gs.getCurrentPlayer());
+        dbgs.placedEdges.set(edgeIndex);
+        dbgs.edgeOwner[edgeIndex] = (byte) gs.getCurrentPlayer();
 
-        HashSet<DBCell> cells = dbgs.edgeToCellMap.get(edge);
-        for (DBCell c : cells) {
+        for (int c : dbgs.edgeToCells[edgeIndex]) {
             int nEdgesComplete = dbgs.countCompleteEdges(c);
             if (nEdgesComplete == 4) {  // A cell has 4 sides
                 // All edges complete, this box complete
-                dbgs.cellToOwnerMap.put(c, gs.getCurrentPlayer());
+                dbgs.cellOwner[c] = (byte) gs.getCurrentPlayer();
                 dbgs.nCellsPerPlayer[gs.getCurrentPlayer()]++;
+                cellCompleted = true;
             }
         }
-        int nCellsCompleteAfter = dbgs.cellToOwnerMap.size();
-        dbgs.setLastActionScored(nCellsCompleteAfter == nCellsCompleteBefore);
+        dbgs.setLastActionScored(!cellCompleted);
         return true;  // Always able to execute
     }
 
     @Override
     public AbstractAction copy() {
-        return new AddGridCellEdge(edge.copy());
+        return this;  // Immutable
     }
 
     @Override
@@ -46,12 +46,12 @@ public class AddGridCellEdge extends AbstractAction {
         if (this == o) return true;
         if (!(o instanceof AddGridCellEdge)) return false;
         AddGridCellEdge that = (AddGridCellEdge) o;
-        return Objects.equals(edge, that.edge);
+        return edgeIndex == that.edgeIndex;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(edge);
+        return edgeIndex;
     }
 
     @Override
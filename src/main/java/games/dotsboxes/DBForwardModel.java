@@ -5,10 +5,7 @@ import core.StandardForwardModel;
 import core.actions.AbstractAction;
 import utilities.Vector2D;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
+import java.util.*;
 
 public class DBForwardModel extends StandardForwardModel {
 
@@ -18,34 +15,49 @@ public class DBForwardModel extends StandardForwardModel {
         DBParameters dbp = (DBParameters) firstState.getGameParameters();
 
         dbgs.lastActionScored = false;
-        // Generate edge to cell mapping and all cell objects with appropriate constructor
-        dbgs.edgeToCellMap = new HashMap<>();
-        dbgs.cellToEdgesMap = new HashMap<>();
-        dbgs.cellToOwnerMap = new HashMap<>();
-        dbgs.edgeToOwnerMap = new HashMap<>();
-        dbgs.edges = new HashSet<>();
-        dbgs.cells = new HashSet<>();
+        // Generate all edge and cell objects, indexed in order of creation, and the mappings between them
+        List<DBEdge> edges = new ArrayList<>();
+        List<List<Integer>> edgeToCells = new ArrayList<>();
+        Map<DBEdge, Integer> edgeIndex = new HashMap<>();
+        int nCells = dbp.gridWidth * dbp.gridHeight;
+        dbgs.cells = new DBCell[nCells];
+        dbgs.cellToEdges = new int[nCells][];
         for (int i = 0; i < dbp.gridHeight; i++) {
             for (int j = 0; j < dbp.gridWidth; j++) {
-                DBCell c = new DBCell(j, i);
-                dbgs.cells.add(c);
-                HashSet<DBEdge> edges = new HashSet<>(4);
-                edges.add(new DBEdge(new Vector2D(j, i), new Vector2D(j, i + 1)));
-                edges.add(new DBEdge(new Vector2D(j, i), new Vector2D(j + 1, i)));
-                edges.add(new DBEdge(new Vector2D(j + 1, i), new Vector2D(j + 1, i + 1)));
-                edges.add(new DBEdge(new Vector2D(j, i + 1), new Vector2D(j + 1, i + 1)));
-
-                for (DBEdge edge : edges) {
-                    dbgs.edges.add(edge);
-                    if (!dbgs.edgeToCellMap.containsKey(edge)) {
-                        dbgs.edgeToCellMap.put(edge, new HashSet<>());
+                int c = i * dbp.gridWidth + j;
+                dbgs.cells[c] = new DBCell(j, i);
+                DBEdge[] cellEdges = new DBEdge[]{
+                        new DBEdge(new Vector2D(j, i), new Vector2D(j, i + 1)),
+                        new DBEdge(new Vector2D(j, i), new Vector2D(j + 1, i)),
+                        new DBEdge(new Vector2D(j + 1, i), new Vector2D(j + 1, i + 1)),
+                        new DBEdge(new Vector2D(j, i + 1), new Vector2D(j + 1, i + 1))
+                };
+                dbgs.cellToEdges[c] = new int[cellEdges.length];
+                for (int k = 0; k < cellEdges.length; k++) {
+                    Integer e = edgeIndex.get(cellEdges[k]);
+                    if (e == null) {
+                        e = edges.size();
+                        edgeIndex.put(cellEdges[k], e);
+                        edges.add(cellEdges[k]);
+                        edgeToCells.add(new ArrayList<>(2));
                     }
-                    dbgs.edgeToCellMap.get(edge).add(c);
+                    edgeToCells.get(e).add(c);
+                    dbgs.cellToEdges[c][k] = e;
                 }
-
-                dbgs.cellToEdgesMap.put(c, edges);
             }
         }
+        int nEdges = edges.size();
+        dbgs.edges = edges.toArray(new DBEdge[0]);
+        dbgs.edgeToCells = new int[nEdges][];
+        dbgs.edgeActions = new AddGridCellEdge[nEdges];
+        for (int e = 0; e < nEdges; e++) {
+            dbgs.edgeToCells[e] = edgeToCells.get(e).stream().mapToInt(Integer::intValue).toArray();
+            dbgs.edgeActions[e] = new AddGridCellEdge(dbgs.edges[e], e);
+        }
+        dbgs.placedEdges = new BitSet(nEdges);
+        dbgs.edgeOwner = new byte[nEdges];
+        dbgs.cellOwner = new byte[nCells];
+        Arrays.fill(dbgs.cellOwner, (byte) -1);
         // Initialise other variables
         dbgs.nCellsPerPlayer = new int[dbgs.getNPlayers()];
     }
@@ -56,7 +68,7 @@ public class DBForwardModel extends StandardForwardModel {
         DBParameters dbp = (DBParameters) currentState.getGameParameters();
 
         // Check end of game (when all cells completed)
-        if (dbgs.cellToOwnerMap.size() == dbp.gridWidth * dbp.gridHeight) {
+        if (dbgs.countCompleteCells() == dbp.gridWidth * dbp.gridHeight) {
             // Game is over. Set status and find winner
             endGame(dbgs);
         } else if (dbgs.getLastActionScored()) {
@@ -67,17 +79,15 @@ public class DBForwardModel extends StandardForwardModel {
 
     @Override
     protected List<AbstractAction> _computeAvailableActions(AbstractGameState gameState) {
-        HashSet<AbstractAction> actions = new HashSet<>();  // Same edge may appear in multiple cells, ensure unique actions
         DBGameState dbgs = (DBGameState) gameState;
+        int nEdges = dbgs.edges.length;
+        List<AbstractAction> actions = new ArrayList<>(nEdges - dbgs.placedEdges.cardinality());
 
         // Actions in this game are adding edges to the board (that don't already exist)
-        for (DBEdge e : dbgs.edges) {
-            if (!dbgs.edgeToOwnerMap.containsKey(e)) {
-                // Can add this edge
-                actions.add(new AddGridCellEdge(e));
-            }
+        for (int e = dbgs.placedEdges.nextClearBit(0); e < nEdges; e = dbgs.placedEdges.nextClearBit(e + 1)) {
+            actions.add(dbgs.edgeActions[e]);
         }
 
-        return new ArrayList<>(actions);
+        return actions;
     }
 }
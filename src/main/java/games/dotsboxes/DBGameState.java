@@ -16,19 +16,23 @@ public class DBGameState extends AbstractGameState {
 
     IStateHeuristic heuristic;
 
-    // List of all edges possible
-    HashSet<DBEdge> edges;
-    // List of all cells possible
-    HashSet<DBCell> cells;
-    // Mapping from each edge to the cells it neighbours
-    HashMap<DBEdge, HashSet<DBCell>> edgeToCellMap;
-    // Mapping from each cell to its edges
-    HashMap<DBCell, HashSet<DBEdge>> cellToEdgesMap;
+    // Grid structure, shared by all copies. Edges and cells are referred to by their index in these arrays.
+    // All edges possible
+    DBEdge[] edges;
+    // All cells possible
+    DBCell[] cells;
+    // Indices of the cells each edge neighbours
+    int[][] edgeToCells;
+    // Indices of the edges of each cell
+    int[][] cellToEdges;
+    // Action placing each edge
+    AddGridCellEdge[] edgeActions;
 
     // Mutable state:
     int[] nCellsPerPlayer;
-    HashMap<DBCell, Integer> cellToOwnerMap;  // Mapping from each cell to its owner, if complete
-    HashMap<DBEdge, Integer> edgeToOwnerMap;  // Mapping from each edge to its owner, if placed
+    BitSet placedEdges;  // Edges placed so far
+    byte[] edgeOwner;  // Owner of each edge, if placed
+    byte[] cellOwner;  // Owner of each cell if complete, -1 otherwise
     boolean lastActionScored;
 
     /**
@@ -48,7 +52,7 @@ public class DBGameState extends AbstractGameState {
 
     @Override
     protected List<Component> _getAllComponents() {
-        return new ArrayList<Component>() {{ addAll(edges); addAll(cells); }};
+        return new ArrayList<Component>() {{ addAll(Arrays.asList(edges)); addAll(Arrays.asList(cells)); }};
     }
 
     @Override
@@ -56,13 +60,15 @@ public class DBGameState extends AbstractGameState {
         DBGameState dbgs = new DBGameState(gameParameters, getNPlayers());
         dbgs.edges = edges;
         dbgs.cells = cells;
-        dbgs.edgeToCellMap = edgeToCellMap;
-        dbgs.cellToEdgesMap = cellToEdgesMap;
+        dbgs.edgeToCells = edgeToCells;
+        dbgs.cellToEdges = cellToEdges;
+        dbgs.edgeActions = edgeActions;
         dbgs.lastActionScored = lastActionScored;
 
         dbgs.nCellsPerPlayer = nCellsPerPlayer.clone();
-        dbgs.cellToOwnerMap = (HashMap<DBCell, Integer>) cellToOwnerMap.clone();
-        dbgs.edgeToOwnerMap = (HashMap<DBEdge, Integer>) edgeToOwnerMap.clone();
+        dbgs.placedEdges = (BitSet) placedEdges.clone();
+        dbgs.edgeOwner = edgeOwner.clone();
+        dbgs.cellOwner = cellOwner.clone();
         dbgs.heuristic = heuristic;
         return dbgs;
     }
@@ -92,15 +98,18 @@ public class DBGameState extends AbstractGameState {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof DBGameState)) return false;
-        if (!super.equals(o)) return false;
         DBGameState that = (DBGameState) o;
-        return lastActionScored == that.lastActionScored && Objects.equals(heuristic, that.heuristic) && Objects.equals(edges, that.edges) && Objects.equals(cells, that.cells) && Objects.equals(edgeToCellMap, that.edgeToCellMap) && Objects.equals(cellToEdgesMap, that.cellToEdgesMap) && Arrays.equals(nCellsPerPlayer, that.nCellsPerPlayer) && Objects.equals(cellToOwnerMap, that.cellToOwnerMap) && Objects.equals(edgeToOwnerMap, that.edgeToOwnerMap);
+        return lastActionScored == that.lastActionScored && Objects.equals(heuristic, that.heuristic) && Arrays.equals(edges, that.edges) && Arrays.equals(cells, that.cells) && Arrays.equals(nCellsPerPlayer, that.nCellsPerPlayer) && Objects.equals(placedEdges, that.placedEdges) && Arrays.equals(edgeOwner, that.edgeOwner) && Arrays.equals(cellOwner, that.cellOwner);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(super.hashCode(), heuristic, edges, cells, edgeToCellMap, cellToEdgesMap, cellToOwnerMap, edgeToOwnerMap, lastActionScored);
+        int result = Objects.hash(super.hashCode(), heuristic, placedEdges, lastActionScored);
+        result = 31 * result + Arrays.hashCode(edges);
+        result = 31 * result + Arrays.hashCode(cells);
         result = 31 * result + Arrays.hashCode(nCellsPerPlayer);
+        result = 31 * result + Arrays.hashCode(edgeOwner);
+        result = 31 * result + Arrays.hashCode(cellOwner);
         return result;
     }
 
@@ -111,34 +120,24 @@ public class DBGameState extends AbstractGameState {
 
         int i = 0;
 
-        for (DBEdge e: edges) {
+        for (int idx = 0; idx < edges.length; idx++) {
             if (i++ != 0) {
                 sb.append(",");
             }
-            int owner = -1;
-            if (edgeToOwnerMap.get(e) != null) {
-                owner = edgeToOwnerMap.get(e);
-            }
+            DBEdge e = edges[idx];
+            int owner = placedEdges.get(idx) ? edgeOwner[idx] : -1;
             sb.append("\"").append("Edge_Owner_").append(e.from.getX()).append("_").append(e.from.getY()).
                     append(e.to.getX()).append(e.to.getY()).append("\":").append(owner);
         }
 
-        for (DBCell c: cells) {
+        for (int idx = 0; idx < cells.length; idx++) {
+            DBCell c = cells[idx];
             sb.append(",");
-            int owner = -1;
-            if (cellToOwnerMap.get(c) != null) {
-                owner = cellToOwnerMap.get(c);
-            }
+            int owner = cellOwner[idx];
             sb.append("\"").append("Cell_Owner_").append(c.position.getX()).append("_").append(c.position.getY()).append("\":").append(owner);
             sb.append(",");
 
-            int edgeCount = 0;
-
-            for (DBEdge e : cellToEdgesMap.get(c)) {
-                if (edgeToOwnerMap.get(e) != null) {
-                    edgeCount++;
-                }
-            }
+            int edgeCount = countCompleteEdges(idx);
             sb.append("\"").append("Cell_Edge_Count_").append(c.position.getX()).append("_").append(c.position.getY()).append("\":").append(edgeCount);
         }
 
@@ -147,15 +146,23 @@ public class DBGameState extends AbstractGameState {
     }
 
 
-    public int countCompleteEdges(DBCell c) {
+    public int countCompleteEdges(int cell) {
         int retValue = 0;
-        for (DBEdge e: cellToEdgesMap.get(c)) {
-            if (edgeToOwnerMap.containsKey(e)) {
+        for (int e: cellToEdges[cell]) {
+            if (placedEdges.get(e)) {
                 retValue++;
             }
         }
         return retValue;
     }
+
+    public int countCompleteCells() {
+        int retValue = 0;
+        for (int n: nCellsPerPlayer) {
+            retValue += n;
+        }
+        return retValue;
+    }
     public boolean getLastActionScored(){return lastActionScored;}
     public void setLastActionScored(boolean value){lastActionScored = value;}
 }
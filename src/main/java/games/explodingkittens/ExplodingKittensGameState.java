@@ -57,7 +57,7 @@ public class ExplodingKittensGameState extends AbstractGameStateWithTurnOrder im
 
     @Override
     protected AbstractGameStateWithTurnOrder __copy(int playerId) {
-        ExplodingKittensGameState ekgs = new ExplodingKittensGameState(gameParameters.copy(), getNPlayers());
+        ExplodingKittensGameState ekgs = new ExplodingKittensGameState(gameParameters, getNPlayers());
         ekgs.discardPile = discardPile.copy();
         ekgs.playerGettingAFavor = playerGettingAFavor;
         ekgs.actionStack = new Stack<>();
@@ -71,57 +71,61 @@ public class ExplodingKittensGameState extends AbstractGameStateWithTurnOrder im
         }
         ekgs.drawPile = drawPile.copy();
         if (getCoreGameParameters().partialObservable && playerId != -1) {
-            // Other player hands + draw deck are hidden, combine in draw pile and shuffle
-            // Note: this considers the agent to track opponent's cards that are known to him by itself
-            // e.g. in case the agent has previously given a favor card to its opponent
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    // Take all cards the player can't see from other players and put them in the draw pile.
-                    ArrayList<ExplodingKittensCard> cs = new ArrayList<>();
-                    for (int j = 0; j < ekgs.playerHandCards.get(i).getSize(); j++) {
-                        if (!ekgs.playerHandCards.get(i).isComponentVisible(j, playerId)) {
-                            ExplodingKittensCard c = ekgs.playerHandCards.get(i).get(j);
-                            ekgs.drawPile.add(c, ekgs.playerHandCards.get(i).getVisibilityOfComponent(j).clone());
-                            cs.add(c);
-                        }
-                    }
-                    for (ExplodingKittensCard c : cs) {
-                        ekgs.playerHandCards.get(i).remove(c);
+            ekgs._redeterminise(playerId, getCopyRnd());
+        }
+        return ekgs;
+    }
+
+    @Override
+    protected boolean _redeterminise(int playerId, Random r) {
+        // Other player hands + draw deck are hidden, combine in draw pile and shuffle
+        // Note: this considers the agent to track opponent's cards that are known to him by itself
+        // e.g. in case the agent has previously given a favor card to its opponent
+        int[] nHiddenCards = new int[getNPlayers()];
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                // Take all cards the player can't see from other players and put them in the draw pile.
+                ArrayList<ExplodingKittensCard> cs = new ArrayList<>();
+                for (int j = 0; j < playerHandCards.get(i).getSize(); j++) {
+                    if (!playerHandCards.get(i).isComponentVisible(j, playerId)) {
+                        ExplodingKittensCard c = playerHandCards.get(i).get(j);
+                        drawPile.add(c, playerHandCards.get(i).getVisibilityOfComponent(j).clone());
+                        cs.add(c);
                     }
                 }
+                for (ExplodingKittensCard c : cs) {
+                    playerHandCards.get(i).remove(c);
+                }
+                nHiddenCards[i] = cs.size();
             }
-            Random r = new Random(ekgs.gameParameters.getRandomSeed());
+        }
 
-            // Shuffles only hidden cards in draw pile, if player knows what's on top those will stay in place
-            ekgs.drawPile.shuffleVisible(r, playerId, false);
-            Deck<ExplodingKittensCard> explosive = new Deck<>("tmp", VisibilityMode.HIDDEN_TO_ALL);
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    for (int j = 0; j < playerHandCards.get(i).getSize(); j++) {
-                        // Add back random cards for all components not visible to this player
-                        if (playerHandCards.get(i).isComponentVisible(j, playerId)) continue;
-                        boolean added = false;
-                        int cardIndex = 0;
-                        while (!added) {
-                            // if the card is visible to the player we cannot move it somewhere else
-                            if (ekgs.drawPile.getVisibilityForPlayer(cardIndex, playerId)) {
-                                cardIndex++;
-                                continue;
-                            }
-                            ExplodingKittensCard card = ekgs.drawPile.pick(cardIndex);
-                            if (card.cardType != ExplodingKittensCard.CardType.EXPLODING_KITTEN) {
-                                ekgs.playerHandCards.get(i).add(card);
-                                added = true;
-                            } else {
-                                explosive.add(card);
-                            }
-                        }
+        // Shuffles only hidden cards in draw pile, if player knows what's on top those will stay in place
+        drawPile.shuffleVisible(r, playerId, false);
+        Deck<ExplodingKittensCard> explosive = new Deck<>("tmp", VisibilityMode.HIDDEN_TO_ALL);
+        for (int i = 0; i < getNPlayers(); i++) {
+            // Add back random cards for all components not visible to this player
+            for (int j = 0; j < nHiddenCards[i]; j++) {
+                boolean added = false;
+                int cardIndex = 0;
+                while (!added) {
+                    // if the card is visible to the player we cannot move it somewhere else
+                    if (drawPile.getVisibilityForPlayer(cardIndex, playerId)) {
+                        cardIndex++;
+                        continue;
+                    }
+                    ExplodingKittensCard card = drawPile.pick(cardIndex);
+                    if (card.cardType != ExplodingKittensCard.CardType.EXPLODING_KITTEN) {
+                        playerHandCards.get(i).add(card);
+                        added = true;
+                    } else {
+                        explosive.add(card);
                     }
                 }
             }
-            ekgs.drawPile.add(explosive);
         }
-        return ekgs;
+        drawPile.add(explosive);
+        return true;
     }
 
     @Override
@@ -159,7 +163,6 @@ public class ExplodingKittensGameState extends AbstractGameStateWithTurnOrder im
     protected boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ExplodingKittensGameState)) return false;
-        if (!super.equals(o)) return false;
         ExplodingKittensGameState gameState = (ExplodingKittensGameState) o;
         return playerGettingAFavor == gameState.playerGettingAFavor &&
                 Objects.equals(playerHandCards, gameState.playerHandCards) &&
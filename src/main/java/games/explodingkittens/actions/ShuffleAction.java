@@ -9,7 +9,6 @@ import games.explodingkittens.ExplodingKittensGameState;
 import games.explodingkittens.cards.ExplodingKittensCard;
 
 import java.util.Arrays;
-import java.util.Random;
 
 public class ShuffleAction extends DrawCard implements IsNopeable, IPrintable {
 
@@ -19,7 +18,7 @@ public class ShuffleAction extends DrawCard implements IsNopeable, IPrintable {
 
     @Override
     public boolean execute(AbstractGameState gs) {
-        ((ExplodingKittensGameState)gs).getDrawPile().shuffle(new Random(gs.getGameParameters().getRandomSeed()));
+        ((ExplodingKittensGameState)gs).getDrawPile().shuffle(gs.getRnd());
         return super.execute(gs);
     }
 
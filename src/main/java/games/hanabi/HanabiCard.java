@@ -2,18 +2,16 @@ package games.hanabi;
 
 import core.components.Card;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.ArrayList;
-
 public class HanabiCard extends Card {
 
     public CardType color;
     public int number;
     public boolean colorVisibility;
     public boolean numberVisibility;
-    public List<Integer> possibleNumber;
-    public List<CardType>  possibleColour;
+    // What the owner of the card knows from the hints received: bit c.ordinal() is set if the card may be of colour c,
+    // and bit (n-1) if it may be number n
+    public int possibleColours;
+    public int possibleNumbers;
 
     public boolean ownerKnowsColor, ownerKnowsNumber;
 
@@ -23,12 +21,8 @@ public class HanabiCard extends Card {
         this.number = number;
         this.colorVisibility = true;
         this.numberVisibility = true;
-        this.possibleNumber = new ArrayList<>();
-        for(int i=1; i<=5; i++){
-            this.possibleNumber.add(i);
-        }
-        this.possibleColour = new ArrayList<>();
-        this.possibleColour.addAll(Arrays.asList(CardType.values()));
+        this.possibleNumbers = (1 << 5) - 1;
+        this.possibleColours = (1 << CardType.values().length) - 1;
     }
 
 
@@ -45,8 +39,8 @@ public class HanabiCard extends Card {
         card.numberVisibility = (ownerId == playerId ? ownerKnowsNumber : numberVisibility);
         card.ownerKnowsColor = ownerKnowsColor;
         card.ownerKnowsNumber = ownerKnowsNumber;
-        card.possibleColour = new ArrayList<>(possibleColour);
-        card.possibleNumber = new ArrayList<>(possibleNumber);
+        card.possibleColours = possibleColours;
+        card.possibleNumbers = possibleNumbers;
         return card;
     }
 
@@ -56,11 +50,50 @@ public class HanabiCard extends Card {
         card.numberVisibility = numberVisibility;
         card.ownerKnowsColor = ownerKnowsColor;
         card.ownerKnowsNumber = ownerKnowsNumber;
-        card.possibleColour = new ArrayList<>(possibleColour);
-        card.possibleNumber = new ArrayList<>(possibleNumber);
+        card.possibleColours = possibleColours;
+        card.possibleNumbers = possibleNumbers;
         return card;
     }
 
+    /**
+     * Updates what the owner knows about this card after a hint about the given number.
+     */
+    public void hintNumber(int number) {
+        if (this.number == number) {
+            ownerKnowsNumber = true;
+            possibleNumbers = 1 << (number - 1);
+        } else {
+            possibleNumbers &= ~(1 << (number - 1));
+        }
+    }
+
+    /**
+     * Updates what the owner knows about this card after a hint about the given colour.
+     */
+    public void hintColor(CardType color) {
+        if (this.color == color) {
+            ownerKnowsColor = true;
+            possibleColours = 1 << color.ordinal();
+        } else {
+            possibleColours &= ~(1 << color.ordinal());
+        }
+    }
+
+    /**
+     * @return true if, given the hints received, the owner of this card could believe it to be of the given colour
+     * and number
+     */
+    public boolean isPossible(CardType color, int number) {
+        return (possibleColours & (1 << color.ordinal())) != 0 && (possibleNumbers & (1 << (number - 1))) != 0;
+    }
+
+    /**
+     * @return the number of colour and number combinations this card could be, given the hints received
+     */
+    public int nPossibilities() {
+        return Integer.bitCount(possibleColours) * Integer.bitCount(possibleNumbers);
+    }
+
     @Override
     public String toString() {
         return "{" + (colorVisibility? color : "UnknownColor") + " " + (numberVisibility? number : "UnknownNumber") + "}";
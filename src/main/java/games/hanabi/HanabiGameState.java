@@ -14,7 +14,9 @@ import games.GameType;
 
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 public class HanabiGameState extends AbstractGameState implements IPrintable {
 
@@ -26,6 +28,9 @@ public class HanabiGameState extends AbstractGameState implements IPrintable {
     List<HanabiCard> currentCard;
     int endTurn = getNPlayers() + 1;
 
+    // Number of attempts at sampling a hand consistent with the hints received before giving up
+    private static final int maxSamplingAttempts = 20;
+
 
     public HanabiGameState(AbstractParameters gameParameters, int nPlayers) {
         super(gameParameters, nPlayers);
@@ -50,7 +55,7 @@ public class HanabiGameState extends AbstractGameState implements IPrintable {
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        HanabiGameState copy = new HanabiGameState(gameParameters.copy(), getNPlayers());
+        HanabiGameState copy = new HanabiGameState(gameParameters, getNPlayers());
         copy.playerDecks = new ArrayList<>();
         for (PartialObservableDeck<HanabiCard> d : playerDecks) {
             copy.playerDecks.add(d.copy(playerId));
@@ -64,8 +69,78 @@ public class HanabiGameState extends AbstractGameState implements IPrintable {
         copy.discardDeck = discardDeck.copy();
         copy.hintCounter = hintCounter.copy();
         copy.failCounter = failCounter.copy();
+        if (getCoreGameParameters().partialObservable && playerId != -1) {
+            copy._redeterminise(playerId, getCopyRnd());
+        }
         return copy;
     }
+
+    /**
+     * Samples the cards hidden from the given player, i.e. their own hand and the draw deck, so that each card in
+     * their hand is consistent with the hints they received (HanabiCard.possibleColours and possibleNumbers).
+     * Cards are dealt one at a time, most constrained first, each from the hidden cards not yet dealt that fit it,
+     * by swapping colours and numbers, so the number of hidden cards of each colour and number does not change.
+     * In the rare case no consistent hand is found the true hand is kept. The draw deck is then shuffled.
+     */
+    @Override
+    protected boolean _redeterminise(int playerId, Random rnd) {
+        List<HanabiCard> hand = new ArrayList<>(playerDecks.get(playerId).getComponents());
+        hand.sort(Comparator.comparingInt(HanabiCard::nPossibilities));
+        List<HanabiCard> hidden = new ArrayList<>(hand);
+        hidden.addAll(drawDeck.getComponents());
+
+        int n = hidden.size();
+        CardType[] colors = new CardType[n];
+        int[] numbers = new int[n];
+        for (int i = 0; i < n; i++) {
+            colors[i] = hidden.get(i).color;
+            numbers[i] = hidden.get(i).number;
+        }
+
+        for (int attempt = 0; attempt < maxSamplingAttempts; attempt++) {
+            if (dealConsistentHand(hand.size(), hidden, rnd)) {
+                drawDeck.shuffle(rnd);
+                return true;
+            }
+            for (int i = 0; i < n; i++) {
+                hidden.get(i).color = colors[i];
+                hidden.get(i).number = numbers[i];
+            }
+        }
+        drawDeck.shuffle(rnd);
+        return true;
+    }
+
+    /**
+     * Deals the first handSize cards in the list in order, choosing the values of card i uniformly among the cards
+     * from i onwards it could be.
+     *
+     * @return false if a card could not be dealt, leaving the values of the cards shuffled
+     */
+    private static boolean dealConsistentHand(int handSize, List<HanabiCard> hidden, Random rnd) {
+        for (int i = 0; i < handSize; i++) {
+            HanabiCard card = hidden.get(i);
+            int nOptions = 0;
+            for (int j = i; j < hidden.size(); j++) {
+                if (card.isPossible(hidden.get(j).color, hidden.get(j).number)) nOptions++;
+            }
+            if (nOptions == 0) return false;
+            int choice = rnd.nextInt(nOptions);
+            for (int j = i; j < hidden.size(); j++) {
+                HanabiCard other = hidden.get(j);
+                if (card.isPossible(other.color, other.number) && choice-- == 0) {
+                    CardType color = card.color;
+                    int number = card.number;
+                    card.color = other.color;
+                    card.number = other.number;
+                    other.color = color;
+                    other.number = number;
+                    break;
+                }
+            }
+        }
+        return true;
+    }
     public Deck<HanabiCard> getDrawDeck() {
         return drawDeck;
     }
@@ -15,7 +15,6 @@ import games.uno.actions.NoCards;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 
 public class Play extends AbstractAction implements IPrintable {
     protected int playerId;
@@ -41,21 +40,8 @@ public class Play extends AbstractAction implements IPrintable {
         boolean color = false;
         boolean checkColor = false;
         boolean checkNumber = false;
-        // make random color and number is not known;
-        // set the card if correct;
-
+        // Cards the player does not know are sampled when the state is copied for them (see HanabiGameState._copy())
         for(HanabiCard cd: currentCard){
-            Random random = new Random(hbgs.getGameParameters().getRandomSeed());
-
-            if(!(playCard.numberVisibility)){
-                int nnumber = cd.possibleNumber.get(random.nextInt(cd.possibleNumber.size())) ;
-                playCard.setNumber(nnumber);
-            }
-            if(!(playCard.colorVisibility)){
-                CardType cnumber = cd.possibleColour.get(random.nextInt(cd.possibleColour.size()));
-                playCard.setColor(cnumber);
-            }
-
             if(cd.color.equals(playCard.color)){
                 if(cd.number + 1 == playCard.number){
                     currentCard.set(listIndex, playCard);
@@ -64,7 +64,7 @@ public class LoveLetterForwardModel extends StandardForwardModel implements ITre
         }
 
         // Remove one card from the game
-        Random r = new Random(llgs.getGameParameters().getRandomSeed() + llgs.getRoundCounter());
+        Random r = llgs.getRnd();
         llgs.drawPile.shuffle(r);
         llgs.removedCard = llgs.drawPile.draw();
 
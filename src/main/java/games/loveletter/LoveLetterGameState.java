@@ -66,7 +66,7 @@ public class LoveLetterGameState extends AbstractGameState implements IPrintable
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        LoveLetterGameState llgs = new LoveLetterGameState(gameParameters.copy(), getNPlayers());
+        LoveLetterGameState llgs = new LoveLetterGameState(gameParameters, getNPlayers());
         llgs.drawPile = drawPile.copy();
         llgs.reserveCards = reserveCards.copy();
         llgs.removedCard = removedCard.copy();
@@ -80,34 +80,39 @@ public class LoveLetterGameState extends AbstractGameState implements IPrintable
         llgs.affectionTokens = affectionTokens.clone();
 
         if (getCoreGameParameters().partialObservable && playerId != -1) {
-            // Draw pile, some reserve cards and other player's hand is possibly hidden. Mix all together and draw randoms
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    PartialObservableDeck<LoveLetterCard> deck = llgs.playerHandCards.get(i);
-                    for (int j = 0; j < deck.getSize(); j++) {
-                        if (!deck.getVisibilityForPlayer(j, playerId)) {
-                            // Hide!
-                            llgs.drawPile.add(deck.get(j));
-                        }
+            llgs._redeterminise(playerId, getCopyRnd());
+        }
+        return llgs;
+    }
+
+    @Override
+    protected boolean _redeterminise(int playerId, Random r) {
+        // Draw pile, some reserve cards and other player's hand is possibly hidden. Mix all together and draw randoms
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                PartialObservableDeck<LoveLetterCard> deck = playerHandCards.get(i);
+                for (int j = 0; j < deck.getSize(); j++) {
+                    if (!deck.getVisibilityForPlayer(j, playerId)) {
+                        // Hide!
+                        drawPile.add(deck.get(j));
                     }
                 }
             }
-            Random r = new Random(llgs.getGameParameters().getRandomSeed());
-            llgs.drawPile.shuffle(r);
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    // New random cards
-                    PartialObservableDeck<LoveLetterCard> deck = llgs.playerHandCards.get(i);
-                    for (int j = 0; j < deck.getSize(); j++) {
-                        if (!deck.getVisibilityForPlayer(j, playerId)) {
-                            llgs.playerHandCards.get(i).setComponent(j, llgs.drawPile.draw());
-                        }
+        }
+        drawPile.shuffle(r);
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                // New random cards
+                PartialObservableDeck<LoveLetterCard> deck = playerHandCards.get(i);
+                for (int j = 0; j < deck.getSize(); j++) {
+                    if (!deck.getVisibilityForPlayer(j, playerId)) {
+                        deck.setComponent(j, drawPile.draw());
                     }
-                    deck.shuffle(r);
                 }
+                deck.shuffle(r);
             }
         }
-        return llgs;
+        return true;
     }
 
     @Override
@@ -124,7 +129,6 @@ public class LoveLetterGameState extends AbstractGameState implements IPrintable
     protected boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof LoveLetterGameState)) return false;
-        if (!super.equals(o)) return false;
         LoveLetterGameState that = (LoveLetterGameState) o;
         return Objects.equals(playerHandCards, that.playerHandCards) &&
                 Objects.equals(playerDiscardCards, that.playerDiscardCards) &&
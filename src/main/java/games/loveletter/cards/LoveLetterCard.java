@@ -3,6 +3,7 @@ package games.loveletter.cards;
 import core.CoreConstants;
 import core.actions.AbstractAction;
 import core.components.Card;
+import core.interfaces.IImmutableComponent;
 import games.loveletter.LoveLetterGameState;
 import games.loveletter.LoveLetterParameters;
 import games.loveletter.actions.*;
@@ -15,7 +16,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
-public class LoveLetterCard extends Card {
+public class LoveLetterCard extends Card implements IImmutableComponent {
 
     // each card consists of a type and a value. the card type defines the actions available to the player
     public enum CardType {
@@ -197,6 +198,6 @@ public class LoveLetterCard extends Card {
 
     @Override
     public LoveLetterCard copy() {
-        return new LoveLetterCard(cardType, componentID);
+        return this; // immutable
     }
 }
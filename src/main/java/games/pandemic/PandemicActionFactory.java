@@ -1,7 +1,6 @@
 package games.pandemic;
 
 import core.actions.*;
-import core.components.BoardNode;
 import core.components.Card;
 import core.components.Counter;
 import core.components.Deck;
@@ -28,64 +27,59 @@ class PandemicActionFactory {
     static List<AbstractAction> getPlayerActions(PandemicGameState pgs) {
         PandemicParameters pp = (PandemicParameters) pgs.getGameParameters();
 
-        // get player's hand, role card, role string, player location name and player location BoardNode
-        Deck<Card> playerHand = ((Deck<Card>) pgs.getComponentActingPlayer(playerHandHash));
-        String roleString = pgs.getPlayerRoleActingPlayer();
-        PropertyString playerLocationName = (PropertyString) pgs.getComponentActingPlayer(playerCardHash)
-                .getProperty(playerLocationHash);
-        BoardNode playerLocationNode = pgs.world.getNodeByProperty(nameHash, playerLocationName);
+        // get player's hand, role, and player location
         int activePlayer = pgs.getTurnOrder().getCurrentPlayer(pgs);
+        Deck<Card> playerHand = ((Deck<Card>) pgs.getComponentActingPlayer(playerHandHash));
+        PlayerRole role = pgs.getPlayerRoleType(activePlayer);
+        int playerLocation = pgs.getPlayerLocation(activePlayer);
+        String playerLocationName = pgs.getCityIndex().getName(playerLocation);
+        boolean researchStationHere = pgs.hasResearchStation(playerLocation);
 
         // Create a list for possible actions, including first move actions
         Set<AbstractAction> actions = new HashSet<>(getMoveActions(pgs, activePlayer, playerHand));
 
         // Build research station, discard card corresponding to current player location to build one, if not already there.
-        if (!((PropertyBoolean) playerLocationNode.getProperty(researchStationHash)).value
-                && ! roleString.equals("Operations Expert")) {
+        if (!researchStationHere && role != PlayerRole.OperationsExpert) {
             int card_in_hand = -1;
             for (int idx = 0; idx < playerHand.getSize(); idx++) {
-                Card card = playerHand.getComponents().get(idx);
-                Property cardName = card.getProperty(nameHash);
-                if (cardName.equals(playerLocationName)) {
+                if (playerLocationName.equals(cardName(playerHand.get(idx)))) {
                     card_in_hand = idx;
                     break;
                 }
             }
             if (card_in_hand != -1) {
-                actions.addAll(getResearchStationActions(pgs, playerLocationName.value,
+                actions.addAll(getResearchStationActions(pgs, playerLocationName,
                         playerHand.getComponents().get(card_in_hand), playerHand.getComponentID(),
                         pgs.getComponent(playerDeckDiscardHash).getComponentID(), card_in_hand));
             }
         }
 
         // Treat disease
-        PropertyIntArray cityInfections = (PropertyIntArray)playerLocationNode.getProperty(infectionHash);
-        for (int i = 0; i < cityInfections.getValues().length; i++){
-            if (cityInfections.getValues()[i] > 0){
-                boolean treatAll = roleString.equals("Medic");
+        int[] cityInfections = pgs.getCityInfections(playerLocation);
+        for (int i = 0; i < cityInfections.length; i++){
+            if (cityInfections[i] > 0){
+                boolean treatAll = role == PlayerRole.Medic;
 
-                actions.add(new TreatDisease(pp.nInitialDiseaseCubes, colors[i], playerLocationName.value, treatAll));
+                actions.add(pgs.getCityIndex().treatDisease(playerLocation, i, treatAll, pp.nInitialDiseaseCubes));
             }
         }
 
         // Share knowledge, give or take card, player can only have 7 cards
         // Both players have to be at the same city
-        List<Integer> playersInSameLocation = ((PropertyIntArrayList)playerLocationNode.getProperty(playersHash)).getValues();
-        for (int i : playersInSameLocation) {
-            if (i != activePlayer) {
+        for (int i = 0; i < pgs.getNPlayers(); i++) {
+            if (i != activePlayer && pgs.getPlayerLocation(i) == playerLocation) {
                 // Give card
-                addShareKnowledgeActions(playerLocationName, actions, activePlayer, playerHand, roleString, i);
+                addShareKnowledgeActions(playerLocationName, actions, activePlayer, playerHand, role, i);
 
                 // Take card
                 // Can take any card from the researcher or the card that matches the city if the player is in that city
                 Deck<Card> otherDeck = (Deck<Card>) pgs.getComponent(playerHandHash, i);
-                String otherRoleString = pgs.getPlayerRole(i);
-                addShareKnowledgeActions(playerLocationName, actions, i, otherDeck, otherRoleString, activePlayer);
+                addShareKnowledgeActions(playerLocationName, actions, i, otherDeck, pgs.getPlayerRoleType(i), activePlayer);
             }
         }
 
         // Discover a cure, cards of the same colour at a research station
-        if (((PropertyBoolean) playerLocationNode.getProperty(researchStationHash)).value) {
+        if (researchStationHere) {
             ArrayList<Integer>[] colorCounter = new ArrayList[colors.length];
             for (Card card : playerHand.getComponents()) {
                 Property p = card.getProperty(colorHash);
@@ -100,7 +94,7 @@ class PandemicActionFactory {
             }
             for (int i = 0; i < colorCounter.length; i++) {
                 if (colorCounter[i] != null) {
-                    if (roleString.equals("Scientist") && colorCounter[i].size() >= pp.nCardsForCure - pp.nCardsForCureReducedBy) {
+                    if (role == PlayerRole.Scientist && colorCounter[i].size() >= pp.nCardsForCure - pp.nCardsForCureReducedBy) {
                         actions.add(new CureDisease(colors[i], colorCounter[i]));
                     } else if (colorCounter[i].size() >= pp.nCardsForCure) {
                         actions.add(new CureDisease(colors[i], colorCounter[i]));
@@ -110,7 +104,7 @@ class PandemicActionFactory {
         }
 
         // Special role actions
-        actions.addAll(getSpecialRoleActions(pgs, roleString, playerHand, playerLocationName.value));
+        actions.addAll(getSpecialRoleActions(pgs, role, playerHand, playerLocation));
 
         // Event actions
         actions.addAll(getEventActions(pgs));
@@ -129,11 +123,10 @@ class PandemicActionFactory {
      * @param giverRole - role of player giving a card
      * @param receiver - ID of player receiving a card
      */
-    private static void addShareKnowledgeActions(PropertyString playerLocation, Set<AbstractAction> actions,
-                                                 int giver, Deck<Card> giverDeck, String giverRole, int receiver) {
+    private static void addShareKnowledgeActions(String playerLocation, Set<AbstractAction> actions,
+                                                 int giver, Deck<Card> giverDeck, PlayerRole giverRole, int receiver) {
         for (int j = 0; j < giverDeck.getSize(); j++) {
-            Card card = giverDeck.getComponents().get(j);
-            if (giverRole.equals("Researcher") || (card.getProperty(nameHash)).equals(playerLocation)) {
+            if (giverRole == PlayerRole.Researcher || playerLocation.equals(cardName(giverDeck.get(j)))) {
                 actions.add(new ShareKnowledge(giver, receiver, j));
             }
         }
@@ -144,41 +137,38 @@ class PandemicActionFactory {
      * execute the same actions as other players but with different parameters.
      * @param role - role of player
      * @param playerHand - cards in hand for the player
-     * @param playerLocation - current location of player
+     * @param playerLocation - current location of player (city index)
      * @return - list of actions for the player role.
      */
-    static List<AbstractAction> getSpecialRoleActions(PandemicGameState pgs, String role, Deck<Card> playerHand, String playerLocation) {
+    static List<AbstractAction> getSpecialRoleActions(PandemicGameState pgs, PlayerRole role, Deck<Card> playerHand, int playerLocation) {
         ArrayList<AbstractAction> actions = new ArrayList<>();
         int playerIdx = pgs.getTurnOrder().getCurrentPlayer(pgs);
+        PandemicCityIndex cities = pgs.getCityIndex();
 
         switch (role) {
             // Operations expert special actions
-            case "Operations Expert":
-                if (!(pgs.researchStationLocations.contains(playerLocation))) {
-                    actions.addAll(getResearchStationActions(pgs, playerLocation, null, -1, -1,-1));
+            case OperationsExpert:
+                if (!pgs.hasResearchStation(playerLocation)) {
+                    actions.addAll(getResearchStationActions(pgs, cities.getName(playerLocation), null, -1, -1,-1));
                 } else {
                     // List all the other nodes with combination of all the city cards in hand
-                    PropertyString playerLocationProperty = (PropertyString) pgs.getComponent(playerCardHash, playerIdx)
-                            .getProperty(playerLocationHash);
-                    String playerLocationName = playerLocationProperty.value;
-                    for (BoardNode bn : pgs.world.getBoardNodes()) {
-                        if (playerLocationName.equals(((PropertyString)bn.getProperty(nameHash)).value)) continue;
+                    for (int city = 0; city < cities.size(); city++) {
+                        if (city == playerLocation) continue;
 
                         for (int c = 0; c < playerHand.getSize(); c++) {
-                            if (playerHand.getComponents().get(c).getProperty(colorHash) != null) {
-                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.OperationsExpert, playerIdx, ((PropertyString) bn.getProperty(nameHash)).value, c, playerIdx));
+                            if (playerHand.get(c).getProperty(colorHash) != null) {
+                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.OperationsExpert, playerIdx, cities.getName(city), c, playerIdx));
                             }
                         }
                     }
                 }
                 break;
             // Dispatcher special actions
-            case "Dispatcher":
+            case Dispatcher:
                 // Move any pawn, if its owner agrees, to any city containing another pawn.
                 String[] locations = new String[pgs.getNPlayers()];
                 for (int i = 0; i < pgs.getNPlayers(); i++) {
-                    locations[i] = ((PropertyString) pgs.getComponent(playerCardHash, i)
-                            .getProperty(playerLocationHash)).value;
+                    locations[i] = cities.getName(pgs.getPlayerLocation(i));
                 }
                 for (int j = 0; j < pgs.getNPlayers(); j++) {
                     for (int i = 0; i < pgs.getNPlayers(); i++) {
@@ -196,7 +186,7 @@ class PandemicActionFactory {
                 }
                 break;
             // Contingency Planner special actions
-            case "Contingency Planner":
+            case ContingencyPlanner:
                 Deck<Card> plannerDeck = (Deck<Card>) pgs.getComponent(plannerDeckHash);
                 if (plannerDeck.getSize() == 0) {
                     // then can pick up an event card from player discard pile
@@ -252,39 +242,36 @@ class PandemicActionFactory {
      */
     static List<AbstractAction> getMoveActions(PandemicGameState pgs, int playerId, Deck<Card> playerHand){
         Set<AbstractAction> actions = new HashSet<>();
-
-        PropertyString playerLocationProperty = (PropertyString) pgs.getComponent(playerCardHash, playerId)
-                .getProperty(playerLocationHash);
-        String playerLocationName = playerLocationProperty.value;
-        BoardNode playerLocationNode = pgs.world.getNodeByProperty(nameHash, playerLocationProperty);
-        HashSet<BoardNode> neighbours = playerLocationNode.getNeighbours();
+        PandemicCityIndex cities = pgs.getCityIndex();
+        int playerLocation = pgs.getPlayerLocation(playerId);
 
         // Drive / Ferry add actions for travelling to immediate cities
-        for (BoardNode otherCity : neighbours){
-            actions.add(new MovePlayer(MovePlayer.MoveType.DriveFerry, playerId, ((PropertyString)otherCity.getProperty(nameHash)).value));
+        for (int otherCity : cities.getNeighbours(playerLocation)){
+            actions.add(new MovePlayer(MovePlayer.MoveType.DriveFerry, playerId, cities.getName(otherCity)));
+        }
+
+        // City cards in hand, by city index (-1 for event cards)
+        int[] cardCities = new int[playerHand.getSize()];
+        for (int c = 0; c < cardCities.length; c++) {
+            //  Check if card has country to determine if it is city card or not
+            Card card = playerHand.get(c);
+            cardCities[c] = card.getProperty(countryHash) != null ? cities.indexOf(cardName(card)) : -1;
         }
 
         // Iterate over all the cities in the world
-        for (BoardNode bn: pgs.world.getBoardNodes()) {
-            String destination = ((PropertyString) bn.getProperty(nameHash)).value;
-
-            if (!neighbours.contains(bn)) {  // Ignore neighbours, already covered in Drive/Ferry actions
-                for (int c = 0; c < playerHand.getSize(); c++){
-                    Card card = playerHand.getComponents().get(c);
-
-                    //  Check if card has country to determine if it is city card or not
-                    if ((card.getProperty(countryHash)) != null){
-                        String cardCity = ((PropertyString)card.getProperty(nameHash)).value;
-                        if (playerLocationName.equals(cardCity)){
-                            // Charter flight, discard card that matches your city and travel to any city
-                            // Only add the ones that are different from the current location
-                            if (!destination.equals(playerLocationName)) {
-                                actions.add(new MovePlayerWithCard(MovePlayer.MoveType.CharterFlight, playerId, destination, c, playerId));
-                            }
-                        } else if (destination.equals(cardCity)) {
-                            // Direct Flight, discard city card and travel to that city
-                            actions.add(new MovePlayerWithCard(MovePlayer.MoveType.DirectFlight, playerId, cardCity, c, playerId));
+        for (int destination = 0; destination < cities.size(); destination++) {
+            if (!cities.areNeighbours(playerLocation, destination)) {  // Ignore neighbours, already covered in Drive/Ferry actions
+                for (int c = 0; c < cardCities.length; c++){
+                    if (cardCities[c] == -1) continue;
+                    if (cardCities[c] == playerLocation){
+                        // Charter flight, discard card that matches your city and travel to any city
+                        // Only add the ones that are different from the current location
+                        if (destination != playerLocation) {
+                            actions.add(new MovePlayerWithCard(MovePlayer.MoveType.CharterFlight, playerId, cities.getName(destination), c, playerId));
                         }
+                    } else if (destination == cardCities[c]) {
+                        // Direct Flight, discard city card and travel to that city
+                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.DirectFlight, playerId, cities.getName(destination), c, playerId));
                     }
                 }
             }
@@ -292,7 +279,7 @@ class PandemicActionFactory {
 
         // Shuttle flight, move from city with research station to any other research station
         // If current city has research station, add every city that has research stations
-        if (((PropertyBoolean)playerLocationNode.getProperty(researchStationHash)).value) {
+        if (pgs.hasResearchStation(playerLocation)) {
             for (String station: pgs.researchStationLocations){
                 actions.add(new MovePlayer(MovePlayer.MoveType.ShuttleFlight, playerId, station));
             }
@@ -380,13 +367,12 @@ class PandemicActionFactory {
             case "Airlift":
 //                System.out.println("Airlift");
 //            System.out.println("Move any 1 pawn to any city. Get permission before moving another player's pawn.");
-                for (BoardNode bn: pgs.world.getBoardNodes()) {
-                    String cityName = ((PropertyString) bn.getProperty(nameHash)).value;
+                PandemicCityIndex cities = pgs.getCityIndex();
+                for (int city = 0; city < cities.size(); city++) {
                     for (int i = 0; i < pgs.getNPlayers(); i++) {
                         // Check if player is already there
-                        String pLocation = ((PropertyString) pgs.getComponent(playerCardHash, i).getProperty(playerLocationHash)).value;
-                        if (pLocation.equals(cityName)) continue;
-                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.Airlift, i, cityName, cardIdx, playerIdx));
+                        if (pgs.getPlayerLocation(i) == city) continue;
+                        actions.add(new MovePlayerWithCard(MovePlayer.MoveType.Airlift, i, cities.getName(city), cardIdx, playerIdx));
                     }
                 }
 
@@ -399,10 +385,10 @@ class PandemicActionFactory {
                 break;
             case "Government Grant":
                 // "Add 1 research station to any city (no City card needed)."
-                for (BoardNode bn: pgs.world.getBoardNodes()) {
-                    if (!((PropertyBoolean) bn.getProperty(researchStationHash)).value) {
-                        String cityName = ((PropertyString) bn.getProperty(nameHash)).value;
-                        actions.addAll(getResearchStationActions(pgs, cityName, card, deckFrom, deckTo, cardIdx));
+                PandemicCityIndex grantCities = pgs.getCityIndex();
+                for (int city = 0; city < grantCities.size(); city++) {
+                    if (!pgs.hasResearchStation(city)) {
+                        actions.addAll(getResearchStationActions(pgs, grantCities.getName(city), card, deckFrom, deckTo, cardIdx));
                     }
                 }
                 break;
@@ -420,6 +406,11 @@ class PandemicActionFactory {
         return new ArrayList<>(actions);
     }
 
+    private static String cardName(Card card) {
+        Property p = card.getProperty(nameHash);
+        return p == null ? null : ((PropertyString) p).value;
+    }
+
     static List<AbstractAction> getForecastActions(PandemicGameState pgs) {
 //            System.out.println("Draw, look at, and rearrange the top 6 cards of the Infection Deck. Put them back on top.");
         // Generate all permutations. Each one is a potential action.
@@ -0,0 +1,113 @@
+package games.pandemic;
+
+import core.actions.ActionPool;
+import core.components.BoardNode;
+import core.components.GraphBoard;
+import core.properties.PropertyColor;
+import core.properties.PropertyString;
+import games.pandemic.actions.TreatDisease;
+import utilities.Utils;
+
+import java.util.*;
+
+import static core.CoreConstants.nameHash;
+import static core.CoreConstants.colorHash;
+import static games.pandemic.PandemicConstants.colors;
+
+/**
+ * Immutable layout of the Pandemic world, mapping each city to a dense int index.
+ * This is built once at setup, and then shared by all copies of the game state (the cities and their
+ * connections never change during a game; only the properties on the BoardNodes do).
+ */
+public final class PandemicCityIndex {
+
+    private final String[] names;
+    private final int[] nodeIDs;
+    private final int[] colorIdx;
+    private final int[][] neighbours;
+    private final BitSet[] neighbourSets;
+    private final Map<String, Integer> byName;
+    // Shared instances of the actions to treat disease, keyed by city, colour and whether all cubes are removed
+    private final ActionPool<TreatDisease> treatActions = new ActionPool<>();
+
+    public PandemicCityIndex(GraphBoard world) {
+        List<BoardNode> nodes = new ArrayList<>(world.getBoardNodes());
+        nodes.sort(Comparator.comparingInt(BoardNode::getComponentID));
+        int n = nodes.size();
+        names = new String[n];
+        nodeIDs = new int[n];
+        colorIdx = new int[n];
+        byName = new HashMap<>();
+        Map<Integer, Integer> byNodeID = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            BoardNode bn = nodes.get(i);
+            names[i] = ((PropertyString) bn.getProperty(nameHash)).value;
+            nodeIDs[i] = bn.getComponentID();
+            PropertyColor color = (PropertyColor) bn.getProperty(colorHash);
+            colorIdx[i] = color == null ? -1 : Utils.indexOf(colors, color.valueStr);
+            byName.put(names[i], i);
+            byNodeID.put(nodeIDs[i], i);
+        }
+        neighbours = new int[n][];
+        neighbourSets = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            neighbourSets[i] = new BitSet(n);
+            for (BoardNode other : nodes.get(i).getNeighbours())
+                neighbourSets[i].set(byNodeID.get(other.getComponentID()));
+            neighbours[i] = neighbourSets[i].stream().toArray();
+        }
+    }
+
+    /**
+     * @return number of cities in the world
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return index of the named city, or -1 if there is no such city
+     */
+    public int indexOf(String city) {
+        if (city == null) return -1;
+        Integer idx = byName.get(city);
+        return idx == null ? -1 : idx;
+    }
+
+    public String getName(int city) {
+        return names[city];
+    }
+
+    /**
+     * @return the component ID of the BoardNode for this city (which is the same in all copies of the world)
+     */
+    public int getNodeID(int city) {
+        return nodeIDs[city];
+    }
+
+    /**
+     * @return the index of the colour of this city in PandemicConstants.colors, or -1 if it has none
+     */
+    public int getColorIdx(int city) {
+        return colorIdx[city];
+    }
+
+    /**
+     * @return indices of the neighbouring cities. The array is shared, and must not be modified.
+     */
+    public int[] getNeighbours(int city) {
+        return neighbours[city];
+    }
+
+    public boolean areNeighbours(int city, int other) {
+        return neighbourSets[city].get(other);
+    }
+
+    /**
+     * @return the action to treat the disease of the given colour in the given city, shared by all copies of the game
+     */
+    public TreatDisease treatDisease(int city, int colorIdx, boolean treatAll, int nInitialDiseaseCubes) {
+        int key = (city * colors.length + colorIdx) * 2 + (treatAll ? 1 : 0);
+        return treatActions.get(key, k -> new TreatDisease(nInitialDiseaseCubes, colors[colorIdx], names[city], treatAll));
+    }
+}
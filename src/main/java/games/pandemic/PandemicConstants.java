@@ -40,6 +40,14 @@ public class PandemicConstants {
         Medic,
         OperationsExpert;
 
+        /**
+         * @param name the name of a role card, such as "Operations Expert"
+         * @return the matching role
+         */
+        public static PlayerRole fromCardName(String name) {
+            return valueOf(name.replace(" ", ""));
+        }
+
         public static List<String> getRoleList() {
             ArrayList<String> list = new ArrayList<>();
             for (PlayerRole pr: values()) {
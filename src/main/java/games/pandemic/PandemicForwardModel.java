@@ -53,7 +53,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
         RuleNode infectCities = new InfectCities(pp.infectionRate, pp.maxCubesPerCity, pp.nCubesInfection);
         RuleNode forceDiscardReaction1 = new ForceDiscardReaction();
         RuleNode forceDiscardReaction2 = new ForceDiscardReaction();
-        RuleNode epidemic2 = new EpidemicIntensify(new Random(pp.getRandomSeed()));
+        RuleNode epidemic2 = new EpidemicIntensify();
         RuleNode forceRPreaction = new ForceRPReaction();
         RuleNode epidemic1 = new EpidemicInfect(pp.maxCubesPerCity, pp.nCubesEpidemic);
         RuleNode drawCards = new DrawCards();
@@ -144,7 +144,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
      */
     @Override
     protected void _setup(AbstractGameState firstState) {
-        Random rnd = new Random(firstState.getGameParameters().getRandomSeed());
+        Random rnd = firstState.getRnd();
 
         PandemicGameState state = (PandemicGameState) firstState;
         state._reset();
@@ -175,6 +175,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
         // Load the board
         state.world = _data.findGraphBoard("cities");
         gameArea.putComponent(pandemicBoardHash, state.world);
+        state.indexWorld(null);
 
         // Initialize game state variables
         state.setNCardsDrawn(0);
@@ -256,17 +257,18 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
             Card c = null;
             // Ugly code, but easier for setting parameters and optimisation
             if (i == 0 && !pp.player0Role.equals("Any"))
-                c = getPlayerCardWithRole(playerRoles, pp.player0Role, pp);
+                c = getPlayerCardWithRole(playerRoles, pp.player0Role, rnd);
             else if (i == 1 && !pp.player1Role.equals("Any"))
-                c = getPlayerCardWithRole(playerRoles, pp.player1Role, pp);
+                c = getPlayerCardWithRole(playerRoles, pp.player1Role, rnd);
             else if (i == 2 && !pp.player2Role.equals("Any"))
-                c = getPlayerCardWithRole(playerRoles, pp.player2Role, pp);
+                c = getPlayerCardWithRole(playerRoles, pp.player2Role, rnd);
             else if (i == 3 && !pp.player3Role.equals("Any"))
-                c = getPlayerCardWithRole(playerRoles, pp.player3Role, pp);
+                c = getPlayerCardWithRole(playerRoles, pp.player3Role, rnd);
             if (c == null)
                 c = playerRoles.draw();
 
             c.setOwnerId(i);
+            state.setPlayerRole(i, c);
 
             // Give the card to this player
             Area playerArea = state.getArea(i);
@@ -316,7 +318,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
         state.getTurnOrder().setStartingPlayer(startingPlayer);
     }
 
-    private Card getPlayerCardWithRole(Deck<Card> cards, String role, PandemicParameters pp) {
+    private Card getPlayerCardWithRole(Deck<Card> cards, String role, Random rnd) {
         // Possible to have multiple possible roles separated by ","
         HashSet<String> roles = new HashSet<>();
         if (role.contains(",")) {
@@ -333,7 +335,7 @@ public class PandemicForwardModel extends AbstractRuleBasedForwardModel {
             }
         }
         if (subset.getSize() > 0) {
-            subset.shuffle(new Random(pp.getRandomSeed()));
+            subset.shuffle(rnd);
             return subset.draw();
         }
         return null;
@@ -45,6 +45,22 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
     // Keeps track of locations of all research stations (list of names of cities / board nodes)
     ArrayList<String> researchStationLocations;
 
+    // Typed views of the world and the players, kept in step with the Component properties (which remain
+    // the source of truth for the GUI and any generic code). These are derived data, so excluded from equals/hashCode.
+    // Layout of the world; immutable, and shared between copies
+    PandemicCityIndex cityIndex;
+    // Roles never change after setup, so this is also shared between copies
+    PlayerRole[] playerRoles;
+    // BoardNode for each city index in this copy of the world
+    BoardNode[] cityNodes;
+    // Infection counts by city index then colour index. These arrays are the ones held by the "infection"
+    // PropertyIntArray of each BoardNode, so changes via either route are seen by both.
+    int[][] cityInfections;
+    // Cities with a research station
+    BitSet researchStations;
+    // City index of each player's pawn (-1 if not on the board)
+    int[] playerLocations;
+
     @Override
     protected List<Component> _getAllComponents() {
         List<Component> components = new ArrayList<>(areas.values());
@@ -126,13 +142,19 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
         epidemic = false;
         nCardsDrawn = 0;
         researchStationLocations = new ArrayList<>();
+        cityIndex = null;
+        playerRoles = new PlayerRole[getNPlayers()];
+        cityNodes = null;
+        cityInfections = null;
+        researchStations = new BitSet();
+        playerLocations = new int[getNPlayers()];
+        Arrays.fill(playerLocations, -1);
     }
 
     @Override
     protected boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof PandemicGameState)) return false;
-        if (!super.equals(o)) return false;
         PandemicGameState that = (PandemicGameState) o;
         return quietNight == that.quietNight &&
                 epidemic == that.epidemic &&
@@ -179,8 +201,14 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
     Area getArea(int playerId) {
         return areas.get(playerId);
     }
-    public void addResearchStation(String location) { researchStationLocations.add(location); }
-    public void removeResearchStation(String location) { researchStationLocations.remove(location); }
+    public void addResearchStation(String location) {
+        researchStationLocations.add(location);
+        researchStations.set(cityIndex.indexOf(location));
+    }
+    public void removeResearchStation(String location) {
+        researchStationLocations.remove(location);
+        researchStations.clear(cityIndex.indexOf(location));
+    }
     public void setQuietNight(boolean qn) {
         quietNight = qn;
     }
@@ -219,10 +247,60 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
     public GraphBoard getWorld() {
         return world;
     }
+    public PandemicCityIndex getCityIndex() {
+        return cityIndex;
+    }
+    public BoardNode getCityNode(int city) {
+        return cityNodes[city];
+    }
+    /**
+     * Direct replacement for world.getNodeByStringProperty(nameHash, city) that avoids a scan of all the nodes.
+     * @return the BoardNode of the named city, or null if there is no such city
+     */
+    public BoardNode getCityNode(String city) {
+        int idx = cityIndex.indexOf(city);
+        return idx == -1 ? null : cityNodes[idx];
+    }
+    /**
+     * @return the disease cubes in the city by colour index. This is the live array, and must not be modified
+     * except by actions that change the infection level.
+     */
+    public int[] getCityInfections(int city) {
+        return cityInfections[city];
+    }
+    public boolean hasResearchStation(int city) {
+        return researchStations.get(city);
+    }
+    public int getPlayerLocation(int playerId) {
+        return playerLocations[playerId];
+    }
+    public void setPlayerLocation(int playerId, int city) {
+        playerLocations[playerId] = city;
+    }
+    public PlayerRole getPlayerRoleType(int playerId) {
+        return playerRoles[playerId];
+    }
+    void setPlayerRole(int playerId, Card roleCard) {
+        playerRoles[playerId] = PlayerRole.fromCardName(((PropertyString) roleCard.getProperty(nameHash)).value);
+    }
+
+    /**
+     * Sets up the typed views of the world after it has been loaded (shareIndex == null) or copied (sharing the index of the original).
+     */
+    void indexWorld(PandemicCityIndex shareIndex) {
+        cityIndex = shareIndex == null ? new PandemicCityIndex(world) : shareIndex;
+        int n = cityIndex.size();
+        cityNodes = new BoardNode[n];
+        cityInfections = new int[n][];
+        for (int i = 0; i < n; i++) {
+            cityNodes[i] = world.getNodeByID(cityIndex.getNodeID(i));
+            cityInfections[i] = ((PropertyIntArray) cityNodes[i].getProperty(infectionHash)).getValues();
+        }
+    }
 
     @Override
     protected AbstractGameStateWithTurnOrder __copy(int playerId) {
-        PandemicGameState gs = new PandemicGameState(gameParameters.copy(), getNPlayers());
+        PandemicGameState gs = new PandemicGameState(gameParameters, getNPlayers());
 
         gs.areas = new HashMap<>();
         for(int key : areas.keySet())
@@ -234,7 +312,7 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
                 HashMap<Integer, Component> oldComponents = areas.get(key).getComponentsMap();
                 for (Map.Entry<Integer, Component> e: oldComponents.entrySet()) {
                     if (gs.getCoreGameParameters().partialObservable && (e.getKey() == playerDeckHash || e.getKey() == infectionHash)) {
-                        Random r = new Random(gs.getGameParameters().getRandomSeed());
+                        Random r = getCopyRnd();
                         Deck<Card> hiddenDeck = (Deck<Card>) e.getValue().copy();
                         if (gamePhase == Forecast && e.getKey() == infectionHash) {
                             // Top N cards should be left the same, the rest shuffled
@@ -258,6 +336,10 @@ public class PandemicGameState extends AbstractGameStateWithTurnOrder implements
         gs.nCardsDrawn = nCardsDrawn;
 
         gs.researchStationLocations = new ArrayList<>(researchStationLocations);
+        gs.indexWorld(cityIndex);
+        gs.playerRoles = playerRoles;
+        gs.researchStations = (BitSet) researchStations.clone();
+        gs.playerLocations = playerLocations.clone();
 
         return gs;
     }
@@ -22,7 +22,7 @@ public class AddResearchStation extends AbstractAction {
 
     @Override
     public boolean execute(AbstractGameState gs) {
-        BoardNode bn = ((PandemicGameState)gs).getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = ((PandemicGameState)gs).getCityNode(city);
         PandemicGameState pgs = (PandemicGameState)gs;
         if (bn != null) {
             bn.setProperty(new PropertyBoolean("Research Stations", true));
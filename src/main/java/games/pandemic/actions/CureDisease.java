@@ -1,6 +1,7 @@
 package games.pandemic.actions;
 
 import core.actions.AbstractAction;
+import core.interfaces.IImmutableAction;
 import core.components.Card;
 import core.components.Counter;
 import core.components.Deck;
@@ -16,13 +17,14 @@ import static core.CoreConstants.playerHandHash;
 import static games.pandemic.PandemicConstants.playerDeckDiscardHash;
 
 @SuppressWarnings("unchecked")
-public class CureDisease extends AbstractAction {
-    private String color;
-    private ArrayList<Integer> cardIds;
+public class CureDisease extends AbstractAction implements IImmutableAction {
+    private final String color;
+    private final ArrayList<Integer> cardIds;  // own copy, never modified once the action is created
+    private int hash;  // computed on first use
 
     public CureDisease(String color, ArrayList<Integer> cardIds) {
         this.color = color;
-        this.cardIds = cardIds;
+        this.cardIds = new ArrayList<>(cardIds);
     }
 
     @Override
@@ -50,8 +52,7 @@ public class CureDisease extends AbstractAction {
 
     @Override
     public AbstractAction copy() {
-        ArrayList<Integer> cardIds = new ArrayList(this.cardIds);
-        return new CureDisease(this.color, cardIds);
+        return this;  // Immutable
     }
 
 
@@ -64,7 +65,7 @@ public class CureDisease extends AbstractAction {
     }
 
     public ArrayList<Integer> getCards() {
-        return cardIds;
+        return new ArrayList<>(cardIds);
     }
 
     public String getColor() {
@@ -78,7 +79,12 @@ public class CureDisease extends AbstractAction {
 
     @Override
     public int hashCode() {
-        return Objects.hash(color, cardIds);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(color, cardIds);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
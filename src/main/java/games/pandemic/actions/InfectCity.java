@@ -50,14 +50,12 @@ public class InfectCity extends DrawCard {
             int colorIdx = Utils.indexOf(colors, color.valueStr);
             PropertyString city = (PropertyString) infectingCard.getProperty(nameHash);
 
-            BoardNode bn = pgs.getWorld().getNodeByStringProperty(nameHash, city.value);
+            BoardNode bn = pgs.getCityNode(city.value);
             if (bn != null) {
                 // check if quarantine specialist is on that node
                 PropertyIntArrayList players = (PropertyIntArrayList)bn.getProperty(playersHash);
                 for (int playerIdx: players.getValues()){
-                    Card playerCard = (Card) pgs.getComponent(PandemicConstants.playerCardHash, playerIdx);
-                    String roleString = ((PropertyString)playerCard.getProperty(nameHash)).value;
-                    if (roleString.equals("Quarantine Specialist")){
+                    if (pgs.getPlayerRoleType(playerIdx) == PlayerRole.QuarantineSpecialist){
                         // no infection or outbreak
                         return true;
                     }
@@ -110,9 +108,7 @@ public class InfectCity extends DrawCard {
 
             PropertyIntArrayList players = (PropertyIntArrayList)b2.getProperty(playersHash);
             for (int playerIdx: players.getValues()){
-                Card playerCard = (Card)pgs.getComponent(PandemicConstants.playerCardHash, playerIdx);
-                String roleString = ((PropertyString)playerCard.getProperty(nameHash)).value;
-                if (!roleString.equals("Quarantine Specialist")) {
+                if (pgs.getPlayerRoleType(playerIdx) != PlayerRole.QuarantineSpecialist) {
                     // no infection or outbreak in the city where the QS is placed
                     // Try to add a disease cube here
                     PropertyIntArray infectionArray = (PropertyIntArray) b2.getProperty(infectionHash);
@@ -10,7 +10,6 @@ import games.pandemic.PandemicConstants;
 
 import java.util.Objects;
 
-import static core.CoreConstants.nameHash;
 import static core.CoreConstants.playersHash;
 
 
@@ -51,21 +50,23 @@ public class MovePlayer extends AbstractAction {
 
 
     public static void placePlayer(PandemicGameState gs, String city, int playerIdx) {
-        BoardNode bn = gs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = gs.getCityNode(city);
         PropertyIntArrayList prop = (PropertyIntArrayList) bn.getProperty(playersHash);
         prop.getValues().add(playerIdx);
 
         Card playerCard = (Card) gs.getComponent(PandemicConstants.playerCardHash, playerIdx);
         playerCard.setProperty(new PropertyString("playerLocation", city));
+        gs.setPlayerLocation(playerIdx, gs.getCityIndex().indexOf(city));
     }
 
     public static void removePlayer(PandemicGameState gs, String city, int playerIdx) {
-        BoardNode bn = gs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = gs.getCityNode(city);
         PropertyIntArrayList prop = (PropertyIntArrayList) bn.getProperty(playersHash);
         prop.getValues().remove(Integer.valueOf(playerIdx));
 
         Card playerCard = (Card) gs.getComponent(PandemicConstants.playerCardHash, playerIdx);
         playerCard.setProperty(new PropertyString("playerLocation", null));
+        gs.setPlayerLocation(playerIdx, -1);
     }
 
     public String getDestination(){
@@ -1,6 +1,7 @@
 package games.pandemic.actions;
 
 import core.actions.AbstractAction;
+import core.interfaces.IImmutableAction;
 import core.components.BoardNode;
 import core.components.Counter;
 import core.properties.PropertyIntArray;
@@ -12,14 +13,14 @@ import utilities.Utils;
 import java.util.Objects;
 
 import static games.pandemic.PandemicConstants.*;
-import static core.CoreConstants.nameHash;
 
-public class TreatDisease extends AbstractAction {
+public class TreatDisease extends AbstractAction implements IImmutableAction {
 
-    private int initialDiseaseCubes;
-    private String color;
-    private String city;
-    private boolean treatAll;
+    private final int initialDiseaseCubes;
+    private final String color;
+    private final String city;
+    private final boolean treatAll;
+    private int hash;  // computed on first use
 
     public TreatDisease(int initialDiseaseCubes, String color, String city) {
         this.initialDiseaseCubes = initialDiseaseCubes;
@@ -43,7 +44,7 @@ public class TreatDisease extends AbstractAction {
         Counter diseaseCubeCounter = (Counter) pgs.getComponent(Hash.GetInstance().hash("Disease Cube " + color));
         int colorIdx = Utils.indexOf(colors, color);
 
-        BoardNode bn = pgs.getWorld().getNodeByStringProperty(nameHash, city);
+        BoardNode bn = pgs.getCityNode(city);
         if (bn != null) {
             PropertyIntArray infectionArray = (PropertyIntArray) bn.getProperty(infectionHash);
             int[] array = infectionArray.getValues();
@@ -70,7 +71,7 @@ public class TreatDisease extends AbstractAction {
 
     @Override
     public AbstractAction copy() {
-        return new TreatDisease(initialDiseaseCubes, color, city, treatAll);
+        return this;  // Immutable
     }
 
     @Override
@@ -93,7 +94,12 @@ public class TreatDisease extends AbstractAction {
 
     @Override
     public int hashCode() {
-        return Objects.hash(initialDiseaseCubes, color, city, treatAll);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(initialDiseaseCubes, color, city, treatAll);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -7,18 +7,14 @@ import core.rules.Node;
 import core.rules.nodetypes.RuleNode;
 import games.pandemic.PandemicGameState;
 
-import java.util.Random;
-
 import static games.pandemic.PandemicConstants.infectionDiscardHash;
 import static games.pandemic.PandemicConstants.infectionHash;
 
 @SuppressWarnings("unchecked")
 public class EpidemicIntensify extends RuleNode {
-    Random rnd;
 
-    public EpidemicIntensify(Random rnd) {
+    public EpidemicIntensify() {
         super();
-        this.rnd = rnd;
     }
 
     /**
@@ -27,7 +23,6 @@ public class EpidemicIntensify extends RuleNode {
      */
     public EpidemicIntensify(EpidemicIntensify epidemicIntensify) {
         super(epidemicIntensify);
-        this.rnd = epidemicIntensify.rnd;
     }
 
     @Override
@@ -36,7 +31,7 @@ public class EpidemicIntensify extends RuleNode {
         Deck<Card> infectionDiscard = (Deck<Card>) pgs.getComponent(infectionDiscardHash);
         Deck<Card> infectionDeck = (Deck<Card>) pgs.getComponent(infectionHash);
         // 3. shuffle infection discard deck, add back on top of infection deck
-        infectionDiscard.shuffle(rnd);
+        infectionDiscard.shuffle(pgs.getRnd());
         infectionDeck.add(infectionDiscard);
         infectionDiscard.clear();
         return true;
@@ -5,7 +5,6 @@ import core.actions.DrawCard;
 import core.components.Card;
 import core.components.Counter;
 import core.components.Deck;
-import core.properties.PropertyString;
 import core.rules.Node;
 import games.pandemic.PandemicConstants;
 import games.pandemic.PandemicGameState;
@@ -17,7 +16,6 @@ import games.pandemic.actions.TreatDisease;
 import utilities.Hash;
 
 import static core.CoreConstants.playerHandHash;
-import static core.CoreConstants.nameHash;
 
 public class PlayerAction extends core.rules.rulenodes.PlayerAction {
 
@@ -53,10 +51,7 @@ public class PlayerAction extends core.rules.rulenodes.PlayerAction {
                 pgs.setGamePhase(PandemicGameState.PandemicGamePhase.Forecast);
             } else if (action instanceof MovePlayer) {
                 // if player is Medic and a disease has been cured, then it should remove all cubes when entering the city
-                Card playerCard = (Card) pgs.getComponent(PandemicConstants.playerCardHash, playerIdx);
-                String roleString = ((PropertyString) playerCard.getProperty(nameHash)).value;
-
-                if (roleString.equals("Medic")) {
+                if (pgs.getPlayerRoleType(playerIdx) == PandemicConstants.PlayerRole.Medic) {
                     for (String color : PandemicConstants.colors) {
                         Counter diseaseToken = (Counter) ((PandemicGameState) gs).getComponent(Hash.GetInstance().hash("Disease " + color));
                         String city = ((MovePlayer) action).getDestination();
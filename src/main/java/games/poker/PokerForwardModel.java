@@ -56,7 +56,7 @@ public class PokerForwardModel extends StandardForwardModel {
      */
     private void setupRound(PokerGameState pgs) {
         PokerGameParameters params = (PokerGameParameters) pgs.getGameParameters();
-        Random r = new Random(params.getRandomSeed() + pgs.getRoundCounter());
+        Random r = pgs.getRnd();
 
         pgs.moneyPots.clear();
         pgs.moneyPots.add(new MoneyPot());
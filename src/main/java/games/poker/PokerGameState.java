@@ -186,7 +186,7 @@ public class PokerGameState extends AbstractGameState implements IPrintable {
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        PokerGameState copy = new PokerGameState(gameParameters.copy(), getNPlayers());
+        PokerGameState copy = new PokerGameState(gameParameters, getNPlayers());
         copy.communityCards = communityCards.copy();
         copy.moneyPots = new ArrayList<>();
         for (MoneyPot pot: moneyPots) {
@@ -201,29 +201,38 @@ public class PokerGameState extends AbstractGameState implements IPrintable {
             copy.playerBet[i] = playerBet[i].copy();
         }
         copy.drawDeck = drawDeck.copy();
-        if (getCoreGameParameters().partialObservable && playerId != -1) {
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    copy.drawDeck.add(copy.playerDecks.get(i));
-                    copy.playerDecks.get(i).clear();
-                }
-            }
-            copy.drawDeck.shuffle(new Random(copy.gameParameters.getRandomSeed()));
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    for (int j = 0; j < playerDecks.get(i).getSize(); j++) {
-                        copy.playerDecks.get(i).add(copy.drawDeck.draw());
-                    }
-                }
-            }
-        }
         copy.playerNeedsToCall = playerNeedsToCall.clone();
         copy.playerFold = playerFold.clone();
         copy.playerActStreet = playerActStreet.clone();
         copy.bet = bet;
+        if (getCoreGameParameters().partialObservable && playerId != -1) {
+            copy._redeterminise(playerId, getCopyRnd());
+        }
         return copy;
     }
 
+    @Override
+    protected boolean _redeterminise(int playerId, Random rnd) {
+        // Other players' hands are shuffled with the draw deck and dealt again
+        int[] handSizes = new int[getNPlayers()];
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                handSizes[i] = playerDecks.get(i).getSize();
+                drawDeck.add(playerDecks.get(i));
+                playerDecks.get(i).clear();
+            }
+        }
+        drawDeck.shuffle(rnd);
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                for (int j = 0; j < handSizes[i]; j++) {
+                    playerDecks.get(i).add(drawDeck.draw());
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     protected double _getHeuristicScore(int playerId) {
         return new PokerHeuristic().evaluateState(this, playerId);
@@ -256,7 +265,6 @@ public class PokerGameState extends AbstractGameState implements IPrintable {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof PokerGameState)) return false;
-        if (!super.equals(o)) return false;
         PokerGameState that = (PokerGameState) o;
         return bet == that.bet && Objects.equals(playerDecks, that.playerDecks) && Arrays.equals(playerMoney, that.playerMoney) && Arrays.equals(playerBet, that.playerBet) && Objects.equals(drawDeck, that.drawDeck) && Objects.equals(communityCards, that.communityCards) && Objects.equals(moneyPots, that.moneyPots) && Arrays.equals(playerNeedsToCall, that.playerNeedsToCall) && Arrays.equals(playerFold, that.playerFold) && Arrays.equals(playerActStreet, that.playerActStreet);
     }
@@ -21,7 +21,6 @@ public class ResGameState extends AbstractGameState {
     boolean voteSuccess;
     int leaderID;
     int failedVoteCounter = 0;
-    Random rnd;
 
     ResPlayerCards.CardType[] votingChoice;
 
@@ -47,7 +46,6 @@ public class ResGameState extends AbstractGameState {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ResGameState)) return false;
-        if (!super.equals(o)) return false;
         ResGameState that = (ResGameState) o;
         return
                 leaderID == that.leaderID &&
@@ -112,7 +110,7 @@ public class ResGameState extends AbstractGameState {
 
     @Override
     protected ResGameState _copy(int playerId) {
-        ResGameState copy = new ResGameState(gameParameters.copy(), getNPlayers());
+        ResGameState copy = new ResGameState(gameParameters, getNPlayers());
         copy.gameBoard = gameBoard;
         copy.factions = factions;
 
@@ -123,7 +121,6 @@ public class ResGameState extends AbstractGameState {
         copy.playerHandCards = new ArrayList<>();
         copy.finalTeamChoice = new ArrayList<>();
         copy.gameBoardValues = new ArrayList<>(gameBoardValues);
-        copy.rnd = new Random(rnd.nextLong());
         copy.historicTeams = new ArrayList<>(historicTeams);  // we do not need to copy the sub-lists, as they are immutable
         copy.noVotesPerMission = new ArrayList<>(noVotesPerMission);
         copy.leaderID = leaderID;
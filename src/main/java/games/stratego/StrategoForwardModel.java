@@ -5,6 +5,7 @@ import core.CoreConstants;
 import core.StandardForwardModel;
 import core.actions.AbstractAction;
 import core.actions.ActionSpace;
+import core.components.Component;
 import core.components.GridBoard;
 import core.interfaces.ITreeActionSpace;
 import games.stratego.actions.AttackMove;
@@ -34,7 +35,7 @@ public class StrategoForwardModel extends StandardForwardModel implements ITreeA
         StrategoParams params = (StrategoParams) firstState.getGameParameters();
         StrategoGameState state = (StrategoGameState) firstState;
         state.gridBoard = new GridBoard<>(params.gridSize, params.gridSize);
-        Random random = new Random(params.getRandomSeed());
+        Random random = state.getRnd();
 
         StrategoConstants.PieceSetups[] setups = StrategoConstants.PieceSetups.values();
         StrategoConstants.PieceSetups RedSetup = setups[random.nextInt(setups.length)];
@@ -58,24 +59,25 @@ public class StrategoForwardModel extends StandardForwardModel implements ITreeA
     @Override
     protected List<AbstractAction> _computeAvailableActions(AbstractGameState gameState, ActionSpace actionSpace) {
         StrategoGameState state = (StrategoGameState) gameState;
-        ArrayList<AbstractAction> actions = new ArrayList<>();
+        // Enough for most positions without resizing: each player has 40 pieces, many of which cannot move
+        int actionCapacity = 40;
+        ArrayList<AbstractAction> actions = new ArrayList<>(actionCapacity);
         int player = gameState.getCurrentPlayer();
         Piece.Alliance playerAlliance = StrategoConstants.playerMapping.get(player);
-        List<Piece> pieces = state.gridBoard.getComponents();
+        Component[][] grid = state.gridBoard.getGridValues();
 
-        if (pieces.isEmpty()){
+        if (grid.length == 0){
             throw new AssertionError("Error: No Pieces Found");
 //            state.setGameStatus(Utils.GameResult.GAME_END);
             //           return actions;
         }
 
-        for (Piece piece : pieces){
-            if (piece != null){
-                if (piece.getPieceAlliance() == playerAlliance) {
-
-                    List<AbstractAction> pieceActions = piece.calculateMoves(state, actionSpace);
-                    if (pieceActions.size() == 0) continue;
+        for (Component[] row : grid) {
+            for (Component c : row) {
+                Piece piece = (Piece) c;
+                if (piece != null && piece.getPieceAlliance() == playerAlliance) {
                     if (actionSpace.structure == ActionSpace.Structure.Deep) {
+                        if (!piece.canMove(state)) continue;
                         // Single action to choose the piece, then move for piece is selected sequentially
                         if (actionSpace.context == ActionSpace.Context.Dependent) {
                             actions.add(new DeepMove(player, piece.getPiecePosition(), actionSpace));
@@ -83,7 +85,7 @@ public class StrategoForwardModel extends StandardForwardModel implements ITreeA
                             actions.add(new DeepMove(player, piece.getComponentID(), actionSpace));
                         }
                     } else {
-                        actions.addAll(pieceActions);
+                        piece.calculateMoves(state, actionSpace, actions);
                     }
                 }
             }
@@ -91,6 +93,22 @@ public class StrategoForwardModel extends StandardForwardModel implements ITreeA
     return actions;
     }
 
+    /**
+     * @return true if the given player has at least one piece that can move, without generating the moves.
+     */
+    private boolean hasAvailableActions(StrategoGameState state, int player) {
+        Piece.Alliance playerAlliance = StrategoConstants.playerMapping.get(player);
+        for (Component[] row : state.gridBoard.getGridValues()) {
+            for (Component c : row) {
+                Piece piece = (Piece) c;
+                if (piece != null && piece.getPieceAlliance() == playerAlliance && piece.canMove(state)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     protected List<AbstractAction> _computeAvailableActions(AbstractGameState gameState) {
         return _computeAvailableActions(gameState, ActionSpace.Default);
@@ -105,11 +123,9 @@ public class StrategoForwardModel extends StandardForwardModel implements ITreeA
         StrategoGameState sgs = (StrategoGameState) currentState;
         endPlayerTurn(sgs);
 
-        List<AbstractAction> actions = _computeAvailableActions(sgs, currentState.getCoreGameParameters().actionSpace);
-        if (actions.isEmpty()){
+        if (!hasAvailableActions(sgs, sgs.getCurrentPlayer())){
             sgs.logEvent(StrategoMetrics.StrategoEvent.EndCondition, EndCondition.NO_MOVES_LEFT.name() + ":" + sgs.getCurrentPlayer());
             // If the player can't take any actions, they lose
-            _computeAvailableActions(sgs, currentState.getCoreGameParameters().actionSpace);
             sgs.setGameStatus(CoreConstants.GameResult.GAME_END);
             sgs.setPlayerResult(CoreConstants.GameResult.LOSE_GAME, sgs.getCurrentPlayer());
             sgs.setPlayerResult(CoreConstants.GameResult.WIN_GAME, 1-sgs.getCurrentPlayer());
@@ -52,7 +52,7 @@ public class StrategoGameState extends AbstractGameState{
             }
         }
 
-        Random random = new Random(gameParameters.getRandomSeed());
+        Random random = getCopyRnd();
         for (Piece piece : gridBoard.getComponents()){
             if (piece != null) {
                 if (playerId != -1 && getCoreGameParameters().partialObservable && playerAlliance != piece.getPieceAlliance() && !piece.isPieceKnown()){
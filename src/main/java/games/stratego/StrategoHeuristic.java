@@ -10,22 +10,20 @@ public class StrategoHeuristic implements IStateHeuristic {
     double bombValue = 0.0;
     double flagValue = 1.0;
 
-    double maxRankSum = -1;
-
     @Override
     public double evaluateState(AbstractGameState gs, int playerId) {
         StrategoGameState state = (StrategoGameState) gs;
         CoreConstants.GameResult playerResult = gs.getPlayerResults()[playerId];
 
-        if (maxRankSum == -1) {
-            StrategoParams params = (StrategoParams) state.getGameParameters();
-            maxRankSum = 0;
-            for (int i = 0; i < params.pieceSetupCount.length; i++) {
-                maxRankSum += (i+1)*params.pieceSetupCount[i];
-            }
-            maxRankSum += bombValue * params.pieceSetupNBombs;
-            maxRankSum += flagValue * params.pieceSetupNFlags;
+        // Worked out on each call, not cached, as the heuristic may be shared by games with different parameters
+        // running on several threads
+        StrategoParams params = (StrategoParams) state.getGameParameters();
+        double maxRankSum = 0;
+        for (int i = 0; i < params.pieceSetupCount.length; i++) {
+            maxRankSum += (i+1)*params.pieceSetupCount[i];
         }
+        maxRankSum += bombValue * params.pieceSetupNBombs;
+        maxRankSum += flagValue * params.pieceSetupNFlags;
 
         if (!gs.isNotTerminal())
             return playerResult.value;
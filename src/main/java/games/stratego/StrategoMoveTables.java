@@ -0,0 +1,123 @@
+package games.stratego;
+
+import core.actions.ActionPool;
+import games.stratego.actions.AttackMove;
+import games.stratego.actions.NormalMove;
+import utilities.Vector2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Precomputed board geometry used to generate moves, built once per set of parameters. Cells are indexed as
+ * y * gridSize + x, and directions follow the order of Vector2D.Direction.values4().
+ */
+public class StrategoMoveTables {
+
+    public final int gridSize;
+    // Restricted tiles the tables were built with
+    private final int[] xRestrictedTiles, yRestrictedTiles;
+    // Position of each cell
+    public final Vector2D[] positions;
+    // For each cell and direction, the cells reached by moving 1, 2, ... tiles in that direction, up to the
+    // edge of the board or the first tile that is not walkable
+    public final int[][][] rays;
+    // For each direction and distance, the displacement of moving that many tiles in that direction
+    public final Vector2D[][] displacements;
+
+    // Shared instances of the moves in the Dependent action space, keyed by cell, direction and distance (see moveKey)
+    private final ActionPool<NormalMove> normalMoves = new ActionPool<>();
+    private final ActionPool<AttackMove> attackMoves = new ActionPool<>();
+    private final IntFunction<NormalMove> newNormalMove = this::createNormalMove;
+    private final IntFunction<AttackMove> newAttackMove = this::createAttackMove;
+
+    StrategoMoveTables(StrategoParams params) {
+        gridSize = params.gridSize;
+        xRestrictedTiles = params.xRestrictedTiles.clone();
+        yRestrictedTiles = params.yRestrictedTiles.clone();
+        Vector2D.Direction[] directions = Vector2D.Direction.values4();
+
+        displacements = new Vector2D[directions.length][gridSize + 1];
+        for (int d = 0; d < directions.length; d++) {
+            for (int j = 0; j <= gridSize; j++) {
+                displacements[d][j] = directions[d].vector2D.mult(j);
+            }
+        }
+
+        positions = new Vector2D[gridSize * gridSize];
+        rays = new int[gridSize * gridSize][directions.length][];
+        List<Integer> ray = new ArrayList<>();
+        for (int y = 0; y < gridSize; y++) {
+            for (int x = 0; x < gridSize; x++) {
+                int cell = index(x, y);
+                positions[cell] = new Vector2D(x, y);
+                for (int d = 0; d < directions.length; d++) {
+                    ray.clear();
+                    for (int j = 1; j <= gridSize; j++) {
+                        int x2 = x + displacements[d][j].getX();
+                        int y2 = y + displacements[d][j].getY();
+                        if (!params.isTileValid(x2, y2)) break;
+                        ray.add(index(x2, y2));
+                    }
+                    rays[cell][d] = ray.stream().mapToInt(Integer::intValue).toArray();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if these tables were built with the same board geometry as the given parameters
+     */
+    boolean matches(StrategoParams params) {
+        return gridSize == params.gridSize && Arrays.equals(xRestrictedTiles, params.xRestrictedTiles)
+                && Arrays.equals(yRestrictedTiles, params.yRestrictedTiles);
+    }
+
+    public int index(int x, int y) {
+        return y * gridSize + x;
+    }
+
+    public int index(Vector2D position) {
+        return index(position.getX(), position.getY());
+    }
+
+    /**
+     * @return the move of the piece in the given cell by the given distance in the given direction, to an empty tile
+     */
+    public NormalMove normalMove(int cell, int direction, int distance) {
+        return normalMoves.get(moveKey(cell, direction, distance), newNormalMove);
+    }
+
+    /**
+     * @return the attack by the piece in the given cell on the piece the given distance away in the given direction
+     */
+    public AttackMove attackMove(int cell, int direction, int distance) {
+        return attackMoves.get(moveKey(cell, direction, distance), newAttackMove);
+    }
+
+    private NormalMove createNormalMove(int key) {
+        return new NormalMove(positions[keyCell(key)], displacements[keyDirection(key)][keyDistance(key)]);
+    }
+
+    private AttackMove createAttackMove(int key) {
+        return new AttackMove(positions[keyCell(key)], positions[rays[keyCell(key)][keyDirection(key)][keyDistance(key) - 1]]);
+    }
+
+    private int moveKey(int cell, int direction, int distance) {
+        return (cell * displacements.length + direction) * (gridSize + 1) + distance;
+    }
+
+    private int keyCell(int key) {
+        return key / (gridSize + 1) / displacements.length;
+    }
+
+    private int keyDirection(int key) {
+        return key / (gridSize + 1) % displacements.length;
+    }
+
+    private int keyDistance(int key) {
+        return key % (gridSize + 1);
+    }
+}
@@ -13,6 +13,9 @@ public class StrategoParams extends AbstractParameters {
     public int pieceSetupNFlags = 1;
     public int maxRounds = 2000;
 
+    // Built on first use, and again only if the board geometry changes (see getMoveTables)
+    private volatile StrategoMoveTables moveTables;
+
     public boolean isTileValid(final int x, final int y){
         if ((x>=0 && x<gridSize) && (y>=0 && y<gridSize)){
             return (x != xRestrictedTiles[0] || y != yRestrictedTiles[0]) && (x != xRestrictedTiles[0] || y != yRestrictedTiles[1])
@@ -24,6 +27,24 @@ public class StrategoParams extends AbstractParameters {
         }
     }
 
+    /**
+     * @return the move tables for these parameters. They are built once, and cached until gridSize or the restricted
+     * tiles change, so that the same tables (and their pooled actions) are shared by all copies of a game state.
+     */
+    public StrategoMoveTables getMoveTables() {
+        StrategoMoveTables tables = moveTables;
+        if (tables == null || !tables.matches(this)) {
+            synchronized (this) {
+                tables = moveTables;
+                if (tables == null || !tables.matches(this)) {
+                    tables = new StrategoMoveTables(this);
+                    moveTables = tables;
+                }
+            }
+        }
+        return tables;
+    }
+
     public StrategoParams(long seed) {
         super(seed);
     }
@@ -19,6 +19,8 @@ public class AttackMove extends Move {
     // Dependent:
     private final Vector2D attackedPosition;
 
+    private int hash;  // computed on first use
+
     public AttackMove(Vector2D piecePosition, Vector2D attackedPosition) {
         super(piecePosition);
         this.attackedPosition = attackedPosition.copy();
@@ -31,12 +33,6 @@ public class AttackMove extends Move {
         this.attackedPosition = null;
     }
 
-    private AttackMove(Vector2D piecePosition, int movedPieceID, Vector2D attackedPosition, int attackedPieceID) {
-        super(piecePosition, movedPieceID);
-        this.attackedPieceID = attackedPieceID;
-        this.attackedPosition = attackedPosition != null? attackedPosition.copy() : null;
-    }
-
     @Override
     public boolean execute(AbstractGameState gs) {
         boolean movedTileEmptied = true;
@@ -140,7 +136,7 @@ public class AttackMove extends Move {
 
     @Override
     public AttackMove copy() {
-        return new AttackMove(position, movedPieceID, attackedPosition, attackedPieceID);
+        return this;  // Immutable
     }
 
     @Override
@@ -191,7 +187,12 @@ public class AttackMove extends Move {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), attackedPieceID, attackedPosition);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(super.hashCode(), attackedPieceID, attackedPosition);
+            hash = h;
+        }
+        return h;
     }
 
     public Piece getAttackedPiece(StrategoGameState gs) {
@@ -1,13 +1,14 @@
 package games.stratego.actions;
 
 import core.actions.AbstractAction;
+import core.interfaces.IImmutableAction;
 import games.stratego.StrategoGameState;
 import games.stratego.components.Piece;
 import utilities.Vector2D;
 
 import java.util.Objects;
 
-public abstract class Move extends AbstractAction {
+public abstract class Move extends AbstractAction implements IImmutableAction {
     // Dependent:
     public final Vector2D position;
 
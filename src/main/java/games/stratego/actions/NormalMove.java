@@ -17,13 +17,15 @@ public class NormalMove extends Move{
     // Dependent
     public final Vector2D displacement;
 
-    // Independent
-    public Vector2D destinationCoordinate;
+    // Both
+    public final Vector2D destinationCoordinate;
+
+    private int hash;  // computed on first use
 
     public NormalMove(Vector2D position, Vector2D displacement) {
         super(position);
         this.displacement = displacement.copy();
-        this.destinationCoordinate = null;
+        this.destinationCoordinate = position.add(displacement);
     }
 
     public NormalMove(int movedPieceID, Vector2D destinationCoordinate) {
@@ -32,22 +34,12 @@ public class NormalMove extends Move{
         this.displacement = null;
     }
 
-    private NormalMove(Vector2D position, int movePieceID, Vector2D destinationCoordinate, Vector2D displacement) {
-        super(position, movePieceID);
-        this.destinationCoordinate = destinationCoordinate != null? destinationCoordinate.copy() : null;
-        this.displacement = displacement != null? displacement.copy() : null;
-    }
-
     @Override
     public boolean execute(AbstractGameState gs) {
         Piece movedPiece = getPiece((StrategoGameState) gs);
         GridBoard<Piece> board = ((StrategoGameState)gs).getGridBoard();
 
         board.setElement(movedPiece.getPiecePosition().getX(), movedPiece.getPiecePosition().getY(), null);
-        if (destinationCoordinate == null) {
-            destinationCoordinate = position.add(displacement);
-        }
-
         board.setElement(destinationCoordinate.getX(), destinationCoordinate.getY(), movedPiece);
 
         if (movedPiece.getPieceType() == Piece.PieceType.SCOUT &&
@@ -63,7 +55,7 @@ public class NormalMove extends Move{
 
     @Override
     public NormalMove copy() {
-        return new NormalMove(position, movedPieceID, destinationCoordinate != null? destinationCoordinate.copy() : null, displacement);
+        return this;  // Immutable
     }
 
     @Override
@@ -101,14 +93,16 @@ public class NormalMove extends Move{
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), displacement, destinationCoordinate);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(super.hashCode(), displacement, destinationCoordinate);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
     public Vector2D to(StrategoGameState gs) {
-        if (destinationCoordinate != null) {
-            return destinationCoordinate;
-        }
-        return position.add(displacement);
+        return destinationCoordinate;
     }
 }
\ No newline at end of file
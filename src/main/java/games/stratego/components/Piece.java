@@ -2,9 +2,10 @@ package games.stratego.components;
 
 import core.actions.AbstractAction;
 import core.actions.ActionSpace;
-import core.components.GridBoard;
+import core.components.Component;
 import core.components.Token;
 import games.stratego.StrategoGameState;
+import games.stratego.StrategoMoveTables;
 import games.stratego.StrategoParams;
 import games.stratego.actions.AttackMove;
 import games.stratego.actions.NormalMove;
@@ -67,61 +68,75 @@ public class Piece extends Token {
     }
 
     public List<AbstractAction> calculateMoves(StrategoGameState gs, ActionSpace actionSpace) {
-
-        GridBoard<Piece> board = gs.getGridBoard();
-        StrategoParams params = (StrategoParams) gs.getGameParameters();
-
         List<AbstractAction> moves = new ArrayList<>();
+        calculateMoves(gs, actionSpace, moves);
+        return moves;
+    }
 
+    /**
+     * Adds the moves available to this piece to the given list.
+     */
+    public void calculateMoves(StrategoGameState gs, ActionSpace actionSpace, List<AbstractAction> moves) {
         if (!getPieceType().isMovable()){
-            return moves;
+            return;
         }
 
+        Component[][] grid = gs.getGridBoard().getGridValues();
+        StrategoParams params = (StrategoParams) gs.getGameParameters();
+        StrategoMoveTables tables = params.getMoveTables();
+
         int maxTravel = params.moveSpeed;
         if (pieceType == PieceType.SCOUT) maxTravel = params.gridSize;
 
-        for (Vector2D.Direction dir: Vector2D.Direction.values4()) {
-            for (int j = 1; j <= maxTravel; j++) {
-                Vector2D dirCustom = dir.vector2D.mult(j);
-                Vector2D newPos = position.copy();
-                newPos = newPos.add(dirCustom);
-                Piece pieceAtTile = board.getElement(newPos.getX(), newPos.getY());
-                if (params.isTileValid(newPos.getX(), newPos.getY())  // Must be walkable tile
-                        && (pieceAtTile == null // Ok if empty tile, we can move there
-                        || pieceAtTile.getPieceAlliance() != alliance)) {  // Ok if enemy piece at tile, we attack
-                    addMove(board, moves, newPos, dirCustom, actionSpace);
+        int cell = tables.index(position);
+        int[][] rays = tables.rays[cell];
+        for (int d = 0; d < rays.length; d++) {
+            int[] ray = rays[d];
+            int nSteps = Math.min(maxTravel, ray.length);
+            for (int j = 0; j < nSteps; j++) {
+                Vector2D newPos = tables.positions[ray[j]];
+                Piece pieceAtTile = (Piece) grid[newPos.getY()][newPos.getX()];
+                if (pieceAtTile == null) {
+                    // Ok if empty tile, we can move there
+                    if (actionSpace.context == ActionSpace.Context.Dependent) {
+                        moves.add(tables.normalMove(cell, d, j + 1));
+                    } else {
+                        moves.add(new NormalMove(getComponentID(), newPos));
+                    }
+                } else if (pieceAtTile.getPieceAlliance() != alliance) {
+                    // Ok if enemy piece at tile, we attack
+                    if (actionSpace.context == ActionSpace.Context.Dependent) {
+                        moves.add(tables.attackMove(cell, d, j + 1));
+                    } else {
+                        moves.add(new AttackMove(getComponentID(), pieceAtTile.getComponentID()));
+                    }
                 } else {
                     // No more valid moves in this direction
                     break;
                 }
             }
         }
-
-        return moves;
     }
 
-    private void addMove(GridBoard<Piece> board, List<AbstractAction> moves, Vector2D newPos,
-                            Vector2D dir, ActionSpace actionSpace) {
-        Piece pieceAtTile = board.getElement(newPos.getX(), newPos.getY());
-        if (pieceAtTile == null) {
-            // Just move
-            if (actionSpace.context == ActionSpace.Context.Dependent) {
-                // Dependent
-                moves.add(new NormalMove(position, dir));
-            } else {
-                // Independent, default
-                moves.add(new NormalMove(getComponentID(), newPos));
-            }
-        } else {
-            // Attack
-            if (actionSpace.context == ActionSpace.Context.Dependent) {
-                // Dependent
-                moves.add(new AttackMove(position, newPos));
-            } else {
-                // Independent, default
-                moves.add(new AttackMove(getComponentID(), pieceAtTile.getComponentID()));
+    /**
+     * @return true if this piece has at least one move available, equivalent to calculateMoves() returning a
+     * non-empty list.
+     */
+    public boolean canMove(StrategoGameState gs) {
+        if (!getPieceType().isMovable()){
+            return false;
+        }
+        Component[][] grid = gs.getGridBoard().getGridValues();
+        StrategoMoveTables tables = ((StrategoParams) gs.getGameParameters()).getMoveTables();
+        for (int[] ray : tables.rays[tables.index(position)]) {
+            if (ray.length == 0) continue;
+            Vector2D newPos = tables.positions[ray[0]];
+            Piece pieceAtTile = (Piece) grid[newPos.getY()][newPos.getX()];
+            if (pieceAtTile == null || pieceAtTile.getPieceAlliance() != alliance) {
+                return true;
             }
         }
+        return false;
     }
 
     @Override
@@ -27,9 +27,9 @@ public class SGForwardModel extends StandardForwardModel implements ITreeActionS
         gs.deckRotations = 0;
         gs.playerScore = new Counter[firstState.getNPlayers()];
         gs.cardChoices = new ArrayList<>(firstState.getNPlayers());
-        gs.playedCardTypes = new HashMap[firstState.getNPlayers()];
-        gs.playedCardTypesAllGame = new HashMap[firstState.getNPlayers()];
-        gs.pointsPerCardType = new HashMap[firstState.getNPlayers()];
+        gs.playedCardTypes = new EnumMap[firstState.getNPlayers()];
+        gs.playedCardTypesAllGame = new EnumMap[firstState.getNPlayers()];
+        gs.pointsPerCardType = new EnumMap[firstState.getNPlayers()];
         gs.playedCards = new ArrayList<>();
 
         // Setup draw & discard piles
@@ -44,9 +44,9 @@ public class SGForwardModel extends StandardForwardModel implements ITreeActionS
             gs.playerScore[i] = new Counter(0, 0, Integer.MAX_VALUE, "Player " + i + " score");
             gs.playerHands.add(new Deck<>("Player " + i + " hand", CoreConstants.VisibilityMode.VISIBLE_TO_OWNER));
             gs.playedCards.add(new Deck<>("Player " + i + " played cards", CoreConstants.VisibilityMode.VISIBLE_TO_ALL));
-            gs.playedCardTypes[i] = new HashMap<>();
-            gs.playedCardTypesAllGame[i] = new HashMap<>();
-            gs.pointsPerCardType[i] = new HashMap<>();
+            gs.playedCardTypes[i] = new EnumMap<>(SGCard.SGCardType.class);
+            gs.playedCardTypesAllGame[i] = new EnumMap<>(SGCard.SGCardType.class);
+            gs.pointsPerCardType[i] = new EnumMap<>(SGCard.SGCardType.class);
             for (SGCard.SGCardType type: SGCard.SGCardType.values()) {
                 gs.playedCardTypes[i].put(type, new Counter(0, 0, Integer.MAX_VALUE, "Played cards " + type.name()));
                 gs.playedCardTypesAllGame[i].put(type, new Counter(0, 0, Integer.MAX_VALUE, "Played cards (all) " + type.name()));
@@ -77,7 +77,7 @@ public class SGForwardModel extends StandardForwardModel implements ITreeActionS
                 gs.drawPile.add(new SGCard(p.a, p.b));
             }
         }
-        gs.drawPile.shuffle(new Random(parameters.getRandomSeed()));
+        gs.drawPile.shuffle(gs.getRnd());
     }
 
     @Override
@@ -168,7 +168,7 @@ public class SGForwardModel extends StandardForwardModel implements ITreeActionS
                     // Reshuffle discard into draw pile
                     gs.drawPile.add(gs.discardPile);
                     gs.discardPile.clear();
-                    gs.drawPile.shuffle(new Random(gs.getGameParameters().getRandomSeed()));
+                    gs.drawPile.shuffle(gs.getRnd());
                 }
                 gs.playerHands.get(i).add(gs.drawPile.draw());
             }
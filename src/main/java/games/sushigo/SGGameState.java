@@ -2,6 +2,8 @@ package games.sushigo;
 
 import core.AbstractGameState;
 import core.AbstractParameters;
+import core.StateField;
+import core.StateFields;
 import core.components.*;
 import core.interfaces.IStateFeatureJSON;
 import games.GameType;
@@ -12,23 +14,24 @@ import utilities.Pair;
 
 import java.util.*;
 
+import static core.StateField.Kind.*;
+
 @SuppressWarnings("unchecked")
 public class SGGameState extends AbstractGameState {
-    List<Deck<SGCard>> playerHands;
-    Deck<SGCard> drawPile;
-    Deck<SGCard> discardPile;
+    @StateField(DEEP) List<Deck<SGCard>> playerHands;
+    @StateField(DEEP) Deck<SGCard> drawPile;
+    @StateField(DEEP) Deck<SGCard> discardPile;
     int nCardsInHand = 0;
 
-    List<List<ChooseCard>> cardChoices;  // one list per player, per turn, indicates the actions chosen by the player, saved for simultaneous execution
-    HashMap<SGCard.SGCardType, Counter>[] playedCardTypes;
-    List<Deck<SGCard>> playedCards;
-    Counter[] playerScore;
+    @StateField(HIDDEN) List<List<ChooseCard>> cardChoices;  // one list per player, per turn, indicates the actions chosen by the player, saved for simultaneous execution
+    @StateField(DEEP) EnumMap<SGCard.SGCardType, Counter>[] playedCardTypes;
+    @StateField(DEEP) List<Deck<SGCard>> playedCards;
+    @StateField(DEEP) Counter[] playerScore;
 
     // For statistics, not changed between rounds
-    HashMap<SGCard.SGCardType, Counter>[] playedCardTypesAllGame;
-    HashMap<SGCard.SGCardType, Counter>[] pointsPerCardType;
+    @StateField(DEEP) EnumMap<SGCard.SGCardType, Counter>[] playedCardTypesAllGame;
+    @StateField(DEEP) EnumMap<SGCard.SGCardType, Counter>[] pointsPerCardType;
 
-    Random rnd;
     int deckRotations = 0;
 
     /**
@@ -39,7 +42,6 @@ public class SGGameState extends AbstractGameState {
      */
     public SGGameState(AbstractParameters gameParameters, int nPlayers) {
         super(gameParameters, nPlayers);
-        rnd = new Random(gameParameters.getRandomSeed());
     }
 
     @Override
@@ -63,71 +65,17 @@ public class SGGameState extends AbstractGameState {
 
     @Override
     protected SGGameState _copy(int playerId) {
-        SGGameState copy = new SGGameState(gameParameters.copy(), getNPlayers());
-
-        copy.playerScore = new Counter[getNPlayers()];
-        copy.playedCardTypes = new HashMap[getNPlayers()];
-        copy.playedCardTypesAllGame = new HashMap[getNPlayers()];
-        copy.pointsPerCardType = new HashMap[getNPlayers()];
-        copy.playedCards = new ArrayList<>();
-        for (int i = 0; i < getNPlayers(); i++) {
-            copy.playedCards.add(playedCards.get(i).copy());
-            copy.playerScore[i] = playerScore[i].copy();
-            copy.playedCardTypes[i] = new HashMap<>();
-            copy.playedCardTypesAllGame[i] = new HashMap<>();
-            copy.pointsPerCardType[i] = new HashMap<>();
-            for (SGCard.SGCardType ct : playedCardTypes[i].keySet()) {
-                copy.playedCardTypes[i].put(ct, playedCardTypes[i].get(ct).copy());
-                copy.playedCardTypesAllGame[i].put(ct, playedCardTypesAllGame[i].get(ct).copy());
-                copy.pointsPerCardType[i].put(ct, pointsPerCardType[i].get(ct).copy());
-            }
-        }
-
-        copy.nCardsInHand = nCardsInHand;
-        copy.deckRotations = deckRotations;
-
-        // Copy player hands
-        copy.playerHands = new ArrayList<>();
-        for (Deck<SGCard> d : playerHands) {
-            copy.playerHands.add(d.copy());
-        }
-
-        // Other decks
-        copy.drawPile = drawPile.copy();
-        copy.discardPile = discardPile.copy();
+        SGGameState copy = new SGGameState(gameParameters, getNPlayers());
+        StateFields.copy(this, copy);
         copy.cardChoices = new ArrayList<>();
 
         if (playerId == -1) {
             for (int i = 0; i < getNPlayers(); i++) {
-                List<ChooseCard> copiedItems = new ArrayList<>();
-                for (ChooseCard cc : cardChoices.get(i)) {
-                    copiedItems.add(cc.copy());
-                }
-                copy.cardChoices.add(copiedItems);
+                copy.cardChoices.add(StateFields.deepCopy(cardChoices.get(i)));
             }
         } else {
             // Now we need to redeterminise
-            // We need to shuffle the hands of other players with the draw deck and then redraw
-
-            // Add player hands unseen back to the draw pile
-            for (int p = 0; p < copy.playerHands.size(); p++) {
-                if (hasNotSeenHand(playerId, p)) {
-                    copy.drawPile.add(playerHands.get(p));
-                }
-            }
-            copy.drawPile.shuffle(rnd);
-
-            // Now we draw into the unknown player hands
-            for (int p = 0; p < copy.playerHands.size(); p++) {
-                if (hasNotSeenHand(playerId, p)) {
-                    Deck<SGCard> hand = copy.playerHands.get(p);
-                    int handSize = hand.getSize();
-                    hand.clear();
-                    for (int i = 0; i < handSize; i++) {
-                        hand.add(copy.drawPile.draw());
-                    }
-                }
-            }
+            copy._redeterminise(playerId, getCopyRnd());
 
             // We don't know what other players have chosen for this round, hide card choices
             turnOwner = playerId;
@@ -144,6 +92,32 @@ public class SGGameState extends AbstractGameState {
         return copy;
     }
 
+    @Override
+    protected boolean _redeterminise(int playerId, Random rnd) {
+        // We need to shuffle the hands of other players with the draw deck and then redraw
+
+        // Add player hands unseen back to the draw pile
+        for (int p = 0; p < playerHands.size(); p++) {
+            if (hasNotSeenHand(playerId, p)) {
+                drawPile.add(playerHands.get(p));
+            }
+        }
+        drawPile.shuffle(rnd);
+
+        // Now we draw into the unknown player hands
+        for (int p = 0; p < playerHands.size(); p++) {
+            if (hasNotSeenHand(playerId, p)) {
+                Deck<SGCard> hand = playerHands.get(p);
+                int handSize = hand.getSize();
+                hand.clear();
+                for (int i = 0; i < handSize; i++) {
+                    hand.add(drawPile.draw());
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * we do know the contents of the hands of players up to T to our left, where T is the number of player turns
      * so far, as we saw that hand on its way through our own
@@ -203,15 +177,15 @@ public class SGGameState extends AbstractGameState {
         return playerScore[playerId].getValue();
     }
 
-    public HashMap<SGCard.SGCardType, Counter>[] getPlayedCardTypes() {
+    public EnumMap<SGCard.SGCardType, Counter>[] getPlayedCardTypes() {
         return playedCardTypes;
     }
 
-    public HashMap<SGCard.SGCardType, Counter>[] getPlayedCardTypesAllGame() {
+    public EnumMap<SGCard.SGCardType, Counter>[] getPlayedCardTypesAllGame() {
         return playedCardTypesAllGame;
     }
 
-    public HashMap<SGCard.SGCardType, Counter>[] getPointsPerCardType() {
+    public EnumMap<SGCard.SGCardType, Counter>[] getPointsPerCardType() {
         return pointsPerCardType;
     }
 
@@ -241,26 +215,12 @@ public class SGGameState extends AbstractGameState {
 
     @Override
     public boolean _equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof SGGameState)) return false;
-        if (!super.equals(o)) return false;
-        SGGameState that = (SGGameState) o;
-        return nCardsInHand == that.nCardsInHand && deckRotations == that.deckRotations &&
-                Objects.equals(playerHands, that.playerHands) && Objects.equals(drawPile, that.drawPile) &&
-                Objects.equals(discardPile, that.discardPile) && Objects.equals(cardChoices, that.cardChoices) &&
-                Arrays.equals(playedCardTypes, that.playedCardTypes) && Objects.equals(playedCards, that.playedCards) &&
-                Arrays.equals(playerScore, that.playerScore) && Arrays.equals(playedCardTypesAllGame, that.playedCardTypesAllGame) &&
-                Objects.equals(rnd, that.rnd);
+        return StateFields.equals(this, o);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(playerHands, drawPile, discardPile,
-                nCardsInHand, cardChoices, playedCards, deckRotations);
-        result = 31 * result + Arrays.hashCode(playedCardTypes);
-        result = 31 * result + Arrays.hashCode(playerScore);
-        result = 31 * result + Arrays.hashCode(playedCardTypesAllGame);
-        return result;
+        return StateFields.hashCode(this);
     }
 
     @Override
@@ -2,6 +2,7 @@ package games.sushigo.cards;
 
 import core.components.Card;
 import core.components.Counter;
+import core.interfaces.IImmutableComponent;
 import evaluation.metrics.Event;
 import games.sushigo.SGGameState;
 import games.sushigo.SGParameters;
@@ -11,7 +12,7 @@ import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-public class SGCard extends Card {
+public class SGCard extends Card implements IImmutableComponent {
 
     public enum SGCardType {
         Maki(new int[]{1, 2, 3}),
@@ -29,18 +29,18 @@ public class TMForwardModel extends StandardForwardModelWithTurnOrder {
     protected void _setup(AbstractGameState firstState) {
         TMGameState gs = (TMGameState) firstState;
         TMGameParameters params = (TMGameParameters) firstState.getGameParameters();
-        Random rnd = new Random(params.getRandomSeed());
+        Random rnd = gs.getRnd();
 
-        gs.playerResources = new HashMap[gs.getNPlayers()];
-        gs.playerProduction = new HashMap[gs.getNPlayers()];
+        gs.playerResources = new EnumMap[gs.getNPlayers()];
+        gs.playerProduction = new EnumMap[gs.getNPlayers()];
         gs.playerResourceMap = new HashSet[gs.getNPlayers()];
         gs.playerDiscountEffects = new HashMap[gs.getNPlayers()];
-        gs.playerResourceIncreaseGen = new HashMap[gs.getNPlayers()];
+        gs.playerResourceIncreaseGen = new EnumMap[gs.getNPlayers()];
 
         for (int i = 0; i < gs.getNPlayers(); i++) {
-            gs.playerResources[i] = new HashMap<>();
-            gs.playerProduction[i] = new HashMap<>();
-            gs.playerResourceIncreaseGen[i] = new HashMap<>();
+            gs.playerResources[i] = new EnumMap<>(TMTypes.Resource.class);
+            gs.playerProduction[i] = new EnumMap<>(TMTypes.Resource.class);
+            gs.playerResourceIncreaseGen[i] = new EnumMap<>(TMTypes.Resource.class);
             for (TMTypes.Resource res : TMTypes.Resource.values()) {
                 int startingRes = params.startingResources.get(res);
                 if (res == TR && gs.getNPlayers() == 1) {
@@ -74,7 +74,7 @@ public class TMForwardModel extends StandardForwardModelWithTurnOrder {
         gs.bonuses = new HashSet<>();
         gs.milestones = new HashSet<>();
         gs.awards = new HashSet<>();
-        gs.globalParameters = new HashMap<>();
+        gs.globalParameters = new EnumMap<>(TMTypes.GlobalParameter.class);
 
         // Load base
         TMTypes.Expansion.Base.loadProjectCards(gs.projectCards);
@@ -156,21 +156,21 @@ public class TMForwardModel extends StandardForwardModelWithTurnOrder {
             gs.playerCardPoints[i] = new Counter(0, 0, params.maxPoints, "Points of p" + i);
         }
 
-        gs.playerTilesPlaced = new HashMap[gs.getNPlayers()];
-        gs.playerCardsPlayedTypes = new HashMap[gs.getNPlayers()];
-        gs.playerCardsPlayedTags = new HashMap[gs.getNPlayers()];
+        gs.playerTilesPlaced = new EnumMap[gs.getNPlayers()];
+        gs.playerCardsPlayedTypes = new EnumMap[gs.getNPlayers()];
+        gs.playerCardsPlayedTags = new EnumMap[gs.getNPlayers()];
         gs.playerExtraActions = new HashSet[gs.getNPlayers()];
         gs.playerPersistingEffects = new HashSet[gs.getNPlayers()];
         for (int i = 0; i < gs.getNPlayers(); i++) {
-            gs.playerTilesPlaced[i] = new HashMap<>();
+            gs.playerTilesPlaced[i] = new EnumMap<>(TMTypes.Tile.class);
             for (TMTypes.Tile t : TMTypes.Tile.values()) {
                 gs.playerTilesPlaced[i].put(t, new Counter(0, 0, params.maxPoints, t.name() + " tiles placed player " + i));
             }
-            gs.playerCardsPlayedTypes[i] = new HashMap<>();
+            gs.playerCardsPlayedTypes[i] = new EnumMap<>(TMTypes.CardType.class);
             for (TMTypes.CardType t : TMTypes.CardType.values()) {
                 gs.playerCardsPlayedTypes[i].put(t, new Counter(0, 0, params.maxPoints, t.name() + " cards played player " + i));
             }
-            gs.playerCardsPlayedTags[i] = new HashMap<>();
+            gs.playerCardsPlayedTags[i] = new EnumMap<>(TMTypes.Tag.class);
             for (TMTypes.Tag t : TMTypes.Tag.values()) {
                 gs.playerCardsPlayedTags[i].put(t, new Counter(0, 0, params.maxPoints, t.name() + " cards played player " + i));
             }
@@ -342,18 +342,24 @@ public class TMForwardModel extends StandardForwardModelWithTurnOrder {
         TMGameParameters params = (TMGameParameters) gs.getGameParameters();
         int player = gs.getCurrentPlayer();
 
-        List<AbstractAction> possibleActions = getAllActions(gs);
-
-        // Wrap actions that can actually be played and must be paid for
-        for (AbstractAction aa : possibleActions) {
-            TMAction a = (TMAction) aa;
-            if (a != null && a.canBePlayed(gs)) {
-                if (a.getCost() != 0) {
-                    actions.add(new PayForAction(player, a));
-                } else {
-                    actions.add(a);
+        // The state does not change while actions are listed, so requirement results can be cached
+        gs.requirementCache.open(gs);
+        try {
+            List<AbstractAction> possibleActions = getAllActions(gs);
+
+            // Wrap actions that can actually be played and must be paid for
+            for (AbstractAction aa : possibleActions) {
+                TMAction a = (TMAction) aa;
+                if (a != null && a.canBePlayed(gs)) {
+                    if (a.getCost() != 0) {
+                        actions.add(new PayForAction(player, a));
+                    } else {
+                        actions.add(a);
+                    }
                 }
             }
+        } finally {
+            gs.requirementCache.close();
         }
 
         return actions;
@@ -14,6 +14,7 @@ import games.terraformingmars.rules.effects.Bonus;
 import games.terraformingmars.rules.effects.Effect;
 import games.terraformingmars.rules.requirements.ActionTypeRequirement;
 import games.terraformingmars.rules.requirements.Requirement;
+import games.terraformingmars.rules.requirements.RequirementCache;
 import games.terraformingmars.rules.requirements.TagsPlayedRequirement;
 import utilities.Pair;
 import utilities.Utils;
@@ -36,7 +37,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
     int generation;
     GridBoard<TMMapTile> board;
     HashSet<TMMapTile> extraTiles;
-    HashMap<TMTypes.GlobalParameter, GlobalParameter> globalParameters;
+    EnumMap<TMTypes.GlobalParameter, GlobalParameter> globalParameters;
     HashSet<Bonus> bonuses;
     Deck<TMCard> projectCards, corpCards, discardCards;  // Face-down decks
 
@@ -46,13 +47,15 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
     HashMap<Requirement, Integer>[] playerDiscountEffects;
     HashSet<Effect>[] playerPersistingEffects;
 
-    // Player-specific counters
-    HashMap<TMTypes.Resource, Counter>[] playerResources;
-    HashMap<TMTypes.Resource, Boolean>[] playerResourceIncreaseGen;  // True if this resource was increased this gen
-    HashMap<TMTypes.Resource, Counter>[] playerProduction;
-    HashMap<TMTypes.Tag, Counter>[] playerCardsPlayedTags;
-    HashMap<TMTypes.CardType, Counter>[] playerCardsPlayedTypes;
-    HashMap<TMTypes.Tile, Counter>[] playerTilesPlaced;
+    // Player-specific counters. These are kept as Counters rather than int[] indexed by ordinal(), as they are
+    // components that actions such as ModifyPlayerResource find by ID, and copying them is a small part of a copy
+    // of the state (about 2.5us of 170us for the 102 counters of a 2-player game after 200 random actions)
+    EnumMap<TMTypes.Resource, Counter>[] playerResources;
+    EnumMap<TMTypes.Resource, Boolean>[] playerResourceIncreaseGen;  // True if this resource was increased this gen
+    EnumMap<TMTypes.Resource, Counter>[] playerProduction;
+    EnumMap<TMTypes.Tag, Counter>[] playerCardsPlayedTags;
+    EnumMap<TMTypes.CardType, Counter>[] playerCardsPlayedTypes;
+    EnumMap<TMTypes.Tile, Counter>[] playerTilesPlaced;
     Counter[] playerCardPoints;  // Points gathered by playing cards
 
     // Player cards
@@ -68,6 +71,9 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
     Counter nMilestonesClaimed;
     Counter nAwardsFunded;
 
+    // Not part of the state, and not copied: results of requirements tested when computing actions
+    final RequirementCache requirementCache = new RequirementCache();
+
     /**
      * Constructor. Initialises some generic game state variables.
      *
@@ -119,7 +125,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
 
     @Override
     protected AbstractGameStateWithTurnOrder __copy(int playerId) {
-        Random rnd = new Random(getGameParameters().getRandomSeed());
+        Random rnd = getCopyRnd();
         TMGameState copy = new TMGameState(gameParameters, getNPlayers());
 
         // General public info
@@ -138,10 +144,8 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         for (TMMapTile mt : extraTiles) {
             copy.extraTiles.add(mt.copy());
         }
-        copy.globalParameters = new HashMap<>();
-        for (TMTypes.GlobalParameter p : globalParameters.keySet()) {
-            copy.globalParameters.put(p, globalParameters.get(p).copy());
-        }
+        copy.globalParameters = new EnumMap<>(globalParameters);
+        copy.globalParameters.replaceAll((p, gp) -> gp.copy());
         copy.bonuses = new HashSet<>();
         for (Bonus b : bonuses) {
             copy.bonuses.add(b.copy());
@@ -167,12 +171,12 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         copy.playerResourceMap = new HashSet[getNPlayers()];
         copy.playerPersistingEffects = new HashSet[getNPlayers()];
         copy.playerDiscountEffects = new HashMap[getNPlayers()];
-        copy.playerResources = new HashMap[getNPlayers()];
-        copy.playerResourceIncreaseGen = new HashMap[getNPlayers()];
-        copy.playerProduction = new HashMap[getNPlayers()];
-        copy.playerCardsPlayedTags = new HashMap[getNPlayers()];
-        copy.playerCardsPlayedTypes = new HashMap[getNPlayers()];
-        copy.playerTilesPlaced = new HashMap[getNPlayers()];
+        copy.playerResources = new EnumMap[getNPlayers()];
+        copy.playerResourceIncreaseGen = new EnumMap[getNPlayers()];
+        copy.playerProduction = new EnumMap[getNPlayers()];
+        copy.playerCardsPlayedTags = new EnumMap[getNPlayers()];
+        copy.playerCardsPlayedTypes = new EnumMap[getNPlayers()];
+        copy.playerTilesPlaced = new EnumMap[getNPlayers()];
         copy.playerCardPoints = new Counter[getNPlayers()];
         copy.playerComplicatedPointCards = new Deck[getNPlayers()];
         copy.playedCards = new Deck[getNPlayers()];
@@ -182,12 +186,6 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
             copy.playerResourceMap[i] = new HashSet<>();
             copy.playerPersistingEffects[i] = new HashSet<>();
             copy.playerDiscountEffects[i] = new HashMap<>();
-            copy.playerResources[i] = new HashMap<>();
-            copy.playerResourceIncreaseGen[i] = new HashMap<>();
-            copy.playerProduction[i] = new HashMap<>();
-            copy.playerCardsPlayedTags[i] = new HashMap<>();
-            copy.playerCardsPlayedTypes[i] = new HashMap<>();
-            copy.playerTilesPlaced[i] = new HashMap<>();
             copy.playerCardPoints[i] = playerCardPoints[i].copy();
             copy.playerComplicatedPointCards[i] = playerComplicatedPointCards[i].copy();
             copy.playedCards[i] = playedCards[i].copy();
@@ -206,22 +204,12 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
             for (Effect e : playerPersistingEffects[i]) {
                 copy.playerPersistingEffects[i].add(e.copy());
             }
-            for (TMTypes.Resource r : playerResources[i].keySet()) {
-                copy.playerResources[i].put(r, playerResources[i].get(r).copy());
-                copy.playerResourceIncreaseGen[i].put(r, playerResourceIncreaseGen[i].get(r));
-            }
-            for (TMTypes.Resource r : playerProduction[i].keySet()) {
-                copy.playerProduction[i].put(r, playerProduction[i].get(r).copy());
-            }
-            for (TMTypes.Tag t : playerCardsPlayedTags[i].keySet()) {
-                copy.playerCardsPlayedTags[i].put(t, playerCardsPlayedTags[i].get(t).copy());
-            }
-            for (TMTypes.CardType t : playerCardsPlayedTypes[i].keySet()) {
-                copy.playerCardsPlayedTypes[i].put(t, playerCardsPlayedTypes[i].get(t).copy());
-            }
-            for (TMTypes.Tile t : playerTilesPlaced[i].keySet()) {
-                copy.playerTilesPlaced[i].put(t, playerTilesPlaced[i].get(t).copy());
-            }
+            copy.playerResources[i] = copyCounters(playerResources[i]);
+            copy.playerResourceIncreaseGen[i] = new EnumMap<>(playerResourceIncreaseGen[i]);
+            copy.playerProduction[i] = copyCounters(playerProduction[i]);
+            copy.playerCardsPlayedTags[i] = copyCounters(playerCardsPlayedTags[i]);
+            copy.playerCardsPlayedTypes[i] = copyCounters(playerCardsPlayedTypes[i]);
+            copy.playerTilesPlaced[i] = copyCounters(playerTilesPlaced[i]);
         }
 
         // Player-specific hidden info
@@ -264,12 +252,18 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return copy;
     }
 
+    private static <K extends Enum<K>> EnumMap<K, Counter> copyCounters(EnumMap<K, Counter> counters) {
+        EnumMap<K, Counter> copy = new EnumMap<>(counters);
+        copy.replaceAll((k, c) -> c.copy());
+        return copy;
+    }
+
     public TMCard drawCard() {
         // Reshuffle discards into draw pile if empty
         if (projectCards.getSize() == 0) {
             projectCards.add(discardCards);
             discardCards.clear();
-            projectCards.shuffle(new Random(getGameParameters().getRandomSeed()));
+            projectCards.shuffle(getRnd());
         }
         return projectCards.draw();
     }
@@ -412,11 +406,11 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
      * Public API
      */
 
-    public HashMap<TMTypes.Resource, Counter>[] getPlayerProduction() {
+    public EnumMap<TMTypes.Resource, Counter>[] getPlayerProduction() {
         return playerProduction;
     }
 
-    public HashMap<TMTypes.Resource, Counter>[] getPlayerResources() {
+    public EnumMap<TMTypes.Resource, Counter>[] getPlayerResources() {
         return playerResources;
     }
 
@@ -428,7 +422,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return bonuses;
     }
 
-    public HashMap<TMTypes.GlobalParameter, GlobalParameter> getGlobalParameters() {
+    public EnumMap<TMTypes.GlobalParameter, GlobalParameter> getGlobalParameters() {
         return globalParameters;
     }
 
@@ -440,11 +434,11 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return playerHands;
     }
 
-    public HashMap<TMTypes.Tag, Counter>[] getPlayerCardsPlayedTags() {
+    public EnumMap<TMTypes.Tag, Counter>[] getPlayerCardsPlayedTags() {
         return playerCardsPlayedTags;
     }
 
-    public HashMap<TMTypes.CardType, Counter>[] getPlayerCardsPlayedTypes() {
+    public EnumMap<TMTypes.CardType, Counter>[] getPlayerCardsPlayedTypes() {
         return playerCardsPlayedTypes;
     }
 
@@ -452,7 +446,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return playerExtraActions;
     }
 
-    public HashMap<TMTypes.Tile, Counter>[] getPlayerTilesPlaced() {
+    public EnumMap<TMTypes.Tile, Counter>[] getPlayerTilesPlaced() {
         return playerTilesPlaced;
     }
 
@@ -507,7 +501,7 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return generation;
     }
 
-    public HashMap<TMTypes.Resource, Boolean>[] getPlayerResourceIncreaseGen() {
+    public EnumMap<TMTypes.Resource, Boolean>[] getPlayerResourceIncreaseGen() {
         return playerResourceIncreaseGen;
     }
 
@@ -515,6 +509,10 @@ public class TMGameState extends AbstractGameStateWithTurnOrder {
         return playerPersistingEffects;
     }
 
+    public RequirementCache getRequirementCache() {
+        return requirementCache;
+    }
+
     public HashMap<Requirement, Integer>[] getPlayerDiscountEffects() {
         return playerDiscountEffects;
     }
@@ -17,6 +17,7 @@ import java.awt.*;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 
@@ -150,10 +151,12 @@ public class TMTypes {
 
         public static int nPlayerBoardRes() {
             if (nPlayerBoardRes == -1) {
-                nPlayerBoardRes = 0;
+                // Counted locally, so that another thread never sees a partial count
+                int count = 0;
                 for (Resource res : values()) {
-                    if (res.isPlayerBoardRes()) nPlayerBoardRes++;
+                    if (res.isPlayerBoardRes()) count++;
                 }
+                nPlayerBoardRes = count;
             }
             return nPlayerBoardRes;
         }
@@ -302,7 +305,7 @@ public class TMTypes {
         /* custom loading info from json */
 
         public void loadBoard(GridBoard<TMMapTile> board, HashSet<TMMapTile> extraTiles, HashSet<Bonus> bonuses,
-                              HashSet<Milestone> milestones, HashSet<Award> awards, HashMap<GlobalParameter, games.terraformingmars.components.GlobalParameter> globalParameters) {
+                              HashSet<Milestone> milestones, HashSet<Award> awards, EnumMap<GlobalParameter, games.terraformingmars.components.GlobalParameter> globalParameters) {
             JSONParser jsonParser = new JSONParser();
             try (FileReader reader = new FileReader(getBoardPath())) {
                 JSONObject data = (JSONObject) jsonParser.parse(reader);
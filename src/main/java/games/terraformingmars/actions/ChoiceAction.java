@@ -52,8 +52,8 @@ public class ChoiceAction extends TMAction implements IExtendedSequence {
         }
         if (played && standardProject == null && basicResourceAction == null) return false;
         if (requirements != null && requirements.size() > 0) {
-            for (Requirement r: requirements) {
-                if (r.testCondition(gs)) return true;
+            for (Requirement<TMGameState> r: requirements) {
+                if (gs.getRequirementCache().test(r, gs)) return true;
             }
         }
         return false;
@@ -126,8 +126,8 @@ public class TMAction extends AbstractAction {
         }
         if (played && standardProject == null && basicResourceAction == null) return false;
         if (requirements != null && requirements.size() > 0) {
-            for (Requirement r: requirements) {
-                if (!r.testCondition(gs)) return false;
+            for (Requirement<TMGameState> r: requirements) {
+                if (!gs.getRequirementCache().test(r, gs)) return false;
             }
         }
         return true;
@@ -138,7 +138,6 @@ public class TMAction extends AbstractAction {
     @Override
     public final boolean execute(AbstractGameState gameState) {
         TMGameState gs = (TMGameState) gameState;
-        gs.getAllComponents();  // Force recalculate components
         if (player == -1) player = gameState.getCurrentPlayer();
         if (!canBePlayed(gs)) {
             throw new AssertionError("Card cannot be played " + this);
@@ -104,7 +104,6 @@ public class CounterRequirement implements Requirement<TMGameState> {
                 thresholdIdx = Utils.indexOf(which.getValues(), thresholdIdx);
             }
         } else {
-            gs.getAllComponents();
             which = (Counter) gs.getComponentById(counterID);
         }
 
@@ -6,6 +6,16 @@ import games.terraformingmars.TMTypes;
 import java.awt.*;
 
 public interface Requirement<T> {
+
+    /**
+     * Parts of a TMGameState that requirements may read when testing their condition, used to decide when a cached
+     * result is out of date (see RequirementCache). Each facet covers the values of all players, plus the current player.
+     */
+    enum Facet {
+        Tags,  // cards played tags
+        Tiles,  // tiles placed
+        Resources  // resources, production, resources increased this generation, resource mappings and hand sizes
+    }
     /*
      2 cases implemented:
         - counter: global parameter / player resource / player production min or max;
@@ -18,6 +28,15 @@ public interface Requirement<T> {
     String getReasonForFailure(TMGameState gs);
     Image[] getDisplayImages();
 
+    /**
+     * @return the facets of the game state that testCondition() depends on, or null if the result should not be
+     * cached (e.g. it depends on a specific card or tile). Requirements returning facets must implement equals()
+     * such that equal requirements always give the same result in the same state.
+     */
+    default Facet[] getFacets() {
+        return null;
+    }
+
     static Requirement stringToRequirement(String s) {
         String[] split = s.split(":");
         // First is counter
@@ -0,0 +1,154 @@
+package games.terraformingmars.rules.requirements;
+
+import core.components.Counter;
+import games.terraformingmars.TMGameState;
+import games.terraformingmars.TMTypes;
+import games.terraformingmars.rules.requirements.Requirement.Facet;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the results of requirements tested while the actions available in a TMGameState are listed, so that
+ * requirements do not need to be tested again until the parts of the state they read change.
+ * <p>
+ * Requirements declare the facets of the state they depend on (see Requirement.getFacets()). Each facet has a version,
+ * which is increased whenever a snapshot of the values in that facet differs from the last one taken; a cached result
+ * is valid for as long as the versions of all its facets are unchanged. Snapshots are taken at most once between
+ * open() and close(), during which the state must not change - this way code that modifies the state does not need
+ * to know about the cache. Outside of open() and close() requirements are always tested directly.
+ */
+public class RequirementCache {
+
+    private static final Facet[] allFacets = Facet.values();
+
+    private final int[][] snapshots = new int[allFacets.length][];
+    private final int[] versions = new int[allFacets.length];
+    private final boolean[] upToDate = new boolean[allFacets.length];
+    private final Map<Requirement<TMGameState>, Result> results = new HashMap<>();
+    private TMGameState gs;  // state the cache is currently open for, or null
+
+    private static class Result {
+        final boolean value;
+        final int[] versions;
+
+        Result(boolean value, int[] versions) {
+            this.value = value;
+            this.versions = versions;
+        }
+
+        boolean isValid(Facet[] facets, int[] currentVersions) {
+            for (Facet f : facets) {
+                if (versions[f.ordinal()] != currentVersions[f.ordinal()]) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Starts using the cache for the given state; the state must not be modified until close() is called.
+     */
+    public void open(TMGameState gs) {
+        this.gs = gs;
+        Arrays.fill(upToDate, false);
+    }
+
+    public void close() {
+        gs = null;
+    }
+
+    /**
+     * Tests the requirement in the given state, using the cached result if it is still valid.
+     */
+    public boolean test(Requirement<TMGameState> r, TMGameState gs) {
+        Facet[] facets = r.getFacets();
+        if (facets == null || gs != this.gs) return r.testCondition(gs);
+
+        updateVersions(facets);
+        Result cached = results.get(r);
+        if (cached != null && cached.isValid(facets, versions)) {
+            return cached.value;
+        }
+        boolean value = r.testCondition(gs);
+        results.put(r, new Result(value, versions.clone()));
+        return value;
+    }
+
+    private void updateVersions(Facet[] facets) {
+        for (Facet f : facets) {
+            int idx = f.ordinal();
+            if (upToDate[idx]) continue;
+            int[] snapshot = snapshot(f, gs);
+            if (!Arrays.equals(snapshot, snapshots[idx])) {
+                snapshots[idx] = snapshot;
+                versions[idx]++;
+            }
+            upToDate[idx] = true;
+        }
+    }
+
+    private static int[] snapshot(Facet facet, TMGameState gs) {
+        int nPlayers = gs.getNPlayers();
+        switch (facet) {
+            case Tags: {
+                TMTypes.Tag[] tags = TMTypes.Tag.values();
+                int[] s = new int[1 + nPlayers * tags.length];
+                s[0] = gs.getCurrentPlayer();
+                int k = 1;
+                for (int i = 0; i < nPlayers; i++) {
+                    for (TMTypes.Tag t : tags) {
+                        s[k++] = valueOf(gs.getPlayerCardsPlayedTags()[i].get(t));
+                    }
+                }
+                return s;
+            }
+            case Tiles: {
+                TMTypes.Tile[] tiles = TMTypes.Tile.values();
+                int[] s = new int[1 + nPlayers * tiles.length];
+                s[0] = gs.getCurrentPlayer();
+                int k = 1;
+                for (int i = 0; i < nPlayers; i++) {
+                    for (TMTypes.Tile t : tiles) {
+                        s[k++] = valueOf(gs.getPlayerTilesPlaced()[i].get(t));
+                    }
+                }
+                return s;
+            }
+            case Resources: {
+                TMTypes.Resource[] resources = TMTypes.Resource.values();
+                int size = 1;
+                for (int i = 0; i < nPlayers; i++) {
+                    size += 1 + 3 * resources.length + 5 * gs.getPlayerResourceMap()[i].size();
+                }
+                int[] s = new int[size];
+                s[0] = gs.getCurrentPlayer();
+                int k = 1;
+                for (int i = 0; i < nPlayers; i++) {
+                    s[k++] = gs.getPlayerHands()[i].getSize();
+                    for (TMTypes.Resource r : resources) {
+                        s[k++] = valueOf(gs.getPlayerResources()[i].get(r));
+                        s[k++] = valueOf(gs.getPlayerProduction()[i].get(r));
+                        Boolean increased = gs.getPlayerResourceIncreaseGen()[i].get(r);
+                        s[k++] = increased == null ? -1 : increased ? 1 : 0;
+                    }
+                    for (TMGameState.ResourceMapping rm : gs.getPlayerResourceMap()[i]) {
+                        long rate = Double.doubleToLongBits(rm.rate);
+                        s[k++] = rm.from.ordinal();
+                        s[k++] = rm.to.ordinal();
+                        s[k++] = rm.requirement == null ? 0 : rm.requirement.hashCode();
+                        s[k++] = (int) rate;
+                        s[k++] = (int) (rate >>> 32);
+                    }
+                }
+                return s;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown facet " + facet);
+        }
+    }
+
+    private static int valueOf(Counter c) {
+        return c == null ? Integer.MIN_VALUE : c.getValue();
+    }
+}
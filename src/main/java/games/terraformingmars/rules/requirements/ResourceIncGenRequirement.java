@@ -8,6 +8,8 @@ import java.util.Objects;
 
 public class ResourceIncGenRequirement implements Requirement<TMGameState> {
 
+    private static final Facet[] facets = {Facet.Resources};
+
     final TMTypes.Resource resource;
 
     public ResourceIncGenRequirement(TMTypes.Resource resource) {
@@ -20,6 +22,11 @@ public class ResourceIncGenRequirement implements Requirement<TMGameState> {
         return gs.getPlayerResourceIncreaseGen()[gs.getCurrentPlayer()].get(resource);
     }
 
+    @Override
+    public Facet[] getFacets() {
+        return facets;
+    }
+
     @Override
     public boolean isMax() {
         return false;
@@ -10,6 +10,8 @@ import java.util.Objects;
 
 public class ResourceRequirement implements Requirement<TMGameState> {
 
+    private static final Facet[] facets = {Facet.Resources};
+
     final TMTypes.Resource resource;
     final int amount;
     final boolean production;
@@ -54,6 +56,12 @@ public class ResourceRequirement implements Requirement<TMGameState> {
         return gs.canPlayerPay(p, card, null, resource, amount, production);
     }
 
+    @Override
+    public Facet[] getFacets() {
+        // Paying for a specific card depends on the card's cost and tags, and on the player's discounts
+        return cardID == -1 ? facets : null;
+    }
+
     @Override
     public boolean isMax() {
         return false;
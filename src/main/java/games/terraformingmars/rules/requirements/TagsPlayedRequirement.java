@@ -11,6 +11,8 @@ import java.util.Objects;
 
 public class TagsPlayedRequirement implements Requirement<TMGameState> {
 
+    private static final Facet[] facets = {Facet.Tags};
+
     public final TMTypes.Tag[] tags;
     public final int[] nMin;
     int nTags;
@@ -35,6 +37,11 @@ public class TagsPlayedRequirement implements Requirement<TMGameState> {
         return true;
     }
 
+    @Override
+    public Facet[] getFacets() {
+        return facets;
+    }
+
     @Override
     public boolean isMax() {
         return false;
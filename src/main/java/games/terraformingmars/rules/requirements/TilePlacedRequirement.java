@@ -10,6 +10,8 @@ import java.util.Objects;
 
 public class TilePlacedRequirement implements Requirement<TMGameState> {
 
+    private static final Facet[] facets = {Facet.Tiles};
+
     public final TMTypes.Tile tile;
     public final int threshold;
     public final boolean max;  // if true, value of counter must be <= threshold, if false >=
@@ -47,6 +49,11 @@ public class TilePlacedRequirement implements Requirement<TMGameState> {
         return nPlaced;
     }
 
+    @Override
+    public Facet[] getFacets() {
+        return facets;
+    }
+
     @Override
     public boolean isMax() {
         return max;
@@ -7,6 +7,7 @@ import core.actions.AbstractAction;
 import core.actions.ActionSpace;
 import core.actions.SetGridValueAction;
 import core.components.GridBoard;
+import core.components.PaletteGridBoard;
 import core.components.Token;
 import core.interfaces.ITreeActionSpace;
 import utilities.ActionTreeNode;
@@ -23,7 +24,11 @@ public class TicTacToeForwardModel extends StandardForwardModel implements ITree
         TicTacToeGameParameters tttgp = (TicTacToeGameParameters) firstState.getGameParameters();
         int gridSize = tttgp.gridSize;
         TicTacToeGameState state = (TicTacToeGameState) firstState;
-        state.gridBoard = new GridBoard<>(gridSize, gridSize, new Token(TicTacToeConstants.emptyCell));
+        Token emptyCell = new Token(TicTacToeConstants.emptyCell);
+        List<Token> palette = new ArrayList<>();
+        palette.add(emptyCell);
+        palette.addAll(TicTacToeConstants.playerMapping);
+        state.gridBoard = new PaletteGridBoard<>(gridSize, gridSize, palette, emptyCell);
     }
 
 
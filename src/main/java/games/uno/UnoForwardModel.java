@@ -102,7 +102,7 @@ public class UnoForwardModel extends StandardForwardModel {
      * @param ugs - current game state.
      */
     private void setupRound(UnoGameState ugs) {
-        Random r = new Random(ugs.getGameParameters().getRandomSeed() + ugs.getRoundCounter());
+        Random r = ugs.getRnd();
 
         // Refresh player decks
         for (int i = 0; i < ugs.getNPlayers(); i++) {
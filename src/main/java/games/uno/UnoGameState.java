@@ -161,7 +161,7 @@ public class UnoGameState extends AbstractGameState implements IPrintable {
 
     @Override
     protected UnoGameState _copy(int playerId) {
-        UnoGameState copy = new UnoGameState(gameParameters.copy(), getNPlayers());
+        UnoGameState copy = new UnoGameState(gameParameters, getNPlayers());
         copy.playerDecks = new ArrayList<>();
 
         for (Deck<UnoCard> d : playerDecks) {
@@ -172,36 +172,41 @@ public class UnoGameState extends AbstractGameState implements IPrintable {
         copy.skipTurn = skipTurn;
         copy.direction = direction;
 
-        if (getCoreGameParameters().partialObservable && playerId != -1) {
-            // Other player cards and the draw deck are unknown.
-            // Combine all into one deck, shuffle, then deal random cards to the other players (hand size kept)
-            Random r = new Random(copy.gameParameters.getRandomSeed());
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    copy.drawDeck.add(copy.playerDecks.get(i));
-                }
-            }
-            copy.drawDeck.shuffle(r);
-            for (int i = 0; i < getNPlayers(); i++) {
-                if (i != playerId) {
-                    Deck<UnoCard> d = copy.playerDecks.get(i);
-                    int nCards = d.getSize();
-                    d.clear();
-                    for (int j = 0; j < nCards; j++) {
-                        d.add(copy.drawDeck.draw());
-                    }
-                }
-            }
-        }
-
         copy.discardDeck = discardDeck.copy();
         copy.currentCard = (UnoCard) currentCard.copy();
         copy.currentColor = currentColor;
         copy.playerScore = playerScore.clone();
         copy.expulsionRound = expulsionRound.clone();
+
+        if (getCoreGameParameters().partialObservable && playerId != -1) {
+            copy._redeterminise(playerId, getCopyRnd());
+        }
         return copy;
     }
 
+    @Override
+    protected boolean _redeterminise(int playerId, Random r) {
+        // Other player cards and the draw deck are unknown.
+        // Combine all into one deck, shuffle, then deal random cards to the other players (hand size kept)
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                drawDeck.add(playerDecks.get(i));
+            }
+        }
+        drawDeck.shuffle(r);
+        for (int i = 0; i < getNPlayers(); i++) {
+            if (i != playerId) {
+                Deck<UnoCard> d = playerDecks.get(i);
+                int nCards = d.getSize();
+                d.clear();
+                for (int j = 0; j < nCards; j++) {
+                    d.add(drawDeck.draw());
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     protected double _getHeuristicScore(int playerId) {
         return new UnoHeuristic().evaluateState(this, playerId);
@@ -260,7 +265,6 @@ public class UnoGameState extends AbstractGameState implements IPrintable {
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof UnoGameState)) return false;
-        if (!super.equals(o)) return false;
         UnoGameState that = (UnoGameState) o;
         return skipTurn == that.skipTurn && direction == that.direction && Objects.equals(playerDecks, that.playerDecks) && Objects.equals(drawDeck, that.drawDeck) && Objects.equals(discardDeck, that.discardDeck) && Objects.equals(currentCard, that.currentCard) && Objects.equals(currentColor, that.currentColor) && Arrays.equals(playerScore, that.playerScore) && Arrays.equals(expulsionRound, that.expulsionRound);
     }
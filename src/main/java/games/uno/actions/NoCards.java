@@ -21,7 +21,7 @@ public class NoCards extends AbstractAction implements IPrintable {
         Deck<UnoCard> discardDeck = ugs.getDiscardDeck();
         Deck<UnoCard> playerDeck = ugs.getPlayerDecks().get(ugs.getCurrentPlayer());
 
-        Random r = new Random(ugs.getGameParameters().getRandomSeed() + ugs.getRoundCounter());
+        Random r = ugs.getRnd();
 
         if (drawDeck.getSize() == 0) {
             drawDeck.add(discardDeck);
@@ -37,7 +37,7 @@ public class PlayCard extends DrawCard implements IPrintable {
         UnoGameParameters ugp = (UnoGameParameters) gameState.getGameParameters();
         super.execute(gameState);
 
-        Random r = new Random(ugp.getRandomSeed() + ugs.getRoundCounter());
+        Random r = ugs.getRnd();
 
         UnoCard cardToBePlayed = (UnoCard) gameState.getComponentById(cardId);
         ugs.updateCurrentCard(cardToBePlayed);
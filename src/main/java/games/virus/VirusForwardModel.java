@@ -41,7 +41,7 @@ public class VirusForwardModel extends StandardForwardModel {
         vgs.drawDeck = new Deck<>("DrawDeck", -1, VisibilityMode.HIDDEN_TO_ALL);
         createCards(vgs);
 
-        vgs.drawDeck.shuffle(new Random(vgs.getGameParameters().getRandomSeed()));
+        vgs.drawDeck.shuffle(vgs.getRnd());
 
         // Create the discard deck, at the beginning it is empty
         vgs.discardDeck = new Deck<>("DiscardDeck", -1, VisibilityMode.VISIBLE_TO_ALL);
@@ -40,7 +40,7 @@ public class VirusGameState extends AbstractGameState implements IPrintable {
 
     @Override
     protected AbstractGameState _copy(int playerId) {
-        VirusGameState vgs = new VirusGameState(gameParameters.copy(), getNPlayers());
+        VirusGameState vgs = new VirusGameState(gameParameters, getNPlayers());
         vgs.drawDeck = drawDeck.copy();
         vgs.discardDeck = discardDeck.copy();
         vgs.playerDecks = new ArrayList<>();
@@ -57,7 +57,7 @@ public class VirusGameState extends AbstractGameState implements IPrintable {
                     vgs.playerDecks.get(i).clear();
                 }
             }
-            vgs.drawDeck.shuffle(new Random(getGameParameters().getRandomSeed()));
+            vgs.drawDeck.shuffle(getCopyRnd());
             for (int i = 0; i < getNPlayers(); i++) {
                 if (playerId != i) {
                     for (int j = 0; j < playerDecks.get(i).getSize(); j++) {
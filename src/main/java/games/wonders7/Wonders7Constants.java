@@ -23,6 +23,17 @@ public class Wonders7Constants {
         Coin
     }
 
+    /**
+     * @return the resource counts in the map as an array indexed by Resource ordinal (as used for player resources)
+     */
+    public static int[] toResourceArray(Map<Resource, Long> resources) {
+        int[] counts = new int[Resource.values().length];
+        for (Map.Entry<Resource, Long> e : resources.entrySet()) {
+            counts[e.getKey().ordinal()] = e.getValue().intValue();
+        }
+        return counts;
+    }
+
     @SafeVarargs
     public static List<Map<Resource, Long>> createHashList(Map<Wonders7Constants.Resource, Long>... hashmaps){
         List<Map<Wonders7Constants.Resource, Long>> list = new ArrayList<>();
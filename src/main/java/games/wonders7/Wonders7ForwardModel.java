@@ -27,12 +27,8 @@ public class Wonders7ForwardModel extends StandardForwardModel {
         wgs.currentAge = 1;
         wgs.direction = 1;
 
-        // Then fills every player's hashmaps, so each player has 0 of each resource
-        for (int i = 0; i < wgs.getNPlayers(); i++) { // For each
-            for (Wonders7Constants.Resource type : Wonders7Constants.Resource.values()) {
-                wgs.playerResources.get(i).put(type, 0);
-            }
-        }
+        // Then fills every player's resource counts, so each player has 0 of each resource
+        wgs.playerResources = new int[wgs.getNPlayers()][Wonders7Constants.Resource.values().length];
 
         //System.out.println("THE GAME HAS STARTED");
         wgs.playerHands = new ArrayList<>();
@@ -52,7 +48,7 @@ public class Wonders7ForwardModel extends StandardForwardModel {
 
         // Shuffles wonder-boards
         createWonderDeck(wgs); // Adds Wonders into game
-        Random r = new Random(wgs.getGameParameters().getRandomSeed());
+        Random r = wgs.getRnd();
         wgs.wonderBoardDeck.shuffle(r);
 
         // Gives each player wonder board and manufactured goods from the wonder
@@ -63,8 +59,7 @@ public class Wonders7ForwardModel extends StandardForwardModel {
             Set<Wonders7Constants.Resource> keys = wgs.getPlayerWonderBoard(player).type.resourcesProduced.keySet(); // Gets all the resources the stage provides
             for (Wonders7Constants.Resource resource : keys) {  // Goes through all keys for each resource
                 int stageValue = Math.toIntExact(wgs.getPlayerWonderBoard(player).type.resourcesProduced.get(resource)); // Number of resource the card provides
-                int playerValue = wgs.getPlayerResources(player).get(resource); // Number of resource the player owns
-                wgs.getPlayerResources(player).put(resource, stageValue + playerValue); // Adds the resources provided by the stage to the players resource count
+                wgs.addResource(player, resource, stageValue); // Adds the resources provided by the stage to the players resource count
             }
         }
 
@@ -74,7 +69,7 @@ public class Wonders7ForwardModel extends StandardForwardModel {
 
     public void ageSetup(AbstractGameState state){
         Wonders7GameState wgs = (Wonders7GameState) state;
-        Random r = new Random(wgs.getGameParameters().getRandomSeed());
+        Random r = wgs.getRnd();
 
         // Sets up the age
         createAgeDeck(wgs); // Fills Age1 deck with cards
@@ -227,13 +222,13 @@ public class Wonders7ForwardModel extends StandardForwardModel {
             // Resolves military conflicts
             for (int i=0; i< wgs.getNPlayers(); i++){
                 int nextplayer = (i+1)% wgs.getNPlayers();
-                if(wgs.getPlayerResources(i).get(Shield) > wgs.getPlayerResources(nextplayer).get(Shield)){ // IF PLAYER i WINS
-                    wgs.getPlayerResources(i).put(Victory,  wgs.getPlayerResources(i).get(Victory)+(2*wgs.currentAge-1)); // 2N-1 POINTS FOR PLAYER i
-                    wgs.getPlayerResources(nextplayer).put(Victory,  wgs.getPlayerResources(nextplayer).get(Victory)-1); // -1 FOR THE PLAYER i+1
+                if(wgs.getResource(i, Shield) > wgs.getResource(nextplayer, Shield)){ // IF PLAYER i WINS
+                    wgs.addResource(i, Victory, 2*wgs.currentAge-1); // 2N-1 POINTS FOR PLAYER i
+                    wgs.addResource(nextplayer, Victory, -1); // -1 FOR THE PLAYER i+1
                 }
-                else if (wgs.getPlayerResources(i).get(Shield) < wgs.getPlayerResources(nextplayer).get(Shield)){ // IF PLAYER i+1 WINS
-                    wgs.getPlayerResources(i).put(Victory,  wgs.getPlayerResources(i).get(Victory)-1);// -1 POINT FOR THE PLAYER i
-                    wgs.getPlayerResources(nextplayer).put(Victory,  wgs.getPlayerResources(nextplayer).get(Victory)+(2*wgs.currentAge-1));// 2N-1 POINTS FOR PLAYER i+1
+                else if (wgs.getResource(i, Shield) < wgs.getResource(nextplayer, Shield)){ // IF PLAYER i+1 WINS
+                    wgs.addResource(i, Victory, -1);// -1 POINT FOR THE PLAYER i
+                    wgs.addResource(nextplayer, Victory, 2*wgs.currentAge-1);// 2N-1 POINTS FOR PLAYER i+1
                 }
             }
 
@@ -250,30 +245,31 @@ public class Wonders7ForwardModel extends StandardForwardModel {
             // treasury, scientific, commercial and finally guilds
             for (int i=0; i< wgs.getNPlayers(); i++){
 
-                int vp = wgs.getPlayerResources(i).get(Victory);
+                int[] resources = wgs.getPlayerResources(i);
+                int vp = resources[Victory.ordinal()];
                 // Treasury
-                vp += wgs.getPlayerResources(i).get(Coin)/3;
+                vp += resources[Coin.ordinal()]/3;
                 // Scientific
-                vp += (int)Math.pow(wgs.getPlayerResources(i).get(Cog),2);
-                vp += (int)Math.pow(wgs.getPlayerResources(i).get(Compass),2);
-                vp += (int)Math.pow(wgs.getPlayerResources(i).get(Tablet),2);
+                vp += (int)Math.pow(resources[Cog.ordinal()],2);
+                vp += (int)Math.pow(resources[Compass.ordinal()],2);
+                vp += (int)Math.pow(resources[Tablet.ordinal()],2);
                 // Sets of different science symbols
-                vp += 7*Math.min(Math.min(wgs.getPlayerResources(i).get(Cog),wgs.getPlayerResources(i).get(Compass)),wgs.getPlayerResources(i).get(Tablet));
+                vp += 7*Math.min(Math.min(resources[Cog.ordinal()],resources[Compass.ordinal()]),resources[Tablet.ordinal()]);
 
-                wgs.getPlayerResources(i).put(Victory, vp);
+                resources[Victory.ordinal()] = vp;
             }
 
             int winner = 0;
             for (int i=0; i<wgs.getNPlayers(); i++){
                 // If a player has more victory points
-                if (wgs.getPlayerResources(i).get(Victory) > wgs.getPlayerResources(winner).get(Victory)){
+                if (wgs.getResource(i, Victory) > wgs.getResource(winner, Victory)){
                     wgs.setPlayerResult(CoreConstants.GameResult.LOSE_GAME,winner); // SETS PREVIOUS WINNER AS LOST
                     wgs.setPlayerResult(CoreConstants.GameResult.WIN_GAME,i); // SETS NEW WINNER AS PLAYER i
                     winner = i;
                 }
                 // In a tie, break with coins
-                else if (wgs.getPlayerResources(i).get(Victory).equals(wgs.getPlayerResources(winner).get(Victory))){
-                    if (wgs.getPlayerResources(i).get(Coin) >= wgs.getPlayerResources(winner).get(Coin)){
+                else if (wgs.getResource(i, Victory) == wgs.getResource(winner, Victory)){
+                    if (wgs.getResource(i, Coin) >= wgs.getResource(winner, Coin)){
                         wgs.setPlayerResult(CoreConstants.GameResult.LOSE_GAME,winner);
                         wgs.setPlayerResult(CoreConstants.GameResult.WIN_GAME,i);
                         winner = i;
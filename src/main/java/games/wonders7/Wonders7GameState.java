@@ -12,11 +12,12 @@ import games.wonders7.cards.Wonder7Board;
 import java.util.*;
 
 import static core.CoreConstants.VisibilityMode.VISIBLE_TO_ALL;
+import static games.wonders7.Wonders7Constants.Resource.*;
 
 public class Wonders7GameState extends AbstractGameState {
 
     int currentAge; // int from 1,2,3 of current age
-    List<HashMap<Wonders7Constants.Resource, Integer>> playerResources; // Each player's full resource counts
+    int[][] playerResources; // Each player's full resource counts, indexed by Resource ordinal
     List<Deck<Wonder7Card>> playerHands; // Player Hands
     List<Deck<Wonder7Card>> playedCards; // Player used cards
     Deck<Wonder7Card> ageDeck; // The 'draw deck' for the Age
@@ -31,10 +32,7 @@ public class Wonders7GameState extends AbstractGameState {
         super(gameParameters, nPlayers);
 
         // Each player starts off with no resources
-        playerResources = new ArrayList<>(); // New arraylist , containing different hashmaps for each player
-        for (int i = 0; i < getNPlayers(); i++) {
-            playerResources.add(new HashMap<>());
-        }
+        playerResources = new int[getNPlayers()][Wonders7Constants.Resource.values().length];
     }
 
     @Override
@@ -57,16 +55,16 @@ public class Wonders7GameState extends AbstractGameState {
         // Including components that player with the given ID will see.
         // For example, some decks may be face down and unobservable to the player
         // All the components in the observation should be copies of those in the game state
-        Wonders7GameState copy = new Wonders7GameState(gameParameters.copy(), getNPlayers());
+        Wonders7GameState copy = new Wonders7GameState(gameParameters, getNPlayers());
         //Wonders7TurnOrder turnOrder = new Wonders7TurnOrder(getNPlayers());
-        copy.playerResources = new ArrayList<>();
+        copy.playerResources = new int[getNPlayers()][];
         copy.playerHands = new ArrayList<>();
         copy.playedCards = new ArrayList<>();
         copy.playerWonderBoard = new Wonder7Board[getNPlayers()];
         copy.turnActions = new AbstractAction[getNPlayers()]; // Player actions are not visible
 
-        for (HashMap<Wonders7Constants.Resource, Integer> map : playerResources) {
-            copy.playerResources.add(new HashMap<>(map));
+        for (int i = 0; i < getNPlayers(); i++) {
+            copy.playerResources[i] = playerResources[i].clone();
         }
         for (Deck<Wonder7Card> deck : playerHands) {
             copy.playerHands.add(deck.copy());
@@ -85,7 +83,7 @@ public class Wonders7GameState extends AbstractGameState {
         if (getCoreGameParameters().partialObservable && playerId != -1) {
             // Player does not know the other players hands and discard pile (except for next players hadn)
             // All the cards of other players and discard pile are shuffled
-            Random r = new Random(copy.gameParameters.getRandomSeed());
+            Random r = getCopyRnd();
             for (int i = 0; i < getNPlayers(); i++) {
                 if (i != playerId) {
                     copy.ageDeck.add(copy.playerHands.get(i)); // Groups other players cards (except for next players hand) into the ageDeck (along with any cards that were not in the game at that age)
@@ -127,33 +125,27 @@ public class Wonders7GameState extends AbstractGameState {
     public double getGameScore(int playerId) {
         // return the players score for the current game state.
         // This may not apply for all games
-        List<HashMap<Wonders7Constants.Resource, Integer>> playerResourcesCopy = new ArrayList<>();
-        for (HashMap<Wonders7Constants.Resource, Integer> map : playerResources) {
-            playerResourcesCopy.add(new HashMap<>(map));
-        }
-        // Evaluate military conflicts
+        int[] resources = playerResources[playerId];
         int nextplayer = (playerId +1)% getNPlayers();
-        if(playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Shield) > playerResourcesCopy.get(nextplayer).get(Wonders7Constants.Resource.Shield)){ // IF PLAYER i WINS
-            playerResourcesCopy.get(playerId).put(Wonders7Constants.Resource.Victory,  playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Victory)+(2*currentAge-1)); // 2N-1 POINTS FOR PLAYER i
-            playerResourcesCopy.get(nextplayer).put(Wonders7Constants.Resource.Victory,  playerResourcesCopy.get(nextplayer).get(Wonders7Constants.Resource.Victory)-1); // -1 FOR THE PLAYER i+1
+        int vp = resources[Victory.ordinal()];
+        // Evaluate military conflicts
+        if (resources[Shield.ordinal()] > playerResources[nextplayer][Shield.ordinal()]) { // IF PLAYER i WINS
+            vp += 2*currentAge-1; // 2N-1 POINTS FOR PLAYER i
         }
-        else if (playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Shield) < playerResourcesCopy.get(nextplayer).get(Wonders7Constants.Resource.Shield)){ // IF PLAYER i+1 WINS
-            playerResourcesCopy.get(playerId).put(Wonders7Constants.Resource.Victory,  playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Victory)-1);// -1 POINT FOR THE PLAYER i
-            playerResourcesCopy.get(nextplayer).put(Wonders7Constants.Resource.Victory,  playerResourcesCopy.get(nextplayer).get(Wonders7Constants.Resource.Victory)+(2*currentAge-1));// 2N-1 POINTS FOR PLAYER i+1
+        else if (resources[Shield.ordinal()] < playerResources[nextplayer][Shield.ordinal()]) { // IF PLAYER i+1 WINS
+            vp -= 1; // -1 POINT FOR THE PLAYER i
         }
 
-        int vp = playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Victory);
         // Treasury
-        vp += playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Coin)/3;
+        vp += resources[Coin.ordinal()]/3;
         // Scientific
-        vp += (int)Math.pow(playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Cog),2);
-        vp += (int)Math.pow(playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Compass),2);
-        vp += (int)Math.pow(playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Tablet),2);
+        vp += (int)Math.pow(resources[Cog.ordinal()],2);
+        vp += (int)Math.pow(resources[Compass.ordinal()],2);
+        vp += (int)Math.pow(resources[Tablet.ordinal()],2);
         // Sets of different science symbols
-        vp += 7*Math.min(Math.min(playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Cog),playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Compass)),playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Tablet));
+        vp += 7*Math.min(Math.min(resources[Cog.ordinal()],resources[Compass.ordinal()]),resources[Tablet.ordinal()]);
 
-        playerResourcesCopy.get(playerId).put(Wonders7Constants.Resource.Victory, vp);
-        return playerResourcesCopy.get(playerId).get(Wonders7Constants.Resource.Victory);
+        return vp;
     }
 
 
@@ -205,30 +197,38 @@ public class Wonders7GameState extends AbstractGameState {
     }
 
 
-    public List<HashMap<Wonders7Constants.Resource, Integer>> getAllPlayerResources() {
+    public int[][] getAllPlayerResources() {
         return playerResources;
-    } // Return all player's resources hashmap
+    } // Return all player's resource counts
 
-    public HashMap<Wonders7Constants.Resource, Integer> getPlayerResources(int index) {
-        return playerResources.get(index);
-    } // Return players resource hashmap
+    /**
+     * @return the player's resource counts, indexed by Resource ordinal. This is not a copy, so changes to it
+     * change the player's resources.
+     */
+    public int[] getPlayerResources(int index) {
+        return playerResources[index];
+    }
 
     public int getResource(int player, Wonders7Constants.Resource resource){
-        return playerResources.get(player).get(resource);
+        return playerResources[player][resource.ordinal()];
+    }
+
+    public void addResource(int player, Wonders7Constants.Resource resource, int amount){
+        playerResources[player][resource.ordinal()] += amount;
     }
 
     @Override
     public boolean _equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Wonders7GameState)) return false;
-        if (!super.equals(o)) return false;
         Wonders7GameState that = (Wonders7GameState) o;
-        return currentAge == that.currentAge && direction == that.direction && Objects.equals(playerResources, that.playerResources) && Objects.equals(playerHands, that.playerHands) && Objects.equals(playedCards, that.playedCards) && Objects.equals(ageDeck, that.ageDeck) && Objects.equals(discardPile, that.discardPile) && Objects.equals(wonderBoardDeck, that.wonderBoardDeck) && Arrays.equals(playerWonderBoard, that.playerWonderBoard) && Arrays.equals(turnActions, that.turnActions);
+        return currentAge == that.currentAge && direction == that.direction && Arrays.deepEquals(playerResources, that.playerResources) && Objects.equals(playerHands, that.playerHands) && Objects.equals(playedCards, that.playedCards) && Objects.equals(ageDeck, that.ageDeck) && Objects.equals(discardPile, that.discardPile) && Objects.equals(wonderBoardDeck, that.wonderBoardDeck) && Arrays.equals(playerWonderBoard, that.playerWonderBoard) && Arrays.equals(turnActions, that.turnActions);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(super.hashCode(), currentAge, playerResources, playerHands, playedCards, ageDeck, discardPile, wonderBoardDeck, direction);
+        int result = Objects.hash(super.hashCode(), currentAge, playerHands, playedCards, ageDeck, discardPile, wonderBoardDeck, direction);
+        result = 31 * result + Arrays.deepHashCode(playerResources);
         result = 31 * result + Arrays.hashCode(playerWonderBoard);
         result = 31 * result + Arrays.hashCode(turnActions);
         return result;
@@ -53,8 +53,7 @@ public class BuildStage extends AbstractAction {
         Set<Wonders7Constants.Resource> keys = wgs.getPlayerWonderBoard(player).type.stageProduce.get(wgs.getPlayerWonderBoard(player).wonderStage-1).keySet(); // Gets all the resources the stage provides
         for (Wonders7Constants.Resource resource: keys){  // Goes through all keys for each resource
             int stageValue = wgs.getPlayerWonderBoard(player).type.getStageProduce(wgs.getPlayerWonderBoard(player).wonderStage - 1, resource); // Number of resource the stage provides
-            int playerValue = wgs.getPlayerResources(player).get(resource); // Number of resource the player owns
-            wgs.getPlayerResources(player).put(resource, playerValue + stageValue); // Adds the resources provided by the stage to the players resource count
+            wgs.addResource(player, resource, stageValue); // Adds the resources provided by the stage to the players resource count
         }
 
         // remove the card from the players hand to the playedDeck
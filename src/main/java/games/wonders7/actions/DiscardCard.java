@@ -35,8 +35,7 @@ public class DiscardCard extends DrawCard {
         }
 
         // Player gets 3 coins from discarding card
-        int playerValue = wgs.getPlayerResources(wgs.getCurrentPlayer()).get(Wonders7Constants.Resource.Coin); // No. Coins player has
-        wgs.getPlayerResources(wgs.getCurrentPlayer()).put(Wonders7Constants.Resource.Coin,  playerValue+ ((Wonders7GameParameters)wgs.getGameParameters()).nCoinsDiscard); // Adds 3 coins to player coin count
+        wgs.addResource(wgs.getCurrentPlayer(), Wonders7Constants.Resource.Coin, ((Wonders7GameParameters)wgs.getGameParameters()).nCoinsDiscard); // Adds 3 coins to player coin count
 
         // Removes card from player hand and adds to discarded cards deck
         wgs.getPlayerHand(wgs.getCurrentPlayer()).remove(card); // remove
@@ -52,8 +52,7 @@ public class SpecialEffect extends DrawCard {
                 Set<Wonders7Constants.Resource> keys = card.resourcesProduced.keySet(); // Gets all the resources the card provides
                 for (Wonders7Constants.Resource resource: keys){  // Goes through all keys for each resource
                     int cardValue = card.getNProduced(resource); // Number of resource the card provides
-                    int playerValue = wgs.getPlayerResources(wgs.getCurrentPlayer()).get(resource); // Number of resource the player owns
-                    wgs.getPlayerResources(wgs.getCurrentPlayer()).put(resource, playerValue + cardValue); // Adds the resources provided by the card to the players resource count
+                    wgs.addResource(wgs.getCurrentPlayer(), resource, cardValue); // Adds the resources provided by the card to the players resource count
                 }
 
                 // remove the card from the players hand to the playedDeck
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 import static games.wonders7.Wonders7Constants.Resource.*;
 import static games.wonders7.Wonders7Constants.createCardHash;
 import static games.wonders7.Wonders7Constants.createHashList;
+import static games.wonders7.Wonders7Constants.toResourceArray;
 
 public class Wonder7Board extends Card {
 
@@ -34,6 +35,7 @@ public class Wonder7Board extends Card {
         public final Map<Wonders7Constants.Resource, Long> resourcesProduced; // Default wonder production
         public final List<Map<Wonders7Constants.Resource, Long>> constructionCosts; // Cost of each stage
         public final List<Map<Wonders7Constants.Resource, Long>> stageProduce; // Production of each stage
+        public final int[][] stageCosts; // Cost of each stage, indexed by Resource ordinal
         public final int wonderStages;
 
         Wonder(List<Map<Wonders7Constants.Resource, Long>> constructionCosts,
@@ -44,7 +46,14 @@ public class Wonder7Board extends Card {
             this.resourcesProduced = Arrays.stream(resourcesProduced).collect(Collectors.groupingBy(e -> e, Collectors.counting()));
             if (constructionCosts != null) {
                 this.wonderStages = constructionCosts.size();
-            } else this.wonderStages = 0;
+                this.stageCosts = new int[wonderStages][];
+                for (int i = 0; i < wonderStages; i++) {
+                    stageCosts[i] = toResourceArray(constructionCosts.get(i));
+                }
+            } else {
+                this.wonderStages = 0;
+                this.stageCosts = new int[0][];
+            }
         }
 
         public int getStageProduce(int stage, Wonders7Constants.Resource resource) {
@@ -100,9 +109,10 @@ public class Wonder7Board extends Card {
             return false;
         }
         // Checks if player can afford the cost of the card
-        Set<Wonders7Constants.Resource> key = type.constructionCosts.get(wonderStage-1).keySet(); //Gets the resources of the player
-        for (Wonders7Constants.Resource resource : key) {// Goes through every resource the player has
-            if (!((wgs.getPlayerResources(wgs.getCurrentPlayer()).get(resource)) >= type.constructionCosts.get(wonderStage-1).get(resource))) { // Checks if players resource count is more or equal to card resource count (i.e. the player can afford the card)
+        int[] costs = type.stageCosts[wonderStage-1];
+        int[] playerResources = wgs.getPlayerResources(wgs.getCurrentPlayer());
+        for (int r = 0; r < costs.length; r++) {// Goes through every resource the stage costs
+            if (costs[r] > 0 && playerResources[r] < costs[r]) { // Checks if players resource count is more or equal to card resource count (i.e. the player can afford the card)
                 return false; // Player cant afford card
             }
         }
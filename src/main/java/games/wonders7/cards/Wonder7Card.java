@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import static games.wonders7.Wonders7Constants.Resource.Coin;
+import static games.wonders7.Wonders7Constants.toResourceArray;
 
 public class Wonder7Card extends Card {
 
@@ -29,6 +30,7 @@ public class Wonder7Card extends Card {
     public final Map<Wonders7Constants.Resource, Long> resourcesProduced; // Resources the card creates
     //public final HashMap<Wonder7Card, Integer> prerequisite; // THE STRUCTURES REQUIRED TO BUILD CARD FOR FREE
     public final String prerequisiteCard;
+    private final int[] costs; // constructionCost indexed by Resource ordinal, shared by all copies of the card
 
     // A normal card with construction cost, produces resources
     public Wonder7Card(String name, Type type,
@@ -40,6 +42,7 @@ public class Wonder7Card extends Card {
         this.constructionCost = constructionCost;
         this.resourcesProduced = resourcesProduced;
         this.prerequisiteCard = "";
+        this.costs = toResourceArray(constructionCost);
     }
 
     // Card has prerequisite cards
@@ -52,6 +55,7 @@ public class Wonder7Card extends Card {
         this.constructionCost = constructionCost;
         this.resourcesProduced = resourcesProduced;
         this.prerequisiteCard = prerequisiteCard;
+        this.costs = toResourceArray(constructionCost);
     }
 
     // A free card (no construction cost)
@@ -62,24 +66,33 @@ public class Wonder7Card extends Card {
         this.constructionCost = new HashMap<>(); // Card costs nothing
         this.resourcesProduced = resourcesProduced;
         this.prerequisiteCard = "";
+        this.costs = toResourceArray(constructionCost);
     }
 
     protected Wonder7Card(String name, Type type,
                           Map<Wonders7Constants.Resource,Long> constructionCost,
                           Map<Wonders7Constants.Resource,Long> resourcesProduced, String prerequisiteCard, int componentID){
+        this(name, type, constructionCost, resourcesProduced, prerequisiteCard, componentID, toResourceArray(constructionCost));
+    }
+
+    private Wonder7Card(String name, Type type,
+                        Map<Wonders7Constants.Resource,Long> constructionCost,
+                        Map<Wonders7Constants.Resource,Long> resourcesProduced, String prerequisiteCard, int componentID,
+                        int[] costs){
         super(name, componentID);
         this.cardName = name;
         this.type = type;
         this.constructionCost = constructionCost;
         this.resourcesProduced = resourcesProduced;
         this.prerequisiteCard = prerequisiteCard;
+        this.costs = costs;
     }
 
     public int getNProduced(Wonders7Constants.Resource resource) {
         return resourcesProduced.get(resource).intValue();
     }
     public int getNCost(Wonders7Constants.Resource resource) {
-        return constructionCost.get(resource).intValue();
+        return costs[resource.ordinal()];
     }
 
     @Override
@@ -127,31 +140,27 @@ public class Wonder7Card extends Card {
         if (isAlreadyPlayed(player, wgs)) return false; // If player already has an identical structure (can't play another
         if (isFree(player, wgs)) return true; // If player can play for free (has prerequisite card
 
-        // Collects the resources player does not have
-        HashMap<Wonders7Constants.Resource, Long> neededResources = new HashMap<>();
-        for (Wonders7Constants.Resource resource : constructionCost.keySet()) { // Goes through every resource the player needs
-            if ((wgs.getPlayerResources(player).get(resource)) < constructionCost.get(resource)) { // If the player does not have resource count, added to needed resources
-                neededResources.put(resource, constructionCost.get(resource)-wgs.getPlayerResources(player).get(resource));
-            }
+        // Counts the resources player does not have
+        int[] playerResources = wgs.getPlayerResources(player);
+        int nNeeded = 0;
+        for (int r = 0; r < costs.length; r++) { // Goes through every resource the player needs
+            if (costs[r] > 0 && playerResources[r] < costs[r]) nNeeded += costs[r] - playerResources[r];
         }
-        if (neededResources.isEmpty()) return true; // If player can afford the card (no resources needed)
+        if (nNeeded == 0) return true; // If player can afford the card (no resources needed)
 
         // Calculates the cost of resources
-        int coinCost = 0;
-        for (Wonders7Constants.Resource resource : neededResources.keySet())
-            coinCost += (int) (((Wonders7GameParameters)wgs.getGameParameters()).nCostNeighbourResource * neededResources.get(resource)); // For each unit of the resource needed
-        if (coinCost > wgs.getPlayerResources(player).get(Coin))
+        int coinCost = ((Wonders7GameParameters)wgs.getGameParameters()).nCostNeighbourResource * nNeeded; // For each unit of the resource needed
+        if (coinCost > playerResources[Coin.ordinal()])
             return false; // If player can't pay the neighbours for the resources needed
 
-        HashMap<Wonders7Constants.Resource, Integer> neighbourLResources = wgs.getPlayerResources((wgs.getNPlayers()+player-1)%wgs.getNPlayers()); // Resources available to the neighbour on left
-        HashMap<Wonders7Constants.Resource, Integer> neighbourRResources = wgs.getPlayerResources((player+1)%wgs.getNPlayers()); // Resources available to the neighbour on right
+        int[] neighbourLResources = wgs.getPlayerResources((wgs.getNPlayers()+player-1)%wgs.getNPlayers()); // Resources available to the neighbour on left
+        int[] neighbourRResources = wgs.getPlayerResources((player+1)%wgs.getNPlayers()); // Resources available to the neighbour on right
 
         // Calculates combined resources of neighbour and player
-        for (Wonders7Constants.Resource resource : constructionCost.keySet()) { // Goes through every resource provided by the neighbour
-            int combined = wgs.getPlayerResources(player).get(resource)
-                    + neighbourLResources.get(resource)
-                    + neighbourRResources.get(resource);
-            if (combined < constructionCost.get(resource)) return false; // Player can't afford card with bought resources
+        for (int r = 0; r < costs.length; r++) { // Goes through every resource provided by the neighbour
+            if (costs[r] == 0) continue;
+            int combined = playerResources[r] + neighbourLResources[r] + neighbourRResources[r];
+            if (combined < costs[r]) return false; // Player can't afford card with bought resources
         }
 
         return true;
@@ -159,7 +168,7 @@ public class Wonder7Card extends Card {
 
     @Override
     public Card copy(){
-        return new Wonder7Card(cardName, type, constructionCost, resourcesProduced, prerequisiteCard, componentID);
+        return new Wonder7Card(cardName, type, constructionCost, resourcesProduced, prerequisiteCard, componentID, costs);
     }
 
     @Override
@@ -5,9 +5,13 @@ import games.cantstop.CantStopGameState;
 
 import core.AbstractGameState;
 import core.CoreConstants;
+import games.cantstop.CantStopParameters;
 
 public class CantStopHeuristic implements IStateHeuristic {
 
+    // weight given to progress up columns that have not yet been completed, relative to a completed column
+    double progressWeight = 0.1;
+
     @Override
     public double evaluateState(AbstractGameState gs, int playerId) {
         CantStopGameState cs = (CantStopGameState) gs;
@@ -16,7 +20,31 @@ public class CantStopHeuristic implements IStateHeuristic {
             return score * 1.5;
         if (gs.getPlayerResults()[playerId] == CoreConstants.GameResult.LOSE_GAME)
             return score * 0.5;
-        return score;
+        return score + progressWeight * progress(cs, playerId);
+    }
+
+    /**
+     * Fractional progress up the incomplete columns. Any temporary progress made this turn is
+     * discounted by the exact chance of going bust on the next roll.
+     */
+    private double progress(CantStopGameState cs, int playerId) {
+        CantStopParameters params = (CantStopParameters) cs.getGameParameters();
+        boolean ourTurn = cs.getCurrentPlayer() == playerId;
+        double safe = ourTurn ? 1.0 - cs.getBustProbability() : 1.0;
+        double retValue = 0.0;
+        for (int n = 2; n <= 12; n++) {
+            if (cs.trackComplete(n))
+                continue;
+            double max = params.maxValue(n);
+            int permanent = cs.getMarkerPosition(n, playerId);
+            retValue += permanent / max;
+            if (ourTurn) {
+                int temporary = cs.getTemporaryMarkerPosition(n);
+                if (temporary > permanent)
+                    retValue += safe * (temporary - permanent) / max;
+            }
+        }
+        return retValue;
     }
 
 }
@@ -222,6 +222,8 @@ public class SingleTreeNode {
         int numIters = 0;
         rolloutActionsTaken = 0;
         boolean stop = false;
+        // Information sets are sampled by redeterminising a plain copy of the state in place, if the game supports it
+        boolean redeterminise = true;
         while (!stop) {
             switch (params.information) {
                 case Closed_Loop:
@@ -232,7 +234,12 @@ public class SingleTreeNode {
                     copyCount++;
                     break;
                 case Information_Set:
-                    openLoopState = state.copy(decisionPlayer);
+                    if (redeterminise) {
+                        openLoopState = state.copy();
+                        redeterminise = openLoopState.redeterminise(decisionPlayer, rnd);
+                    }
+                    if (!redeterminise)
+                        openLoopState = state.copy(decisionPlayer);
                     copyCount++;
                     break;
             }
@@ -428,9 +435,10 @@ public class SingleTreeNode {
             actionsToConsider = Math.min(actionsToConsider - usedElsewhere, allAvailable.size());
             // takes account of the expanded actions
             if (actionsToConsider <= 0) return new ArrayList<>();
-            // sort in advantage order (descending)
-            allAvailable.sort(Comparator.comparingDouble(a -> -advantagesOfActionsFromOLS.getOrDefault(a, 0.0)));
-            return allAvailable.subList(0, actionsToConsider);
+            // sort in advantage order (descending), on a copy as the list may be shared (see core.ActionCache)
+            List<AbstractAction> sorted = new ArrayList<>(allAvailable);
+            sorted.sort(Comparator.comparingDouble(a -> -advantagesOfActionsFromOLS.getOrDefault(a, 0.0)));
+            return sorted.subList(0, actionsToConsider);
         }
         return allAvailable;
     }
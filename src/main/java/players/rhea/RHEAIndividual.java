@@ -104,6 +104,10 @@ public class RHEAIndividual implements Comparable<RHEAIndividual> {
         double previousScore = 0;
         int fmCalls = 0, copyCalls = 0;
         AbstractGameState gs = gameStates[startIndex].copy();
+        if (startIndex == 0) {
+            // sample a new determinisation of what is hidden from us for each rollout from the root, if supported
+            gs.redeterminise(playerID, gen);
+        }
 
         // This lot are a local record for use in debugging; Very useful, with no compute overhead for keeping a local copy
         AbstractGameState[] oldGameStates = new AbstractGameState[gameStates.length];
@@ -16,6 +16,11 @@ public class FirstActionPlayer extends AbstractPlayer{
         return possibleActions.get(0);
     }
 
+    @Override
+    public ObservationNeeds getObservationNeeds() {
+        return ObservationNeeds.NONE;
+    }
+
     @Override
     public String toString() {
         return "FirstAction";
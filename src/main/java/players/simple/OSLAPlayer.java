@@ -37,6 +37,12 @@ public class OSLAPlayer extends AbstractPlayer {
         setName("OSLA");
     }
 
+    @Override
+    public ObservationNeeds getObservationNeeds() {
+        // the state is only copied, to try out each action
+        return ObservationNeeds.READ_ONLY;
+    }
+
     @Override
     public AbstractAction _getAction(AbstractGameState gs, List<AbstractAction> actions) {
         double maxQ = Double.NEGATIVE_INFINITY;
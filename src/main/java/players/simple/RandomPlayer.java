@@ -29,6 +29,11 @@ public class RandomPlayer extends AbstractPlayer {
         return actions.get(randomAction);
     }
 
+    @Override
+    public ObservationNeeds getObservationNeeds() {
+        return ObservationNeeds.NONE;
+    }
+
     @Override
     public String toString() {
         return "Random";
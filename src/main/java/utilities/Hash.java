@@ -1,34 +1,28 @@
 package utilities;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Hash
 {
-    private static Hash hash;
+    // Created eagerly, and backed by a concurrent map, as games run in parallel (e.g. by NTBEA) share it
+    private static final Hash hash = new Hash();
 
-    private HashMap<String, Integer> hashmap;
+    private final ConcurrentHashMap<String, Integer> hashmap;
 
     public static Hash GetInstance()
     {
-        if(hash == null)
-            hash = new Hash();
         return hash;
     }
 
     private Hash()
     {
-        hashmap = new HashMap<>();
+        hashmap = new ConcurrentHashMap<>();
     }
 
 
     public int hash(String key)
     {
-        if(hashmap.containsKey(key))
-            return hashmap.get(key);
-
-        int newValue = key.hashCode();
-        hashmap.put(key, newValue);
-        return newValue;
+        return hashmap.computeIfAbsent(key, String::hashCode);
     }
 
 }
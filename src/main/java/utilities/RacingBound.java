@@ -0,0 +1,85 @@
+package utilities;
+
+/**
+ * Running mean of a bounded quantity (a game result, or the difference between the results of two players in the
+ * same game), with a confidence interval that holds whatever the distribution. This is what racing algorithms use to
+ * stop sampling once one option is known to be better than another: with probability at least 1 - delta, the true
+ * mean lies within radius(delta) of the sample mean.
+ * <p>
+ * The radius is the smaller of the Hoeffding bound, which only uses the range of the values, and the empirical
+ * Bernstein bound (Audibert, Munos and Szepesvari, 2009), which is much tighter when the values vary less than their
+ * range allows (for example when one agent nearly always beats another). Each is taken at confidence delta / 2.
+ * <p>
+ * The bound is for a single look at the data. When checking after every game, divide delta by the maximum number of
+ * checks (and by the number of comparisons made at each check) to keep the overall error below delta.
+ */
+public class RacingBound {
+
+    private double range;
+    private int n;
+    private double mean, m2;
+    private double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param range - difference between the largest and smallest values that can be added. If values further apart
+     *              than this are added, the observed range is used instead.
+     */
+    public RacingBound(double range) {
+        if (range <= 0) {
+            throw new IllegalArgumentException("Range must be positive: " + range);
+        }
+        this.range = range;
+    }
+
+    public void add(double x) {
+        n++;
+        double delta = x - mean;
+        mean += delta / n;
+        m2 += delta * (x - mean);
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+        range = Math.max(range, max - min);
+    }
+
+    public int n() {
+        return n;
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    /**
+     * @param delta - probability that the true mean is further than this from the sample mean.
+     * @return half the width of the confidence interval on the mean (infinite if nothing has been added yet)
+     */
+    public double radius(double delta) {
+        if (n == 0) return Double.POSITIVE_INFINITY;
+        double hoeffding = range * Math.sqrt(Math.log(4 / delta) / (2.0 * n));
+        double log = Math.log(6 / delta);
+        double bernstein = Math.sqrt(2 * (m2 / n) * log / n) + 3 * range * log / n;
+        return Math.min(hoeffding, bernstein);
+    }
+
+    public double lower(double delta) {
+        return mean - radius(delta);
+    }
+
+    public double upper(double delta) {
+        return mean + radius(delta);
+    }
+
+    /**
+     * @return true if the confidence interval excludes zero, so the sign of the mean is known (used with differences)
+     */
+    public boolean excludesZero(double delta) {
+        return Math.abs(mean) > radius(delta);
+    }
+
+    /**
+     * @return true if the confidence intervals of the two means do not overlap, each taken at delta / 2
+     */
+    public static boolean separated(RacingBound a, RacingBound b, double delta) {
+        return a.lower(delta / 2) > b.upper(delta / 2) || b.lower(delta / 2) > a.upper(delta / 2);
+    }
+}
@@ -0,0 +1,79 @@
+package utilities;
+
+import java.util.Random;
+
+/**
+ * Fast, non thread-safe random number generator based on SplitMix64. Extends Random so it can be used anywhere a
+ * Random is expected (e.g. Deck.shuffle() or Collections.shuffle()), but without the atomic seed updates of
+ * java.util.Random, which are costly when many games run in parallel.
+ * <p>
+ * Generators can be split: split() returns a new generator whose sequence is independent of (and does not change)
+ * the remaining sequence of this one, deterministically given the state of this generator.
+ */
+public class SplitMixRandom extends Random {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public SplitMixRandom(long seed) {
+        super(0);  // Random's own seed is never used
+        this.state = seed;
+    }
+
+    /**
+     * Sets the seed of this generator. Called once by the Random constructor, before our state is initialised.
+     */
+    @Override
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * @return a new generator with a sequence independent from the rest of this one; advances this generator once.
+     */
+    public SplitMixRandom split() {
+        return new SplitMixRandom(mix(nextLong() ^ GOLDEN_GAMMA));
+    }
+
+    /**
+     * @return a generator that will produce exactly the same sequence as this one.
+     */
+    public SplitMixRandom copy() {
+        return new SplitMixRandom(state);
+    }
+
+    /**
+     * SplitMix64 finaliser, mapping consecutive values of the state to unrelated outputs.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
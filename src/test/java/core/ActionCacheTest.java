@@ -0,0 +1,148 @@
+package core;
+
+import core.actions.AbstractAction;
+import games.GameType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * A game must play out exactly the same whether or not the forward model caches the actions available.
+ */
+public class ActionCacheTest {
+
+    /**
+     * Plays several short random rollouts after each action, so that the same states are seen many times, and plays
+     * the actions its forward model returns without copying them (as MCTS does).
+     */
+    private static class RolloutPlayer extends AbstractPlayer {
+        final Random rnd;
+
+        RolloutPlayer(Random rnd) {
+            this.rnd = rnd;
+        }
+
+        @Override
+        public AbstractAction _getAction(AbstractGameState gameState, List<AbstractAction> possibleActions) {
+            AbstractForwardModel fm = getForwardModel();
+            int player = gameState.getCurrentPlayer();
+            AbstractAction best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (AbstractAction action : possibleActions) {
+                double value = 0;
+                for (int rollout = 0; rollout < 3; rollout++) {
+                    AbstractGameState state = gameState.copy();
+                    fm.next(state, action.copy());
+                    for (int depth = 0; depth < 5 && state.isNotTerminal(); depth++) {
+                        List<AbstractAction> actions = fm.computeAvailableActions(state);
+                        fm.next(state, actions.get(rnd.nextInt(actions.size())));
+                    }
+                    value += state.getHeuristicScore(player);
+                }
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = action;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public RolloutPlayer copy() {
+            return new RolloutPlayer(new Random(rnd.nextLong()));
+        }
+    }
+
+    private List<String> trace(GameType gameType, int nPlayers, long seed, ActionCache cache) {
+        Game game = gameType.createGameInstance(nPlayers, seed);
+        game.getForwardModel().setActionCache(cache);
+        List<AbstractPlayer> players = new ArrayList<>();
+        for (int p = 0; p < nPlayers; p++)
+            players.add(new RolloutPlayer(new Random(seed + p)));
+        game.reset(players, seed);
+        game.run();
+        return game.getGameState().getHistoryAsText();
+    }
+
+    /**
+     * @param shared - whether the game only has IImmutableAction actions, so that the lists are cached
+     */
+    private void checkSameTrace(GameType gameType, int nPlayers, boolean shared) {
+        for (long seed = 1; seed <= 3; seed++) {
+            ActionCache cache = new ActionCache(1000);
+            List<String> uncached = trace(gameType, nPlayers, seed, null);
+            List<String> cached = trace(gameType, nPlayers, seed, cache);
+            assertEquals(uncached, cached);
+            assertEquals(!shared, cache.isBypassed());
+            assertEquals(shared, cache.getHitRate() > 0);
+        }
+    }
+
+    @Test
+    public void ticTacToe() {
+        checkSameTrace(GameType.TicTacToe, 2, false);
+    }
+
+    @Test
+    public void loveLetter() {
+        checkSameTrace(GameType.LoveLetter, 3, false);
+    }
+
+    @Test
+    public void sushiGo() {
+        // ChooseCard is an IExtendedSequence when chopsticks are used, so puts itself on the stack of actions in progress
+        checkSameTrace(GameType.SushiGo, 3, false);
+    }
+
+    @Test
+    public void uno() {
+        checkSameTrace(GameType.Uno, 3, false);
+    }
+
+    @Test
+    public void dotsAndBoxes() {
+        checkSameTrace(GameType.DotsAndBoxes, 2, true);
+    }
+
+    @Test
+    public void immutableActionsAreShared() {
+        Game game = GameType.DotsAndBoxes.createGameInstance(2, 1);
+        AbstractForwardModel fm = game.getForwardModel();
+        ActionCache cache = new ActionCache(10);
+        fm.setActionCache(cache);
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> first = fm.computeAvailableActions(state);
+        List<AbstractAction> second = fm.computeAvailableActions(state.copy());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+        assertSame(first, second);
+        try {
+            second.clear();
+            fail("Expected the shared list to be unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            assertFalse(first.isEmpty());
+        }
+    }
+
+    @Test
+    public void otherActionsBypassTheCache() {
+        Game game = GameType.Uno.createGameInstance(3, 1);
+        AbstractForwardModel fm = game.getForwardModel();
+        ActionCache cache = new ActionCache(10);
+        fm.setActionCache(cache);
+        AbstractGameState state = game.getGameState();
+        List<AbstractAction> first = fm.computeAvailableActions(state);
+        assertTrue(cache.isBypassed());
+        assertEquals(0, cache.size());
+        List<AbstractAction> second = fm.computeAvailableActions(state);
+        assertEquals(1, cache.getRequests());
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        // and the lists returned can be changed
+        second.clear();
+        assertEquals(first, fm.computeAvailableActions(state));
+    }
+}
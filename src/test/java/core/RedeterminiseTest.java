@@ -0,0 +1,100 @@
+package core;
+
+import core.actions.AbstractAction;
+import core.components.Component;
+import games.GameType;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * redeterminise() changes components in place, so it must only ever change the state it is called on, and never the
+ * state that state was copied from (as MCTS relies on, copying its root observation on every iteration).
+ */
+public class RedeterminiseTest {
+
+    private static String describe(AbstractGameState state) {
+        return state.getAllTopLevelComponents().stream()
+                .map(c -> c.getComponentID() + ":" + c.getOwnerId() + ":" + c)
+                .collect(Collectors.joining("|"));
+    }
+
+    private static String describeAll(AbstractGameState state) {
+        return state.getAllComponents().getComponents().stream()
+                .sorted((a, b) -> Integer.compare(a.getComponentID(), b.getComponentID()))
+                .map(Component::toString)
+                .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Plays random moves through a few games, and at each step checks that redeterminising copies of each
+     * player's observation leaves the observation itself unchanged.
+     */
+    private void checkOriginalUnchanged(GameType gameType, int nPlayers) {
+        Random rnd = new Random(42);
+        for (int seed = 0; seed < 3; seed++) {
+            Game game = gameType.createGameInstance(nPlayers, seed);
+            AbstractGameState state = game.getGameState();
+            AbstractForwardModel fm = game.getForwardModel();
+            for (int step = 0; step < 60 && state.isNotTerminal(); step++) {
+                for (int p = 0; p < nPlayers; p++) {
+                    AbstractGameState observation = state.copy(p);
+                    String before = describe(observation);
+                    String beforeAll = describeAll(observation);
+                    for (int i = 0; i < 3; i++) {
+                        AbstractGameState determinisation = observation.copy();
+                        assertTrue(determinisation.redeterminise(p, rnd));
+                        assertEquals(before, describe(observation));
+                        assertEquals(beforeAll, describeAll(observation));
+                        // and a copy of a copy
+                        AbstractGameState second = determinisation.copy();
+                        String determinised = describe(determinisation);
+                        second.redeterminise(p, rnd);
+                        assertEquals(determinised, describe(determinisation));
+                    }
+                }
+                List<AbstractAction> actions = fm.computeAvailableActions(state);
+                fm.next(state, actions.get(rnd.nextInt(actions.size())).copy());
+            }
+        }
+    }
+
+    @Test
+    public void loveLetter() {
+        checkOriginalUnchanged(GameType.LoveLetter, 3);
+    }
+
+    @Test
+    public void sushiGo() {
+        checkOriginalUnchanged(GameType.SushiGo, 3);
+    }
+
+    @Test
+    public void explodingKittens() {
+        checkOriginalUnchanged(GameType.ExplodingKittens, 3);
+    }
+
+    @Test
+    public void uno() {
+        checkOriginalUnchanged(GameType.Uno, 3);
+    }
+
+    @Test
+    public void dominion() {
+        checkOriginalUnchanged(GameType.Dominion, 3);
+    }
+
+    @Test
+    public void hanabi() {
+        checkOriginalUnchanged(GameType.Hanabi, 3);
+    }
+
+    @Test
+    public void poker() {
+        checkOriginalUnchanged(GameType.Poker, 3);
+    }
+}
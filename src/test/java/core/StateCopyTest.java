@@ -0,0 +1,76 @@
+package core;
+
+import games.GameType;
+import games.tictactoe.TicTacToeGameParameters;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class StateCopyTest {
+
+    private static List<Long> copySeeds(AbstractGameState state, int nCopies) {
+        List<Long> seeds = new ArrayList<>();
+        for (int i = 0; i < nCopies; i++)
+            seeds.add(state.copy().getRandomSeed());
+        return seeds;
+    }
+
+    @Test
+    public void copiesOnEachThreadGetTheSameSeeds() throws Exception {
+        int nThreads = 4, copiesPerThread = 200;
+        AbstractGameState state = GameType.TicTacToe.createGameInstance(2, 42).getGameState();
+        int hashCode = state.hashCode();
+
+        List<Long> expected = copySeeds(GameType.TicTacToe.createGameInstance(2, 42).getGameState(), copiesPerThread);
+        assertEquals(copiesPerThread, new HashSet<>(expected).size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < nThreads; t++)
+                futures.add(executor.submit(() -> copySeeds(state, copiesPerThread)));
+            for (Future<List<Long>> f : futures)
+                assertEquals(expected, f.get());
+        } finally {
+            executor.shutdown();
+        }
+        // and copying did not change the state
+        assertEquals(hashCode, state.hashCode());
+        assertEquals(42, state.getRandomSeed());
+    }
+
+    @Test
+    public void snapshotDoesNotChangeLaterCopies() {
+        AbstractGameState a = GameType.TicTacToe.createGameInstance(2, 7).getGameState();
+        AbstractGameState snapshot = a.snapshot();
+        assertEquals(a, snapshot);
+        assertEquals(a.getRandomSeed(), snapshot.getRandomSeed());
+        long seed = a.copy().getRandomSeed();
+        AbstractGameState b = GameType.TicTacToe.createGameInstance(2, 7).getGameState();
+        assertEquals(b.copy().getRandomSeed(), seed);
+    }
+
+    @Test
+    public void frozenParametersMustNotChange() {
+        AbstractGameState state = GameType.TicTacToe.createGameInstance(2, 1).getGameState();
+        TicTacToeGameParameters params = (TicTacToeGameParameters) state.getGameParameters();
+        assertTrue(params.isFrozen());
+        state.hashCode();
+        // changed through a setter, which unfreezes them
+        params.setMaxRounds(params.getMaxRounds() + 1);
+        assertFalse(params.isFrozen());
+        state.hashCode();
+        params.freeze();
+        // changed directly, behind the back of the cached hashCode
+        params.gridSize++;
+        try {
+            state.hashCode();
+            fail("Expected the change to frozen parameters to be detected");
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage().contains("unfreeze"));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package core;
+
+import core.components.Component;
+import core.components.Counter;
+import core.components.Token;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static core.StateField.Kind.*;
+import static org.junit.Assert.*;
+
+/**
+ * Checks StateFields against hand-written versions of copy, equals and hashCode for a state with fields of all the
+ * kinds it handles.
+ */
+public class StateFieldsTest {
+
+    static class FieldsState extends AbstractGameState {
+        int round;
+        String name = "";
+        @StateField(DEEP) int[] scores;
+        @StateField(DEEP) Counter[] counters;
+        @StateField(DEEP) List<Token> hand = new ArrayList<>();
+        @StateField(DEEP) LinkedList<Token> cells = new LinkedList<>();
+        @StateField(DEEP) Stack<Integer> undo = new Stack<>();
+        @StateField(DEEP) Deque<Counter> queue = new ArrayDeque<>();
+        @StateField(DEEP) TreeSet<String> names = new TreeSet<>(Comparator.reverseOrder());
+        @StateField(DEEP) Map<String, Counter> byName = new LinkedHashMap<>();
+        @StateField(SHARED) List<String> data = new ArrayList<>();
+        @StateField(HIDDEN) List<Token> secret = new ArrayList<>();
+
+        FieldsState(int nPlayers) {
+            super(null, nPlayers);
+            scores = new int[nPlayers];
+            counters = new Counter[nPlayers];
+            for (int p = 0; p < nPlayers; p++)
+                counters[p] = new Counter(0, 0, 10, "c" + p);
+        }
+
+        @Override
+        protected GameType _getGameType() {
+            return GameType.GameTemplate;
+        }
+
+        @Override
+        protected List<Component> _getAllComponents() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected FieldsState _copy(int playerId) {
+            FieldsState copy = new FieldsState(getNPlayers());
+            StateFields.copy(this, copy);
+            return copy;
+        }
+
+        @Override
+        protected double _getHeuristicScore(int playerId) {
+            return 0;
+        }
+
+        @Override
+        public double getGameScore(int playerId) {
+            return scores[playerId];
+        }
+
+        @Override
+        protected boolean _equals(Object o) {
+            return StateFields.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return StateFields.hashCode(this);
+        }
+
+        FieldsState handCopy() {
+            FieldsState copy = new FieldsState(getNPlayers());
+            copy.round = round;
+            copy.name = name;
+            copy.scores = scores.clone();
+            for (int p = 0; p < counters.length; p++)
+                copy.counters[p] = counters[p].copy();
+            hand.forEach(t -> copy.hand.add(t.copy()));
+            cells.forEach(t -> copy.cells.add(t.copy()));
+            copy.undo.addAll(undo);
+            queue.forEach(c -> copy.queue.add(c.copy()));
+            copy.names.addAll(names);
+            byName.forEach((k, v) -> copy.byName.put(k, v.copy()));
+            copy.data = data;
+            return copy;
+        }
+
+        boolean handEquals(FieldsState other) {
+            return round == other.round && name.equals(other.name) && Arrays.equals(scores, other.scores) &&
+                    Arrays.equals(counters, other.counters) && hand.equals(other.hand) && cells.equals(other.cells) &&
+                    undo.equals(other.undo) && new ArrayList<>(queue).equals(new ArrayList<>(other.queue)) &&
+                    names.equals(other.names) && byName.equals(other.byName) && data.equals(other.data) &&
+                    secret.equals(other.secret);
+        }
+    }
+
+    FieldsState state;
+
+    @Before
+    public void setup() {
+        state = new FieldsState(3);
+        state.round = 4;
+        state.name = "test";
+        state.scores[1] = 7;
+        state.counters[2].setValue(5);
+        state.hand.add(new Token("a"));
+        state.hand.add(new Token("b"));
+        state.cells.add(new Token("c"));
+        state.undo.push(1);
+        state.undo.push(2);
+        state.queue.add(new Counter(3, 0, 10, "q1"));
+        state.queue.add(new Counter(4, 0, 10, "q2"));
+        state.names.addAll(Arrays.asList("x", "y", "z"));
+        state.byName.put("one", new Counter(1, 0, 10, "one"));
+        state.byName.put("two", new Counter(2, 0, 10, "two"));
+        state.data.add("shared");
+    }
+
+    @Test
+    public void copyMatchesHandWrittenCopy() {
+        FieldsState copy = state._copy(-1);
+        FieldsState hand = state.handCopy();
+        assertTrue(copy.handEquals(hand));
+        assertTrue(hand.handEquals(copy));
+        assertTrue(StateFields.equals(copy, hand));
+        assertEquals(StateFields.hashCode(hand), StateFields.hashCode(copy));
+        assertEquals(state.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void copyKeepsCollectionClasses() {
+        FieldsState copy = state._copy(-1);
+        assertEquals(ArrayList.class, copy.hand.getClass());
+        assertEquals(LinkedList.class, copy.cells.getClass());
+        assertEquals(Stack.class, copy.undo.getClass());
+        assertEquals(ArrayDeque.class, copy.queue.getClass());
+        assertEquals(LinkedHashMap.class, copy.byName.getClass());
+        assertEquals(Arrays.asList("z", "y", "x"), new ArrayList<>(copy.names));
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(copy.undo));
+        assertEquals(Arrays.asList("one", "two"), new ArrayList<>(copy.byName.keySet()));
+        assertEquals(3, copy.queue.peekFirst().getValue());
+    }
+
+    @Test
+    public void copyIsDeep() {
+        FieldsState copy = state._copy(-1);
+        assertNotSame(state.scores, copy.scores);
+        assertNotSame(state.counters[2], copy.counters[2]);
+        assertNotSame(state.hand.get(0), copy.hand.get(0));
+        assertNotSame(state.queue.peekFirst(), copy.queue.peekFirst());
+        assertNotSame(state.byName.get("one"), copy.byName.get("one"));
+        assertSame(state.data, copy.data);
+        assertTrue(copy.secret.isEmpty());
+
+        copy.scores[1]++;
+        copy.counters[2].increment(1);
+        copy.cells.removeFirst();
+        copy.undo.pop();
+        copy.queue.peekFirst().increment(1);
+        copy.names.remove("x");
+        copy.byName.get("two").increment(1);
+        FieldsState fresh = state.handCopy();
+        assertTrue(state.handEquals(fresh));
+        assertEquals(7, state.scores[1]);
+        assertEquals(5, state.counters[2].getValue());
+        assertEquals(1, state.cells.size());
+        assertEquals(2, state.undo.size());
+        assertEquals(3, state.queue.peekFirst().getValue());
+        assertEquals(3, state.names.size());
+        assertEquals(2, state.byName.get("two").getValue());
+    }
+
+    @Test
+    public void equalsMatchesHandWrittenEquals() {
+        List<Runnable> changes = Arrays.asList(
+                () -> state.round++,
+                () -> state.name = "other",
+                () -> state.scores[0]++,
+                () -> state.counters[0].increment(1),
+                () -> state.hand.remove(0),
+                () -> state.cells.add(new Token("d")),
+                () -> state.undo.push(3),
+                () -> state.queue.peekLast().increment(1),
+                () -> state.names.add("w"),
+                () -> state.byName.get("one").increment(1),
+                () -> state.data.add("more"),
+                () -> state.secret.add(new Token("s"))
+        );
+        for (Runnable change : changes) {
+            setup();
+            FieldsState copy = state.handCopy();
+            copy.secret.addAll(state.secret);
+            assertTrue(StateFields.equals(state, copy));
+            assertEquals(StateFields.hashCode(state), StateFields.hashCode(copy));
+            change.run();
+            assertEquals(state.handEquals(copy), StateFields.equals(state, copy));
+            // a change to the SHARED list is seen by both, so they are still equal
+            if (!state.handEquals(copy)) {
+                assertFalse(StateFields.equals(copy, state));
+                assertNotEquals(StateFields.hashCode(state), StateFields.hashCode(copy));
+            }
+        }
+    }
+
+    @Test
+    public void deepCopyOfUnmodifiableList() {
+        List<Token> tokens = Collections.unmodifiableList(Arrays.asList(new Token("a"), new Token("b")));
+        List<Token> copy = StateFields.deepCopy(tokens);
+        assertEquals(tokens, copy);
+        assertNotSame(tokens.get(0), copy.get(0));
+        copy.add(new Token("c"));
+        assertEquals(2, tokens.size());
+    }
+}
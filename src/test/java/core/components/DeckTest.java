@@ -0,0 +1,161 @@
+package core.components;
+
+import core.CoreConstants.VisibilityMode;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static core.components.FrenchCard.FrenchCardType.Number;
+import static core.components.FrenchCard.Suite.*;
+import static org.junit.Assert.*;
+
+public class DeckTest {
+
+    private Deck<Card> mutableDeck() {
+        Deck<Card> deck = new Deck<>("Mutable", VisibilityMode.VISIBLE_TO_ALL);
+        deck.add(new Card("A"));
+        deck.add(new Card("B"));
+        deck.add(new Card("C"));
+        return deck;
+    }
+
+    private Deck<FrenchCard> immutableDeck() {
+        Deck<FrenchCard> deck = new Deck<>("Immutable", VisibilityMode.VISIBLE_TO_ALL);
+        deck.add(new FrenchCard(Number, Hearts, 2));
+        deck.add(new FrenchCard(Number, Clubs, 3));
+        deck.add(new FrenchCard(Number, Spades, 4));
+        return deck;
+    }
+
+    @Test
+    public void mutableComponentsAreCopied() {
+        Deck<Card> deck = mutableDeck();
+        Deck<Card> copy = deck.copy();
+        assertEquals(deck, copy);
+        for (int i = 0; i < deck.getSize(); i++)
+            assertNotSame(deck.get(i), copy.get(i));
+    }
+
+    @Test
+    public void copyOfCopyOfMutableComponentsIsDeep() {
+        Deck<Card> deck = mutableDeck();
+        Deck<Card> copy = deck.copy();
+        Deck<Card> copyOfCopy = copy.copy();
+        for (int i = 0; i < deck.getSize(); i++) {
+            assertNotSame(copy.get(i), copyOfCopy.get(i));
+            assertNotSame(deck.get(i), copyOfCopy.get(i));
+        }
+        copyOfCopy.draw();
+        assertEquals(3, copy.getSize());
+        assertEquals(2, copyOfCopy.getSize());
+    }
+
+    @Test
+    public void immutableComponentsAreShared() {
+        Deck<FrenchCard> deck = immutableDeck();
+        Deck<FrenchCard> copy = deck.copy().copy();
+        assertEquals(deck, copy);
+        for (int i = 0; i < deck.getSize(); i++)
+            assertSame(deck.get(i), copy.get(i));
+    }
+
+    @Test
+    public void mutationAfterShareDoesNotAffectCopy() {
+        Deck<FrenchCard> deck = immutableDeck();
+        Deck<FrenchCard> copy = deck.copy();
+        FrenchCard first = deck.get(0);
+
+        FrenchCard drawn = deck.draw();
+        assertSame(first, drawn);
+        assertEquals(2, deck.getSize());
+        assertEquals(3, copy.getSize());
+        assertSame(first, copy.get(0));
+
+        // and the other way round
+        copy.add(new FrenchCard(Number, Diamonds, 5));
+        copy.shuffle(new Random(1));
+        assertEquals(2, deck.getSize());
+        assertEquals(4, copy.getSize());
+    }
+
+    @Test
+    public void mutationOfCopyDoesNotAffectOriginal() {
+        Deck<FrenchCard> deck = immutableDeck();
+        FrenchCard first = deck.get(0), second = deck.get(1);
+        Deck<FrenchCard> copy = deck.copy();
+        copy.remove(1);
+        copy.setComponent(0, new FrenchCard(Number, Diamonds, 9));
+        assertEquals(3, deck.getSize());
+        assertSame(first, deck.get(0));
+        assertSame(second, deck.get(1));
+        copy.clear();
+        assertEquals(3, deck.getSize());
+    }
+
+    @Test
+    public void getComponentsUnsharesTheList() {
+        Deck<FrenchCard> deck = immutableDeck();
+        Deck<FrenchCard> copy = deck.copy();
+        List<FrenchCard> components = copy.getComponents();
+        components.remove(0);
+        assertEquals(3, deck.getSize());
+        assertEquals(2, copy.getSize());
+
+        List<FrenchCard> original = deck.getComponents();
+        original.clear();
+        assertEquals(0, deck.getSize());
+        assertEquals(2, copy.getSize());
+    }
+
+    @Test
+    public void addingMutableComponentStopsSharing() {
+        Deck<Card> deck = new Deck<>("Mixed", VisibilityMode.VISIBLE_TO_ALL);
+        deck.add(new FrenchCard(Number, Hearts, 2));
+        deck.add(new Card("A"));
+        Deck<Card> copy = deck.copy().copy();
+        assertSame(deck.get(1), copy.get(1));  // the immutable FrenchCard is shared
+        assertNotSame(deck.get(0), copy.get(0));  // the mutable Card is not
+    }
+
+    @Test
+    public void partialObservableDeckCopyOfCopy() {
+        PartialObservableDeck<Card> deck = new PartialObservableDeck<>("PO", 2);
+        deck.add(new Card("A"), new boolean[]{true, false});
+        deck.add(new Card("B"), new boolean[]{false, true});
+        PartialObservableDeck<Card> copy = deck.copy();
+        PartialObservableDeck<Card> copyOfCopy = copy.copy();
+        for (int i = 0; i < deck.getSize(); i++) {
+            assertNotSame(copy.get(i), copyOfCopy.get(i));
+            assertArrayEquals(deck.getVisibilityOfComponent(i), copyOfCopy.getVisibilityOfComponent(i));
+        }
+        PartialObservableDeck<Card> playerCopy = deck.copy(0);
+        PartialObservableDeck<Card> playerCopyOfCopy = playerCopy.copy(0);
+        for (int i = 0; i < deck.getSize(); i++)
+            assertNotSame(playerCopy.get(i), playerCopyOfCopy.get(i));
+    }
+
+    @Test
+    public void partialObservableDeckMutationAfterShare() {
+        PartialObservableDeck<FrenchCard> deck = new PartialObservableDeck<>("PO", 2);
+        deck.add(new FrenchCard(Number, Hearts, 2), new boolean[]{true, false});
+        deck.add(new FrenchCard(Number, Clubs, 3), new boolean[]{false, true});
+        PartialObservableDeck<FrenchCard> copy = deck.copy();
+        assertSame(deck.get(0), copy.get(0));
+
+        // add() puts each card on top, so the Clubs (seen by player 1) is first
+        copy.draw();
+        copy.setVisibilityOfComponent(0, 1, true);
+        assertEquals(2, deck.getSize());
+        assertEquals(1, copy.getSize());
+        assertFalse(deck.getVisibilityForPlayer(0, 0));
+        assertTrue(deck.getVisibilityForPlayer(0, 1));
+        assertTrue(deck.getVisibilityForPlayer(1, 0));
+        assertFalse(deck.getVisibilityForPlayer(1, 1));
+        assertTrue(copy.getVisibilityForPlayer(0, 0));
+        assertTrue(copy.getVisibilityForPlayer(0, 1));
+
+        deck.getComponents().clear();
+        assertEquals(1, copy.getSize());
+    }
+}
@@ -0,0 +1,109 @@
+package core.components;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PaletteGridBoardTest {
+
+    Token empty, x, o;
+    List<Token> palette;
+    PaletteGridBoard<Token> board;
+
+    @Before
+    public void setup() {
+        empty = new Token(".");
+        x = new Token("x");
+        o = new Token("o");
+        palette = Arrays.asList(empty, x, o);
+        board = new PaletteGridBoard<>(3, 2, palette, empty);
+    }
+
+    @Test
+    public void setAndGetRoundTrip() {
+        assertSame(empty, board.getElement(2, 1));
+        assertTrue(board.setElement(2, 1, x));
+        assertTrue(board.setElement(0, 0, o));
+        assertTrue(board.setElement(1, 0, null));
+        assertSame(x, board.getElement(2, 1));
+        assertSame(o, board.getElement(0, 0));
+        assertNull(board.getElement(1, 0));
+        // an equal token is stored as the palette element
+        assertTrue(board.setElement(1, 1, x.copy()));
+        assertSame(x, board.getElement(1, 1));
+        // outside the grid
+        assertFalse(board.setElement(3, 0, x));
+        assertNull(board.getElement(0, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void elementsMustBeInThePalette() {
+        board.setElement(0, 0, new Token("y"));
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        board.setElement(1, 1, x);
+        PaletteGridBoard<Token> copy = board.copy();
+        assertEquals(board, copy);
+        assertEquals(board.hashCode(), copy.hashCode());
+        assertEquals(board.getComponentID(), copy.getComponentID());
+
+        copy.setElement(0, 1, o);
+        assertSame(o, copy.getElement(0, 1));
+        assertSame(empty, board.getElement(0, 1));
+        assertNotEquals(board, copy);
+
+        PaletteGridBoard<Token> emptyCopy = board.emptyCopy();
+        assertNull(emptyCopy.getElement(1, 1));
+        assertSame(x, board.getElement(1, 1));
+    }
+
+    @Test
+    public void equalsAndHashCodeMatchGridBoard() {
+        board.setElement(2, 0, o);
+        GridBoard<Token> grid = new GridBoard<>(board.getGridValues(), board.getComponentID());
+        assertEquals(board, grid);
+        assertEquals(grid, board);
+        assertEquals(grid.hashCode(), board.hashCode());
+
+        // boards with different IDs are different
+        PaletteGridBoard<Token> other = new PaletteGridBoard<>(3, 2, palette, empty);
+        other.setElement(2, 0, o);
+        assertNotEquals(board, other);
+    }
+
+    @Test
+    public void copyConstructor() {
+        board.setElement(1, 0, x);
+        GridBoard<Token> grid = new GridBoard<>(board);
+        assertEquals(3, grid.getWidth());
+        assertEquals(2, grid.getHeight());
+        assertSame(x, grid.getElement(1, 0));
+        assertSame(empty, grid.getElement(2, 1));
+        grid.setElement(0, 0, o);
+        assertSame(empty, board.getElement(0, 0));
+    }
+
+    @Test
+    public void loadBoard() throws ParseException {
+        JSONObject json = (JSONObject) new JSONParser().parse(
+                "{\"id\": \"Loaded\", \"size\": [3, 2], \"grid\": [[\"x\", \".\", \"o\"], [null, \"o\", \"x\"]]}");
+        board.loadBoard(json);
+        assertEquals("Loaded", board.getComponentName());
+        assertSame(x, board.getElement(0, 0));
+        assertSame(empty, board.getElement(1, 0));
+        assertSame(o, board.getElement(2, 0));
+        assertNull(board.getElement(0, 1));
+        assertSame(o, board.getElement(1, 1));
+        assertSame(x, board.getElement(2, 1));
+        assertEquals(board, board.copy());
+    }
+}
@@ -0,0 +1,79 @@
+package evaluation;
+
+import core.Game;
+import evaluation.optimisation.ITPSearchSpace;
+import games.diamant.DiamantParameters;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Test;
+import players.rhea.RHEAParams;
+import players.rhea.RHEAPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * GameEvaluator creates all the agents (or games) for a batch of trials before any is played, so each must keep the
+ * settings it was created with.
+ */
+public class ITPSearchSpaceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void distinctSettingsYieldDistinctAgents() {
+        RHEAParams params = new RHEAParams();
+        JSONObject json = new JSONObject();
+        JSONArray horizons = new JSONArray(), sizes = new JSONArray();
+        horizons.addAll(Arrays.asList(1, 3, 5));
+        sizes.addAll(Arrays.asList(6, 8, 10));
+        json.put("horizon", horizons);
+        json.put("populationSize", sizes);
+        ITPSearchSpace searchSpace = new ITPSearchSpace(params, json);
+        int horizon = searchSpace.getIndexOf("horizon");
+        int populationSize = searchSpace.getIndexOf("populationSize");
+
+        List<RHEAPlayer> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int[] settings = new int[searchSpace.nDims()];
+            settings[horizon] = i;
+            settings[populationSize] = i;
+            batch.add((RHEAPlayer) searchSpace.getAgent(settings));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            RHEAParams agentParams = (RHEAParams) batch.get(i).getParameters();
+            assertNotSame(params, agentParams);
+            assertEquals(searchSpace.value(horizon, i), agentParams.horizon);
+            assertEquals(searchSpace.value(populationSize, i), agentParams.populationSize);
+            for (int j = 0; j < i; j++) {
+                assertNotSame(batch.get(j), batch.get(i));
+                assertNotSame(batch.get(j).getParameters(), agentParams);
+            }
+        }
+    }
+
+    @Test
+    public void distinctSettingsYieldDistinctGameParameters() {
+        DiamantParameters params = new DiamantParameters(42);
+        ITPSearchSpace searchSpace = new ITPSearchSpace(params);
+        int nCaves = searchSpace.getIndexOf("nCaves");
+
+        List<Game> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int[] settings = new int[searchSpace.nDims()];
+            settings[nCaves] = i;
+            batch.add((Game) searchSpace.getAgent(settings));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            DiamantParameters gameParams = (DiamantParameters) batch.get(i).getGameState().getGameParameters();
+            assertNotSame(params, gameParams);
+            assertEquals(searchSpace.value(nCaves, i), gameParams.nCaves);
+            for (int j = 0; j < i; j++) {
+                assertNotSame(batch.get(j), batch.get(i));
+                assertNotSame(batch.get(j).getGameState().getGameParameters(), gameParams);
+            }
+        }
+    }
+}
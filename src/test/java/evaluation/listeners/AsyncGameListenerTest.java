@@ -0,0 +1,82 @@
+package evaluation.listeners;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.GameMetrics;
+import evaluation.metrics.IDataLogger;
+import games.GameType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.simple.RandomPlayer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class AsyncGameListenerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static AbstractMetric[] metrics() {
+        return new AbstractMetric[]{new GameMetrics.GameScore(), new GameMetrics.FinalScore(),
+                new GameMetrics.StateSpace(), new GameMetrics.Actions()};
+    }
+
+    private static void play(GameType gameType, int nPlayers, IGameListener... listeners) {
+        Game game = gameType.createGameInstance(nPlayers, 1);
+        for (IGameListener listener : listeners) {
+            listener.init(game, nPlayers, Collections.singleton(new RandomPlayer().toString()));
+            game.addListener(listener);
+        }
+        for (int i = 0; i < 4; i++) {
+            List<AbstractPlayer> players = new ArrayList<>();
+            for (int p = 0; p < nPlayers; p++)
+                players.add(new RandomPlayer(new Random(i * 10 + p)));
+            game.reset(players, i);
+            game.run();
+        }
+    }
+
+    private List<String> rawData(AbstractMetric metric) throws IOException {
+        File dir = folder.newFolder();
+        IDataLogger logger = metric.getDataLogger();
+        logger.getDefaultProcessor().processRawDataToFile(logger, dir.getPath());
+        return Files.readAllLines(new File(dir, metric.getName() + ".csv").toPath());
+    }
+
+    private void checkSameMetrics(GameType gameType, int nPlayers) throws IOException {
+        AbstractMetric[] sync = metrics(), async = metrics();
+        AsyncGameListener listener = new AsyncGameListener(new MetricsGameListener(async), 5);
+        play(gameType, nPlayers, new MetricsGameListener(sync), listener);
+        listener.allGamesFinished();
+        for (int m = 0; m < sync.length; m++) {
+            List<String> expected = rawData(sync[m]);
+            assertTrue(expected.size() > 4);
+            assertEquals(expected, rawData(async[m]));
+        }
+    }
+
+    @Test
+    public void sameMetricsAsSyncDelivery() throws IOException {
+        checkSameMetrics(GameType.TicTacToe, 2);
+        checkSameMetrics(GameType.LoveLetter, 3);
+    }
+
+    @Test
+    public void allGamesFinishedStopsTheWorker() {
+        AsyncGameListener listener = new AsyncGameListener(new MetricsGameListener(metrics()));
+        play(GameType.TicTacToe, 2, listener);
+        assertFalse(listener.isClosed());
+        listener.allGamesFinished();
+        assertTrue(listener.isClosed());
+        // closing again does nothing
+        listener.close();
+        assertTrue(listener.isClosed());
+    }
+}
@@ -0,0 +1,178 @@
+package evaluation.metrics.tablessaw;
+
+import core.AbstractPlayer;
+import core.Game;
+import evaluation.listeners.MetricsGameListener;
+import evaluation.metrics.AbstractMetric;
+import evaluation.metrics.Event;
+import evaluation.metrics.GameMetrics;
+import games.GameType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import players.simple.RandomPlayer;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.plotly.components.Figure;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+import static evaluation.metrics.Event.GameEvent.*;
+import static org.junit.Assert.*;
+
+/**
+ * Data spilled to disk must read back, and report, exactly as the same data kept in memory.
+ */
+public class SpillingDataTableSawTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static final int nGames = 6;
+
+    // the same metrics recorded in memory, and spilled to disk every few rows
+    AbstractMetric[] inMemory, spilled;
+
+    @Before
+    public void setup() {
+        inMemory = new AbstractMetric[]{new GameMetrics.GameScore(), new GameMetrics.FinalScore(), new GameMetrics.StateSpace()};
+        spilled = new AbstractMetric[]{new GameMetrics.GameScore(), new GameMetrics.FinalScore(), new GameMetrics.StateSpace()};
+        MetricsGameListener memoryListener = new MetricsGameListener(inMemory);
+        MetricsGameListener spillingListener = new MetricsGameListener(spilled);
+        spillingListener.spillToDisk(7);
+
+        Game game = GameType.TicTacToe.createGameInstance(2, 1);
+        Set<String> names = Collections.singleton("RandomPlayer");
+        memoryListener.init(game, 2, names);
+        spillingListener.init(game, 2, names);
+        game.addListener(memoryListener);
+        game.addListener(spillingListener);
+        for (int i = 0; i < nGames; i++) {
+            List<AbstractPlayer> players = Arrays.asList(new RandomPlayer(new Random(i)), new RandomPlayer(new Random(i + 100)));
+            game.reset(players, i);
+            game.run();
+        }
+    }
+
+    private List<String> csv(DataTableSaw dts) throws IOException {
+        File file = folder.newFile();
+        dts.writeCsv(file.getPath());
+        return Files.readAllLines(file.toPath());
+    }
+
+    private static DataTableSaw logger(AbstractMetric metric) {
+        return (DataTableSaw) metric.getDataLogger();
+    }
+
+    @Test
+    public void rawDataRoundTrip() throws IOException {
+        for (int m = 0; m < inMemory.length; m++) {
+            DataTableSaw memory = logger(inMemory[m]);
+            DataTableSaw disk = logger(spilled[m]);
+            assertTrue(disk instanceof SpillingDataTableSaw);
+            assertEquals(memory.rowCount(), disk.rowCount());
+            assertTrue(disk.data.rowCount() < 7);
+            assertEquals(csv(memory), csv(disk));
+
+            // the segments read back hold all the data, in order
+            Table all = disk.data.emptyCopy();
+            int nSegments = 0;
+            for (Iterator<Table> segments = disk.segments(); segments.hasNext(); nSegments++) {
+                Table segment = segments.next();
+                assertTrue(segment.rowCount() <= 7);
+                all.append(segment);
+            }
+            assertEquals(memory.rowCount() / 7 + 1, nSegments);
+            assertEquals(memory.data.print(), all.print());
+
+            // and split into the same games
+            Iterator<Table> memoryGames = memory.games(), diskGames = disk.games();
+            int count = 0;
+            while (memoryGames.hasNext()) {
+                assertEquals(memoryGames.next().print(), diskGames.next().print());
+                count++;
+            }
+            assertFalse(diskGames.hasNext());
+            assertEquals(nGames, count);
+        }
+    }
+
+    @Test
+    public void eventGroupsRoundTrip() throws IOException {
+        // Grouped on the game, and on the game tick
+        for (Event.GameEvent event : new Event.GameEvent[]{GAME_OVER, ACTION_CHOSEN}) {
+            String index = event == GAME_OVER ? "GameID" : "Tick";
+            List<AbstractMetric> memoryGroup = new ArrayList<>(), spilledGroup = new ArrayList<>();
+            for (int m = 0; m < inMemory.length; m++) {
+                if (inMemory[m].listens(event)) {
+                    memoryGroup.add(inMemory[m]);
+                    spilledGroup.add(spilled[m]);
+                }
+            }
+            assertEquals(2, memoryGroup.size());
+            DataTableSaw memory = new DataTableSaw(memoryGroup, event, index);
+            DataTableSaw disk = new SpillingDataTableSaw(spilledGroup, event, index, 4);
+            assertTrue(memory.rowCount() > 4);
+            assertEquals(memory.rowCount(), disk.rowCount());
+            assertEquals(csv(memory), csv(disk));
+        }
+    }
+
+    @Test
+    public void plotsRoundTrip() {
+        TableSawDataProcessor processor = new TableSawDataProcessor();
+        for (int m = 0; m < inMemory.length; m++) {
+            DataTableSaw memory = logger(inMemory[m]);
+            DataTableSaw disk = logger(spilled[m]);
+            Map<String, Figure> memoryFigures = inMemory[m] instanceof GameMetrics.FinalScore ?
+                    processor.plotData(inMemory[m], memory.data) :
+                    processor.plotDataProgression(inMemory[m], memory.data);
+            Map<String, Figure> diskFigures = inMemory[m] instanceof GameMetrics.FinalScore ?
+                    processor.plotData(spilled[m], disk.segments(), disk.data.name()) :
+                    processor.plotDataProgression(spilled[m], disk.games(), disk.data.name());
+            assertFalse(memoryFigures.isEmpty());
+            assertEquals(memoryFigures.keySet(), diskFigures.keySet());
+            for (String column : memoryFigures.keySet()) {
+                assertEquals(memoryFigures.get(column).asJavascript("plot"), diskFigures.get(column).asJavascript("plot"));
+            }
+        }
+    }
+
+    @Test
+    public void categoriesAreCapped() {
+        SpillingDataTableSaw dts = new SpillingDataTableSaw(new GameMetrics.Actions(), 1000);
+        dts.init(GameType.TicTacToe.createGameInstance(2, 1), 2, Collections.singleton("RandomPlayer"));
+        int nValues = SpillingDataTableSaw.MAX_CATEGORIES + 50;
+        for (int i = 0; i < nValues; i++) {
+            dts.addData("Actions Played", "Action " + i);
+        }
+        // values already counted are still counted on their own
+        dts.addData("Actions Played", "Action 0");
+        Table counts = dts.getRunningSummaries().get("Actions Played").get(0);
+        assertEquals(SpillingDataTableSaw.MAX_CATEGORIES + 1, counts.rowCount());
+        Map<String, Integer> byCategory = new HashMap<>();
+        for (int r = 0; r < counts.rowCount(); r++) {
+            byCategory.put(counts.stringColumn("Category").get(r), counts.intColumn("Count").get(r));
+        }
+        assertEquals(50, (int) byCategory.get(SpillingDataTableSaw.OTHER_CATEGORY));
+        assertEquals(2, (int) byCategory.get("Action 0"));
+    }
+
+    @Test
+    public void summariesMatch() {
+        for (int m = 0; m < inMemory.length; m++) {
+            Map<String, List<Table>> summaries = ((SpillingDataTableSaw) logger(spilled[m])).getRunningSummaries();
+            for (String column : inMemory[m].getColumnNames()) {
+                Table data = logger(inMemory[m]).data;
+                if (!data.column(column).type().equals(ColumnType.STRING)) {
+                    double mean = data.numberColumn(column).mean();
+                    assertEquals(mean, summaries.get(column).get(0).doubleColumn("Value").get(2), 1e-9);
+                }
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import core.CoreConstants;
 import core.Game;
 import core.actions.AbstractAction;
 import games.GameType;
+import games.cantstop.CantStopDiceTable;
 import games.cantstop.CantStopForwardModel;
 import games.cantstop.CantStopGamePhase;
 import games.cantstop.CantStopGameState;
@@ -355,4 +356,37 @@ public class TestCantStop {
     }
 
 
+    @Test
+    public void testDiceTableBustProbabilityWithFreeMarkers() {
+        // with no markers placed every column is active, so no roll can go bust
+        CantStopGameState state = (CantStopGameState) cantStop.getGameState();
+        assertEquals(0.0, state.getBustProbability(), 1e-9);
+        // the classic figure for three runners on 6, 7 and 8 is 92% success
+        assertEquals(1.0 - 1192.0 / 1296.0, CantStopDiceTable.bustProbability((1 << 6) | (1 << 7) | (1 << 8)), 1e-9);
+        double total = 0.0;
+        for (int i = 0; i < CantStopDiceTable.distinctOutcomes(); i++)
+            total += CantStopDiceTable.distinctOutcomeProbability(i);
+        assertEquals(126, CantStopDiceTable.distinctOutcomes());
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    public void testDiceTableMatchesForwardModel() {
+        CantStopGameState state = (CantStopGameState) cantStop.getGameState();
+        fm.next(state, new RollDice());
+        state.moveMarker(2);
+        state.moveMarker(4);
+        state.moveMarker(11);
+        int active = state.getActiveColumns();
+        assertEquals((1 << 2) | (1 << 4) | (1 << 11), active);
+        int busts = 0;
+        for (int outcome = 0; outcome < CantStopDiceTable.OUTCOMES; outcome++) {
+            state.setDice(CantStopDiceTable.dice(outcome));
+            boolean fmBust = fm.computeAvailableActions(state).get(0).equals(new Pass(true));
+            assertEquals(fmBust, CantStopDiceTable.isBust(outcome, active));
+            if (fmBust) busts++;
+        }
+        assertEquals(busts / 1296.0, state.getBustProbability(), 1e-9);
+    }
+
 }
@@ -23,7 +23,7 @@ public class TestTurnRoundProgression {
     @Test
     public void testTurnOwnerProgressesInPlanningPhase() {
 
-        state = new ColtExpressGameState(new ColtExpressParameters(6), 3);
+        state = new ColtExpressGameState(new ColtExpressParameters(2), 3);
         turnOrder = (ColtExpressTurnOrder) state.getTurnOrder();
         fm.setup(state);
 
@@ -277,4 +277,36 @@ public class TestCoreGameLoop {
         }
 
     }
+
+    @Test
+    public void cardCountsFollowChangesToDecks() {
+        DominionGameState state = (DominionGameState) game.getGameState();
+        assertEquals(7, state.cardsOfType(CardType.COPPER, 1, DeckType.ALL));
+        assertEquals(3, state.cardsOfType(CardType.ESTATE, 1, DeckType.ALL));
+        int coppersInHand = state.cardsOfType(CardType.COPPER, 1, DeckType.HAND);
+        assertEquals(state.getDeck(DeckType.HAND, 1).stream().filter(c -> c.cardType() == CardType.COPPER).count(), coppersInHand);
+
+        // via the state
+        state.addCard(CardType.GOLD, 1, DeckType.DISCARD);
+        assertEquals(1, state.cardsOfType(CardType.GOLD, 1, DeckType.DISCARD));
+        assertTrue(state.moveCard(CardType.GOLD, 1, DeckType.DISCARD, 1, DeckType.TRASH));
+        assertEquals(0, state.cardsOfType(CardType.GOLD, 1, DeckType.DISCARD));
+        assertEquals(1, state.cardsOfType(CardType.GOLD, 2, DeckType.TRASH));
+        assertFalse(state.moveCard(CardType.GOLD, 1, DeckType.DISCARD, 1, DeckType.HAND));
+
+        // directly on the decks
+        state.getDeck(DeckType.HAND, 1).add(DominionCard.create(CardType.COPPER));
+        assertEquals(coppersInHand + 1, state.cardsOfType(CardType.COPPER, 1, DeckType.HAND));
+        state.getDeck(DeckType.HAND, 1).clear();
+        assertEquals(0, state.cardsOfType(CardType.COPPER, 1, DeckType.HAND));
+        assertEquals(7 - coppersInHand, state.cardsOfType(CardType.COPPER, 1, DeckType.ALL));
+
+        // and in copies
+        DominionGameState copy = (DominionGameState) state.copy(0);
+        assertEquals(7 - coppersInHand, copy.cardsOfType(CardType.COPPER, 1, DeckType.ALL));
+        assertEquals(1, copy.cardsOfType(CardType.GOLD, 0, DeckType.TRASH));
+        copy.addCard(CardType.GOLD, 1, DeckType.TABLE);
+        assertEquals(1, copy.cardsOfType(CardType.GOLD, 1, DeckType.TABLE));
+        assertEquals(0, state.cardsOfType(CardType.GOLD, 1, DeckType.TABLE));
+    }
 }
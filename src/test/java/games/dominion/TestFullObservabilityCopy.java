@@ -1,6 +1,7 @@
 package games.dominion;
 
 import core.Game;
+import core.components.Deck;
 import core.components.PartialObservableDeck;
 import games.GameType;
 import games.dominion.DominionConstants.DeckType;
@@ -91,4 +92,28 @@ public class TestFullObservabilityCopy {
     }
 
 
+    @Test
+    public void copiedDecksOfImmutableCardsAreIndependent() {
+        Game game = new Game(GameType.Dominion, new DominionForwardModel(), new DominionGameState(new DominionParameters(36), 4));
+        DominionGameState startState = (DominionGameState) game.getGameState();
+        Deck<DominionCard> startDraw = startState.getDeck(DeckType.DRAW, 0);
+        int startSize = startDraw.getSize();
+
+        DominionGameState fullCopy = (DominionGameState) startState.copy();
+        Deck<DominionCard> copyDraw = fullCopy.getDeck(DeckType.DRAW, 0);
+        assertEquals(startDraw, copyDraw);
+        assertSame(startDraw.get(0), copyDraw.get(0)); // immutable cards are shared
+
+        DominionCard drawn = copyDraw.draw();
+        copyDraw.add(DominionCard.create(CardType.PROVINCE));
+        copyDraw.add(DominionCard.create(CardType.DUCHY));
+        assertEquals(startSize, startDraw.getSize());
+        assertEquals(startSize + 1, copyDraw.getSize());
+        assertSame(drawn, startDraw.get(0));
+
+        startDraw.getComponents().clear();
+        assertEquals(0, startDraw.getSize());
+        assertEquals(startSize + 1, copyDraw.getSize());
+    }
+
 }
@@ -17,6 +17,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import static games.dominion.cards.CardType.*;
@@ -134,6 +135,24 @@ public class TestPartialObservabilityCopy {
         }
     }
 
+    @Test
+    public void redeterminiseShufflesOtherPlayersHandsInPlace() {
+        DominionGameState myCopy = (DominionGameState) state.copy(0);
+        DominionGameState redeterminised = (DominionGameState) myCopy.copy();
+        assertTrue(redeterminised.redeterminise(0, new Random(42)));
+        assertEquals(myCopy.getDeck(DeckType.HAND, 0), redeterminised.getDeck(DeckType.HAND, 0));
+        for (int playerId = 1; playerId < 4; playerId++) {
+            assertEquals(myCopy.getDeck(DeckType.HAND, playerId).getSize(), redeterminised.getDeck(DeckType.HAND, playerId).getSize());
+            assertEquals(myCopy.getDeck(DeckType.DRAW, playerId).getSize(), redeterminised.getDeck(DeckType.DRAW, playerId).getSize());
+            for (CardType type : CardType.values()) {
+                // the cards are moved between hand and draw pile, and the card counts are kept up to date
+                assertEquals(myCopy.cardsOfType(type, playerId, DeckType.ALL), redeterminised.cardsOfType(type, playerId, DeckType.ALL));
+                long inHand = redeterminised.getDeck(DeckType.HAND, playerId).stream().filter(c -> c.cardType() == type).count();
+                assertEquals(inHand, redeterminised.cardsOfType(type, playerId, DeckType.HAND));
+            }
+        }
+    }
+
     @Test
     public void tableauIsUnchanged() {
         DominionGameState myCopy = (DominionGameState) state.copy(0);
@@ -0,0 +1,140 @@
+package games.hanabi;
+
+import core.AbstractForwardModel;
+import core.AbstractGameState;
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.hanabi.actions.Hint;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TestHandSampling {
+
+    Game game;
+    HanabiGameState state;
+    AbstractForwardModel fm;
+    Random rnd = new Random(42);
+
+    @Before
+    public void setup() {
+        game = GameType.Hanabi.createGameInstance(3, 123);
+        state = (HanabiGameState) game.getGameState();
+        fm = game.getForwardModel();
+    }
+
+    private static String describe(HanabiGameState state) {
+        StringBuilder sb = new StringBuilder();
+        for (int p = 0; p < state.getNPlayers(); p++)
+            state.getPlayerDecks().get(p).stream().forEach(c -> sb.append(c.color).append(c.number)
+                    .append(':').append(c.possibleColours).append('/').append(c.possibleNumbers).append(' '));
+        sb.append('|');
+        state.getDrawDeck().stream().forEach(c -> sb.append(c.color).append(c.number).append(' '));
+        return sb.toString();
+    }
+
+    // colours and numbers of the cards hidden from the player: their hand and the draw deck
+    private static List<String> hiddenCards(HanabiGameState state, int playerId) {
+        List<String> cards = new ArrayList<>();
+        state.getPlayerDecks().get(playerId).stream().forEach(c -> cards.add(c.color.name() + c.number));
+        state.getDrawDeck().stream().forEach(c -> cards.add(c.color.name() + c.number));
+        Collections.sort(cards);
+        return cards;
+    }
+
+    private void checkSample(HanabiGameState sample, int playerId) {
+        for (HanabiCard card : sample.getPlayerDecks().get(playerId).getComponents())
+            assertTrue(card + " is not consistent with the hints", card.isPossible(card.color, card.number));
+        assertEquals(hiddenCards(state, playerId), hiddenCards(sample, playerId));
+        // the hands of the other players are known, so are not changed
+        for (int p = 0; p < state.getNPlayers(); p++) {
+            if (p == playerId) continue;
+            List<String> actual = state.getPlayerDecks().get(p).stream().map(c -> c.color.name() + c.number).collect(Collectors.toList());
+            List<String> sampled = sample.getPlayerDecks().get(p).stream().map(c -> c.color.name() + c.number).collect(Collectors.toList());
+            assertEquals(actual, sampled);
+        }
+    }
+
+    private void giveHints() {
+        // a colour and a number hint to each player, about their first and second cards
+        for (int p = 0; p < state.getNPlayers(); p++) {
+            List<HanabiCard> hand = state.getPlayerDecks().get(p).getComponents();
+            new Hint(p, hand.get(0).color).execute(state);
+            new Hint(p, hand.get(1).number).execute(state);
+        }
+    }
+
+    @Test
+    public void hintsNarrowThePossibilities() {
+        giveHints();
+        HanabiCard first = state.getPlayerDecks().get(0).get(0);
+        assertEquals(1, Integer.bitCount(first.possibleColours));
+        assertTrue(first.isPossible(first.color, first.number));
+        for (HanabiCard card : state.getPlayerDecks().get(0).getComponents())
+            assertTrue(card.isPossible(card.color, card.number));
+    }
+
+    @Test
+    public void sampledHandsAreConsistentWithHints() {
+        giveHints();
+        String before = describe(state);
+        for (int p = 0; p < state.getNPlayers(); p++) {
+            for (int i = 0; i < 20; i++) {
+                checkSample((HanabiGameState) state.copy(p), p);
+                assertEquals(before, describe(state));
+            }
+        }
+    }
+
+    @Test
+    public void redeterminisedHandsAreConsistentWithHints() {
+        giveHints();
+        for (int p = 0; p < state.getNPlayers(); p++) {
+            HanabiGameState observation = (HanabiGameState) state.copy(p);
+            String before = describe(observation);
+            for (int i = 0; i < 20; i++) {
+                HanabiGameState sample = (HanabiGameState) observation.copy();
+                assertTrue(sample.redeterminise(p, rnd));
+                checkSample(sample, p);
+                assertEquals(before, describe(observation));
+            }
+        }
+    }
+
+    @Test
+    public void unhintedCardsAreResampled() {
+        giveHints();
+        HanabiGameState observation = (HanabiGameState) state.copy(0);
+        // toString() hides what the owner does not know, so compare the actual values
+        String hand = observation.getPlayerDecks().get(0).stream().map(c -> c.color.name() + c.number).collect(Collectors.joining());
+        boolean changed = false;
+        for (int i = 0; i < 20 && !changed; i++) {
+            HanabiGameState sample = (HanabiGameState) observation.copy();
+            sample.redeterminise(0, rnd);
+            changed = !sample.getPlayerDecks().get(0).stream().map(c -> c.color.name() + c.number).collect(Collectors.joining()).equals(hand);
+        }
+        assertTrue(changed);
+    }
+
+    @Test
+    public void samplingThroughAGame() {
+        for (int step = 0; step < 100 && state.isNotTerminal(); step++) {
+            String before = describe(state);
+            for (int p = 0; p < state.getNPlayers(); p++) {
+                checkSample((HanabiGameState) state.copy(p), p);
+                AbstractGameState observation = state.copy(p);
+                AbstractGameState sample = observation.copy();
+                sample.redeterminise(p, rnd);
+                checkSample((HanabiGameState) sample, p);
+            }
+            assertEquals(before, describe(state));
+            List<AbstractAction> actions = fm.computeAvailableActions(state);
+            fm.next(state, actions.get(rnd.nextInt(actions.size())).copy());
+        }
+    }
+}
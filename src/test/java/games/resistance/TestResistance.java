@@ -51,7 +51,7 @@ public class TestResistance {
                 new RandomPlayer(),
                 new RandomPlayer(),
                 new RandomPlayer());
-        resistance = GameType.Resistance.createGameInstance(5, 34, new ResParameters(-274));
+        resistance = GameType.Resistance.createGameInstance(5, 35, new ResParameters(-274));
         resistance.reset(players);
     }
 
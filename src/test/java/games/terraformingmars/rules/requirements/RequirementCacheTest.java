@@ -0,0 +1,61 @@
+package games.terraformingmars.rules.requirements;
+
+import core.Game;
+import core.actions.AbstractAction;
+import games.GameType;
+import games.terraformingmars.TMForwardModel;
+import games.terraformingmars.TMGameState;
+import games.terraformingmars.actions.TMAction;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Requirements tested through the cache must give the same results as testing them directly, as the state changes
+ * over random games.
+ */
+public class RequirementCacheTest {
+
+    @Test
+    public void sameResultsAsDirectTests() {
+        int nCached = 0;
+        for (long seed = 1; seed <= 3; seed++) {
+            Game game = GameType.TerraformingMars.createGameInstance(2, seed);
+            TMGameState gs = (TMGameState) game.getGameState();
+            TMForwardModel fm = (TMForwardModel) game.getForwardModel();
+            RequirementCache cache = gs.getRequirementCache();
+            Random rnd = new Random(seed);
+            for (int step = 0; step < 300 && gs.isNotTerminal(); step++) {
+                List<AbstractAction> possible = fm.getAllActions(gs);
+                // tested directly, as the cache is not open
+                boolean[] direct = new boolean[possible.size()];
+                for (int i = 0; i < possible.size(); i++) {
+                    direct[i] = possible.get(i) != null && ((TMAction) possible.get(i)).canBePlayed(gs);
+                }
+                cache.open(gs);
+                try {
+                    for (int i = 0; i < possible.size(); i++) {
+                        TMAction a = (TMAction) possible.get(i);
+                        if (a == null) continue;
+                        assertEquals(a.toString(), direct[i], a.canBePlayed(gs));
+                        if (a.requirements == null) continue;
+                        for (Requirement<TMGameState> r : a.requirements) {
+                            assertEquals(r.toString(), r.testCondition(gs), cache.test(r, gs));
+                            if (r.getFacets() != null) nCached++;
+                        }
+                    }
+                } finally {
+                    cache.close();
+                }
+                List<AbstractAction> actions = fm.computeAvailableActions(gs);
+                // random play can get stuck in a TopCardDecision with no actions left
+                if (actions.isEmpty()) break;
+                fm.next(gs, actions.get(rnd.nextInt(actions.size())));
+            }
+        }
+        assertTrue(nCached > 0);
+    }
+}
@@ -0,0 +1,117 @@
+package utilities;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RacingBoundTest {
+
+    @Test
+    public void meanOfValuesAdded() {
+        RacingBound bound = new RacingBound(1.0);
+        assertEquals(0, bound.n());
+        assertEquals(Double.POSITIVE_INFINITY, bound.radius(0.05), 0.0);
+        for (double x : new double[]{0.0, 1.0, 1.0, 0.5})
+            bound.add(x);
+        assertEquals(4, bound.n());
+        assertEquals(0.625, bound.mean(), 1e-12);
+        assertEquals(bound.mean() - bound.radius(0.05), bound.lower(0.05), 1e-12);
+        assertEquals(bound.mean() + bound.radius(0.05), bound.upper(0.05), 1e-12);
+    }
+
+    @Test
+    public void radiusIsTheSmallerBound() {
+        double delta = 0.05;
+        // values that vary as much as they can: Hoeffding is tighter
+        RacingBound spread = new RacingBound(1.0);
+        for (int i = 0; i < 100; i++)
+            spread.add(i % 2);
+        double hoeffding = Math.sqrt(Math.log(4 / delta) / 200);
+        assertEquals(hoeffding, spread.radius(delta), 1e-12);
+
+        // values that never vary: Bernstein is tighter, and shrinks as 1/n rather than 1/sqrt(n)
+        RacingBound constant = new RacingBound(1.0);
+        for (int i = 0; i < 100; i++)
+            constant.add(1.0);
+        assertEquals(3 * Math.log(6 / delta) / 100, constant.radius(delta), 1e-12);
+        assertTrue(constant.radius(delta) < hoeffding);
+    }
+
+    @Test
+    public void radiusShrinksWithMoreValuesAndLessConfidence() {
+        RacingBound bound = new RacingBound(2.0);
+        Random rnd = new Random(1);
+        double previous = Double.POSITIVE_INFINITY;
+        for (int n = 1; n <= 1000; n++) {
+            bound.add(rnd.nextDouble() * 2 - 1);
+            if (n % 100 == 0) {
+                assertTrue(bound.radius(0.05) < previous);
+                previous = bound.radius(0.05);
+            }
+        }
+        assertTrue(bound.radius(0.2) < bound.radius(0.05));
+        assertTrue(bound.radius(0.05) < bound.radius(0.001));
+    }
+
+    @Test
+    public void rangeWidensToValuesSeen() {
+        RacingBound narrow = new RacingBound(1.0);
+        RacingBound wide = new RacingBound(4.0);
+        for (double x : new double[]{-2.0, 2.0, -2.0, 2.0}) {
+            narrow.add(x);
+            wide.add(x);
+        }
+        assertEquals(wide.radius(0.1), narrow.radius(0.1), 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeMustBePositive() {
+        new RacingBound(0.0);
+    }
+
+    @Test
+    public void intervalContainsTheTrueMean() {
+        // the error rate over many experiments must be no more than delta (it is usually far less)
+        double delta = 0.1, p = 0.3;
+        Random rnd = new Random(42);
+        int failures = 0, experiments = 2000;
+        for (int e = 0; e < experiments; e++) {
+            RacingBound bound = new RacingBound(1.0);
+            for (int i = 0; i < 20; i++)
+                bound.add(rnd.nextDouble() < p ? 1.0 : 0.0);
+            if (p < bound.lower(delta) || p > bound.upper(delta))
+                failures++;
+        }
+        assertTrue(failures + " failures", failures <= delta * experiments);
+    }
+
+    @Test
+    public void differencesExcludeZeroOnlyWhenOneSideIsBetter() {
+        Random rnd = new Random(7);
+        RacingBound better = new RacingBound(2.0), even = new RacingBound(2.0);
+        for (int i = 0; i < 500; i++) {
+            // difference in wins between two players, where the first wins 80% of the time
+            better.add(rnd.nextDouble() < 0.8 ? 1.0 : -1.0);
+            even.add(rnd.nextBoolean() ? 1.0 : -1.0);
+        }
+        assertTrue(better.excludesZero(0.01));
+        assertFalse(even.excludesZero(0.01));
+    }
+
+    @Test
+    public void separatedMeans() {
+        Random rnd = new Random(3);
+        RacingBound a = new RacingBound(1.0), b = new RacingBound(1.0), c = new RacingBound(1.0);
+        assertFalse(RacingBound.separated(a, b, 0.05));
+        for (int i = 0; i < 300; i++) {
+            a.add(rnd.nextDouble() < 0.9 ? 1.0 : 0.0);
+            b.add(rnd.nextDouble() < 0.2 ? 1.0 : 0.0);
+            c.add(rnd.nextDouble() < 0.85 ? 1.0 : 0.0);
+        }
+        assertTrue(RacingBound.separated(a, b, 0.05));
+        assertTrue(RacingBound.separated(b, a, 0.05));
+        assertFalse(RacingBound.separated(a, c, 0.05));
+    }
+}